@@ -4,9 +4,9 @@ import io.github.zpf9705.expiring.core.*;
 import io.github.zpf9705.expiring.core.annotation.NotNull;
 import io.github.zpf9705.expiring.core.persistence.ExpireGlobePersistenceRenewSelector;
 import io.github.zpf9705.expiring.core.persistence.PersistenceRenewFactory;
-import io.github.zpf9705.expiring.core.serializer.ExpiringSerializerAdapter;
-import io.github.zpf9705.expiring.core.serializer.GenericStringExpiringSerializer;
+import io.github.zpf9705.expiring.core.serializer.ExpiringSerializerRegistry;
 import io.github.zpf9705.expiring.help.ExpireHelperFactory;
+import io.github.zpf9705.expiring.listener.Message;
 import io.github.zpf9705.expiring.util.CollectionUtils;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -17,6 +17,7 @@ import org.springframework.context.EnvironmentAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
 import org.springframework.core.env.Environment;
 
 import java.io.PrintStream;
@@ -54,7 +55,8 @@ import java.util.List;
 @Configuration(proxyBeanMethods = false)
 @ConditionalOnClass({ExpireOperations.class})
 @EnableConfigurationProperties({ExpireProperties.class})
-@Import(ExpireMapConfiguration.class)
+@Import({ExpireMapConfiguration.class, ExpireWheelConfiguration.class, ExpireMappedConfiguration.class,
+        ExpireNamespaceConfiguration.class})
 public class ExpireAutoConfiguration implements ExpireBannerDisplayDevice, EnvironmentAware {
 
     private final ExpireProperties expireProperties;
@@ -108,13 +110,24 @@ public class ExpireAutoConfiguration implements ExpireBannerDisplayDevice, Envir
         return new ExpireStarterBanner();
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    public ExpiringSerializerRegistry expiringSerializerRegistry() {
+        return ExpiringSerializerRegistry.defaultRegistry();
+    }
+
     @Bean(DEFAULT_SO_TEMPLATE)
+    @Primary
     @ConditionalOnMissingBean(name = DEFAULT_SO_TEMPLATE)
-    public ExpireTemplate<String, Object> expireTemplate(ExpireHelperFactory helperFactory) {
-        ExpireTemplate<String, Object> template = new ExpireTemplate<>();
-        template.setHelperFactory(helperFactory);
-        template.setKeySerializer(new GenericStringExpiringSerializer());
-        template.setValueSerializer(new ExpiringSerializerAdapter<>(Object.class));
+    public ExpireTemplate<String, Object> expireTemplate(ExpireHelperFactory helperFactory,
+                                                         ExpiringSerializerRegistry serializerRegistry) {
+        ExpireTemplate<String, Object> template = ExpireTemplate.builder(String.class, Object.class)
+                .acquireHelperFactory(helperFactory)
+                .acquireSerializerRegistry(serializerRegistry)
+                .acquireValueCompressThreshold(this.expireProperties.getValueCompressThreshold())
+                .build();
+        //The expired messages are decoded as the primary template does
+        Message.setDefaultSerializers(template.getKeySerializer(), template.getValueSerializer());
         return template;
     }
 
@@ -158,6 +171,22 @@ public class ExpireAutoConfiguration implements ExpireBannerDisplayDevice, Envir
         return template.opsExpirationOperations();
     }
 
+    @Bean(DEFAULT_SO_REACTIVE_TEMPLATE)
+    @ConditionalOnBean(name = DEFAULT_SO_TEMPLATE)
+    @ConditionalOnMissingBean(name = DEFAULT_SO_REACTIVE_TEMPLATE)
+    public ReactiveExpireTemplate<String, Object> reactiveExpireTemplate(@Qualifier(DEFAULT_SO_TEMPLATE)
+                                                                         ExpireTemplate<String, Object> template) {
+        return new ReactiveExpireTemplate<>(template);
+    }
+
+    @Bean(DEFAULT_SS_REACTIVE_TEMPLATE)
+    @ConditionalOnBean(name = DEFAULT_SS_TEMPLATE)
+    @ConditionalOnMissingBean(name = DEFAULT_SS_REACTIVE_TEMPLATE)
+    public ReactiveExpireTemplate<String, String> reactiveStringExpireTemplate(@Qualifier(DEFAULT_SS_TEMPLATE)
+                                                                               StringExpireTemplate template) {
+        return new ReactiveExpireTemplate<>(template);
+    }
+
     @Bean("auto::persistenceRegain")
     @ConditionalOnProperty(prefix = "spring.data.expiry", name = "open-persistence", havingValue = "true")
     @ConditionalOnBean(ExpireTemplate.class)
@@ -183,6 +212,8 @@ public class ExpireAutoConfiguration implements ExpireBannerDisplayDevice, Envir
 
     public static final String OPERATION_E = "_OPERATION_E";
 
+    public static final String REACTIVE = "_REACTIVE";
+
     public static final String DEFAULT_SO_TEMPLATE_OPERATION = DEFAULT_SO_TEMPLATE + OPERATION;
 
     public static final String DEFAULT_SO_TEMPLATE_OPERATION_E = DEFAULT_SO_TEMPLATE + OPERATION_E;
@@ -192,4 +223,8 @@ public class ExpireAutoConfiguration implements ExpireBannerDisplayDevice, Envir
     public static final String DEFAULT_SS_TEMPLATE_OPERATION = DEFAULT_SS_TEMPLATE + OPERATION;
 
     public static final String DEFAULT_SS_TEMPLATE_OPERATION_E = DEFAULT_SS_TEMPLATE + OPERATION_E;
+
+    public static final String DEFAULT_SO_REACTIVE_TEMPLATE = DEFAULT_SO_TEMPLATE + REACTIVE;
+
+    public static final String DEFAULT_SS_REACTIVE_TEMPLATE = DEFAULT_SS_TEMPLATE + REACTIVE;
 }
@@ -1,13 +1,49 @@
 package io.github.zpf9705.expiring.autoconfigure;
 
+import cn.hutool.core.util.ReflectUtil;
+import io.github.zpf9705.expiring.listener.ExpiringAsyncListener;
+import io.github.zpf9705.expiring.listener.ExpiringSyncListener;
+import io.github.zpf9705.expiring.logger.Console;
+import io.github.zpf9705.expiring.util.ArrayUtils;
+import io.github.zpf9705.expiring.util.CollectionUtils;
+import io.github.zpf9705.expiring.util.ScannerUtils;
+import net.jodah.expiringmap.ExpirationListener;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.function.Predicate;
+
 /**
  * On the Public Configuration Selection Class of {@code ExpireHelper}
+ * <p>
+ * Provide the scan of {@link ExpirationListener} shared by the clients.
  *
  * @author zpf
  * @since 3.0.0
  */
 public class ExpireHelperConfiguration {
 
+    static final String SYNC_SIGN = "SYNC";
+
+    static final String ASYNC_SIGN = "ASYNC";
+
+    static String EXPIRED_METHOD_NAME;
+
+    static Predicate<Method> METHOD_PREDICATE;
+
+    static {
+        /*
+         * Take the default Expiration Listener the class name of the first method
+         */
+        Method[] methods = ExpirationListener.class.getMethods();
+        if (ArrayUtils.simpleNotEmpty(methods)) {
+            EXPIRED_METHOD_NAME = methods[0].getName();
+            //Matching assertion method static load
+            METHOD_PREDICATE = (s) -> EXPIRED_METHOD_NAME.equals(s.getName());
+        }
+    }
+
     public final ExpireProperties properties;
 
     public ExpireHelperConfiguration(ExpireProperties properties) {
@@ -17,4 +53,64 @@ public class ExpireHelperConfiguration {
     public final ExpireProperties getProperties() {
         return this.properties;
     }
+
+    @SuppressWarnings({"rawtypes"})
+    public Map<String, List<ExpirationListener>> findExpirationListener(String[] listeningPackages) {
+        if (ArrayUtils.simpleIsEmpty(listeningPackages)) {
+            Console.info(
+                    "no provider listening scan path ," +
+                            "so ec no can provider binding Expiration Listener !"
+            );
+            return Collections.emptyMap();
+        }
+        //reflection find packages
+        Set<Class<ExpirationListener>> subTypesOf =
+                ScannerUtils.getSubTypesOf(ExpirationListener.class, listeningPackages);
+        if (CollectionUtils.simpleIsEmpty(subTypesOf)) {
+            Console.info(
+                    "No provider implementation ExpiringLoadListener class ," +
+                            "so ec no can provider binding Expiration Listener"
+            );
+            return Collections.emptyMap();
+        }
+        List<ExpirationListener> sync = new ArrayList<>();
+        List<ExpirationListener> async = new ArrayList<>();
+        Map<String, List<ExpirationListener>> listenerMap = new HashMap<>();
+        for (Class<? extends ExpirationListener> listenerClass : subTypesOf) {
+            if (Modifier.isAbstract(listenerClass.getModifiers())) {
+                continue;
+            }
+            Method target;
+            if (Arrays.stream(listenerClass.getMethods()).noneMatch(METHOD_PREDICATE)) {
+                continue;
+            } else {
+                target = Arrays.stream(listenerClass.getMethods()).filter(METHOD_PREDICATE)
+                        .findFirst()
+                        .orElse(null);
+            }
+            if (target == null) {
+                continue;
+            }
+            ExpirationListener listener;
+            try {
+                listener = ReflectUtil.newInstance(listenerClass);
+            } catch (Throwable e) {
+                Console.warn("[" + listenerClass.getName() + "] newInstanceForNoArgs failed : [" + e.getMessage() + "]");
+                continue;
+            }
+            //Synchronous monitoring is preferred
+            ExpiringSyncListener syncListener = listenerClass.getAnnotation(ExpiringSyncListener.class);
+            if (syncListener == null) {
+                ExpiringAsyncListener asyncListener = listenerClass.getAnnotation(ExpiringAsyncListener.class);
+                if (asyncListener != null) {
+                    async.add(listener);
+                }
+            } else {
+                sync.add(listener);
+            }
+        }
+        listenerMap.put(SYNC_SIGN, sync);
+        listenerMap.put(ASYNC_SIGN, async);
+        return listenerMap;
+    }
 }
@@ -1,6 +1,5 @@
 package io.github.zpf9705.expiring.autoconfigure;
 
-import cn.hutool.core.util.ReflectUtil;
 import io.github.zpf9705.expiring.core.annotation.NotNull;
 import io.github.zpf9705.expiring.help.ExpireHelperFactory;
 import io.github.zpf9705.expiring.help.expiremap.ExpireMapClientConfiguration;
@@ -8,10 +7,8 @@ import io.github.zpf9705.expiring.help.expiremap.ExpireMapClientConfigurationCus
 import io.github.zpf9705.expiring.help.expiremap.ExpireMapHelperFactory;
 import io.github.zpf9705.expiring.listener.ExpiringAsyncListener;
 import io.github.zpf9705.expiring.listener.ExpiringSyncListener;
-import io.github.zpf9705.expiring.logger.Console;
-import io.github.zpf9705.expiring.util.ArrayUtils;
+import io.github.zpf9705.expiring.listener.MessageExpiringFlowable;
 import io.github.zpf9705.expiring.util.CollectionUtils;
-import io.github.zpf9705.expiring.util.ScannerUtils;
 import net.jodah.expiringmap.ExpirationListener;
 import net.jodah.expiringmap.ExpiringMap;
 import org.springframework.beans.factory.ObjectProvider;
@@ -24,10 +21,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 
 import java.io.PrintStream;
-import java.lang.reflect.Method;
-import java.lang.reflect.Modifier;
 import java.util.*;
-import java.util.function.Predicate;
 
 /**
  * One of the optional caches for this component {@link net.jodah.expiringmap.ExpiringMap}
@@ -76,26 +70,6 @@ public class ExpireMapConfiguration extends ExpireHelperConfiguration implements
 
     private Environment environment;
 
-    static final String SYNC_SIGN = "SYNC";
-
-    static final String ASYNC_SIGN = "ASYNC";
-
-    static String EXPIRED_METHOD_NAME;
-
-    static Predicate<Method> METHOD_PREDICATE;
-
-    static {
-        /*
-         * Take the default Expiration Listener the class name of the first method
-         */
-        Method[] methods = ExpirationListener.class.getMethods();
-        if (ArrayUtils.simpleNotEmpty(methods)) {
-            EXPIRED_METHOD_NAME = methods[0].getName();
-            //Matching assertion method static load
-            METHOD_PREDICATE = (s) -> EXPIRED_METHOD_NAME.equals(s.getName());
-        }
-    }
-
     public ExpireMapConfiguration(ExpireProperties properties) {
         super(properties);
     }
@@ -150,7 +124,12 @@ public class ExpireMapConfiguration extends ExpireHelperConfiguration implements
                     c.acquireMaxSize(expireProperties.getExpiringMap().getMaxSize())
                             .acquireDefaultExpireTime(expireProperties.getDefaultExpireTime())
                             .acquireDefaultExpireTimeUnit(expireProperties.getDefaultExpireTimeUnit())
-                            .acquireDefaultExpirationPolicy(expireProperties.getExpiringMap().getExpirationPolicy());
+                            .acquireDefaultExpirationPolicy(expireProperties.getExpiringMap().getExpirationPolicy())
+                            .acquireAdmissionPolicy(expireProperties.getExpiringMap().getAdmissionPolicy())
+                            .acquireEnableValueIndex(expireProperties.getExpiringMap().getEnableValueIndex())
+                            .acquireEnableKeyIndex(expireProperties.getExpiringMap().getEnableKeyIndex())
+                            .acquireShardCount(expireProperties.getExpiringMap().getShardCount())
+                            .acquireMaxWeightBytes(expireProperties.getExpiringMap().getMaxWeightBytes());
             Map<String, List<ExpirationListener>> listenerMap = findExpirationListener();
             if (CollectionUtils.simpleNotEmpty(listenerMap)) {
                 List<ExpirationListener> sync = listenerMap.get(SYNC_SIGN);
@@ -162,68 +141,14 @@ public class ExpireMapConfiguration extends ExpireHelperConfiguration implements
                     async.forEach(builder::addASyncExpiredListener);
                 }
             }
+            //Expired messages of reactive subscribers
+            builder.addSyncExpiredListener(MessageExpiringFlowable.getInstance());
         };
     }
 
     @SuppressWarnings({"rawtypes"})
     public Map<String, List<ExpirationListener>> findExpirationListener() {
         //obtain listing packages path
-        String[] listeningPackages = getProperties().getExpiringMap().getListeningPackages();
-        if (ArrayUtils.simpleIsEmpty(listeningPackages)) {
-            Console.info(
-                    "no provider listening scan path ," +
-                            "so ec no can provider binding Expiration Listener !"
-            );
-            return Collections.emptyMap();
-        }
-        //reflection find packages
-        Set<Class<ExpirationListener>> subTypesOf =
-                ScannerUtils.getSubTypesOf(ExpirationListener.class, listeningPackages);
-        if (CollectionUtils.simpleIsEmpty(subTypesOf)) {
-            Console.info(
-                    "No provider implementation ExpiringLoadListener class ," +
-                            "so ec no can provider binding Expiration Listener"
-            );
-            return Collections.emptyMap();
-        }
-        List<ExpirationListener> sync = new ArrayList<>();
-        List<ExpirationListener> async = new ArrayList<>();
-        Map<String, List<ExpirationListener>> listenerMap = new HashMap<>();
-        for (Class<? extends ExpirationListener> listenerClass : subTypesOf) {
-            if (Modifier.isAbstract(listenerClass.getModifiers())) {
-                continue;
-            }
-            Method target;
-            if (Arrays.stream(listenerClass.getMethods()).noneMatch(METHOD_PREDICATE)) {
-                continue;
-            } else {
-                target = Arrays.stream(listenerClass.getMethods()).filter(METHOD_PREDICATE)
-                        .findFirst()
-                        .orElse(null);
-            }
-            if (target == null) {
-                continue;
-            }
-            ExpirationListener listener;
-            try {
-                listener = ReflectUtil.newInstance(listenerClass);
-            } catch (Throwable e) {
-                Console.warn("[" + listenerClass.getName() + "] newInstanceForNoArgs failed : [" + e.getMessage() + "]");
-                continue;
-            }
-            //Synchronous monitoring is preferred
-            ExpiringSyncListener syncListener = listenerClass.getAnnotation(ExpiringSyncListener.class);
-            if (syncListener == null) {
-                ExpiringAsyncListener asyncListener = listenerClass.getAnnotation(ExpiringAsyncListener.class);
-                if (asyncListener != null) {
-                    async.add(listener);
-                }
-            } else {
-                sync.add(listener);
-            }
-        }
-        listenerMap.put(SYNC_SIGN, sync);
-        listenerMap.put(ASYNC_SIGN, async);
-        return listenerMap;
+        return findExpirationListener(getProperties().getExpiringMap().getListeningPackages());
     }
 }
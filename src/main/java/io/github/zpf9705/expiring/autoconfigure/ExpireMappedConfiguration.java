@@ -0,0 +1,106 @@
+package io.github.zpf9705.expiring.autoconfigure;
+
+import io.github.zpf9705.expiring.help.ExpireHelperFactory;
+import io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration;
+import io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfigurationCustomizer;
+import io.github.zpf9705.expiring.help.expiremapped.ExpireMappedHelperFactory;
+import io.github.zpf9705.expiring.listener.ExpiringAsyncListener;
+import io.github.zpf9705.expiring.listener.ExpiringSyncListener;
+import io.github.zpf9705.expiring.listener.MessageExpiringFlowable;
+import io.github.zpf9705.expiring.util.CollectionUtils;
+import io.github.zpf9705.expiring.util.StringUtils;
+import net.jodah.expiringmap.ExpirationListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One of the optional caches for this component , the memory-mapped file store
+ * {@link io.github.zpf9705.expiring.help.expiremapped.ExpireMappedStore}
+ * <p>
+ * The following is an explanation of important parameters :
+ * {@link ExpireProperties#getExpireMapped()}
+ * <p>
+ * {@code File Path } : the mapped file , the entries in it are served immediately after a restart without
+ * replay , so the persistence files are not written for this client.
+ * <p>
+ * {@code Max Size } and {@code Log Capacity Bytes } : the slots and the value log of a new file , the entries
+ * nearest to expire are evicted when either is exhausted.
+ * <p>
+ * {@code Expiration Policy } : the same as {@link ExpireMapConfiguration}.
+ * <p>
+ * {@code Expiration Listener } : Synchronous listener , Need to implement {@link ExpirationListener}
+ * and annotate {@link ExpiringSyncListener} , Asynchronous listener , Need to annotate
+ * {@link ExpiringAsyncListener} , the same as {@link ExpireMapConfiguration}.
+ * <p>
+ * Choose this client with {@code spring.data.expiry.client=expire_mapped}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+        name = "spring.data.expiry.client",
+        havingValue = "expire_mapped"
+)
+public class ExpireMappedConfiguration extends ExpireHelperConfiguration {
+
+    static final String DEFAULT_FILE_NAME = "expire.mapped";
+
+    public ExpireMappedConfiguration(ExpireProperties properties) {
+        super(properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean({ExpireHelperFactory.class})
+    public ExpireHelperFactory expireMappedConnectionFactory(
+            ObjectProvider<ExpireMappedClientConfigurationCustomizer> buildCustomizer) {
+        ExpireMappedClientConfiguration.ExpireMappedClientConfigurationBuilder builder =
+                ExpireMappedClientConfiguration.builder();
+        buildCustomizer.orderedStream()
+                .forEach((customizer) -> customizer.customize(builder));
+        return new ExpireMappedHelperFactory(builder.build());
+    }
+
+    @Bean("expireMapped::expireMappedClientCustomizer")
+    @SuppressWarnings("rawtypes")
+    public ExpireMappedClientConfigurationCustomizer expireMappedClientCustomizer() {
+        ExpireProperties expireProperties = getProperties();
+        String filePath = expireProperties.getExpireMapped().getFilePath();
+        if (StringUtils.simpleIsBlank(filePath)) {
+            filePath = new File(expireProperties.getPersistencePath(), DEFAULT_FILE_NAME).getPath();
+        }
+        String mappedFilePath = filePath;
+        return c -> {
+            ExpireMappedClientConfiguration.ExpireMappedClientConfigurationBuilder builder =
+                    c.acquireFilePath(mappedFilePath)
+                            .acquireMaxSize(expireProperties.getExpireMapped().getMaxSize())
+                            .acquireLogCapacityBytes(expireProperties.getExpireMapped().getLogCapacityBytes())
+                            .acquireDefaultExpireTime(expireProperties.getDefaultExpireTime())
+                            .acquireDefaultExpireTimeUnit(expireProperties.getDefaultExpireTimeUnit())
+                            .acquireDefaultExpirationPolicy(expireProperties.getExpireMapped().getExpirationPolicy())
+                            .acquireSweepInterval(expireProperties.getExpireMapped().getSweepInterval())
+                            .acquireEnableKeyIndex(expireProperties.getExpireMapped().getEnableKeyIndex());
+            Map<String, List<ExpirationListener>> listenerMap =
+                    findExpirationListener(expireProperties.getExpireMapped().getListeningPackages());
+            if (CollectionUtils.simpleNotEmpty(listenerMap)) {
+                List<ExpirationListener> sync = listenerMap.get(SYNC_SIGN);
+                if (CollectionUtils.simpleNotEmpty(sync)) {
+                    sync.forEach(builder::addSyncExpiredListener);
+                }
+                List<ExpirationListener> async = listenerMap.get(ASYNC_SIGN);
+                if (CollectionUtils.simpleNotEmpty(async)) {
+                    async.forEach(builder::addASyncExpiredListener);
+                }
+            }
+            //Expired messages of reactive subscribers
+            builder.addSyncExpiredListener(MessageExpiringFlowable.getInstance());
+        };
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.zpf9705.expiring.autoconfigure;
+
+import io.github.zpf9705.expiring.core.ExpireTemplate;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.core.serializer.CompressingExpiringSerializer;
+import io.github.zpf9705.expiring.core.serializer.ExpiringSerializerAdapter;
+import io.github.zpf9705.expiring.core.serializer.Utf8StringExpiringSerializer;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapClientConfiguration;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapHelperFactory;
+import io.github.zpf9705.expiring.logger.Console;
+import io.github.zpf9705.expiring.util.CollectionUtils;
+import org.springframework.beans.factory.support.BeanDefinitionRegistry;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.context.annotation.ImportBeanDefinitionRegistrar;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotationMetadata;
+
+import java.util.Map;
+
+/**
+ * Register an {@link ExpireTemplate} for each named namespace of {@link ExpireProperties#getNamespaces()}
+ * <p>
+ * The namespaces are configured under {@code spring.data.expiry.namespaces.<name>.*} , each namespace is
+ * built as an independent {@link io.github.zpf9705.expiring.help.expiremap.ExpireMapCenter} with its own
+ * size or weight bytes , default expire time , policies and persistence toggle. The template is registered
+ * with the bean name {@code <name>ExpireTemplate} , the same key and value serializers as
+ * {@link ExpireAutoConfiguration#DEFAULT_SO_TEMPLATE}.
+ * <pre>
+ *     spring.data.expiry.namespaces.orders.max-size=2000
+ *     spring.data.expiry.namespaces.orders.default-expire-time=10
+ *     spring.data.expiry.namespaces.orders.default-expire-time-unit=MINUTES
+ *     spring.data.expiry.namespaces.orders.open-persistence=true
+ * </pre>
+ * The namespace templates do not share entries with the default templates or each other , the persistent files
+ * of a namespace are restored to its own center.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class ExpireNamespaceConfiguration implements ImportBeanDefinitionRegistrar, EnvironmentAware {
+
+    /**
+     * The bean name suffix of the template of a namespace
+     */
+    public static final String NAMESPACE_TEMPLATE_SUFFIX = "ExpireTemplate";
+
+    private Environment environment;
+
+    @Override
+    public void setEnvironment(@NotNull Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    public void registerBeanDefinitions(@NotNull AnnotationMetadata importingClassMetadata,
+                                        @NotNull BeanDefinitionRegistry registry) {
+        ExpireProperties properties = Binder.get(this.environment)
+                .bind("spring.data.expiry", ExpireProperties.class)
+                .orElseGet(ExpireProperties::new);
+        Map<String, ExpireProperties.Namespace> namespaces = properties.getNamespaces();
+        if (CollectionUtils.simpleIsEmpty(namespaces)) {
+            return;
+        }
+        for (Map.Entry<String, ExpireProperties.Namespace> entry : namespaces.entrySet()) {
+            String beanName = entry.getKey() + NAMESPACE_TEMPLATE_SUFFIX;
+            if (registry.containsBeanDefinition(beanName)) {
+                Console.warn("Expire namespace [{}] template [{}] already exist , skip", entry.getKey(), beanName);
+                continue;
+            }
+            RootBeanDefinition definition = new RootBeanDefinition(ExpireTemplate.class,
+                    () -> namespaceTemplate(entry.getKey(), entry.getValue(), properties));
+            definition.setTargetType(ResolvableType.forClassWithGenerics(ExpireTemplate.class,
+                    String.class, Object.class));
+            registry.registerBeanDefinition(beanName, definition);
+        }
+    }
+
+    /**
+     * Create the template bound to the center of {@code namespace}
+     *
+     * @param namespace  the name of namespace
+     * @param config     the configuration of namespace
+     * @param properties the global configuration
+     * @return {@link ExpireTemplate} of namespace
+     */
+    static ExpireTemplate<String, Object> namespaceTemplate(String namespace, ExpireProperties.Namespace config,
+                                                            ExpireProperties properties) {
+        ExpireMapClientConfiguration configuration = ExpireMapClientConfiguration.builder()
+                .acquireMaxSize(config.getMaxSize())
+                .acquireMaxWeightBytes(config.getMaxWeightBytes())
+                .acquireDefaultExpireTime(config.getDefaultExpireTime() != null ?
+                        config.getDefaultExpireTime() : properties.getDefaultExpireTime())
+                .acquireDefaultExpireTimeUnit(config.getDefaultExpireTimeUnit() != null ?
+                        config.getDefaultExpireTimeUnit() : properties.getDefaultExpireTimeUnit())
+                .acquireDefaultExpirationPolicy(config.getExpirationPolicy())
+                .acquireAdmissionPolicy(config.getAdmissionPolicy())
+                .acquireEnableValueIndex(config.getEnableValueIndex())
+                .acquireEnableKeyIndex(config.getEnableKeyIndex())
+                .acquireShardCount(config.getShardCount())
+                .build();
+        ExpireTemplate<String, Object> template = new ExpireTemplate<>();
+        template.setHelperFactory(new ExpireMapHelperFactory(namespace, configuration,
+                Boolean.TRUE.equals(properties.getOpenPersistence()) &&
+                        Boolean.TRUE.equals(config.getOpenPersistence())));
+        template.setKeySerializer(new Utf8StringExpiringSerializer());
+        template.setValueSerializer(CompressingExpiringSerializer.wrapIfNecessary(
+                new ExpiringSerializerAdapter<>(Object.class), config.getValueCompressThreshold() != null ?
+                        config.getValueCompressThreshold() : properties.getValueCompressThreshold()));
+        return template;
+    }
+}
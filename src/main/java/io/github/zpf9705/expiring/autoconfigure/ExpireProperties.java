@@ -3,12 +3,15 @@ package io.github.zpf9705.expiring.autoconfigure;
 import io.github.zpf9705.expiring.core.persistence.Configuration;
 import io.github.zpf9705.expiring.core.persistence.ExpireByteGlobePersistence;
 import io.github.zpf9705.expiring.core.persistence.PersistenceRenewFactory;
+import io.github.zpf9705.expiring.help.AdmissionPolicy;
 import io.github.zpf9705.expiring.util.SystemUtils;
 import net.jodah.expiringmap.ExpirationPolicy;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
 import javax.annotation.PostConstruct;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -80,6 +83,28 @@ public class ExpireProperties {
      */
     private ExpiringMap expiringMap = new ExpiringMap();
 
+    /**
+     * Expiry implement for the native hierarchical timing wheel client
+     */
+    private ExpireWheel expireWheel = new ExpireWheel();
+
+    /**
+     * Expiry implement for the memory-mapped file client
+     */
+    private ExpireMapped expireMapped = new ExpireMapped();
+
+    /**
+     * Named namespaces of {@link net.jodah.expiringmap.ExpiringMap} , each namespace has its own center and
+     * is bound to an {@code ExpireTemplate} named {@code <name>ExpireTemplate}
+     */
+    private Map<String, Namespace> namespaces = new LinkedHashMap<>();
+
+    /**
+     * The min bytes of a serialized value of the default {@code ExpireTemplate} to be compressed ,
+     * {@literal 0} means never compress
+     */
+    private Integer valueCompressThreshold = 0;
+
     public Boolean getOpenPersistence() {
         return openPersistence;
     }
@@ -168,6 +193,38 @@ public class ExpireProperties {
         this.expiringMap = expiringMap;
     }
 
+    public ExpireWheel getExpireWheel() {
+        return expireWheel;
+    }
+
+    public void setExpireWheel(ExpireWheel expireWheel) {
+        this.expireWheel = expireWheel;
+    }
+
+    public ExpireMapped getExpireMapped() {
+        return expireMapped;
+    }
+
+    public void setExpireMapped(ExpireMapped expireMapped) {
+        this.expireMapped = expireMapped;
+    }
+
+    public Map<String, Namespace> getNamespaces() {
+        return namespaces;
+    }
+
+    public void setNamespaces(Map<String, Namespace> namespaces) {
+        this.namespaces = namespaces;
+    }
+
+    public Integer getValueCompressThreshold() {
+        return valueCompressThreshold;
+    }
+
+    public void setValueCompressThreshold(Integer valueCompressThreshold) {
+        this.valueCompressThreshold = valueCompressThreshold;
+    }
+
     public static class ExpiringMap {
 
         /**
@@ -180,6 +237,12 @@ public class ExpireProperties {
          */
         private ExpirationPolicy expirationPolicy = ExpirationPolicy.ACCESSED;
 
+        /**
+         * Set a {@code admissionPolicy} for map , {@code TINY_LFU} keeps the frequently read entries from
+         * being evicted by the keys requested once when the {@code maxSize} is reached
+         */
+        private AdmissionPolicy admissionPolicy = AdmissionPolicy.ALWAYS;
+
         /**
          * Set a {@code listening packages} for map
          * <p>
@@ -187,6 +250,275 @@ public class ExpireProperties {
          */
         private String[] listeningPackages = ApplicationUtils.findSpringApplicationPackageName();
 
+        /**
+         * Whether to maintain a reverse value index for value existence checks and value-based removals ,
+         * the estimated memory overhead is printed when enabled
+         */
+        private Boolean enableValueIndex = false;
+
+        /**
+         * Whether to maintain a similar key index for finding and deleting similar keys ,
+         * the string form of each key is decoded once when it is added instead of at every search ,
+         * off by default as the n-grams of every key are kept in memory
+         */
+        private Boolean enableKeyIndex = false;
+
+        /**
+         * Set the number of independent map shards that keys are routed to by hash ,
+         * more shards reduce the write contention of multi-core , the {@code maxSize} is divided equally among them
+         */
+        private Integer shardCount = 1;
+
+        /**
+         * Set the max bytes of all entries , the entries nearest to expire are evicted when exceeded ,
+         * {@literal 0} means not bounded by weight. Each entry weighs its serialized key and value lengths plus
+         * a fixed overhead by default , another weigher can be given with {@code ExpireMapClientConfigurationCustomizer}
+         */
+        private Long maxWeightBytes = 0L;
+
+        public Integer getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public ExpirationPolicy getExpirationPolicy() {
+            return expirationPolicy;
+        }
+
+        public void setExpirationPolicy(ExpirationPolicy expirationPolicy) {
+            this.expirationPolicy = expirationPolicy;
+        }
+
+        public AdmissionPolicy getAdmissionPolicy() {
+            return admissionPolicy;
+        }
+
+        public void setAdmissionPolicy(AdmissionPolicy admissionPolicy) {
+            this.admissionPolicy = admissionPolicy;
+        }
+
+        public String[] getListeningPackages() {
+            return listeningPackages;
+        }
+
+        public void setListeningPackages(String[] listeningPackages) {
+            this.listeningPackages = listeningPackages;
+        }
+
+        public Boolean getEnableValueIndex() {
+            return enableValueIndex;
+        }
+
+        public void setEnableValueIndex(Boolean enableValueIndex) {
+            this.enableValueIndex = enableValueIndex;
+        }
+
+        public Boolean getEnableKeyIndex() {
+            return enableKeyIndex;
+        }
+
+        public void setEnableKeyIndex(Boolean enableKeyIndex) {
+            this.enableKeyIndex = enableKeyIndex;
+        }
+
+        public Integer getShardCount() {
+            return shardCount;
+        }
+
+        public void setShardCount(Integer shardCount) {
+            this.shardCount = shardCount;
+        }
+
+        public Long getMaxWeightBytes() {
+            return maxWeightBytes;
+        }
+
+        public void setMaxWeightBytes(Long maxWeightBytes) {
+            this.maxWeightBytes = maxWeightBytes;
+        }
+    }
+
+    public static class ExpireWheel {
+
+        /**
+         * Set a {@code maxsize} for wheel map
+         */
+        private Integer maxSize = 500;
+
+        /**
+         * Set a {@code expirationPolicy} for wheel map
+         */
+        private ExpirationPolicy expirationPolicy = ExpirationPolicy.ACCESSED;
+
+        /**
+         * Set a {@code listening packages} for wheel map
+         * <p>
+         * If it is null, the default is to use springboot to start the package path where the main class is located
+         */
+        private String[] listeningPackages = ApplicationUtils.findSpringApplicationPackageName();
+
+        /**
+         * Set the milliseconds of a tick of the lowest wheel , the expiration listeners are notified
+         * no later than one tick after the deadline
+         */
+        private Long tickDuration = 10L;
+
+        /**
+         * Set the buckets number of each wheel
+         */
+        private Integer wheelSize = 64;
+
+        /**
+         * Whether to maintain a similar key index for finding and deleting similar keys ,
+         * off by default as the n-grams of every key are kept in memory
+         */
+        private Boolean enableKeyIndex = false;
+
+        /**
+         * Set the max bytes of all entries , the entries of the earliest buckets are evicted when exceeded ,
+         * {@literal 0} means not bounded by weight. Another weigher can be given with
+         * {@code ExpireWheelClientConfigurationCustomizer}
+         */
+        private Long maxWeightBytes = 0L;
+
+        /**
+         * Set the max direct memory bytes to store the values off-heap in slabs , the values are kept out of
+         * the java heap and their memory is reused after expired or evicted , {@literal 0} means on-heap
+         */
+        private Long offHeapCapacityBytes = 0L;
+
+        /**
+         * Set the bytes of each direct memory slab , also the max bytes of an off-heap value
+         */
+        private Integer slabSize = 1 << 20;
+
+        public Integer getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public ExpirationPolicy getExpirationPolicy() {
+            return expirationPolicy;
+        }
+
+        public void setExpirationPolicy(ExpirationPolicy expirationPolicy) {
+            this.expirationPolicy = expirationPolicy;
+        }
+
+        public String[] getListeningPackages() {
+            return listeningPackages;
+        }
+
+        public void setListeningPackages(String[] listeningPackages) {
+            this.listeningPackages = listeningPackages;
+        }
+
+        public Long getTickDuration() {
+            return tickDuration;
+        }
+
+        public void setTickDuration(Long tickDuration) {
+            this.tickDuration = tickDuration;
+        }
+
+        public Integer getWheelSize() {
+            return wheelSize;
+        }
+
+        public void setWheelSize(Integer wheelSize) {
+            this.wheelSize = wheelSize;
+        }
+
+        public Boolean getEnableKeyIndex() {
+            return enableKeyIndex;
+        }
+
+        public void setEnableKeyIndex(Boolean enableKeyIndex) {
+            this.enableKeyIndex = enableKeyIndex;
+        }
+
+        public Long getMaxWeightBytes() {
+            return maxWeightBytes;
+        }
+
+        public void setMaxWeightBytes(Long maxWeightBytes) {
+            this.maxWeightBytes = maxWeightBytes;
+        }
+
+        public Long getOffHeapCapacityBytes() {
+            return offHeapCapacityBytes;
+        }
+
+        public void setOffHeapCapacityBytes(Long offHeapCapacityBytes) {
+            this.offHeapCapacityBytes = offHeapCapacityBytes;
+        }
+
+        public Integer getSlabSize() {
+            return slabSize;
+        }
+
+        public void setSlabSize(Integer slabSize) {
+            this.slabSize = slabSize;
+        }
+    }
+
+    public static class ExpireMapped {
+
+        /**
+         * Set the path of the mapped file , if it is null , the file {@code expire.mapped} is created
+         * in the {@code persistencePath}
+         */
+        private String filePath;
+
+        /**
+         * Set a {@code maxsize} for mapped store , a new file reserves twice the slots of it ,
+         * an existing file keeps its own layout
+         */
+        private Integer maxSize = 500;
+
+        /**
+         * Set the bytes of the value log of a new mapped file , the file is limited to 2GB in total
+         */
+        private Long logCapacityBytes = (long) (1 << 26);
+
+        /**
+         * Set a {@code expirationPolicy} for mapped store
+         */
+        private ExpirationPolicy expirationPolicy = ExpirationPolicy.ACCESSED;
+
+        /**
+         * Set a {@code listening packages} for mapped store
+         * <p>
+         * If it is null, the default is to use springboot to start the package path where the main class is located
+         */
+        private String[] listeningPackages = ApplicationUtils.findSpringApplicationPackageName();
+
+        /**
+         * Set the milliseconds between two sweeps of the expired entries , the expiration listeners are notified
+         * no later than one interval after the deadline
+         */
+        private Long sweepInterval = 1000L;
+
+        /**
+         * Whether to maintain a similar key index for finding and deleting similar keys ,
+         * off by default as the n-grams of every key are kept in memory
+         */
+        private Boolean enableKeyIndex = false;
+
+        public String getFilePath() {
+            return filePath;
+        }
+
+        public void setFilePath(String filePath) {
+            this.filePath = filePath;
+        }
+
         public Integer getMaxSize() {
             return maxSize;
         }
@@ -195,6 +527,14 @@ public class ExpireProperties {
             this.maxSize = maxSize;
         }
 
+        public Long getLogCapacityBytes() {
+            return logCapacityBytes;
+        }
+
+        public void setLogCapacityBytes(Long logCapacityBytes) {
+            this.logCapacityBytes = logCapacityBytes;
+        }
+
         public ExpirationPolicy getExpirationPolicy() {
             return expirationPolicy;
         }
@@ -210,13 +550,179 @@ public class ExpireProperties {
         public void setListeningPackages(String[] listeningPackages) {
             this.listeningPackages = listeningPackages;
         }
+
+        public Long getSweepInterval() {
+            return sweepInterval;
+        }
+
+        public void setSweepInterval(Long sweepInterval) {
+            this.sweepInterval = sweepInterval;
+        }
+
+        public Boolean getEnableKeyIndex() {
+            return enableKeyIndex;
+        }
+
+        public void setEnableKeyIndex(Boolean enableKeyIndex) {
+            this.enableKeyIndex = enableKeyIndex;
+        }
+    }
+
+    public static class Namespace {
+
+        /**
+         * Set a {@code maxsize} for namespace
+         */
+        private Integer maxSize = 500;
+
+        /**
+         * Set the max bytes of all entries of namespace , {@literal 0} means not bounded by weight
+         */
+        private Long maxWeightBytes = 0L;
+
+        /**
+         * Set a {@code defaultExpireTime} for namespace , if {@literal null} the global default is used
+         */
+        private Long defaultExpireTime;
+
+        /**
+         * Set a {@code defaultExpireTimeUnit} for namespace , if {@literal null} the global default is used
+         */
+        private TimeUnit defaultExpireTimeUnit;
+
+        /**
+         * Set a {@code expirationPolicy} for namespace
+         */
+        private ExpirationPolicy expirationPolicy = ExpirationPolicy.ACCESSED;
+
+        /**
+         * Set a {@code admissionPolicy} for namespace
+         */
+        private AdmissionPolicy admissionPolicy = AdmissionPolicy.ALWAYS;
+
+        /**
+         * Whether to maintain a reverse value index for namespace
+         */
+        private Boolean enableValueIndex = false;
+
+        /**
+         * Whether to maintain a similar key index for namespace , off by default
+         */
+        private Boolean enableKeyIndex = false;
+
+        /**
+         * Set the number of independent map shards of namespace
+         */
+        private Integer shardCount = 1;
+
+        /**
+         * Whether to persist the entries of namespace , it takes effect only when the global
+         * {@code open-persistence} is also {@literal true}
+         */
+        private Boolean openPersistence = false;
+
+        /**
+         * The min bytes of a serialized value of namespace to be compressed , if {@literal null} the global
+         * {@code value-compress-threshold} is used
+         */
+        private Integer valueCompressThreshold;
+
+        public Integer getMaxSize() {
+            return maxSize;
+        }
+
+        public void setMaxSize(Integer maxSize) {
+            this.maxSize = maxSize;
+        }
+
+        public Long getMaxWeightBytes() {
+            return maxWeightBytes;
+        }
+
+        public void setMaxWeightBytes(Long maxWeightBytes) {
+            this.maxWeightBytes = maxWeightBytes;
+        }
+
+        public Long getDefaultExpireTime() {
+            return defaultExpireTime;
+        }
+
+        public void setDefaultExpireTime(Long defaultExpireTime) {
+            this.defaultExpireTime = defaultExpireTime;
+        }
+
+        public TimeUnit getDefaultExpireTimeUnit() {
+            return defaultExpireTimeUnit;
+        }
+
+        public void setDefaultExpireTimeUnit(TimeUnit defaultExpireTimeUnit) {
+            this.defaultExpireTimeUnit = defaultExpireTimeUnit;
+        }
+
+        public ExpirationPolicy getExpirationPolicy() {
+            return expirationPolicy;
+        }
+
+        public void setExpirationPolicy(ExpirationPolicy expirationPolicy) {
+            this.expirationPolicy = expirationPolicy;
+        }
+
+        public AdmissionPolicy getAdmissionPolicy() {
+            return admissionPolicy;
+        }
+
+        public void setAdmissionPolicy(AdmissionPolicy admissionPolicy) {
+            this.admissionPolicy = admissionPolicy;
+        }
+
+        public Boolean getEnableValueIndex() {
+            return enableValueIndex;
+        }
+
+        public void setEnableValueIndex(Boolean enableValueIndex) {
+            this.enableValueIndex = enableValueIndex;
+        }
+
+        public Boolean getEnableKeyIndex() {
+            return enableKeyIndex;
+        }
+
+        public void setEnableKeyIndex(Boolean enableKeyIndex) {
+            this.enableKeyIndex = enableKeyIndex;
+        }
+
+        public Integer getShardCount() {
+            return shardCount;
+        }
+
+        public void setShardCount(Integer shardCount) {
+            this.shardCount = shardCount;
+        }
+
+        public Boolean getOpenPersistence() {
+            return openPersistence;
+        }
+
+        public void setOpenPersistence(Boolean openPersistence) {
+            this.openPersistence = openPersistence;
+        }
+
+        public Integer getValueCompressThreshold() {
+            return valueCompressThreshold;
+        }
+
+        public void setValueCompressThreshold(Integer valueCompressThreshold) {
+            this.valueCompressThreshold = valueCompressThreshold;
+        }
     }
 
     /**
      * Cache Client
      */
     public enum Client {
-        EXPIRE_MAP
+        EXPIRE_MAP,
+        EXPIRE_WHEEL,
+        EXPIRE_MAPPED
     }
 
     @PostConstruct
@@ -0,0 +1,99 @@
+package io.github.zpf9705.expiring.autoconfigure;
+
+import io.github.zpf9705.expiring.help.ExpireHelperFactory;
+import io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration;
+import io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfigurationCustomizer;
+import io.github.zpf9705.expiring.help.expirewheel.ExpireWheelHelperFactory;
+import io.github.zpf9705.expiring.listener.ExpiringAsyncListener;
+import io.github.zpf9705.expiring.listener.ExpiringSyncListener;
+import io.github.zpf9705.expiring.listener.MessageExpiringFlowable;
+import io.github.zpf9705.expiring.util.CollectionUtils;
+import net.jodah.expiringmap.ExpirationListener;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * One of the optional caches for this component , the native hierarchical timing wheel
+ * {@link io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap}
+ * <p>
+ * The following is an explanation of important parameters :
+ * {@link ExpireProperties#getExpireWheel()}
+ * <p>
+ * {@code Max Size } : the maximum length of the map , the entry of the earliest bucket is evicted
+ * when it is exceeded.
+ * <p>
+ * {@code Tick Duration } and {@code Wheel Size } : the lowest wheel has {@code Wheel Size} buckets of
+ * {@code Tick Duration} milliseconds , the upper wheels are created on demand , schedule and cancel are O(1).
+ * <p>
+ * {@code Expiration Policy } : the same as {@link ExpireMapConfiguration}.
+ * <p>
+ * {@code Expiration Listener } : Synchronous listener , Need to implement {@link ExpirationListener}
+ * and annotate {@link ExpiringSyncListener} , Asynchronous listener , Need to annotate
+ * {@link ExpiringAsyncListener} , the same as {@link ExpireMapConfiguration}.
+ * <p>
+ * Choose this client with {@code spring.data.expiry.client=expire_wheel}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(
+        name = "spring.data.expiry.client",
+        havingValue = "expire_wheel"
+)
+public class ExpireWheelConfiguration extends ExpireHelperConfiguration {
+
+    public ExpireWheelConfiguration(ExpireProperties properties) {
+        super(properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean({ExpireHelperFactory.class})
+    public ExpireHelperFactory expireWheelConnectionFactory(
+            ObjectProvider<ExpireWheelClientConfigurationCustomizer> buildCustomizer) {
+        ExpireWheelClientConfiguration.ExpireWheelClientConfigurationBuilder builder =
+                ExpireWheelClientConfiguration.builder();
+        buildCustomizer.orderedStream()
+                .forEach((customizer) -> customizer.customize(builder));
+        return new ExpireWheelHelperFactory(builder.build());
+    }
+
+    @Bean("expireWheel::expireWheelClientCustomizer")
+    @SuppressWarnings("rawtypes")
+    public ExpireWheelClientConfigurationCustomizer expireWheelClientCustomizer() {
+        ExpireProperties expireProperties = getProperties();
+        return c -> {
+            ExpireWheelClientConfiguration.ExpireWheelClientConfigurationBuilder builder =
+                    c.acquireMaxSize(expireProperties.getExpireWheel().getMaxSize())
+                            .acquireDefaultExpireTime(expireProperties.getDefaultExpireTime())
+                            .acquireDefaultExpireTimeUnit(expireProperties.getDefaultExpireTimeUnit())
+                            .acquireDefaultExpirationPolicy(expireProperties.getExpireWheel().getExpirationPolicy())
+                            .acquireTickDuration(expireProperties.getExpireWheel().getTickDuration())
+                            .acquireWheelSize(expireProperties.getExpireWheel().getWheelSize())
+                            .acquireEnableKeyIndex(expireProperties.getExpireWheel().getEnableKeyIndex())
+                            .acquireMaxWeightBytes(expireProperties.getExpireWheel().getMaxWeightBytes())
+                            .acquireOffHeapCapacityBytes(expireProperties.getExpireWheel().getOffHeapCapacityBytes())
+                            .acquireSlabSize(expireProperties.getExpireWheel().getSlabSize());
+            Map<String, List<ExpirationListener>> listenerMap =
+                    findExpirationListener(expireProperties.getExpireWheel().getListeningPackages());
+            if (CollectionUtils.simpleNotEmpty(listenerMap)) {
+                List<ExpirationListener> sync = listenerMap.get(SYNC_SIGN);
+                if (CollectionUtils.simpleNotEmpty(sync)) {
+                    sync.forEach(builder::addSyncExpiredListener);
+                }
+                List<ExpirationListener> async = listenerMap.get(ASYNC_SIGN);
+                if (CollectionUtils.simpleNotEmpty(async)) {
+                    async.forEach(builder::addASyncExpiredListener);
+                }
+            }
+            //Expired messages of reactive subscribers
+            builder.addSyncExpiredListener(MessageExpiringFlowable.getInstance());
+        };
+    }
+}
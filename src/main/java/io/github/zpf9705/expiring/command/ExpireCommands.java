@@ -6,5 +6,5 @@ package io.github.zpf9705.expiring.command;
  * @author zpf
  * @since 3.0.0
  */
-public interface ExpireCommands extends ExpireStringCommands, ExpireKeyCommands {
+public interface ExpireCommands extends ExpireStringCommands, ExpireKeyCommands, ExpireHashCommands {
 }
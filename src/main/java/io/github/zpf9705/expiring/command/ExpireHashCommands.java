@@ -0,0 +1,153 @@
+package io.github.zpf9705.expiring.command;
+
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.persistence.PersistenceExec;
+import io.github.zpf9705.expiring.core.persistence.PersistenceExecTypeEnum;
+
+import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Hash-specific commands , all the fields of a hash are stored in the value of one entry of {@code key} , a field
+ * can have its own expiration but never outlives the hash.
+ * <p>
+ * The changes return the encoded hash after changed , so that the whole hash is persisted as one entry in the
+ * proxy method {@link io.github.zpf9705.expiring.core.ExpiryInvocationTrace#invokeSubsequent(Object, Annotation,
+ * Object[])} , an empty array means the hash is removed with its last field.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public interface ExpireHashCommands {
+
+    /**
+     * Set the {@code value} of a hash {@code field}.
+     *
+     * @param key   must not be {@literal null}.
+     * @param field must not be {@literal null}.
+     * @param value must not be {@literal null}.
+     * @return the encoded hash , {@literal null} if the hash can not be created
+     */
+    @CanNull
+    @PersistenceExec(value = PersistenceExecTypeEnum.HASH, expectValue = PersistenceExec.ValueExpectations.NOT_NULL)
+    byte[] hSet(byte[] key, byte[] field, byte[] value);
+
+    /**
+     * Set the {@code value} of a hash {@code field} which expires after {@code duration}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param field    must not be {@literal null}.
+     * @param value    must not be {@literal null}.
+     * @param duration the field expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return the encoded hash , {@literal null} if the hash can not be created
+     */
+    @CanNull
+    @PersistenceExec(value = PersistenceExecTypeEnum.HASH, expectValue = PersistenceExec.ValueExpectations.NOT_NULL)
+    byte[] hSetE(byte[] key, byte[] field, byte[] value, Long duration, TimeUnit unit);
+
+    /**
+     * Set the {@code value} of a hash {@code field} , only if {@code field} does not exist.
+     *
+     * @param key   must not be {@literal null}.
+     * @param field must not be {@literal null}.
+     * @param value must not be {@literal null}.
+     * @return the encoded hash , {@literal null} if the field exist
+     */
+    @CanNull
+    @PersistenceExec(value = PersistenceExecTypeEnum.HASH, expectValue = PersistenceExec.ValueExpectations.NOT_NULL)
+    byte[] hSetNX(byte[] key, byte[] field, byte[] value);
+
+    /**
+     * Set multiple hash fields to multiple values using data provided in {@code tuple}.
+     *
+     * @param key   must not be {@literal null}.
+     * @param tuple must not be {@literal null}.
+     * @return the encoded hash , {@literal null} if the hash can not be created
+     */
+    @CanNull
+    @PersistenceExec(value = PersistenceExecTypeEnum.HASH, expectValue = PersistenceExec.ValueExpectations.NOT_NULL)
+    byte[] hMSet(byte[] key, Map<byte[], byte[]> tuple);
+
+    /**
+     * Set the expiration of a hash {@code field}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param field    must not be {@literal null}.
+     * @param duration the field expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return the encoded hash , {@literal null} if the field not exist
+     */
+    @CanNull
+    @PersistenceExec(value = PersistenceExecTypeEnum.HASH, expectValue = PersistenceExec.ValueExpectations.NOT_NULL)
+    byte[] hExpire(byte[] key, byte[] field, Long duration, TimeUnit unit);
+
+    /**
+     * Delete given hash {@code fields}.
+     *
+     * @param key    must not be {@literal null}.
+     * @param fields must not be {@literal null}.
+     * @return the encoded hash , empty if the hash is removed , {@literal null} if no field deleted
+     */
+    @CanNull
+    @PersistenceExec(value = PersistenceExecTypeEnum.HASH, expectValue = PersistenceExec.ValueExpectations.NOT_NULL)
+    byte[] hDel(byte[] key, byte[]... fields);
+
+    /**
+     * Get the value of a hash {@code field}.
+     *
+     * @param key   must not be {@literal null}.
+     * @param field must not be {@literal null}.
+     * @return {@literal null} if the field not exist
+     */
+    @CanNull
+    byte[] hGet(byte[] key, byte[] field);
+
+    /**
+     * Get the values of given hash {@code fields}.
+     *
+     * @param key    must not be {@literal null}.
+     * @param fields must not be {@literal null}.
+     * @return the values in the order of {@code fields} , {@literal null} for an absent field
+     */
+    List<byte[]> hMGet(byte[] key, Collection<byte[]> fields);
+
+    /**
+     * Get all the fields and values of a hash.
+     *
+     * @param key must not be {@literal null}.
+     * @return empty if the hash not exist
+     */
+    Map<byte[], byte[]> hGetAll(byte[] key);
+
+    /**
+     * Get the number of fields of a hash.
+     *
+     * @param key must not be {@literal null}.
+     * @return {@literal 0} if the hash not exist
+     */
+    Long hLen(byte[] key);
+
+    /**
+     * Determine if a hash {@code field} exist.
+     *
+     * @param key   must not be {@literal null}.
+     * @param field must not be {@literal null}.
+     * @return if {@literal true} exist
+     */
+    Boolean hExists(byte[] key, byte[] field);
+
+    /**
+     * Get the rest of the expiration time of a hash {@code field}.
+     *
+     * @param key   must not be {@literal null}.
+     * @param field must not be {@literal null}.
+     * @param unit  must not be {@literal null}.
+     * @return {@literal -1} if the field does not expire by itself , {@literal null} if the field not exist
+     */
+    @CanNull
+    Long hTtl(byte[] key, byte[] field, TimeUnit unit);
+}
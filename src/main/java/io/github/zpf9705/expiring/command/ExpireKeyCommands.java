@@ -1,5 +1,6 @@
 package io.github.zpf9705.expiring.command;
 
+import io.github.zpf9705.expiring.core.ScanPage;
 import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.core.persistence.PersistenceExec;
 import io.github.zpf9705.expiring.core.persistence.PersistenceExecTypeEnum;
@@ -57,6 +58,17 @@ public interface ExpireKeyCommands {
      */
     Boolean hasKey(byte[] key);
 
+    /**
+     * Scan a page of keys from {@code cursor} without materializing all the keys , start with cursor
+     * {@literal 0} and continue with the cursor of each page until it returns {@literal 0}.
+     *
+     * @param cursor {@literal 0} to start , or the cursor of the previous page
+     * @param match  simple pattern with {@literal *} of keys , {@literal null} matches all
+     * @param count  the hint of keys number of a page , must be positive
+     * @return a page of keys and the next cursor
+     */
+    ScanPage<byte[]> scan(long cursor, @CanNull String match, int count);
+
     /**
      * Get the key {@code key} of the corresponding cache time : ms
      *
@@ -5,7 +5,10 @@ import io.github.zpf9705.expiring.core.persistence.PersistenceExec;
 import io.github.zpf9705.expiring.core.persistence.PersistenceExecTypeEnum;
 
 import java.lang.annotation.Annotation;
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -42,6 +45,27 @@ public interface ExpireStringCommands {
     @PersistenceExec(value = PersistenceExecTypeEnum.SET, expectValue = PersistenceExec.ValueExpectations.REALLY)
     Boolean setE(byte[] key, byte[] value, Long duration, TimeUnit unit);
 
+    /**
+     * Set all the {@code tuple} in one call , the persistence of the batch is written as one group.
+     *
+     * @param tuple must not be {@literal null}.
+     * @return {@literal true} if all the entries are set
+     */
+    @PersistenceExec(value = PersistenceExecTypeEnum.SET_ALL, expectValue = PersistenceExec.ValueExpectations.REALLY)
+    Boolean multiSet(Map<byte[], byte[]> tuple);
+
+    /**
+     * Set all the {@code tuple} with the same expiration {@code timeout} in one call , the persistence of the
+     * batch is written as one group.
+     *
+     * @param tuple    must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return {@literal true} if all the entries are set
+     */
+    @PersistenceExec(value = PersistenceExecTypeEnum.SET_ALL, expectValue = PersistenceExec.ValueExpectations.REALLY)
+    Boolean multiSetE(Map<byte[], byte[]> tuple, Long duration, TimeUnit unit);
+
     /**
      * Set {@code value} for {@code key}, only if {@code key} does not exist.
      *
@@ -75,6 +99,49 @@ public interface ExpireStringCommands {
     @CanNull
     byte[] get(byte[] key);
 
+    /**
+     * Set the remaining bytes of {@code value} for {@code key} , they are copied once without changing the
+     * position of {@code value} , so that it can be a pooled or direct buffer reused after the call.
+     *
+     * @param key   must not be {@literal null}.
+     * @param value must not be {@literal null}.
+     * @return setBuffer result
+     */
+    @PersistenceExec(value = PersistenceExecTypeEnum.SET_BUFFER,
+            expectValue = PersistenceExec.ValueExpectations.REALLY)
+    Boolean setBuffer(byte[] key, ByteBuffer value);
+
+    /**
+     * Set the remaining bytes of {@code value} and expiration {@code timeout} for {@code key}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param value    must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return setBufferE result
+     */
+    @PersistenceExec(value = PersistenceExecTypeEnum.SET_BUFFER,
+            expectValue = PersistenceExec.ValueExpectations.REALLY)
+    Boolean setBufferE(byte[] key, ByteBuffer value, Long duration, TimeUnit unit);
+
+    /**
+     * Get a read-only view of the value of {@code key} , the view shares the stored bytes without a copy if
+     * the client keeps values on heap , otherwise the value is copied out of the store once.
+     *
+     * @param key must not be {@literal null}.
+     * @return {@literal null} if not exist
+     */
+    @CanNull
+    ByteBuffer getBuffer(byte[] key);
+
+    /**
+     * Get the values of all the {@code keys} in one call.
+     *
+     * @param keys must not be {@literal null}.
+     * @return the values in the order of {@code keys} , {@literal null} for an absent key
+     */
+    List<byte[]> multiGet(Collection<byte[]> keys);
+
     /**
      * Get Similar keys of {@code key}.
      *
@@ -95,4 +162,32 @@ public interface ExpireStringCommands {
     @PersistenceExec(value = PersistenceExecTypeEnum.REPLACE_VALUE,
             expectValue = PersistenceExec.ValueExpectations.NOT_NULL)
     byte[] getAndSet(byte[] key, byte[] newValue);
+
+    /**
+     * Increment the counter of {@code key} by {@code delta} , a {@literal long} stored in 8 bytes , an absent
+     * counter starts from {@literal 0}.
+     *
+     * @param key   must not be {@literal null}.
+     * @param delta can be negative to decrement.
+     * @return the counter value after incremented , {@literal null} if the counter can not be created
+     */
+    @CanNull
+    @PersistenceExec(value = PersistenceExecTypeEnum.INCREMENT,
+            expectValue = PersistenceExec.ValueExpectations.NOT_NULL)
+    Long incrBy(byte[] key, long delta);
+
+    /**
+     * Increment the counter of {@code key} by {@code delta} , the {@code duration} is used when the counter
+     * is created.
+     *
+     * @param key      must not be {@literal null}.
+     * @param delta    can be negative to decrement.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return the counter value after incremented , {@literal null} if the counter can not be created
+     */
+    @CanNull
+    @PersistenceExec(value = PersistenceExecTypeEnum.INCREMENT,
+            expectValue = PersistenceExec.ValueExpectations.NOT_NULL)
+    Long incrByE(byte[] key, long delta, Long duration, TimeUnit unit);
 }
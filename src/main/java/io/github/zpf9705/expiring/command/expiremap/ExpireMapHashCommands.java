@@ -0,0 +1,202 @@
+package io.github.zpf9705.expiring.command.expiremap;
+
+import io.github.zpf9705.expiring.command.ExpireHashCommands;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapHash;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapHelper;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+/**
+ * About the key {@code Hash} operating instructions , the fields of a hash are stored as {@link ExpireMapHash}
+ * in the value of its key.
+ * <p>
+ * A change is applied without lock , the hash is decoded , changed and compared and replaced until no other
+ * change happened in between , the same as {@link ExpireMapHelper#incrementByDuration}.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class ExpireMapHashCommands implements ExpireHashCommands {
+
+    private static final byte[] REMOVED = new byte[0];
+
+    private final ExpireMapHelper delegate;
+
+    public ExpireMapHashCommands(ExpireMapHelper delegate) {
+        this.delegate = delegate;
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hSet(Object, Object, Object)
+     */
+    @Override
+    public byte[] hSet(byte[] key, byte[] field, byte[] value) {
+        return this.change(key, hash -> {
+            hash.put(field, value, null, null);
+            return true;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hSetE(Object, Object, Object, Long, TimeUnit)
+     */
+    @Override
+    public byte[] hSetE(byte[] key, byte[] field, byte[] value, Long duration, TimeUnit unit) {
+        return this.change(key, hash -> {
+            hash.put(field, value, duration, unit);
+            return true;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hSetNX(Object, Object, Object)
+     */
+    @Override
+    public byte[] hSetNX(byte[] key, byte[] field, byte[] value) {
+        return this.change(key, hash -> hash.putIfAbsent(field, value));
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hMSet(Object, Map)
+     */
+    @Override
+    public byte[] hMSet(byte[] key, Map<byte[], byte[]> tuple) {
+        return this.change(key, hash -> {
+            tuple.forEach((field, value) -> hash.put(field, value, null, null));
+            return !tuple.isEmpty();
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hExpire(Object, Object, Long, TimeUnit)
+     */
+    @Override
+    public byte[] hExpire(byte[] key, byte[] field, Long duration, TimeUnit unit) {
+        return this.change(key, hash -> hash.expire(field, duration, unit));
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hDel(Object, Object...)
+     */
+    @Override
+    public byte[] hDel(byte[] key, byte[]... fields) {
+        return this.change(key, hash -> {
+            boolean removed = false;
+            for (byte[] field : fields) {
+                removed |= hash.remove(field);
+            }
+            return removed;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hGet(Object, Object)
+     */
+    @Override
+    public byte[] hGet(byte[] key, byte[] field) {
+        return ExpireMapHash.find(this.delegate.getVal(key), field);
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hMGet(Object, Collection)
+     */
+    @Override
+    public List<byte[]> hMGet(byte[] key, Collection<byte[]> fields) {
+        byte[] bytes = this.delegate.getVal(key);
+        List<byte[]> values = new ArrayList<>(fields.size());
+        for (byte[] field : fields) {
+            values.add(ExpireMapHash.find(bytes, field));
+        }
+        return values;
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hGetAll(Object)
+     */
+    @Override
+    public Map<byte[], byte[]> hGetAll(byte[] key) {
+        return ExpireMapHash.decode(this.delegate.getVal(key)).toMap();
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hLen(Object)
+     */
+    @Override
+    public Long hLen(byte[] key) {
+        return (long) ExpireMapHash.decode(this.delegate.getVal(key)).size();
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hExists(Object, Object)
+     */
+    @Override
+    public Boolean hExists(byte[] key, byte[] field) {
+        return this.hGet(key, field) != null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireHashCommands#hTtl(Object, Object, TimeUnit)
+     */
+    @Override
+    public Long hTtl(byte[] key, byte[] field, TimeUnit unit) {
+        return ExpireMapHash.decode(this.delegate.getVal(key)).getExpectedExpiration(field, unit);
+    }
+
+    /**
+     * Apply the {@code change} to the hash of {@code key} , it may be applied more than once if the hash is
+     * changed concurrently , so it must only change the given hash
+     *
+     * @param key    must not be {@literal null}
+     * @param change return {@literal false} if nothing changed
+     * @return the encoded hash after changed , {@link #REMOVED} if the hash is removed , {@literal null} if
+     * nothing changed or the hash can not be created
+     */
+    private byte[] change(byte[] key, Predicate<ExpireMapHash> change) {
+        for (; ; ) {
+            byte[] current = this.delegate.getVal(key);
+            ExpireMapHash hash = ExpireMapHash.decode(current);
+            if (!change.test(hash)) {
+                return null;
+            }
+            if (current == null) {
+                if (hash.isEmpty()) {
+                    return null;
+                }
+                byte[] created = hash.encode();
+                if (Boolean.TRUE.equals(this.delegate.putIfAbsent(key, created))) {
+                    return created;
+                }
+                //Not put and still absent , the new key is not admitted
+                if (!Boolean.TRUE.equals(this.delegate.containsKey(key))) {
+                    return null;
+                }
+            } else if (hash.isEmpty()) {
+                if (Boolean.TRUE.equals(this.delegate.removeWithValue(key, current))) {
+                    return REMOVED;
+                }
+            } else {
+                byte[] changed = hash.encode();
+                if (Boolean.TRUE.equals(this.delegate.compareAndReplace(key, current, changed))) {
+                    return changed;
+                }
+            }
+        }
+    }
+}
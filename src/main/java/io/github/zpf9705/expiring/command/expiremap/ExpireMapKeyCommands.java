@@ -1,6 +1,7 @@
 package io.github.zpf9705.expiring.command.expiremap;
 
 import io.github.zpf9705.expiring.command.ExpireKeyCommands;
+import io.github.zpf9705.expiring.core.ScanPage;
 import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.help.expiremap.ExpireMapHelper;
 import java.util.Map;
@@ -57,6 +58,15 @@ public class ExpireMapKeyCommands implements ExpireKeyCommands {
         return this.delegate.containsKey(key);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.command.ExpireKeyCommands#scan(long, String, int)
+     */
+    @Override
+    public ScanPage<byte[]> scan(long cursor, String match, int count) {
+        return this.delegate.scan(cursor, match, count);
+    }
+
     /*
      * (non-Javadoc)
      * @see io.github.zpf9705.expiring.command.ExpireKeyCommands#getExpiration(byte[])
@@ -2,8 +2,12 @@ package io.github.zpf9705.expiring.command.expiremap;
 
 import io.github.zpf9705.expiring.command.ExpireStringCommands;
 import io.github.zpf9705.expiring.help.expiremap.ExpireMapHelper;
+import io.github.zpf9705.expiring.util.BufferUtils;
 
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 /**
@@ -38,6 +42,24 @@ public class ExpireMapStringCommands implements ExpireStringCommands {
         return this.delegate.putDuration(key, value, duration, unit);
     }
 
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireStringCommands#multiSet(Map)
+     */
+    @Override
+    public Boolean multiSet(Map<byte[], byte[]> tuple) {
+        return this.delegate.putAll(tuple);
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireStringCommands#multiSetE(Map,Long,TimeUnit)
+     */
+    @Override
+    public Boolean multiSetE(Map<byte[], byte[]> tuple, Long duration, TimeUnit unit) {
+        return this.delegate.putAllDuration(tuple, duration, unit);
+    }
+
     /*
      * (non-Javadoc)
      * io.github.zpf9705.expiring.command.ExpireStringCommands#setNX(Object, Object)
@@ -65,6 +87,15 @@ public class ExpireMapStringCommands implements ExpireStringCommands {
         return this.delegate.getVal(key);
     }
 
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireStringCommands#multiGet(Collection)
+     */
+    @Override
+    public List<byte[]> multiGet(Collection<byte[]> keys) {
+        return this.delegate.getVals(keys);
+    }
+
     @Override
     public List<byte[]> getSimilarKeys(byte[] rawKey) {
         return this.delegate.getKeysByKeys(rawKey);
@@ -78,4 +109,49 @@ public class ExpireMapStringCommands implements ExpireStringCommands {
     public byte[] getAndSet(byte[] key, byte[] newValue) {
         return this.delegate.replace(key, newValue);
     }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireStringCommands#incrBy(Object, long)
+     */
+    @Override
+    public Long incrBy(byte[] key, long delta) {
+        return this.delegate.incrementBy(key, delta);
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireStringCommands#incrByE(Object, long, Long, TimeUnit)
+     */
+    @Override
+    public Long incrByE(byte[] key, long delta, Long duration, TimeUnit unit) {
+        return this.delegate.incrementByDuration(key, delta, duration, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireStringCommands#setBuffer(Object, ByteBuffer)
+     */
+    @Override
+    public Boolean setBuffer(byte[] key, ByteBuffer value) {
+        return this.delegate.put(key, BufferUtils.toBytes(value));
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireStringCommands#setBufferE(Object, ByteBuffer, Long, TimeUnit)
+     */
+    @Override
+    public Boolean setBufferE(byte[] key, ByteBuffer value, Long duration, TimeUnit unit) {
+        return this.delegate.putDuration(key, BufferUtils.toBytes(value), duration, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * io.github.zpf9705.expiring.command.ExpireStringCommands#getBuffer(Object)
+     */
+    @Override
+    public ByteBuffer getBuffer(byte[] key) {
+        return BufferUtils.readOnlyView(this.delegate.getVal(key));
+    }
 }
@@ -67,6 +67,26 @@ public abstract class AbstractOperations<K, V> {
         return this.template.getValueSerializer();
     }
 
+    /**
+     * To obtain the hash key serialized way
+     *
+     * @return {@link ExpiringSerializer}
+     */
+    @SuppressWarnings("rawtypes")
+    ExpiringSerializer hashKeySerializer() {
+        return this.template.getHashKeySerializer();
+    }
+
+    /**
+     * To obtain the hash value serialized way
+     *
+     * @return {@link ExpiringSerializer}
+     */
+    @SuppressWarnings("rawtypes")
+    ExpiringSerializer hashValueSerializer() {
+        return this.template.getHashValueSerializer();
+    }
+
     /**
      * To get the operator
      *
@@ -92,6 +112,48 @@ public abstract class AbstractOperations<K, V> {
         return valueSerializer().serialize(value);
     }
 
+    @SuppressWarnings("unchecked")
+    <HK> byte[] rawHashKey(HK hashKey) {
+        AssertUtils.Operation.notNull(hashKey, "Non null hash key required");
+        if (hashKeySerializer() == null && hashKey instanceof byte[]) {
+            return (byte[]) hashKey;
+        }
+        return hashKeySerializer().serialize(hashKey);
+    }
+
+    @SuppressWarnings("unchecked")
+    <HV> byte[] rawHashValue(HV value) {
+        AssertUtils.Operation.notNull(value, "Non null hash value required");
+        if (hashValueSerializer() == null && value instanceof byte[]) {
+            return (byte[]) value;
+        }
+        return hashValueSerializer().serialize(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    <HK> HK deserializeHashKey(byte[] value) {
+        if (hashKeySerializer() == null) {
+            return (HK) value;
+        }
+        return (HK) hashKeySerializer().deserialize(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    <HV> HV deserializeHashValue(byte[] value) {
+        if (hashValueSerializer() == null) {
+            return (HV) value;
+        }
+        return (HV) hashValueSerializer().deserialize(value);
+    }
+
+    @SuppressWarnings("unchecked")
+    K deserializeKey(byte[] key) {
+        if (keySerializer() == null) {
+            return (K) key;
+        }
+        return keySerializer().deserialize(key);
+    }
+
     V deserializeValue(byte[] value) {
         if (valueSerializer() == null) {
             return (V) value;
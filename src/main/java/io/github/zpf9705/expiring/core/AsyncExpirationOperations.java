@@ -0,0 +1,75 @@
+package io.github.zpf9705.expiring.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous expiring operations for the expiration of keys.
+ * <p>
+ * The in-memory operation runs on the calling thread , the persistence of it is offloaded to
+ * {@link ExpireTemplate#getAsyncExecutor()} , the same as {@link AsyncValueOperations}.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public interface AsyncExpirationOperations<K, V> {
+
+    /**
+     * Get the remaining expiration milliseconds of {@code key}.
+     *
+     * @param key must not be {@literal null}.
+     * @return the future of expiration
+     */
+    CompletableFuture<Long> getExpiration(K key);
+
+    /**
+     * Get the remaining expiration of {@code key} in {@code unit}.
+     *
+     * @param key  must not be {@literal null}.
+     * @param unit must not be {@literal null}.
+     * @return the future of expiration
+     */
+    CompletableFuture<Long> getExpiration(K key, TimeUnit unit);
+
+    /**
+     * Get the expected expiration milliseconds of {@code key}.
+     *
+     * @param key must not be {@literal null}.
+     * @return the future of expected expiration
+     */
+    CompletableFuture<Long> getExpectedExpiration(K key);
+
+    /**
+     * Get the expected expiration of {@code key} in {@code unit}.
+     *
+     * @param key  must not be {@literal null}.
+     * @param unit must not be {@literal null}.
+     * @return the future of expected expiration
+     */
+    CompletableFuture<Long> getExpectedExpiration(K key, TimeUnit unit);
+
+    /**
+     * Set the expiration of {@code key}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param timeUnit must not be {@literal null}.
+     * @return the future of whether set
+     */
+    CompletableFuture<Boolean> setExpiration(K key, Long duration, TimeUnit timeUnit);
+
+    /**
+     * Reset the expiration of {@code key}.
+     *
+     * @param key must not be {@literal null}.
+     * @return the future of whether reset
+     */
+    CompletableFuture<Boolean> resetExpiration(K key);
+
+    /**
+     * To get the operator {@code ExpireOperations}
+     *
+     * @return Expire Operations
+     */
+    ExpireOperations<K, V> getOperations();
+}
@@ -0,0 +1,120 @@
+package io.github.zpf9705.expiring.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Asynchronous expiring operations for simple (or in Expiring terminology 'string' 'object') values.
+ * <p>
+ * The in-memory operation runs on the calling thread , the persistence of it is offloaded to
+ * {@link ExpireTemplate#getAsyncExecutor()} , the returned future completes after the persistence is done ,
+ * so that a latency-sensitive thread never waits for the persistent files.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public interface AsyncValueOperations<K, V> {
+
+    /**
+     * Set {@code value} for {@code key}.
+     * There is expiry time for the default configuration
+     *
+     * @param key   must not be {@literal null}.
+     * @param value must not be {@literal null}.
+     * @return the future of completion
+     */
+    CompletableFuture<Void> set(K key, V value);
+
+    /**
+     * Set the {@code value} and expiration {@code timeout} for {@code key}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param value    must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return the future of completion
+     */
+    CompletableFuture<Void> set(K key, V value, Long duration, TimeUnit unit);
+
+    /**
+     * Set all the {@code tuple}.
+     * There is expiry time for the default configuration
+     *
+     * @param tuple must not be {@literal null}.
+     * @return the future of completion
+     */
+    CompletableFuture<Void> multiSet(Map<K, V> tuple);
+
+    /**
+     * Set all the {@code tuple} with the same expiration {@code timeout}.
+     *
+     * @param tuple    must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return the future of completion
+     */
+    CompletableFuture<Void> multiSet(Map<K, V> tuple, Long duration, TimeUnit unit);
+
+    /**
+     * Set {@code key} to hold the string {@code value} if {@code key} is absent.
+     *
+     * @param key   must not be {@literal null}.
+     * @param value must not be {@literal null}.
+     * @return the future of whether set
+     */
+    CompletableFuture<Boolean> setIfAbsent(K key, V value);
+
+    /**
+     * Set {@code key} to hold the string {@code value} and expiration {@code timeout} if {@code key} is absent.
+     *
+     * @param key      must not be {@literal null}.
+     * @param value    must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return the future of whether set
+     */
+    CompletableFuture<Boolean> setIfAbsent(K key, V value, Long duration, TimeUnit unit);
+
+    /**
+     * Get the value of {@code key}.
+     *
+     * @param key must not be {@literal null}.
+     * @return the future of value , completes with {@literal null} when key does not exist
+     */
+    CompletableFuture<V> get(K key);
+
+    /**
+     * Get the values of all the {@code keys}.
+     *
+     * @param keys must not be {@literal null}.
+     * @return the future of values in the order of {@code keys}
+     */
+    CompletableFuture<List<V>> multiGet(Collection<K> keys);
+
+    /**
+     * Get Similar keys of {@code key}.
+     *
+     * @param key must not be {@literal null}.
+     * @return the future of similar keys
+     */
+    CompletableFuture<List<K>> getSimilarKeys(K key);
+
+    /**
+     * Set {@code value} of {@code key} and return its old value.
+     *
+     * @param key      must not be {@literal null}.
+     * @param newValue must not be {@literal null}.
+     * @return the future of old value
+     */
+    CompletableFuture<V> getAndSet(K key, V newValue);
+
+    /**
+     * To get the operator {@code ExpireOperations}
+     *
+     * @return Expire Operations
+     */
+    ExpireOperations<K, V> getOperations();
+}
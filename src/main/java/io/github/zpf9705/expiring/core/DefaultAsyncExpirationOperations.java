@@ -0,0 +1,86 @@
+package io.github.zpf9705.expiring.core;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default asynchronous expiration operations implementation class for {@link AsyncExpirationOperations} ,
+ * the operations of {@link ExpirationOperations} run by {@link ExpireTemplate#executeAsync}.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class DefaultAsyncExpirationOperations<K, V> implements AsyncExpirationOperations<K, V> {
+
+    private final ExpireTemplate<K, V> expireTemplate;
+
+    private final ExpirationOperations<K, V> operations;
+
+    DefaultAsyncExpirationOperations(ExpireTemplate<K, V> expireTemplate) {
+        this.expireTemplate = expireTemplate;
+        this.operations = expireTemplate.opsExpirationOperations();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncExpirationOperations#getExpiration(Object)
+     */
+    @Override
+    public CompletableFuture<Long> getExpiration(K key) {
+        return this.expireTemplate.executeAsync(() -> this.operations.getExpiration(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncExpirationOperations#getExpiration(Object, TimeUnit)
+     */
+    @Override
+    public CompletableFuture<Long> getExpiration(K key, TimeUnit unit) {
+        return this.expireTemplate.executeAsync(() -> this.operations.getExpiration(key, unit));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncExpirationOperations#getExpectedExpiration(Object)
+     */
+    @Override
+    public CompletableFuture<Long> getExpectedExpiration(K key) {
+        return this.expireTemplate.executeAsync(() -> this.operations.getExpectedExpiration(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncExpirationOperations#getExpectedExpiration(Object, TimeUnit)
+     */
+    @Override
+    public CompletableFuture<Long> getExpectedExpiration(K key, TimeUnit unit) {
+        return this.expireTemplate.executeAsync(() -> this.operations.getExpectedExpiration(key, unit));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncExpirationOperations#setExpiration(Object, Long, TimeUnit)
+     */
+    @Override
+    public CompletableFuture<Boolean> setExpiration(K key, Long duration, TimeUnit timeUnit) {
+        return this.expireTemplate.executeAsync(() -> this.operations.setExpiration(key, duration, timeUnit));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncExpirationOperations#resetExpiration(Object)
+     */
+    @Override
+    public CompletableFuture<Boolean> resetExpiration(K key) {
+        return this.expireTemplate.executeAsync(() -> this.operations.resetExpiration(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncExpirationOperations#getOperations()
+     */
+    @Override
+    public ExpireOperations<K, V> getOperations() {
+        return this.expireTemplate;
+    }
+}
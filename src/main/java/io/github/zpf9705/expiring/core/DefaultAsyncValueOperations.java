@@ -0,0 +1,137 @@
+package io.github.zpf9705.expiring.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default asynchronous value operations implementation class for {@link AsyncValueOperations} ,
+ * the operations of {@link ValueOperations} run by {@link ExpireTemplate#executeAsync}.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class DefaultAsyncValueOperations<K, V> implements AsyncValueOperations<K, V> {
+
+    private final ExpireTemplate<K, V> expireTemplate;
+
+    private final ValueOperations<K, V> operations;
+
+    DefaultAsyncValueOperations(ExpireTemplate<K, V> expireTemplate) {
+        this.expireTemplate = expireTemplate;
+        this.operations = expireTemplate.opsForValue();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#set(Object, Object)
+     */
+    @Override
+    public CompletableFuture<Void> set(K key, V value) {
+        return this.expireTemplate.executeAsync(() -> {
+            this.operations.set(key, value);
+            return null;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#set(Object, Object, Long, TimeUnit)
+     */
+    @Override
+    public CompletableFuture<Void> set(K key, V value, Long duration, TimeUnit unit) {
+        return this.expireTemplate.executeAsync(() -> {
+            this.operations.set(key, value, duration, unit);
+            return null;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#multiSet(Map)
+     */
+    @Override
+    public CompletableFuture<Void> multiSet(Map<K, V> tuple) {
+        return this.expireTemplate.executeAsync(() -> {
+            this.operations.multiSet(tuple);
+            return null;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#multiSet(Map, Long, TimeUnit)
+     */
+    @Override
+    public CompletableFuture<Void> multiSet(Map<K, V> tuple, Long duration, TimeUnit unit) {
+        return this.expireTemplate.executeAsync(() -> {
+            this.operations.multiSet(tuple, duration, unit);
+            return null;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#setIfAbsent(Object, Object)
+     */
+    @Override
+    public CompletableFuture<Boolean> setIfAbsent(K key, V value) {
+        return this.expireTemplate.executeAsync(() -> this.operations.setIfAbsent(key, value));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#setIfAbsent(Object, Object, Long, TimeUnit)
+     */
+    @Override
+    public CompletableFuture<Boolean> setIfAbsent(K key, V value, Long duration, TimeUnit unit) {
+        return this.expireTemplate.executeAsync(() -> this.operations.setIfAbsent(key, value, duration, unit));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#get(Object)
+     */
+    @Override
+    public CompletableFuture<V> get(K key) {
+        return this.expireTemplate.executeAsync(() -> this.operations.get(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#multiGet(Collection)
+     */
+    @Override
+    public CompletableFuture<List<V>> multiGet(Collection<K> keys) {
+        return this.expireTemplate.executeAsync(() -> this.operations.multiGet(keys));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#getSimilarKeys(Object)
+     */
+    @Override
+    public CompletableFuture<List<K>> getSimilarKeys(K key) {
+        return this.expireTemplate.executeAsync(() -> this.operations.getSimilarKeys(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#getAndSet(Object, Object)
+     */
+    @Override
+    public CompletableFuture<V> getAndSet(K key, V newValue) {
+        return this.expireTemplate.executeAsync(() -> this.operations.getAndSet(key, newValue));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.AsyncValueOperations#getOperations()
+     */
+    @Override
+    public ExpireOperations<K, V> getOperations() {
+        return this.expireTemplate;
+    }
+}
@@ -0,0 +1,198 @@
+package io.github.zpf9705.expiring.core;
+
+import io.github.zpf9705.expiring.util.AssertUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default hash operations implementation class for {@link HashOperations}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class DefaultHashOperations<K, HK, HV> extends AbstractOperations<K, Object>
+        implements HashOperations<K, HK, HV> {
+
+    @SuppressWarnings("unchecked")
+    public DefaultHashOperations(ExpireTemplate<K, ?> expireTemplate) {
+        super((ExpireTemplate<K, Object>) expireTemplate);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#put(Object, Object, Object)
+     */
+    @Override
+    public void put(K key, HK hashKey, HV value) {
+
+        byte[] rawKey = this.rawKey(key);
+        byte[] rawHashKey = this.rawHashKey(hashKey);
+        byte[] rawHashValue = this.rawHashValue(value);
+        this.execute((helper) -> helper.hSet(rawKey, rawHashKey, rawHashValue), true);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#put(Object, Object, Object, Long, TimeUnit)
+     */
+    @Override
+    public void put(K key, HK hashKey, HV value, Long duration, TimeUnit unit) {
+
+        byte[] rawKey = this.rawKey(key);
+        byte[] rawHashKey = this.rawHashKey(hashKey);
+        byte[] rawHashValue = this.rawHashValue(value);
+        this.execute((helper) -> helper.hSetE(rawKey, rawHashKey, rawHashValue, duration, unit), true);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#putIfAbsent(Object, Object, Object)
+     */
+    @Override
+    public Boolean putIfAbsent(K key, HK hashKey, HV value) {
+
+        byte[] rawKey = this.rawKey(key);
+        byte[] rawHashKey = this.rawHashKey(hashKey);
+        byte[] rawHashValue = this.rawHashValue(value);
+        return this.execute((helper) -> helper.hSetNX(rawKey, rawHashKey, rawHashValue), true) != null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#putAll(Object, Map)
+     */
+    @Override
+    public void putAll(K key, Map<? extends HK, ? extends HV> m) {
+        AssertUtils.Operation.notNull(m, "Hash no be null");
+        byte[] rawKey = this.rawKey(key);
+        Map<byte[], byte[]> rawTuple = new LinkedHashMap<>(m.size() * 4 / 3 + 1);
+        for (Map.Entry<? extends HK, ? extends HV> entry : m.entrySet()) {
+            rawTuple.put(this.rawHashKey(entry.getKey()), this.rawHashValue(entry.getValue()));
+        }
+        this.execute((helper) -> helper.hMSet(rawKey, rawTuple), true);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#expire(Object, Object, Long, TimeUnit)
+     */
+    @Override
+    public Boolean expire(K key, HK hashKey, Long duration, TimeUnit unit) {
+
+        byte[] rawKey = this.rawKey(key);
+        byte[] rawHashKey = this.rawHashKey(hashKey);
+        return this.execute((helper) -> helper.hExpire(rawKey, rawHashKey, duration, unit), true) != null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#delete(Object, Object...)
+     */
+    @Override
+    public Boolean delete(K key, Object... hashKeys) {
+        AssertUtils.Operation.notNull(hashKeys, "Hash keys no be null");
+        byte[] rawKey = this.rawKey(key);
+        byte[][] rawHashKeys = new byte[hashKeys.length][];
+        for (int i = 0; i < hashKeys.length; i++) {
+            rawHashKeys[i] = this.rawHashKey(hashKeys[i]);
+        }
+        return this.execute((helper) -> helper.hDel(rawKey, rawHashKeys), true) != null;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#get(Object, Object)
+     */
+    @Override
+    public HV get(K key, Object hashKey) {
+
+        byte[] rawKey = this.rawKey(key);
+        byte[] rawHashKey = this.rawHashKey(hashKey);
+        byte[] rawHashValue = this.execute((helper) -> helper.hGet(rawKey, rawHashKey), true);
+        return rawHashValue == null ? null : this.deserializeHashValue(rawHashValue);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#multiGet(Object, Collection)
+     */
+    @Override
+    public List<HV> multiGet(K key, Collection<HK> hashKeys) {
+        AssertUtils.Operation.notNull(hashKeys, "Hash keys no be null");
+        if (hashKeys.isEmpty()) {
+            return Collections.emptyList();
+        }
+        byte[] rawKey = this.rawKey(key);
+        List<byte[]> rawHashKeys = new ArrayList<>(hashKeys.size());
+        for (HK hashKey : hashKeys) {
+            rawHashKeys.add(this.rawHashKey(hashKey));
+        }
+        List<byte[]> rawHashValues = this.execute((helper) -> helper.hMGet(rawKey, rawHashKeys), true);
+        if (rawHashValues == null) {
+            return null;
+        }
+        List<HV> values = new ArrayList<>(rawHashValues.size());
+        for (byte[] rawHashValue : rawHashValues) {
+            values.add(rawHashValue == null ? null : this.deserializeHashValue(rawHashValue));
+        }
+        return values;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#entries(Object)
+     */
+    @Override
+    public Map<HK, HV> entries(K key) {
+
+        byte[] rawKey = this.rawKey(key);
+        Map<byte[], byte[]> rawEntries = this.execute((helper) -> helper.hGetAll(rawKey), true);
+        if (rawEntries == null) {
+            return null;
+        }
+        Map<HK, HV> entries = new LinkedHashMap<>(rawEntries.size() * 4 / 3 + 1);
+        rawEntries.forEach((k, v) -> entries.put(this.deserializeHashKey(k), this.deserializeHashValue(v)));
+        return entries;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#size(Object)
+     */
+    @Override
+    public Long size(K key) {
+
+        byte[] rawKey = this.rawKey(key);
+        return this.execute((helper) -> helper.hLen(rawKey), true);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#hasKey(Object, Object)
+     */
+    @Override
+    public Boolean hasKey(K key, Object hashKey) {
+
+        byte[] rawKey = this.rawKey(key);
+        byte[] rawHashKey = this.rawHashKey(hashKey);
+        return this.execute((helper) -> helper.hExists(rawKey, rawHashKey), true);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.HashOperations#getExpiration(Object, Object, TimeUnit)
+     */
+    @Override
+    public Long getExpiration(K key, HK hashKey, TimeUnit unit) {
+
+        byte[] rawKey = this.rawKey(key);
+        byte[] rawHashKey = this.rawHashKey(hashKey);
+        return this.execute((helper) -> helper.hTtl(rawKey, rawHashKey, unit), true);
+    }
+}
@@ -0,0 +1,91 @@
+package io.github.zpf9705.expiring.core;
+
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default reactive expiration operations implementation class for {@link ReactiveExpirationOperations} ,
+ * the reads run {@link ExpirationOperations} and the writes run {@link AsyncExpirationOperations}.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class DefaultReactiveExpirationOperations<K, V> implements ReactiveExpirationOperations<K, V> {
+
+    private final ReactiveExpireTemplate<K, V> reactiveTemplate;
+
+    private final ExpirationOperations<K, V> operations;
+
+    private final AsyncExpirationOperations<K, V> asyncOperations;
+
+    DefaultReactiveExpirationOperations(ReactiveExpireTemplate<K, V> reactiveTemplate) {
+        this.reactiveTemplate = reactiveTemplate;
+        this.operations = reactiveTemplate.getExpireTemplate().opsExpirationOperations();
+        this.asyncOperations = reactiveTemplate.getExpireTemplate().opsExpirationAsync();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveExpirationOperations#getExpiration(Object)
+     */
+    @Override
+    public Maybe<Long> getExpiration(K key) {
+        return Maybe.fromCallable(() -> this.operations.getExpiration(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveExpirationOperations#getExpiration(Object, TimeUnit)
+     */
+    @Override
+    public Maybe<Long> getExpiration(K key, TimeUnit unit) {
+        return Maybe.fromCallable(() -> this.operations.getExpiration(key, unit));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveExpirationOperations#getExpectedExpiration(Object)
+     */
+    @Override
+    public Maybe<Long> getExpectedExpiration(K key) {
+        return Maybe.fromCallable(() -> this.operations.getExpectedExpiration(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveExpirationOperations#getExpectedExpiration(Object, TimeUnit)
+     */
+    @Override
+    public Maybe<Long> getExpectedExpiration(K key, TimeUnit unit) {
+        return Maybe.fromCallable(() -> this.operations.getExpectedExpiration(key, unit));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveExpirationOperations#setExpiration(Object, Long, TimeUnit)
+     */
+    @Override
+    public Single<Boolean> setExpiration(K key, Long duration, TimeUnit timeUnit) {
+        return ReactiveExpireTemplate.single(() -> this.asyncOperations.setExpiration(key, duration, timeUnit));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveExpirationOperations#resetExpiration(Object)
+     */
+    @Override
+    public Single<Boolean> resetExpiration(K key) {
+        return ReactiveExpireTemplate.single(() -> this.asyncOperations.resetExpiration(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveExpirationOperations#getOperations()
+     */
+    @Override
+    public ReactiveExpireTemplate<K, V> getOperations() {
+        return this.reactiveTemplate;
+    }
+}
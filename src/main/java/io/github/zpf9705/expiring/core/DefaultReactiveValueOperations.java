@@ -0,0 +1,166 @@
+package io.github.zpf9705.expiring.core;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+import org.reactivestreams.Publisher;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The default reactive value operations implementation class for {@link ReactiveValueOperations} ,
+ * the reads run {@link ValueOperations} and the writes run {@link AsyncValueOperations}.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class DefaultReactiveValueOperations<K, V> implements ReactiveValueOperations<K, V> {
+
+    private final ReactiveExpireTemplate<K, V> reactiveTemplate;
+
+    private final ValueOperations<K, V> operations;
+
+    private final AsyncValueOperations<K, V> asyncOperations;
+
+    DefaultReactiveValueOperations(ReactiveExpireTemplate<K, V> reactiveTemplate) {
+        this.reactiveTemplate = reactiveTemplate;
+        this.operations = reactiveTemplate.getExpireTemplate().opsForValue();
+        this.asyncOperations = reactiveTemplate.getExpireTemplate().opsForValueAsync();
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#set(Object, Object)
+     */
+    @Override
+    public Completable set(K key, V value) {
+        return ReactiveExpireTemplate.completable(() -> this.asyncOperations.set(key, value));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#set(Object, Object, Long, TimeUnit)
+     */
+    @Override
+    public Completable set(K key, V value, Long duration, TimeUnit unit) {
+        return ReactiveExpireTemplate.completable(() -> this.asyncOperations.set(key, value, duration, unit));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#multiSet(Publisher)
+     */
+    @Override
+    public Completable multiSet(Publisher<Map.Entry<K, V>> tuples) {
+        return Flowable.fromPublisher(tuples)
+                .buffer(this.reactiveTemplate.getBatchSize())
+                .concatMapCompletable(batch -> ReactiveExpireTemplate.completable(
+                        () -> this.asyncOperations.multiSet(this.toTuple(batch))));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#multiSet(Publisher, Long, TimeUnit)
+     */
+    @Override
+    public Completable multiSet(Publisher<Map.Entry<K, V>> tuples, Long duration, TimeUnit unit) {
+        return Flowable.fromPublisher(tuples)
+                .buffer(this.reactiveTemplate.getBatchSize())
+                .concatMapCompletable(batch -> ReactiveExpireTemplate.completable(
+                        () -> this.asyncOperations.multiSet(this.toTuple(batch), duration, unit)));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#setIfAbsent(Object, Object)
+     */
+    @Override
+    public Single<Boolean> setIfAbsent(K key, V value) {
+        return ReactiveExpireTemplate.single(() -> this.asyncOperations.setIfAbsent(key, value));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#setIfAbsent(Object, Object, Long, TimeUnit)
+     */
+    @Override
+    public Single<Boolean> setIfAbsent(K key, V value, Long duration, TimeUnit unit) {
+        return ReactiveExpireTemplate.single(() -> this.asyncOperations.setIfAbsent(key, value, duration, unit));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#get(Object)
+     */
+    @Override
+    public Maybe<V> get(K key) {
+        return Maybe.fromCallable(() -> this.operations.get(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#multiGet(Publisher)
+     */
+    @Override
+    public Flowable<Map.Entry<K, V>> multiGet(Publisher<K> keys) {
+        return Flowable.fromPublisher(keys)
+                .buffer(this.reactiveTemplate.getBatchSize())
+                .concatMapIterable(batch -> {
+                    List<V> values = this.operations.multiGet(batch);
+                    if (values == null) {
+                        return Collections.emptyList();
+                    }
+                    List<Map.Entry<K, V>> present = new ArrayList<>(values.size());
+                    for (int i = 0; i < values.size(); i++) {
+                        V value = values.get(i);
+                        if (value != null) {
+                            present.add(new AbstractMap.SimpleImmutableEntry<>(batch.get(i), value));
+                        }
+                    }
+                    return present;
+                });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#getSimilarKeys(Object)
+     */
+    @Override
+    public Single<List<K>> getSimilarKeys(K key) {
+        return Maybe.fromCallable(() -> this.operations.getSimilarKeys(key))
+                .defaultIfEmpty(Collections.emptyList());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#getAndSet(Object, Object)
+     */
+    @Override
+    public Maybe<V> getAndSet(K key, V newValue) {
+        return ReactiveExpireTemplate.maybe(() -> this.asyncOperations.getAndSet(key, newValue));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ReactiveValueOperations#getOperations()
+     */
+    @Override
+    public ReactiveExpireTemplate<K, V> getOperations() {
+        return this.reactiveTemplate;
+    }
+
+    private Map<K, V> toTuple(List<Map.Entry<K, V>> batch) {
+        Map<K, V> tuple = new LinkedHashMap<>(batch.size());
+        for (Map.Entry<K, V> entry : batch) {
+            tuple.put(entry.getKey(), entry.getValue());
+        }
+        return tuple;
+    }
+}
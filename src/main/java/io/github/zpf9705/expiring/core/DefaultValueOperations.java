@@ -1,20 +1,54 @@
 package io.github.zpf9705.expiring.core;
 
 import io.github.zpf9705.expiring.help.ExpireHelper;
-import io.github.zpf9705.expiring.util.SerialUtils;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteKey;
+import io.github.zpf9705.expiring.logger.Console;
+import io.github.zpf9705.expiring.util.AssertUtils;
+import io.github.zpf9705.expiring.util.CounterUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 
 /**
  * The default value operations implementation class for {@link ValueOperations}
+ * <p>
+ * The loads of {@code getOrLoad} are coalesced by key in {@link #loadsInFlight} , and the freshness of each
+ * loaded value is recorded in {@link #loadRecords} to decide the background refresh of {@link RefreshPolicy}.
  *
  * @author zpf
  * @since 1.1.0
  */
 public class DefaultValueOperations<K, V> extends AbstractOperations<K, V> implements ValueOperations<K, V> {
 
+    /**
+     * The records are swept of the expired ones when the size exceeds this at least
+     */
+    static final int LOAD_RECORDS_SWEEP_SIZE = 1024;
+
+    /**
+     * The loads in flight , the concurrent misses of a key share one
+     */
+    private final Map<ExpireMapByteKey, CompletableFuture<V>> loadsInFlight = new ConcurrentHashMap<>();
+
+    /**
+     * The freshness of the loaded values
+     */
+    private final Map<ExpireMapByteKey, LoadRecord> loadRecords = new ConcurrentHashMap<>();
+
+    private volatile int loadRecordsSweepSize = LOAD_RECORDS_SWEEP_SIZE;
+
     public DefaultValueOperations(ExpireTemplate<K, V> expireTemplate) {
         super(expireTemplate);
     }
@@ -51,6 +85,28 @@ public class DefaultValueOperations<K, V> extends AbstractOperations<K, V> imple
         }, false);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#multiSet(Map)
+     */
+    @Override
+    public void multiSet(Map<K, V> tuple) {
+
+        final Map<byte[], byte[]> rawTuple = this.rawTuple(tuple);
+        this.execute((helper) -> helper.multiSet(rawTuple), false);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#multiSet(Map, Long, TimeUnit)
+     */
+    @Override
+    public void multiSet(Map<K, V> tuple, Long duration, TimeUnit unit) {
+
+        final Map<byte[], byte[]> rawTuple = this.rawTuple(tuple);
+        this.execute((helper) -> helper.multiSetE(rawTuple, duration, unit), false);
+    }
+
     /*
      * (non-Javadoc)
      * @see io.github.zpf9705.expiring.core.ValueOperations#setIfAbsent(Object, Object)
@@ -88,13 +144,42 @@ public class DefaultValueOperations<K, V> extends AbstractOperations<K, V> imple
         }, true);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#multiGet(Collection)
+     */
+    @Override
+    public List<V> multiGet(Collection<K> keys) {
+
+        AssertUtils.Operation.notNull(keys, "Keys no be null");
+        final List<byte[]> rawKeys = new ArrayList<>(keys.size());
+        for (K key : keys) {
+            rawKeys.add(this.rawKey(key));
+        }
+        List<byte[]> rawValues = this.execute((helper) -> helper.multiGet(rawKeys), true);
+        if (rawValues == null) {
+            return null;
+        }
+        List<V> values = new ArrayList<>(rawValues.size());
+        for (byte[] rawValue : rawValues) {
+            values.add(rawValue == null ? null : this.deserializeValue(rawValue));
+        }
+        return values;
+    }
+
     @Override
-    @SuppressWarnings("unchecked")
     public List<K> getSimilarKeys(K key) {
 
         byte[] rawKey = this.rawKey(key);
         List<byte[]> execute = this.execute((helper) -> helper.getSimilarKeys(rawKey), true);
-        return (List<K>) SerialUtils.deserializeAny(execute);
+        if (execute == null || execute.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<K> keys = new ArrayList<>(execute.size());
+        for (byte[] keyBytes : execute) {
+            keys.add(this.deserializeKey(keyBytes));
+        }
+        return keys;
     }
 
     /*
@@ -112,4 +197,282 @@ public class DefaultValueOperations<K, V> extends AbstractOperations<K, V> imple
             }
         }, true);
     }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#increment(Object, long)
+     */
+    @Override
+    public Long increment(K key, long delta) {
+
+        byte[] rawKey = this.rawKey(key);
+        return this.execute((helper) -> helper.incrBy(rawKey, delta), true);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#increment(Object, long, Long, TimeUnit)
+     */
+    @Override
+    public Long increment(K key, long delta, Long duration, TimeUnit unit) {
+
+        byte[] rawKey = this.rawKey(key);
+        return this.execute((helper) -> helper.incrByE(rawKey, delta, duration, unit), true);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#decrement(Object, long)
+     */
+    @Override
+    public Long decrement(K key, long delta) {
+        AssertUtils.Operation.isTrue(delta != Long.MIN_VALUE, "Delta can not be negated");
+        return this.increment(key, -delta);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#decrement(Object, long, Long, TimeUnit)
+     */
+    @Override
+    public Long decrement(K key, long delta, Long duration, TimeUnit unit) {
+        AssertUtils.Operation.isTrue(delta != Long.MIN_VALUE, "Delta can not be negated");
+        return this.increment(key, -delta, duration, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#getCounter(Object)
+     */
+    @Override
+    public Long getCounter(K key) {
+
+        byte[] rawKey = this.rawKey(key);
+        byte[] rawValue = this.execute((helper) -> helper.get(rawKey), true);
+        return rawValue == null ? null : CounterUtils.toLong(rawValue);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#getOrLoad(Object, Function, Long, TimeUnit)
+     */
+    @Override
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader, Long duration, TimeUnit unit) {
+        return this.getOrLoad(key, loader, duration, unit, RefreshPolicy.none());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#getOrLoad(Object, Function, Long, TimeUnit, RefreshPolicy)
+     */
+    @Override
+    public V getOrLoad(K key, Function<? super K, ? extends V> loader, Long duration, TimeUnit unit,
+                       RefreshPolicy policy) {
+        try {
+            //The miss is loaded in the caller thread unless another caller is loading it
+            return this.getOrLoad(key, loader, duration, unit, policy, false).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new OperationsException(cause);
+        }
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#getOrLoadAsync(Object, Function, Long, TimeUnit)
+     */
+    @Override
+    public CompletableFuture<V> getOrLoadAsync(K key, Function<? super K, ? extends V> loader, Long duration,
+                                               TimeUnit unit) {
+        return this.getOrLoadAsync(key, loader, duration, unit, RefreshPolicy.none());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.core.ValueOperations#getOrLoadAsync(Object, Function, Long, TimeUnit, RefreshPolicy)
+     */
+    @Override
+    public CompletableFuture<V> getOrLoadAsync(K key, Function<? super K, ? extends V> loader, Long duration,
+                                               TimeUnit unit, RefreshPolicy policy) {
+        return this.getOrLoad(key, loader, duration, unit, policy, true);
+    }
+
+    /**
+     * Serialize the keys and values of {@code tuple} in one pass
+     *
+     * @param tuple must not be {@literal null}.
+     * @return the raw tuple in the order of {@code tuple}
+     */
+    private Map<byte[], byte[]> rawTuple(Map<K, V> tuple) {
+        AssertUtils.Operation.notNull(tuple, "Tuple no be null");
+        Map<byte[], byte[]> rawTuple = new LinkedHashMap<>(tuple.size());
+        for (Map.Entry<K, V> entry : tuple.entrySet()) {
+            rawTuple.put(this.rawKey(entry.getKey()), this.rawValue(entry.getValue()));
+        }
+        return rawTuple;
+    }
+
+    /**
+     * Get the cached value , or join the load of {@code key}
+     *
+     * @param key      must not be {@literal null}.
+     * @param loader   must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @param policy   must not be {@literal null}.
+     * @param async    if {@literal true} load on the executor of {@code policy} , otherwise in the caller thread
+     * @return the future of value
+     */
+    private CompletableFuture<V> getOrLoad(K key, Function<? super K, ? extends V> loader, Long duration,
+                                           TimeUnit unit, RefreshPolicy policy, boolean async) {
+        AssertUtils.Operation.notNull(loader, "Loader no be null");
+        AssertUtils.Operation.notNull(duration, "Duration no be null");
+        AssertUtils.Operation.notNull(unit, "Unit no be null");
+        AssertUtils.Operation.notNull(policy, "RefreshPolicy no be null");
+        final byte[] rawKey = this.rawKey(key);
+        ExpireMapByteKey loadKey = ExpireMapByteKey.of(rawKey);
+        byte[] rawValue = this.execute((helper) -> helper.get(rawKey), true);
+        if (rawValue != null) {
+            //A present value is always returned at once , the map may keep it after the record expires
+            //(an expiration reset by access or by another write) , such a value is refreshed in the background
+            LoadRecord record = this.loadRecords.get(loadKey);
+            if (record != null && record.shouldRefresh(System.currentTimeMillis(), policy.getEarlyRefreshBeta())) {
+                this.load(loadKey, key, loader, duration, unit, policy, policy.getExecutor(), false)
+                        .whenComplete((v, e) -> {
+                            if (e != null) {
+                                Console.warn("Background refresh of key [{}] failed , msg [{}]", key,
+                                        e.getMessage());
+                            }
+                        });
+            }
+            return CompletableFuture.completedFuture(this.deserializeValue(rawValue));
+        }
+        //Only the miss waits for the load
+        return this.load(loadKey, key, loader, duration, unit, policy, async ? policy.getExecutor() : null, true);
+    }
+
+    /**
+     * Start the load of {@code key} , or return the load in flight
+     *
+     * @param loadKey  must not be {@literal null}.
+     * @param key      must not be {@literal null}.
+     * @param loader   must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @param policy   must not be {@literal null}.
+     * @param executor if {@literal null} load in the caller thread
+     * @param recheck  if {@literal true} return the value set by a load just finished instead of loading again
+     * @return the future of value
+     */
+    private CompletableFuture<V> load(ExpireMapByteKey loadKey, K key, Function<? super K, ? extends V> loader,
+                                      Long duration, TimeUnit unit, RefreshPolicy policy, Executor executor,
+                                      boolean recheck) {
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = this.loadsInFlight.putIfAbsent(loadKey, flight);
+        if (inFlight != null) {
+            return inFlight;
+        }
+        Runnable task = () -> {
+            try {
+                byte[] loaded = recheck ? this.execute((helper) -> helper.get(loadKey.getBytes()), true) : null;
+                if (loaded != null) {
+                    flight.complete(this.deserializeValue(loaded));
+                    return;
+                }
+                long start = System.nanoTime();
+                V value = loader.apply(key);
+                if (value != null) {
+                    this.store(loadKey, key, value, duration, unit, policy,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                }
+                flight.complete(value);
+            } catch (Throwable e) {
+                flight.completeExceptionally(e);
+            } finally {
+                this.loadsInFlight.remove(loadKey, flight);
+            }
+        };
+        if (executor == null) {
+            task.run();
+        } else {
+            try {
+                executor.execute(task);
+            } catch (Throwable e) {
+                this.loadsInFlight.remove(loadKey, flight);
+                flight.completeExceptionally(e);
+            }
+        }
+        return flight;
+    }
+
+    /**
+     * Set the loaded {@code value} , it is kept for the stale window of {@code policy} after expiration
+     *
+     * @param loadKey     must not be {@literal null}.
+     * @param key         must not be {@literal null}.
+     * @param value       must not be {@literal null}.
+     * @param duration    the key expiration timeout.
+     * @param unit        must not be {@literal null}.
+     * @param policy      must not be {@literal null}.
+     * @param deltaMillis the millis spent by the load
+     */
+    private void store(ExpireMapByteKey loadKey, K key, V value, Long duration, TimeUnit unit, RefreshPolicy policy,
+                       long deltaMillis) {
+        long staleMillis = policy.getStaleWhileRevalidateMillis();
+        if (staleMillis > 0L) {
+            this.set(key, value, unit.toMillis(duration) + staleMillis, TimeUnit.MILLISECONDS);
+        } else {
+            this.set(key, value, duration, unit);
+        }
+        long freshUntil = System.currentTimeMillis() + unit.toMillis(duration);
+        this.loadRecords.put(loadKey, new LoadRecord(freshUntil, freshUntil + staleMillis, deltaMillis));
+        if (this.loadRecords.size() > this.loadRecordsSweepSize) {
+            long now = System.currentTimeMillis();
+            this.loadRecords.values().removeIf(record -> record.staleUntil <= now);
+            this.loadRecordsSweepSize = Math.max(LOAD_RECORDS_SWEEP_SIZE, this.loadRecords.size() << 1);
+        }
+    }
+
+    /**
+     * The freshness of a loaded value
+     */
+    static final class LoadRecord {
+
+        final long freshUntil;
+
+        final long staleUntil;
+
+        final long deltaMillis;
+
+        LoadRecord(long freshUntil, long staleUntil, long deltaMillis) {
+            this.freshUntil = freshUntil;
+            this.staleUntil = staleUntil;
+            this.deltaMillis = deltaMillis;
+        }
+
+        /**
+         * Whether to refresh the value read at {@code now} , an expired value in the stale window is always
+         * refreshed , a fresh value is refreshed early by the probability of XFetch
+         *
+         * @param now  current millis
+         * @param beta the beta of XFetch
+         * @return if {@literal true} refresh in the background
+         */
+        boolean shouldRefresh(long now, double beta) {
+            if (now >= this.freshUntil) {
+                return true;
+            }
+            if (beta <= 0D) {
+                return false;
+            }
+            double random = 1.0D - ThreadLocalRandom.current().nextDouble();
+            return now - Math.max(this.deltaMillis, 1L) * beta * Math.log(random) >= this.freshUntil;
+        }
+    }
 }
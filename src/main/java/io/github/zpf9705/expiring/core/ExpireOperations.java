@@ -76,6 +76,21 @@ public interface ExpireOperations<K, V> {
      */
     Boolean exist(K key);
 
+    /**
+     * Scan a page of keys from {@code cursor} without materializing all the keys , start with cursor
+     * {@literal 0} and continue with the cursor of each page until it returns {@literal 0}.
+     * <p>
+     * The scan is stable under concurrent modification , a key present for the whole scan is returned once ,
+     * the {@code match} pattern is applied to the keys of a page , so a page may have fewer keys than
+     * {@code count} or none before the scan is finished.
+     *
+     * @param cursor {@literal 0} to start , or the cursor of the previous page
+     * @param match  simple pattern with {@literal *} of keys , {@literal null} matches all
+     * @param count  the hint of keys number of a page , must be positive
+     * @return a page of keys and the next cursor
+     */
+    ScanPage<K> scan(long cursor, @CanNull String match, int count);
+
     /**
      * To obtain the key serialized way
      *
@@ -90,6 +105,20 @@ public interface ExpireOperations<K, V> {
      */
     ExpiringSerializer<V> getValueSerializer();
 
+    /**
+     * To obtain the hash key serialized way
+     *
+     * @return {@link ExpiringSerializer}
+     */
+    ExpiringSerializer<?> getHashKeySerializer();
+
+    /**
+     * To obtain the hash value serialized way
+     *
+     * @return {@link ExpiringSerializer}
+     */
+    ExpiringSerializer<?> getHashValueSerializer();
+
     /**
      * The implementation of {@link ValueOperations} is all based on {@link ExpireTemplate},
      * so a {@link ValueOperations} can be obtained through this standard interface.
@@ -105,4 +134,30 @@ public interface ExpireOperations<K, V> {
      * @return {@link ValueOperations}
      */
     ExpirationOperations<K, V> opsExpirationOperations();
+
+    /**
+     * The implementation of {@link HashOperations} is all based on {@link ExpireTemplate} , the hash keys and
+     * values are serialized by {@link #getHashKeySerializer()} and {@link #getHashValueSerializer()}.
+     *
+     * @param <HK> hash key (or field) type
+     * @param <HV> hash value type
+     * @return {@link HashOperations}
+     */
+    <HK, HV> HashOperations<K, HK, HV> opsForHash();
+
+    /**
+     * The asynchronous {@link ValueOperations} , the in-memory operations complete on the calling thread ,
+     * only the persistence is offloaded to the executor of {@link ExpireTemplate}.
+     *
+     * @return {@link AsyncValueOperations}
+     */
+    AsyncValueOperations<K, V> opsForValueAsync();
+
+    /**
+     * The asynchronous {@link ExpirationOperations} , the in-memory operations complete on the calling thread ,
+     * only the persistence is offloaded to the executor of {@link ExpireTemplate}.
+     *
+     * @return {@link AsyncExpirationOperations}
+     */
+    AsyncExpirationOperations<K, V> opsExpirationAsync();
 }
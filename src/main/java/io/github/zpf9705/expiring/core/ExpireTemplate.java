@@ -2,17 +2,26 @@ package io.github.zpf9705.expiring.core;
 
 import io.github.zpf9705.expiring.command.ExpireKeyCommands;
 import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.core.serializer.CompressingExpiringSerializer;
 import io.github.zpf9705.expiring.core.serializer.ExpiringSerializer;
+import io.github.zpf9705.expiring.core.serializer.ExpiringSerializerRegistry;
 import io.github.zpf9705.expiring.core.serializer.GenericStringExpiringSerializer;
 import io.github.zpf9705.expiring.help.ExpireHelper;
 import io.github.zpf9705.expiring.help.ExpireHelperFactory;
 import io.github.zpf9705.expiring.util.AssertUtils;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 /**
@@ -21,7 +30,9 @@ import java.util.function.Supplier;
  * Performs automatic serialization/deserialization between the given objects
  * and the underlying binary data in the expiry store. By default, it uses
  * Generic String serialization for its objects(through {@link GenericStringExpiringSerializer}).
- * For String intensive operations consider the dedicated {@link StringExpireTemplate}.
+ * For String intensive operations consider the dedicated {@link StringExpireTemplate} , or build a template of
+ * the types of keys and values with the serializers of a {@link ExpiringSerializerRegistry} by
+ * {@link #builder(Class, Class)}.
  * <p>
  * The Expiry of the template model , imitate expireTemplate encapsulation mode
  * The cache operation way to connect assembly simulation for the connection,
@@ -44,9 +55,20 @@ public class ExpireTemplate<K, V> extends ExpireAccessor implements ExpireOperat
 
     private ExpiringSerializer<K> keySerialize;
     private ExpiringSerializer<V> valueSerialize;
+    @SuppressWarnings("rawtypes")
+    private ExpiringSerializer hashKeySerialize;
+    @SuppressWarnings("rawtypes")
+    private ExpiringSerializer hashValueSerialize;
 
     private final ValueOperations<K, V> valueOperations = new DefaultValueOperations<>(this);
     private final ExpirationOperations<K, V> expirationOperations = new DefaultExpirationOperations<>(this);
+    private final HashOperations<K, ?, ?> hashOperations = new DefaultHashOperations<>(this);
+    private final AsyncValueOperations<K, V> asyncValueOperations = new DefaultAsyncValueOperations<>(this);
+    private final AsyncExpirationOperations<K, V> asyncExpirationOperations =
+            new DefaultAsyncExpirationOperations<>(this);
+
+    private transient @CanNull Executor asyncExecutor;
+    private transient volatile @CanNull CompletableFuture<Void> offloadedTail;
 
     /**
      * Constructs a new <code>ExpireTemplate</code> instance.
@@ -76,6 +98,16 @@ public class ExpireTemplate<K, V> extends ExpireAccessor implements ExpireOperat
                 this.valueSerialize = defaultSerializer;
                 defaultUsed = true;
             }
+
+            if (this.hashKeySerialize == null) {
+                this.hashKeySerialize = defaultSerializer;
+                defaultUsed = true;
+            }
+
+            if (this.hashValueSerialize == null) {
+                this.hashValueSerialize = defaultSerializer;
+                defaultUsed = true;
+            }
         }
 
         if (this.enableDefaultSerializer && defaultUsed) {
@@ -109,6 +141,10 @@ public class ExpireTemplate<K, V> extends ExpireAccessor implements ExpireOperat
      * Unified execute callback scheme, using try catch and handle exception to perform process monitoring,
      * once found to have abnormal situation a timely manner according to the number of times for a retry,
      * if still cannot successfully after retries,will prompt is given.
+     * <p>
+     * Once {@link #executeAsync(Supplier)} has been used , the persistence of the proxy methods called by
+     * {@code action} joins the same ordered queue as the asynchronous one and is waited for before return , so
+     * that the synchronous and asynchronous writes of a key are persisted in the order of calls.
      *
      * @param action           Expiry do action
      * @param helper           Expiry helper
@@ -123,7 +159,11 @@ public class ExpireTemplate<K, V> extends ExpireAccessor implements ExpireOperat
         Supplier<T> able = () -> action.doInExpire(helper);
         T value;
         try {
-            value = able.get();
+            if (this.offloadedTail != null && !ExpiryInvocationHandler.isCollectingSubsequent()) {
+                value = this.executeOrdered(able);
+            } else {
+                value = able.get();
+            }
         } catch (Exception e) {
             if (composeException) {
                 //Deviate from the custom exception thrown
@@ -138,6 +178,117 @@ public class ExpireTemplate<K, V> extends ExpireAccessor implements ExpireOperat
         return value;
     }
 
+    /**
+     * Unified asynchronous execute scheme , {@code action} runs on the current thread , the persistence of the
+     * proxy methods it calls is offloaded to {@link #getAsyncExecutor()} , the returned future completes with
+     * the result of {@code action} after the offloaded persistence is done.
+     * <p>
+     * The offloaded persistence of this template runs in the order of calls , one batch after another , and the
+     * persistence of the synchronous calls after the first asynchronous one joins the same order , see
+     * {@link #execute(ExpireValueCallback, ExpireHelper, boolean)}.
+     *
+     * @param action Expiry do action
+     * @param <T>    Return paradigm
+     * @return the future of the value be changed
+     */
+    public <T> CompletableFuture<T> executeAsync(Supplier<T> action) {
+        List<Runnable> subsequent = new ArrayList<>(1);
+        T value;
+        try {
+            value = ExpiryInvocationHandler.collectSubsequent(action, subsequent);
+        } catch (RuntimeException e) {
+            if (!subsequent.isEmpty()) {
+                this.offload(subsequent);
+            }
+            CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(e);
+            return failed;
+        }
+        if (subsequent.isEmpty()) {
+            return CompletableFuture.completedFuture(value);
+        }
+        return this.offload(subsequent).thenApply(v -> value);
+    }
+
+    /**
+     * Run {@code action} on the current thread and its persistence after the offloaded batches , wait for it
+     *
+     * @param action must not be {@literal null}
+     * @param <T>    Return paradigm
+     * @return the result of {@code action}
+     */
+    private <T> T executeOrdered(Supplier<T> action) {
+        List<Runnable> subsequent = new ArrayList<>(1);
+        T value;
+        try {
+            value = ExpiryInvocationHandler.collectSubsequent(action, subsequent);
+        } catch (RuntimeException e) {
+            if (!subsequent.isEmpty()) {
+                //The failure of action is thrown
+                this.offload(subsequent).handle((v, x) -> null).join();
+            }
+            throw e;
+        }
+        if (!subsequent.isEmpty()) {
+            try {
+                this.offload(subsequent).join();
+            } catch (CompletionException e) {
+                //Thrown as if the persistence ran in the proxy
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Run {@code subsequent} on {@link #getAsyncExecutor()} after the previous offloaded batch
+     *
+     * @param subsequent must not be {@literal null}
+     * @return the future of this batch
+     */
+    private synchronized CompletableFuture<Void> offload(List<Runnable> subsequent) {
+        CompletableFuture<?> previous = this.offloadedTail == null ?
+                CompletableFuture.completedFuture(null) : this.offloadedTail.handle((v, e) -> null);
+        CompletableFuture<Void> offloaded = previous.thenRunAsync(() -> {
+            RuntimeException failure = null;
+            for (Runnable runnable : subsequent) {
+                try {
+                    runnable.run();
+                } catch (RuntimeException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (failure != null) {
+                throw failure;
+            }
+        }, this.getAsyncExecutor());
+        this.offloadedTail = offloaded;
+        return offloaded;
+    }
+
+    /**
+     * Set the executor of the persistence offloaded by {@link #executeAsync(Supplier)}
+     *
+     * @param asyncExecutor if {@literal null} use {@link ForkJoinPool#commonPool()}
+     */
+    public void setAsyncExecutor(@CanNull Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    /**
+     * Get the executor of the persistence offloaded by {@link #executeAsync(Supplier)}
+     *
+     * @return {@link Executor}
+     */
+    public Executor getAsyncExecutor() {
+        return this.asyncExecutor == null ? ForkJoinPool.commonPool() : this.asyncExecutor;
+    }
+
     /**
      * Whether the default serializer should be used. If not, any serializers not explicitly
      * set will remain null and values will not be serialized or deserialized.
@@ -170,6 +321,28 @@ public class ExpireTemplate<K, V> extends ExpireAccessor implements ExpireOperat
         this.valueSerialize = valueSerializer;
     }
 
+    /**
+     * Set the template hash key ExpiringSerializer
+     *
+     * @param hashKeySerializer hash key Serializer
+     */
+    public void setHashKeySerializer(ExpiringSerializer<?> hashKeySerializer) {
+        AssertUtils.Operation.isTrue(this.hashKeySerialize == null,
+                "hkExpiringSerializer existing configuration values, please do not cover");
+        this.hashKeySerialize = hashKeySerializer;
+    }
+
+    /**
+     * Set the template hash value ExpiringSerializer
+     *
+     * @param hashValueSerializer hash value Serializer
+     */
+    public void setHashValueSerializer(ExpiringSerializer<?> hashValueSerializer) {
+        AssertUtils.Operation.isTrue(this.hashValueSerialize == null,
+                "hvExpiringSerializer existing configuration values, please do not cover");
+        this.hashValueSerialize = hashValueSerializer;
+    }
+
     @Override
     public ExpiringSerializer<K> getKeySerializer() {
         return this.keySerialize;
@@ -180,6 +353,16 @@ public class ExpireTemplate<K, V> extends ExpireAccessor implements ExpireOperat
         return this.valueSerialize;
     }
 
+    @Override
+    public ExpiringSerializer<?> getHashKeySerializer() {
+        return this.hashKeySerialize;
+    }
+
+    @Override
+    public ExpiringSerializer<?> getHashValueSerializer() {
+        return this.hashValueSerialize;
+    }
+
     /**
      * Access to the key value operator
      *
@@ -200,6 +383,37 @@ public class ExpireTemplate<K, V> extends ExpireAccessor implements ExpireOperat
         return this.expirationOperations;
     }
 
+    /**
+     * Access to the hash operator
+     *
+     * @return {@link HashOperations}
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <HK, HV> HashOperations<K, HK, HV> opsForHash() {
+        return (HashOperations<K, HK, HV>) this.hashOperations;
+    }
+
+    /**
+     * Access to the asynchronous key value operator
+     *
+     * @return {@link AsyncValueOperations}
+     */
+    @Override
+    public AsyncValueOperations<K, V> opsForValueAsync() {
+        return this.asyncValueOperations;
+    }
+
+    /**
+     * Access to the asynchronous expiration operator
+     *
+     * @return {@link AsyncExpirationOperations}
+     */
+    @Override
+    public AsyncExpirationOperations<K, V> opsExpirationAsync() {
+        return this.asyncExpirationOperations;
+    }
+
     @CanNull
     @Override
     public Boolean delete(K key) {
@@ -251,6 +465,19 @@ public class ExpireTemplate<K, V> extends ExpireAccessor implements ExpireOperat
         ), true);
     }
 
+    @Override
+    public ScanPage<K> scan(long cursor, String match, int count) {
+        ScanPage<byte[]> page = this.execute((connection) -> connection.scan(cursor, match, count), true);
+        if (page == null) {
+            return new ScanPage<>(0L, Collections.emptyList());
+        }
+        List<K> keys = new ArrayList<>(page.getKeys().size());
+        for (byte[] keyBytes : page.getKeys()) {
+            keys.add(this.keySerialize.deserialize(keyBytes));
+        }
+        return new ScanPage<>(page.getCursor(), keys);
+    }
+
     private byte[] rawKey(K key) {
         AssertUtils.Operation.notNull(key, "Non null key required");
         byte[] v;
@@ -289,4 +516,151 @@ public class ExpireTemplate<K, V> extends ExpireAccessor implements ExpireOperat
         }
         return v;
     }
+
+    /**
+     * Create a new {@link ExpireTemplateBuilder} to build a ready {@code ExpireTemplate} , whose serializers are
+     * taken from a {@link ExpiringSerializerRegistry} by the types of its keys , values and hashes
+     *
+     * @param keyType   must not be {@literal null}
+     * @param valueType must not be {@literal null}
+     * @param <K>       key generic
+     * @param <V>       value generic
+     * @return a new {@link ExpireTemplateBuilder}
+     */
+    public static <K, V> ExpireTemplateBuilder<K, V> builder(@NotNull Class<K> keyType, @NotNull Class<V> valueType) {
+        return new ExpireTemplateBuilder<>(keyType, valueType);
+    }
+
+    /**
+     * Simple Construction Class of {@link ExpireTemplate}
+     */
+    public static class ExpireTemplateBuilder<K, V> {
+
+        final Class<K> keyType;
+        final Class<V> valueType;
+        @CanNull
+        ExpireHelperFactory helperFactory;
+        @CanNull
+        ExpiringSerializerRegistry serializerRegistry;
+        @CanNull
+        Class<?> hashKeyType;
+        @CanNull
+        Class<?> hashValueType;
+        @CanNull
+        Executor asyncExecutor;
+        @CanNull
+        Integer valueCompressThreshold;
+        static final Class<?> DEFAULT_HASH_KEY_TYPE = String.class;
+        static final Class<?> DEFAULT_HASH_VALUE_TYPE = Object.class;
+
+        ExpireTemplateBuilder(Class<K> keyType, Class<V> valueType) {
+            AssertUtils.Operation.notNull(keyType, "KeyType no be null");
+            AssertUtils.Operation.notNull(valueType, "ValueType no be null");
+            this.keyType = keyType;
+            this.valueType = valueType;
+        }
+
+        /**
+         * Given the factory of the helpers of template
+         *
+         * @param helperFactory must not be {@literal null}
+         * @return {@link ExpireTemplateBuilder}
+         */
+        public ExpireTemplateBuilder<K, V> acquireHelperFactory(ExpireHelperFactory helperFactory) {
+            AssertUtils.Operation.isTrue(this.helperFactory == null,
+                    "HelperFactory existing configuration values, please do not cover");
+            this.helperFactory = helperFactory;
+            return this;
+        }
+
+        /**
+         * Given the registry of serializers , if not given {@link ExpiringSerializerRegistry#defaultRegistry()}
+         *
+         * @param serializerRegistry the registry of serializers
+         * @return {@link ExpireTemplateBuilder}
+         */
+        public ExpireTemplateBuilder<K, V> acquireSerializerRegistry(ExpiringSerializerRegistry serializerRegistry) {
+            AssertUtils.Operation.isTrue(this.serializerRegistry == null,
+                    "SerializerRegistry existing configuration values, please do not cover");
+            this.serializerRegistry = serializerRegistry;
+            return this;
+        }
+
+        /**
+         * Given the type of hash keys , if not given {@link String}
+         *
+         * @param hashKeyType the type of hash keys
+         * @return {@link ExpireTemplateBuilder}
+         */
+        public ExpireTemplateBuilder<K, V> acquireHashKeyType(Class<?> hashKeyType) {
+            AssertUtils.Operation.isTrue(this.hashKeyType == null,
+                    "HashKeyType existing configuration values, please do not cover");
+            this.hashKeyType = hashKeyType;
+            return this;
+        }
+
+        /**
+         * Given the type of hash values , if not given {@link Object}
+         *
+         * @param hashValueType the type of hash values
+         * @return {@link ExpireTemplateBuilder}
+         */
+        public ExpireTemplateBuilder<K, V> acquireHashValueType(Class<?> hashValueType) {
+            AssertUtils.Operation.isTrue(this.hashValueType == null,
+                    "HashValueType existing configuration values, please do not cover");
+            this.hashValueType = hashValueType;
+            return this;
+        }
+
+        /**
+         * Given the executor of the offloaded persistence , see {@link #setAsyncExecutor(Executor)}
+         *
+         * @param asyncExecutor the executor of the offloaded persistence
+         * @return {@link ExpireTemplateBuilder}
+         */
+        public ExpireTemplateBuilder<K, V> acquireAsyncExecutor(Executor asyncExecutor) {
+            AssertUtils.Operation.isTrue(this.asyncExecutor == null,
+                    "AsyncExecutor existing configuration values, please do not cover");
+            this.asyncExecutor = asyncExecutor;
+            return this;
+        }
+
+        /**
+         * Given the min bytes of a serialized value to be compressed by {@link CompressingExpiringSerializer} ,
+         * if not given or not greater than {@literal 0} never compress
+         *
+         * @param valueCompressThreshold the min bytes of a serialized value to be compressed
+         * @return {@link ExpireTemplateBuilder}
+         */
+        public ExpireTemplateBuilder<K, V> acquireValueCompressThreshold(Integer valueCompressThreshold) {
+            AssertUtils.Operation.isTrue(this.valueCompressThreshold == null,
+                    "ValueCompressThreshold existing configuration values, please do not cover");
+            this.valueCompressThreshold = valueCompressThreshold;
+            return this;
+        }
+
+        /**
+         * Build the {@link ExpireTemplate} ready to be used with the configuration applied from this builder.
+         *
+         * @return a new {@link ExpireTemplate}
+         */
+        public ExpireTemplate<K, V> build() {
+            AssertUtils.Operation.notNull(this.helperFactory, "HelperFactory no be null");
+            ExpiringSerializerRegistry registry = this.serializerRegistry != null ?
+                    this.serializerRegistry : ExpiringSerializerRegistry.defaultRegistry();
+            ExpireTemplate<K, V> template = new ExpireTemplate<>();
+            template.setHelperFactory(this.helperFactory);
+            template.setKeySerializer(registry.getSerializer(this.keyType));
+            //Compress whatever serializer the registry resolves
+            template.setValueSerializer(CompressingExpiringSerializer.wrapIfNecessary(
+                    registry.getSerializer(this.valueType), this.valueCompressThreshold));
+            Class<?> hashKeyType = this.hashKeyType != null ? this.hashKeyType : DEFAULT_HASH_KEY_TYPE;
+            Class<?> hashValueType = this.hashValueType != null ? this.hashValueType : DEFAULT_HASH_VALUE_TYPE;
+            template.setHashKeySerializer(registry.getSerializer(hashKeyType));
+            template.setHashValueSerializer(registry.getSerializer(hashValueType));
+            template.setAsyncExecutor(this.asyncExecutor);
+            template.afterPropertiesSet();
+            return template;
+        }
+    }
 }
@@ -7,17 +7,37 @@ import java.io.Serializable;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
 
 /**
  * The proxy class of {@code Expiry} handles abstract classes, and the unified processing of abstract
  * parameters diverges from the center. The premise is that the implementation is based on annotation
  * information, which is combined with actual parameters to handle such a logic.
+ * <p>
+ * The appoint annotations of the methods of the interfaces of the target are resolved once into a dispatch
+ * table , see {@link #initDispatchTable(Object, Class)} , so that a call does no more reflection than the
+ * invocation of the target.
  *
  * @author zpf
  * @since 3.0.0
  */
 public abstract class ExpiryInvocationHandler<T, A extends Annotation> implements InvocationHandler, Serializable {
 
+    /**
+     * The subsequent methods collected instead of run on the current thread , see {@link #collectSubsequent}
+     */
+    private static final ThreadLocal<List<Runnable>> COLLECTED_SUBSEQUENT = new ThreadLocal<>();
+
+    /**
+     * The appoint annotations of the proxy methods , a method not annotated is absent , rebuilt after
+     * deserialization
+     */
+    private transient volatile Map<Method, A> dispatchTable;
+
     @Override
     public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
         //source target object
@@ -25,13 +45,101 @@ public abstract class ExpiryInvocationHandler<T, A extends Annotation> implement
         //exec proxy method
         Object invokeResult = method.invoke(target, args);
         //get this proxyExec annotation
-        A proxyExec = method.getAnnotation(getAppointAnnotationClazz());
+        A proxyExec = this.getProxyExec(method);
         if (proxyExec != null) {
-            invokeSubsequent(invokeResult, proxyExec, args);
+            List<Runnable> collected = COLLECTED_SUBSEQUENT.get();
+            if (collected != null) {
+                collected.add(() -> invokeSubsequent(invokeResult, proxyExec, args));
+            } else {
+                invokeSubsequent(invokeResult, proxyExec, args);
+            }
         }
         return invokeResult;
     }
 
+    /**
+     * Get the appoint annotation of {@code method} from the dispatch table
+     *
+     * @param method proxy method
+     * @return the appoint annotation , {@literal null} if not annotated
+     */
+    @CanNull
+    private A getProxyExec(Method method) {
+        Map<Method, A> table = this.dispatchTable;
+        if (table == null) {
+            //Threads racing here may each build once , the tables are equal
+            table = buildDispatchTable(getTarget(), getAppointAnnotationClazz());
+            this.dispatchTable = table;
+        }
+        return table.get(method);
+    }
+
+    /**
+     * Resolve the dispatch table of {@code target} ahead of the first call
+     *
+     * @param target          must not be {@literal null}
+     * @param annotationClass must not be {@literal null}
+     */
+    protected final void initDispatchTable(@NotNull T target, @NotNull Class<A> annotationClass) {
+        this.dispatchTable = buildDispatchTable(target, annotationClass);
+    }
+
+    /**
+     * Build the appoint annotations of the methods of the interfaces of {@code target} , which are the
+     * interfaces of its proxy
+     *
+     * @param target          must not be {@literal null}
+     * @param annotationClass must not be {@literal null}
+     * @param <T>             target generic
+     * @param <A>             annotation generic
+     * @return unmodifiable dispatch table
+     */
+    private static <T, A extends Annotation> Map<Method, A> buildDispatchTable(@NotNull T target,
+                                                                               @NotNull Class<A> annotationClass) {
+        Map<Method, A> table = new HashMap<>();
+        for (Class<?> interfaceClass : target.getClass().getInterfaces()) {
+            for (Method method : interfaceClass.getMethods()) {
+                A proxyExec = method.getAnnotation(annotationClass);
+                if (proxyExec != null) {
+                    table.putIfAbsent(method, proxyExec);
+                }
+            }
+        }
+        return Collections.unmodifiableMap(table);
+    }
+
+    /**
+     * Run {@code action} on the current thread , the subsequent methods of the proxy methods called by
+     * {@code action} are not run but added to {@code subsequent} , so that the caller can run them elsewhere.
+     *
+     * @param action     must not be {@literal null}
+     * @param subsequent must not be {@literal null}
+     * @param <R>        result generic
+     * @return the result of {@code action}
+     */
+    static <R> R collectSubsequent(@NotNull Supplier<R> action, @NotNull List<Runnable> subsequent) {
+        List<Runnable> outer = COLLECTED_SUBSEQUENT.get();
+        COLLECTED_SUBSEQUENT.set(subsequent);
+        try {
+            return action.get();
+        } finally {
+            if (outer != null) {
+                COLLECTED_SUBSEQUENT.set(outer);
+            } else {
+                COLLECTED_SUBSEQUENT.remove();
+            }
+        }
+    }
+
+    /**
+     * Whether the subsequent methods of the current thread are collected by {@link #collectSubsequent}
+     *
+     * @return if {@literal true} collected
+     */
+    static boolean isCollectingSubsequent() {
+        return COLLECTED_SUBSEQUENT.get() != null;
+    }
+
     @NotNull
     public abstract Class<A> getAppointAnnotationClazz();
 
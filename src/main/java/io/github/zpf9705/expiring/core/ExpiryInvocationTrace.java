@@ -24,6 +24,7 @@ public class ExpiryInvocationTrace<T, A extends Annotation> extends ExpiryInvoca
     public ExpiryInvocationTrace(T target, Class<A> annotationClass) {
         this.target = target;
         this.annotationClass = annotationClass;
+        this.initDispatchTable(target, annotationClass);
     }
 
     @Override
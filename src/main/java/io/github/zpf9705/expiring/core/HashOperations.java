@@ -0,0 +1,139 @@
+package io.github.zpf9705.expiring.core;
+
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expiring operations for hash values , all the fields of a hash are stored compactly under the one entry of
+ * {@code key} and persisted as one , a field can have its own expiration but never outlives the hash , whose
+ * expiration is set by {@link ExpirationOperations} as any other key.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public interface HashOperations<K, HK, HV> {
+
+    /**
+     * Set the {@code value} of a hash {@code hashKey}.
+     *
+     * @param key     must not be {@literal null}.
+     * @param hashKey must not be {@literal null}.
+     * @param value   must not be {@literal null}.
+     */
+    void put(K key, HK hashKey, HV value);
+
+    /**
+     * Set the {@code value} of a hash {@code hashKey} which expires after {@code duration}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param hashKey  must not be {@literal null}.
+     * @param value    must not be {@literal null}.
+     * @param duration the field expiration timeout.
+     * @param unit     must not be {@literal null}.
+     */
+    void put(K key, HK hashKey, HV value, Long duration, TimeUnit unit);
+
+    /**
+     * Set the {@code value} of a hash {@code hashKey} only if {@code hashKey} does not exist.
+     *
+     * @param key     must not be {@literal null}.
+     * @param hashKey must not be {@literal null}.
+     * @param value   must not be {@literal null}.
+     * @return if {@literal true} set
+     */
+    Boolean putIfAbsent(K key, HK hashKey, HV value);
+
+    /**
+     * Set multiple hash fields to multiple values using data provided in {@code m} by one change of the hash.
+     *
+     * @param key must not be {@literal null}.
+     * @param m   must not be {@literal null}.
+     */
+    void putAll(K key, Map<? extends HK, ? extends HV> m);
+
+    /**
+     * Set the expiration of a hash {@code hashKey}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param hashKey  must not be {@literal null}.
+     * @param duration the field expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return if {@literal true} the field exist
+     */
+    Boolean expire(K key, HK hashKey, Long duration, TimeUnit unit);
+
+    /**
+     * Delete given hash {@code hashKeys} , the hash is removed with its last field.
+     *
+     * @param key      must not be {@literal null}.
+     * @param hashKeys must not be {@literal null}.
+     * @return if {@literal true} any field deleted
+     */
+    Boolean delete(K key, Object... hashKeys);
+
+    /**
+     * Get the value of a hash {@code hashKey}.
+     *
+     * @param key     must not be {@literal null}.
+     * @param hashKey must not be {@literal null}.
+     * @return {@literal null} if the field not exist
+     */
+    @CanNull
+    HV get(K key, Object hashKey);
+
+    /**
+     * Get the values of given hash {@code hashKeys}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param hashKeys must not be {@literal null}.
+     * @return the values in the order of {@code hashKeys} , {@literal null} for an absent field
+     */
+    List<HV> multiGet(K key, Collection<HK> hashKeys);
+
+    /**
+     * Get all the fields and values of a hash.
+     *
+     * @param key must not be {@literal null}.
+     * @return empty if the hash not exist
+     */
+    Map<HK, HV> entries(K key);
+
+    /**
+     * Get the number of fields of a hash.
+     *
+     * @param key must not be {@literal null}.
+     * @return {@literal 0} if the hash not exist
+     */
+    Long size(K key);
+
+    /**
+     * Determine if a hash {@code hashKey} exist.
+     *
+     * @param key     must not be {@literal null}.
+     * @param hashKey must not be {@literal null}.
+     * @return if {@literal true} exist
+     */
+    Boolean hasKey(K key, Object hashKey);
+
+    /**
+     * Get the rest of the expiration time of a hash {@code hashKey}.
+     *
+     * @param key     must not be {@literal null}.
+     * @param hashKey must not be {@literal null}.
+     * @param unit    must not be {@literal null}.
+     * @return {@literal -1} if the field does not expire by itself , {@literal null} if the field not exist
+     */
+    @CanNull
+    Long getExpiration(K key, HK hashKey, TimeUnit unit);
+
+    /**
+     * Get the operations of this
+     *
+     * @return {@link ExpireOperations}
+     */
+    ExpireOperations<K, ?> getOperations();
+}
@@ -0,0 +1,75 @@
+package io.github.zpf9705.expiring.core;
+
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reactive expiring operations for the expiration of keys , lazy and run when subscribed , the same as
+ * {@link ReactiveValueOperations}.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public interface ReactiveExpirationOperations<K, V> {
+
+    /**
+     * Get the remaining expiration milliseconds of {@code key}.
+     *
+     * @param key must not be {@literal null}.
+     * @return {@link Maybe} of expiration , empty when key does not exist
+     */
+    Maybe<Long> getExpiration(K key);
+
+    /**
+     * Get the remaining expiration of {@code key} in {@code unit}.
+     *
+     * @param key  must not be {@literal null}.
+     * @param unit must not be {@literal null}.
+     * @return {@link Maybe} of expiration , empty when key does not exist
+     */
+    Maybe<Long> getExpiration(K key, TimeUnit unit);
+
+    /**
+     * Get the expected expiration milliseconds of {@code key}.
+     *
+     * @param key must not be {@literal null}.
+     * @return {@link Maybe} of expected expiration , empty when key does not exist
+     */
+    Maybe<Long> getExpectedExpiration(K key);
+
+    /**
+     * Get the expected expiration of {@code key} in {@code unit}.
+     *
+     * @param key  must not be {@literal null}.
+     * @param unit must not be {@literal null}.
+     * @return {@link Maybe} of expected expiration , empty when key does not exist
+     */
+    Maybe<Long> getExpectedExpiration(K key, TimeUnit unit);
+
+    /**
+     * Set the expiration of {@code key}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param timeUnit must not be {@literal null}.
+     * @return {@link Single} of whether set
+     */
+    Single<Boolean> setExpiration(K key, Long duration, TimeUnit timeUnit);
+
+    /**
+     * Reset the expiration of {@code key}.
+     *
+     * @param key must not be {@literal null}.
+     * @return {@link Single} of whether reset
+     */
+    Single<Boolean> resetExpiration(K key);
+
+    /**
+     * To get the operator {@code ReactiveExpireTemplate}
+     *
+     * @return Reactive Expire Template
+     */
+    ReactiveExpireTemplate<K, V> getOperations();
+}
@@ -0,0 +1,148 @@
+package io.github.zpf9705.expiring.core;
+
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.listener.MessageExpiringFlowable;
+import io.github.zpf9705.expiring.listener.MessageExpiryCapable;
+import io.github.zpf9705.expiring.util.AssertUtils;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * The reactive variant of {@link ExpireTemplate} with the operations of {@code io.reactivex.rxjava3}.
+ * <p>
+ * The operations run the {@link ExpireTemplate} directly when subscribed rather than wrapped in
+ * {@code Single.fromCallable} on another scheduler , the reads complete on the subscribing thread , the writes
+ * complete after their persistence offloaded by {@link ExpireTemplate#executeAsync} is done.
+ * <p>
+ * The batch operations of {@link ReactiveValueOperations} request the upstream by batches of
+ * {@link #getBatchSize()} , each batch is one call of {@code multiGet} or {@code multiSet}.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class ReactiveExpireTemplate<K, V> {
+
+    private final ExpireTemplate<K, V> expireTemplate;
+
+    private final int batchSize;
+
+    private final ReactiveValueOperations<K, V> valueOperations;
+
+    private final ReactiveExpirationOperations<K, V> expirationOperations;
+
+    /**
+     * Constructs a new <code>ReactiveExpireTemplate</code> of {@code expireTemplate} with a batch size of
+     * {@link Flowable#bufferSize()}.
+     *
+     * @param expireTemplate must not be {@literal null}
+     */
+    public ReactiveExpireTemplate(@NotNull ExpireTemplate<K, V> expireTemplate) {
+        this(expireTemplate, Flowable.bufferSize());
+    }
+
+    /**
+     * Constructs a new <code>ReactiveExpireTemplate</code> of {@code expireTemplate}.
+     *
+     * @param expireTemplate must not be {@literal null}
+     * @param batchSize      the batch size of batch operations , must be positive
+     */
+    public ReactiveExpireTemplate(@NotNull ExpireTemplate<K, V> expireTemplate, int batchSize) {
+        AssertUtils.Operation.notNull(expireTemplate, "ExpireTemplate no be null");
+        AssertUtils.Operation.isTrue(batchSize > 0, "BatchSize must be positive");
+        this.expireTemplate = expireTemplate;
+        this.batchSize = batchSize;
+        this.valueOperations = new DefaultReactiveValueOperations<>(this);
+        this.expirationOperations = new DefaultReactiveExpirationOperations<>(this);
+    }
+
+    /**
+     * Access to the reactive key value operator
+     *
+     * @return {@link ReactiveValueOperations}
+     */
+    public ReactiveValueOperations<K, V> opsForValue() {
+        return this.valueOperations;
+    }
+
+    /**
+     * Access to the reactive expiration operator
+     *
+     * @return {@link ReactiveExpirationOperations}
+     */
+    public ReactiveExpirationOperations<K, V> opsExpiration() {
+        return this.expirationOperations;
+    }
+
+    /**
+     * Delete the {@code key}
+     *
+     * @param key must not be {@literal null}.
+     * @return {@link Single} of whether deleted
+     */
+    public Single<Boolean> delete(K key) {
+        return single(() -> this.expireTemplate.executeAsync(() -> this.expireTemplate.delete(key)));
+    }
+
+    /**
+     * Whether the {@code key} exists
+     *
+     * @param key must not be {@literal null}.
+     * @return {@link Single} of whether exists
+     */
+    public Single<Boolean> exist(K key) {
+        return Maybe.fromCallable(() -> this.expireTemplate.exist(key)).defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * The expired messages of all the clients registered {@link MessageExpiringFlowable}
+     *
+     * @return {@link Flowable} of expired messages
+     */
+    public Flowable<MessageExpiryCapable> expirations() {
+        return MessageExpiringFlowable.getInstance().expirations();
+    }
+
+    public ExpireTemplate<K, V> getExpireTemplate() {
+        return this.expireTemplate;
+    }
+
+    public int getBatchSize() {
+        return this.batchSize;
+    }
+
+    /**
+     * Subscribe the future of {@code supplier} lazily , empty if completes with {@literal null}
+     *
+     * @param supplier must not be {@literal null}
+     * @param <T>      value generic
+     * @return {@link Maybe}
+     */
+    static <T> Maybe<T> maybe(Supplier<CompletableFuture<T>> supplier) {
+        return Maybe.defer(() -> Maybe.fromCompletionStage(supplier.get()));
+    }
+
+    /**
+     * Subscribe the future of {@code supplier} lazily , {@literal false} if completes with {@literal null}
+     *
+     * @param supplier must not be {@literal null}
+     * @return {@link Single}
+     */
+    static Single<Boolean> single(Supplier<CompletableFuture<Boolean>> supplier) {
+        return maybe(supplier).defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Subscribe the future of {@code supplier} lazily
+     *
+     * @param supplier must not be {@literal null}
+     * @return {@link Completable}
+     */
+    static Completable completable(Supplier<CompletableFuture<Void>> supplier) {
+        return Completable.defer(() -> Completable.fromCompletionStage(supplier.get()));
+    }
+}
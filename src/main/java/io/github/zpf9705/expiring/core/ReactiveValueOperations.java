@@ -0,0 +1,127 @@
+package io.github.zpf9705.expiring.core;
+
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Maybe;
+import io.reactivex.rxjava3.core.Single;
+import org.reactivestreams.Publisher;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reactive expiring operations for simple (or in Expiring terminology 'string' 'object') values.
+ * <p>
+ * The operations are lazy and run when subscribed , the in-memory operation runs on the subscribing thread
+ * without a scheduler hop , the writes complete after their persistence offloaded by
+ * {@link ExpireTemplate#executeAsync} is done.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public interface ReactiveValueOperations<K, V> {
+
+    /**
+     * Set {@code value} for {@code key}.
+     * There is expiry time for the default configuration
+     *
+     * @param key   must not be {@literal null}.
+     * @param value must not be {@literal null}.
+     * @return {@link Completable}
+     */
+    Completable set(K key, V value);
+
+    /**
+     * Set the {@code value} and expiration {@code timeout} for {@code key}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param value    must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return {@link Completable}
+     */
+    Completable set(K key, V value, Long duration, TimeUnit unit);
+
+    /**
+     * Set all the tuples of {@code tuples} , the tuples are requested and set by batches of
+     * {@link ReactiveExpireTemplate#getBatchSize()}.
+     * There is expiry time for the default configuration
+     *
+     * @param tuples must not be {@literal null}.
+     * @return {@link Completable}
+     */
+    Completable multiSet(Publisher<Map.Entry<K, V>> tuples);
+
+    /**
+     * Set all the tuples of {@code tuples} with the same expiration {@code timeout} , the tuples are requested
+     * and set by batches of {@link ReactiveExpireTemplate#getBatchSize()}.
+     *
+     * @param tuples   must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return {@link Completable}
+     */
+    Completable multiSet(Publisher<Map.Entry<K, V>> tuples, Long duration, TimeUnit unit);
+
+    /**
+     * Set {@code key} to hold the string {@code value} if {@code key} is absent.
+     *
+     * @param key   must not be {@literal null}.
+     * @param value must not be {@literal null}.
+     * @return {@link Single} of whether set
+     */
+    Single<Boolean> setIfAbsent(K key, V value);
+
+    /**
+     * Set {@code key} to hold the string {@code value} and expiration {@code timeout} if {@code key} is absent.
+     *
+     * @param key      must not be {@literal null}.
+     * @param value    must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return {@link Single} of whether set
+     */
+    Single<Boolean> setIfAbsent(K key, V value, Long duration, TimeUnit unit);
+
+    /**
+     * Get the value of {@code key}.
+     *
+     * @param key must not be {@literal null}.
+     * @return {@link Maybe} of value , empty when key does not exist
+     */
+    Maybe<V> get(K key);
+
+    /**
+     * Get the values of the keys of {@code keys} , the keys are requested and got by batches of
+     * {@link ReactiveExpireTemplate#getBatchSize()} , the absent keys are skipped.
+     *
+     * @param keys must not be {@literal null}.
+     * @return {@link Flowable} of the present tuples in the order of {@code keys}
+     */
+    Flowable<Map.Entry<K, V>> multiGet(Publisher<K> keys);
+
+    /**
+     * Get Similar keys of {@code key}.
+     *
+     * @param key must not be {@literal null}.
+     * @return {@link Single} of similar keys
+     */
+    Single<List<K>> getSimilarKeys(K key);
+
+    /**
+     * Set {@code value} of {@code key} and return its old value.
+     *
+     * @param key      must not be {@literal null}.
+     * @param newValue must not be {@literal null}.
+     * @return {@link Maybe} of old value , empty when key does not exist
+     */
+    Maybe<V> getAndSet(K key, V newValue);
+
+    /**
+     * To get the operator {@code ReactiveExpireTemplate}
+     *
+     * @return Reactive Expire Template
+     */
+    ReactiveExpireTemplate<K, V> getOperations();
+}
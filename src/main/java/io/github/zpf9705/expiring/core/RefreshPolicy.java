@@ -0,0 +1,99 @@
+package io.github.zpf9705.expiring.core;
+
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.util.AssertUtils;
+
+import java.io.Serializable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The background refresh policy of {@link ValueOperations#getOrLoad(Object, java.util.function.Function, Long,
+ * TimeUnit, RefreshPolicy)}.
+ * <p>
+ * {@code earlyRefreshBeta} : the probabilistic early refresh of XFetch , a read of a fresh value refreshes it in
+ * the background if {@code now - delta * beta * ln(random) >= freshUntil} , {@code delta} is the time spent by the
+ * last load. The closer to expire and the slower to load , the more likely to refresh , {@literal 1.0} is the
+ * usual beta , a larger beta refreshes earlier , {@literal 0} never refreshes early.
+ * <p>
+ * {@code staleWhileRevalidate} : the value is kept for this extra time after it expires , a read in this window
+ * returns the stale value at once and refreshes it in the background , {@literal 0} means the expired value is
+ * removed and the read loads it.
+ * <p>
+ * The background refreshes run on {@code executor} , a key is refreshed by only one load at a time.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public final class RefreshPolicy implements Serializable {
+
+    private static final long serialVersionUID = 2264510385163358612L;
+
+    private static final RefreshPolicy NONE = new RefreshPolicy(0D, 0L, TimeUnit.MILLISECONDS, null);
+
+    private final double earlyRefreshBeta;
+
+    private final long staleWhileRevalidateMillis;
+
+    private final transient Executor executor;
+
+    private RefreshPolicy(double earlyRefreshBeta, long staleWhileRevalidate, TimeUnit unit,
+                          @CanNull Executor executor) {
+        this.earlyRefreshBeta = earlyRefreshBeta;
+        this.staleWhileRevalidateMillis = unit.toMillis(staleWhileRevalidate);
+        this.executor = executor;
+    }
+
+    /**
+     * No early refresh and no stale window , a missing value is loaded by the read , a value still present
+     * after its load expires is returned and refreshed in the background of {@link ForkJoinPool#commonPool()}
+     *
+     * @return {@link RefreshPolicy}
+     */
+    public static RefreshPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Refresh in the background of {@link ForkJoinPool#commonPool()}
+     *
+     * @param earlyRefreshBeta     the beta of XFetch , {@literal 0} never refreshes early
+     * @param staleWhileRevalidate the time to keep an expired value , {@literal 0} not keep
+     * @param unit                 must not be {@literal null}
+     * @return {@link RefreshPolicy}
+     */
+    public static RefreshPolicy of(double earlyRefreshBeta, long staleWhileRevalidate, @NotNull TimeUnit unit) {
+        return of(earlyRefreshBeta, staleWhileRevalidate, unit, null);
+    }
+
+    /**
+     * Refresh in the background of {@code executor}
+     *
+     * @param earlyRefreshBeta     the beta of XFetch , {@literal 0} never refreshes early
+     * @param staleWhileRevalidate the time to keep an expired value , {@literal 0} not keep
+     * @param unit                 must not be {@literal null}
+     * @param executor             if {@literal null} use {@link ForkJoinPool#commonPool()}
+     * @return {@link RefreshPolicy}
+     */
+    public static RefreshPolicy of(double earlyRefreshBeta, long staleWhileRevalidate, @NotNull TimeUnit unit,
+                                   @CanNull Executor executor) {
+        AssertUtils.Operation.isTrue(earlyRefreshBeta >= 0D, "EarlyRefreshBeta must not be negative");
+        AssertUtils.Operation.isTrue(staleWhileRevalidate >= 0L, "StaleWhileRevalidate must not be negative");
+        AssertUtils.Operation.notNull(unit, "Unit no be null");
+        return new RefreshPolicy(earlyRefreshBeta, staleWhileRevalidate, unit, executor);
+    }
+
+    public double getEarlyRefreshBeta() {
+        return this.earlyRefreshBeta;
+    }
+
+    public long getStaleWhileRevalidateMillis() {
+        return this.staleWhileRevalidateMillis;
+    }
+
+    public Executor getExecutor() {
+        return this.executor == null ? ForkJoinPool.commonPool() : this.executor;
+    }
+}
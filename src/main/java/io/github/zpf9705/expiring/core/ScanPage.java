@@ -0,0 +1,59 @@
+package io.github.zpf9705.expiring.core;
+
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A page of keys returned by a cursor scan , see {@link ExpireOperations#scan(long, String, int)}.
+ * <p>
+ * Scan from cursor {@literal 0} and pass the {@link #getCursor()} of each page to the next call , the scan is
+ * finished when the returned cursor is {@literal 0} again. A page may have fewer keys than requested , or none ,
+ * before the scan is finished.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public final class ScanPage<T> implements Serializable {
+
+    private static final long serialVersionUID = 6306818563307418294L;
+
+    private final long cursor;
+
+    private final List<T> keys;
+
+    public ScanPage(long cursor, @NotNull List<T> keys) {
+        this.cursor = cursor;
+        this.keys = Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * Get the cursor of the next page
+     *
+     * @return next cursor , {@literal 0} if the scan is finished
+     */
+    public long getCursor() {
+        return this.cursor;
+    }
+
+    /**
+     * Get the keys of this page
+     *
+     * @return unmodifiable keys
+     */
+    @NotNull
+    public List<T> getKeys() {
+        return this.keys;
+    }
+
+    /**
+     * Whether the scan is finished with this page
+     *
+     * @return if {@literal true} no more page
+     */
+    public boolean isFinished() {
+        return this.cursor == 0L;
+    }
+}
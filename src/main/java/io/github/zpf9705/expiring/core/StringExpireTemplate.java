@@ -1,6 +1,6 @@
 package io.github.zpf9705.expiring.core;
 
-import io.github.zpf9705.expiring.core.serializer.GenericStringExpiringSerializer;
+import io.github.zpf9705.expiring.core.serializer.Utf8StringExpiringSerializer;
 import io.github.zpf9705.expiring.help.ExpireHelperFactory;
 
 /**
@@ -18,8 +18,10 @@ public class StringExpireTemplate extends ExpireTemplate<String, String> {
      * and {@link #afterPropertiesSet()} still need to be called.
      */
     public StringExpireTemplate() {
-        this.setKeySerializer(new GenericStringExpiringSerializer());
-        this.setValueSerializer(new GenericStringExpiringSerializer());
+        this.setKeySerializer(new Utf8StringExpiringSerializer());
+        this.setValueSerializer(new Utf8StringExpiringSerializer());
+        this.setHashKeySerializer(new Utf8StringExpiringSerializer());
+        this.setHashValueSerializer(new Utf8StringExpiringSerializer());
     }
 
     /**
@@ -28,7 +30,7 @@ public class StringExpireTemplate extends ExpireTemplate<String, String> {
      * @param helperFactory Helper factory for creating new connections
      */
     public StringExpireTemplate(ExpireHelperFactory helperFactory) {
-        super();
+        this();
         this.setHelperFactory(helperFactory);
         afterPropertiesSet();
     }
@@ -2,8 +2,12 @@ package io.github.zpf9705.expiring.core;
 
 import io.github.zpf9705.expiring.core.annotation.CanNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
 
 /**
  * Expiring operations for simple (or in Expiring terminology 'string' 'object') values.
@@ -32,6 +36,24 @@ public interface ValueOperations<K, V> {
      */
     void set(K key, V value, Long duration, TimeUnit unit);
 
+    /**
+     * Set all the {@code tuple} , the keys and values are serialized in one pass and set by one call of helper.
+     * There is expiry time for the default configuration
+     *
+     * @param tuple must not be {@literal null}.
+     */
+    void multiSet(Map<K, V> tuple);
+
+    /**
+     * Set all the {@code tuple} with the same expiration {@code timeout} , the keys and values are serialized
+     * in one pass and set by one call of helper.
+     *
+     * @param tuple    must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     */
+    void multiSet(Map<K, V> tuple, Long duration, TimeUnit unit);
+
     /**
      * Set {@code key} to hold the string {@code value} if {@code key} is absent.
      *
@@ -63,6 +85,14 @@ public interface ValueOperations<K, V> {
     @CanNull
     V get(K key);
 
+    /**
+     * Get the values of all the {@code keys} by one call of helper.
+     *
+     * @param keys must not be {@literal null}.
+     * @return the values in the order of {@code keys} , {@literal null} for an absent key
+     */
+    List<V> multiGet(Collection<K> keys);
+
     /**
      * Get Similar keys of {@code key}.
      *
@@ -82,6 +112,117 @@ public interface ValueOperations<K, V> {
     @CanNull
     V getAndSet(K key, V newValue);
 
+    /**
+     * Increment the counter of {@code key} by {@code delta} atomically , an absent counter starts from
+     * {@literal 0}. The counter is stored as a {@literal long} in 8 bytes , not by the value serializer ,
+     * read it with {@link #getCounter(Object)}.
+     *
+     * @param key   must not be {@literal null}.
+     * @param delta can be negative.
+     * @return the counter value after incremented , {@literal null} if the counter can not be created
+     */
+    @CanNull
+    Long increment(K key, long delta);
+
+    /**
+     * Increment the counter of {@code key} by {@code delta} atomically , the expiration {@code duration} is used
+     * when the counter is created.
+     *
+     * @param key      must not be {@literal null}.
+     * @param delta    can be negative.
+     * @param duration must not be {@literal null}.
+     * @param unit     must not be {@literal null}.
+     * @return the counter value after incremented , {@literal null} if the counter can not be created
+     */
+    @CanNull
+    Long increment(K key, long delta, Long duration, TimeUnit unit);
+
+    /**
+     * Decrement the counter of {@code key} by {@code delta} atomically , see {@link #increment(Object, long)}.
+     *
+     * @param key   must not be {@literal null}.
+     * @param delta can be negative.
+     * @return the counter value after decremented , {@literal null} if the counter can not be created
+     */
+    @CanNull
+    Long decrement(K key, long delta);
+
+    /**
+     * Decrement the counter of {@code key} by {@code delta} atomically , see
+     * {@link #increment(Object, long, Long, TimeUnit)}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param delta    can be negative.
+     * @param duration must not be {@literal null}.
+     * @param unit     must not be {@literal null}.
+     * @return the counter value after decremented , {@literal null} if the counter can not be created
+     */
+    @CanNull
+    Long decrement(K key, long delta, Long duration, TimeUnit unit);
+
+    /**
+     * Get the counter of {@code key} changed by {@link #increment(Object, long)}.
+     *
+     * @param key must not be {@literal null}.
+     * @return the counter value , {@literal null} if not exist
+     */
+    @CanNull
+    Long getCounter(K key);
+
+    /**
+     * Get the value of {@code key} , or load it by {@code loader} and set it with expiration {@code duration}
+     * if absent. The concurrent misses of the same key wait for one call of {@code loader} , a {@literal null}
+     * loaded value is returned without being set.
+     *
+     * @param key      must not be {@literal null}.
+     * @param loader   must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return the cached or loaded value , {@literal null} if loaded {@literal null}
+     */
+    @CanNull
+    V getOrLoad(K key, Function<? super K, ? extends V> loader, Long duration, TimeUnit unit);
+
+    /**
+     * Get the value of {@code key} , or load it by {@code loader} if absent , the value is refreshed in the
+     * background according to {@code policy} before or after it expires , see {@link RefreshPolicy}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param loader   must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @param policy   must not be {@literal null}.
+     * @return the cached or loaded value , {@literal null} if loaded {@literal null}
+     */
+    @CanNull
+    V getOrLoad(K key, Function<? super K, ? extends V> loader, Long duration, TimeUnit unit, RefreshPolicy policy);
+
+    /**
+     * Get the value of {@code key} , or load it by {@code loader} on {@link java.util.concurrent.ForkJoinPool}
+     * if absent , the concurrent misses of the same key share one load.
+     *
+     * @param key      must not be {@literal null}.
+     * @param loader   must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @return the future of the cached or loaded value
+     */
+    CompletableFuture<V> getOrLoadAsync(K key, Function<? super K, ? extends V> loader, Long duration, TimeUnit unit);
+
+    /**
+     * Get the value of {@code key} , or load it by {@code loader} on the executor of {@code policy} if absent ,
+     * the value is refreshed in the background according to {@code policy} , see {@link RefreshPolicy}.
+     *
+     * @param key      must not be {@literal null}.
+     * @param loader   must not be {@literal null}.
+     * @param duration the key expiration timeout.
+     * @param unit     must not be {@literal null}.
+     * @param policy   must not be {@literal null}.
+     * @return the future of the cached or loaded value
+     */
+    CompletableFuture<V> getOrLoadAsync(K key, Function<? super K, ? extends V> loader, Long duration, TimeUnit unit,
+                                        RefreshPolicy policy);
+
     /**
      * To get the operator {@code ExpireOperations}
      *
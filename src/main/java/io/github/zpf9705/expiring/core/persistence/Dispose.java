@@ -7,7 +7,9 @@ import java.io.Serializable;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * The cache persistence operation interface for {@link PersistenceSolver}
@@ -47,6 +49,31 @@ public interface Dispose {
         dispose(solver, convert(getExecType(), args));
     }
 
+    /**
+     * Rear cache persistence operations with the result of the proxy method , by default the result is not used
+     *
+     * @param solver       must not be {@literal null}
+     * @param args         can be {@literal null}
+     * @param invokeResult can be {@literal null}
+     */
+    default void dispose(@NotNull PersistenceSolver solver, @CanNull Object[] args, @CanNull Object invokeResult) {
+        dispose(solver, args);
+    }
+
+    /**
+     * Rear cache persistence operations with the result of the proxy method and the reader of the current value
+     * of the key in cache , by default the reader is not used
+     *
+     * @param solver       must not be {@literal null}
+     * @param args         can be {@literal null}
+     * @param invokeResult can be {@literal null}
+     * @param currentValue can be {@literal null} if the value can not be read
+     */
+    default void dispose(@NotNull PersistenceSolver solver, @CanNull Object[] args, @CanNull Object invokeResult,
+                         @CanNull Supplier<Object> currentValue) {
+        dispose(solver, args, invokeResult);
+    }
+
     /**
      * Cut parameter conversion method by default
      *
@@ -58,8 +85,14 @@ public interface Dispose {
         DisposeVariable variable;
         switch (execTypeEnum) {
             case SET:
+            case SET_BUFFER:
+            case INCREMENT:
+            case HASH:
                 variable = DisposeVariable.analysisSet(args);
                 break;
+            case SET_ALL:
+                variable = DisposeVariable.analysisSetAll(args);
+                break;
             case REPLACE_VALUE:
                 variable = DisposeVariable.analysisReplaceValue(args);
                 break;
@@ -94,6 +127,7 @@ public interface Dispose {
         private Long duration;
         private TimeUnit unit;
         private List<Object> anyKeys;
+        private Map<Object, Object> anyKeyValues;
 
         public DisposeVariable() {
         }
@@ -130,12 +164,16 @@ public interface Dispose {
             this.anyKeys = anyKeys;
         }
 
+        private void setAnyKeyValues(Map<Object, Object> anyKeyValues) {
+            this.anyKeyValues = anyKeyValues;
+        }
+
         private void setDuration(Object duration) {
-            this.duration = Long.parseLong(duration.toString());
+            this.duration = duration instanceof Long ? (Long) duration : Long.parseLong(duration.toString());
         }
 
         private void setUnit(Object unit) {
-            this.unit = TimeUnit.valueOf(unit.toString());
+            this.unit = unit instanceof TimeUnit ? (TimeUnit) unit : TimeUnit.valueOf(unit.toString());
         }
 
         public Long getDuration() {
@@ -146,6 +184,10 @@ public interface Dispose {
             return anyKeys;
         }
 
+        public Map<Object, Object> getAnyKeyValues() {
+            return anyKeyValues;
+        }
+
         public Object getKey() {
             return key;
         }
@@ -184,6 +226,23 @@ public interface Dispose {
             return variable;
         }
 
+        /*
+         * @see io.github.zpf9705.expiring.core.ValueOperations#multiSet(Map) or
+         * @see io.github.zpf9705.expiring.core.ValueOperations#multiSet(Map, Long, TimeUnit)
+         */
+        @SuppressWarnings("unchecked")
+        private static DisposeVariable analysisSetAll(@NotNull Object[] args) {
+            DisposeVariable variable = init();
+            if (args.length == lengthSi) {
+                variable.setAnyKeyValues((Map<Object, Object>) args[indexOne]);
+            } else if (args.length == lengthGan) {
+                variable.setAnyKeyValues((Map<Object, Object>) args[indexOne]);
+                variable.setDuration(args[indexTwo]);
+                variable.setUnit(args[indexThree]);
+            }
+            return variable;
+        }
+
         /*
          * @see io.github.zpf9705.expiring.core.ValueOperations#getAndSet(Object, Object)
          */
@@ -6,7 +6,9 @@ import io.github.zpf9705.expiring.util.AssertUtils;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Bytes Cache persistence for {@link PersistenceSolver}
@@ -30,6 +32,14 @@ public class ExpireBytesPersistenceSolver implements PersistenceSolver<byte[], b
         }, "ExpireBytesPersistenceSolver::putPersistence");
     }
 
+    @Override
+    public void putAllPersistence(@NotNull Map<byte[], byte[]> tuple, @CanNull Long duration,
+                                  @CanNull TimeUnit timeUnit) {
+        run(() -> PersistenceSolver.putAll(tuple, (key, value) -> ExpireByteGlobePersistence
+                .ofSetBytes(Entry.of(key, value, duration, timeUnit))
+                .serial()), "ExpireBytesPersistenceSolver::putAllPersistence");
+    }
+
     @Override
     public void replaceValuePersistence(@NotNull byte[] key, @NotNull byte[] newValue) {
         run(() -> {
@@ -39,6 +49,22 @@ public class ExpireBytesPersistenceSolver implements PersistenceSolver<byte[], b
         }, "ExpireBytesPersistenceSolver::replacePersistence");
     }
 
+    @Override
+    public void updateValuePersistence(@NotNull byte[] key, @NotNull byte[] newValue, @CanNull Long duration,
+                                       @CanNull TimeUnit timeUnit) {
+        run(() -> ExpireSimpleGlobePersistence.ofUpdate(ExpireByteGlobePersistence.class,
+                ExpireByteGlobePersistence.BytePersistence.class,
+                Entry.of(key, newValue, duration, timeUnit)), "ExpireBytesPersistenceSolver::updatePersistence");
+    }
+
+    @Override
+    public void updateValuePersistence(@NotNull byte[] key, @NotNull Supplier<byte[]> currentValue,
+                                       @CanNull Long duration, @CanNull TimeUnit timeUnit) {
+        run(() -> ExpireSimpleGlobePersistence.ofUpdate(ExpireByteGlobePersistence.class,
+                ExpireByteGlobePersistence.BytePersistence.class, key, currentValue, duration, timeUnit),
+                "ExpireBytesPersistenceSolver::updatePersistence");
+    }
+
     @Override
     public void replaceDurationPersistence(@NotNull byte[] key, @NotNull Long duration,
                                            @NotNull TimeUnit timeUnit) {
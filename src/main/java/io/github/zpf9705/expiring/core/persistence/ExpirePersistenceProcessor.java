@@ -2,9 +2,14 @@ package io.github.zpf9705.expiring.core.persistence;
 
 import io.github.zpf9705.expiring.logger.Console;
 import io.github.zpf9705.expiring.core.ExpiryInvocationTrace;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.core.annotation.NotNull;
 import io.github.zpf9705.expiring.util.ServiceLoadUtils;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
 /**
  * Proxy object operation side method execution for persistent cache files.
  *
@@ -16,6 +21,11 @@ public class ExpirePersistenceProcessor<H> extends ExpiryInvocationTrace<H, Pers
 
     private static final long serialVersionUID = -2346911415600201852L;
 
+    /**
+     * The loaded solvers by {@link PersistenceExec#shouldSolver()} , the service loader is not iterated per call
+     */
+    private static final Map<Class<? extends PersistenceSolver>, PersistenceSolver> SOLVERS = new ConcurrentHashMap<>();
+
     public ExpirePersistenceProcessor(H target) {
         super(target, PersistenceExec.class);
     }
@@ -28,18 +38,68 @@ public class ExpirePersistenceProcessor<H> extends ExpiryInvocationTrace<H, Pers
 
     @Override
     public void invokeSubsequent(Object invokeResult, PersistenceExec proxyExec, Object[] args) {
+        this.invokeSubsequent(invokeResult, proxyExec, args, this.currentValue(args));
+    }
+
+    /**
+     * Dispose the persistence of {@code args} with the reader of the current value of its key in cache
+     *
+     * @param invokeResult can be {@literal null}
+     * @param proxyExec    must not be {@literal null}
+     * @param args         the args to persist
+     * @param currentValue can be {@literal null} if the value can not be read
+     */
+    protected void invokeSubsequent(Object invokeResult, PersistenceExec proxyExec, Object[] args,
+                                    @CanNull Supplier<Object> currentValue) {
         super.invokeSubsequent(invokeResult, proxyExec, args);
         //Did the test execution results in line with expectations
         if (!proxyExec.expectValue().test(invokeResult)) {
             return;
         }
         //dispose proxyExec
-        PersistenceSolver solver = ServiceLoadUtils.load(PersistenceSolver.class)
-                .getSpecifiedServiceBySubClass(proxyExec.shouldSolver());
+        PersistenceSolver solver = loadSolver(proxyExec);
         if (solver == null) {
-            Console.warn("Provider Persistence [{}] shouldSolver load null", proxyExec.shouldSolver().getName());
             return;
         }
-        proxyExec.value().dispose(solver, args);
+        proxyExec.value().dispose(solver, args, invokeResult, currentValue);
+    }
+
+    /**
+     * Get the reader of the current value in cache of the key of {@code args} , by default not readable
+     *
+     * @param args proxy method args
+     * @return the reader , {@literal null} if the value can not be read
+     */
+    @CanNull
+    protected Supplier<Object> currentValue(Object[] args) {
+        return null;
+    }
+
+    /**
+     * Load the solver of {@link PersistenceExec#shouldSolver()} , which is kept after the first load
+     *
+     * @param proxyExec must not be {@literal null}
+     * @return {@link PersistenceSolver} , {@literal null} if not provided
+     */
+    @CanNull
+    protected static PersistenceSolver loadSolver(@NotNull PersistenceExec proxyExec) {
+        PersistenceSolver solver = SOLVERS.get(proxyExec.shouldSolver());
+        if (solver == null) {
+            synchronized (SOLVERS) {
+                //The service loader is not safe for concurrent iteration
+                solver = SOLVERS.get(proxyExec.shouldSolver());
+                if (solver == null) {
+                    solver = ServiceLoadUtils.load(PersistenceSolver.class)
+                            .getSpecifiedServiceBySubClass(proxyExec.shouldSolver());
+                    if (solver == null) {
+                        Console.warn("Provider Persistence [{}] shouldSolver load null",
+                                proxyExec.shouldSolver().getName());
+                        return null;
+                    }
+                    SOLVERS.put(proxyExec.shouldSolver(), solver);
+                }
+            }
+        }
+        return solver;
     }
 }
@@ -5,7 +5,9 @@ import io.github.zpf9705.expiring.core.annotation.NotNull;
 import io.github.zpf9705.expiring.util.AssertUtils;
 
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * Simple Cache persistence for {@link PersistenceSolver}
@@ -30,6 +32,15 @@ public class ExpirePersistenceSolver<K, V> implements PersistenceSolver<K, V> {
         }, "putPersistence");
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public void putAllPersistence(@NotNull Map<K, V> tuple, @CanNull Long duration, @CanNull TimeUnit timeUnit) {
+        run(() -> PersistenceSolver.putAll(tuple, (key, value) -> ExpireSimpleGlobePersistence.ofSet(
+                ExpireSimpleGlobePersistence.class,
+                ExpireSimpleGlobePersistence.Persistence.class,
+                Entry.of(key, value, duration, timeUnit)).serial()), "putAllPersistence");
+    }
+
     @Override
     public void replaceValuePersistence(@NotNull K key, @NotNull V newValue) {
         run(() -> {
@@ -39,6 +50,22 @@ public class ExpirePersistenceSolver<K, V> implements PersistenceSolver<K, V> {
         }, "replacePersistence");
     }
 
+    @Override
+    public void updateValuePersistence(@NotNull K key, @NotNull V newValue, @CanNull Long duration,
+                                       @CanNull TimeUnit timeUnit) {
+        run(() -> ExpireSimpleGlobePersistence.ofUpdate(ExpireSimpleGlobePersistence.class,
+                ExpireSimpleGlobePersistence.Persistence.class,
+                Entry.of(key, newValue, duration, timeUnit)), "updatePersistence");
+    }
+
+    @Override
+    public void updateValuePersistence(@NotNull K key, @NotNull Supplier<V> currentValue, @CanNull Long duration,
+                                       @CanNull TimeUnit timeUnit) {
+        run(() -> ExpireSimpleGlobePersistence.ofUpdate(ExpireSimpleGlobePersistence.class,
+                ExpireSimpleGlobePersistence.Persistence.class, key, currentValue, duration, timeUnit),
+                "updatePersistence");
+    }
+
     @Override
     public void replaceDurationPersistence(@NotNull K key, @NotNull Long duration, @NotNull TimeUnit timeUnit) {
         run(() -> {
@@ -5,8 +5,15 @@ import com.alibaba.fastjson.JSON;
 import io.github.zpf9705.expiring.core.PersistenceException;
 import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.core.serializer.ExpiringSerializer;
+import io.github.zpf9705.expiring.core.serializer.GenericStringExpiringSerializer;
+import io.github.zpf9705.expiring.core.serializer.Utf8StringExpiringSerializer;
 import io.github.zpf9705.expiring.help.Center;
 import io.github.zpf9705.expiring.help.RecordActivationCenter;
+import io.github.zpf9705.expiring.help.SimilarKeyIndex;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapCenter;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapNamespaceKey;
+import io.github.zpf9705.expiring.listener.Message;
 import io.github.zpf9705.expiring.logger.Console;
 import io.github.zpf9705.expiring.util.*;
 
@@ -20,6 +27,7 @@ import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 
@@ -139,6 +147,12 @@ public class ExpireSimpleGlobePersistence<K, V> extends AbstractPersistenceFileM
     //The key  toSting cache object
     public static final Map<String, Object> TO_STRING = new ConcurrentHashMap<>();
 
+    //The similar key index of key toSting
+    static final SimilarKeyIndex<String> TO_STRING_INDEX = new SimilarKeyIndex<>();
+
+    //The serializer of the restored string keys
+    private static final ExpiringSerializer<String> UTF8_STRING_SERIALIZER = new Utf8StringExpiringSerializer();
+
     //Read-write lock
     private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
 
@@ -349,6 +363,93 @@ public class ExpireSimpleGlobePersistence<K, V> extends AbstractPersistenceFileM
         return ofGet(key, null, null);
     }
 
+    /**
+     * Update the value of the persistence of the key of {@code entry} and keep its expiration time , or set
+     * the {@code entry} if not exist or already expired , the updates are serial so that the persistence of
+     * a key is not got while it is replaced
+     *
+     * @param globePersistenceClass must not be {@literal null}
+     * @param persistenceClass      must not be {@literal null}
+     * @param entry                 must not be {@literal null}
+     * @param <G>                   Inherit generic
+     * @param <P>                   Inherit son generic
+     * @param <K>                   key generic
+     * @param <V>                   value generic
+     */
+    public static <G extends ExpireSimpleGlobePersistence, P extends Persistence, K, V> void ofUpdate
+    (@NotNull Class<G> globePersistenceClass,
+     @NotNull Class<P> persistenceClass,
+     @NotNull Entry<K, V> entry) {
+        checkOpenPersistence();
+        checkEntry(entry);
+        synchronized (ExpireSimpleGlobePersistence.class) {
+            update(globePersistenceClass, persistenceClass, entry);
+        }
+    }
+
+    /**
+     * Update the value of the persistence of {@code key} as {@link #ofUpdate(Class, Class, Entry)} , with the
+     * value got from {@code currentValue} in the serial updates , so that the concurrent updates of a key
+     * persist its values in the order they are got , a later value is never overwritten by an earlier one
+     *
+     * @param globePersistenceClass must not be {@literal null}
+     * @param persistenceClass      must not be {@literal null}
+     * @param key                   must not be {@literal null}
+     * @param currentValue          must not be {@literal null} , supplies {@literal null} to skip if the key
+     *                              is absent
+     * @param duration              can be {@literal null}
+     * @param unit                  can be {@literal null}
+     * @param <G>                   Inherit generic
+     * @param <P>                   Inherit son generic
+     * @param <K>                   key generic
+     * @param <V>                   value generic
+     */
+    public static <G extends ExpireSimpleGlobePersistence, P extends Persistence, K, V> void ofUpdate
+    (@NotNull Class<G> globePersistenceClass,
+     @NotNull Class<P> persistenceClass,
+     @NotNull K key,
+     @NotNull Supplier<V> currentValue,
+     @CanNull Long duration,
+     @CanNull TimeUnit unit) {
+        checkOpenPersistence();
+        AssertUtils.Persistence.notNull(key, "Key no be null");
+        synchronized (ExpireSimpleGlobePersistence.class) {
+            V value = currentValue.get();
+            if (value == null) {
+                //Removed meanwhile , the removal persists itself
+                return;
+            }
+            update(globePersistenceClass, persistenceClass, Entry.of(key, value, duration, unit));
+        }
+    }
+
+    /**
+     * Update or set the persistence of {@code entry} , in the hold of the class lock
+     *
+     * @param globePersistenceClass must not be {@literal null}
+     * @param persistenceClass      must not be {@literal null}
+     * @param entry                 must not be {@literal null}
+     * @param <G>                   Inherit generic
+     * @param <P>                   Inherit son generic
+     * @param <K>                   key generic
+     * @param <V>                   value generic
+     */
+    private static <G extends ExpireSimpleGlobePersistence, P extends Persistence, K, V> void update
+    (@NotNull Class<G> globePersistenceClass,
+     @NotNull Class<P> persistenceClass,
+     @NotNull Entry<K, V> entry) {
+        ExpireSimpleGlobePersistence<K, V> update = null;
+        if (KEY_VALUE_HASH.containsKey(CodecUtils.rawHashWithType(entry.getKey()))) {
+            update = ofGet(entry.getKey(), null, globePersistenceClass);
+        }
+        if (update != null && update.persistenceExist() && update.expireOfCache()) {
+            update.updatePersistence(entry.getValue());
+        } else {
+            //The duration of a new persistence is checked by set
+            ofSet(globePersistenceClass, persistenceClass, entry).serial();
+        }
+    }
+
     /**
      * Get any {@code ExpireSimpleGlobePersistence<K,V>} in cache map with similar {@code key}
      *
@@ -360,7 +461,7 @@ public class ExpireSimpleGlobePersistence<K, V> extends AbstractPersistenceFileM
     public static <G extends ExpireSimpleGlobePersistence, K> List<G> ofGetSimilar(@NotNull K key) {
         checkOpenPersistence();
         String realKey = CodecUtils.toStingBeReal(key);
-        List<String> similarElement = CodecUtils.findSimilarElement(TO_STRING.keySet(), realKey);
+        List<String> similarElement = TO_STRING_INDEX.find(realKey);
         if (CollectionUtils.simpleIsEmpty(similarElement)) {
             return Collections.emptyList();
         }
@@ -522,7 +623,10 @@ public class ExpireSimpleGlobePersistence<K, V> extends AbstractPersistenceFileM
      * @param <K> key generic
      */
     static <K> void recordContentToKeyString(@NotNull K key) {
-        TO_STRING.putIfAbsent(CodecUtils.toStingBeReal(key), key);
+        String toString = CodecUtils.toStingBeReal(key);
+        if (TO_STRING.putIfAbsent(toString, key) == null) {
+            TO_STRING_INDEX.add(toString, toString);
+        }
     }
 
     /**
@@ -644,6 +748,21 @@ public class ExpireSimpleGlobePersistence<K, V> extends AbstractPersistenceFileM
 
     @Override
     public void replacePersistence(V newValue) {
+        this.replacePersistence(newValue, false);
+    }
+
+    @Override
+    public void updatePersistence(V newValue) {
+        this.replacePersistence(newValue, true);
+    }
+
+    /**
+     * Replace current value within new value
+     *
+     * @param newValue   must not be {@literal null}
+     * @param keepExpire if {@literal true} keep the expiration time , otherwise restart it
+     */
+    private void replacePersistence(V newValue, boolean keepExpire) {
         AssertUtils.Persistence.notNull(newValue, "NewValue no be null");
         Persistence<K, V> per = this.persistence;
         Entry<K, V> entry = per.getEntry();
@@ -657,8 +776,12 @@ public class ExpireSimpleGlobePersistence<K, V> extends AbstractPersistenceFileM
             //Delete the cache because the value changes
             CACHE_MAP.remove(rawHash(entry.getKey(), entry.getValue()));
             //To write a cache file
-            ofSet(getGlobePersistenceClass(), getPersistenceClass(),
-                    Entry.of(entry.getKey(), newValue, entry.getDuration(), entry.getTimeUnit())).serial();
+            ExpireSimpleGlobePersistence<K, V> replace = ofSet(getGlobePersistenceClass(), getPersistenceClass(),
+                    Entry.of(entry.getKey(), newValue, entry.getDuration(), entry.getTimeUnit()));
+            if (keepExpire) {
+                replace.getPersistence().setExpire(per.getExpire());
+            }
+            replace.serial();
         } finally {
             writeLock.unlock();
         }
@@ -804,28 +927,35 @@ public class ExpireSimpleGlobePersistence<K, V> extends AbstractPersistenceFileM
             throw new PersistenceException("File [" + t.getWritePath() + "] record time [" + persistence.getExpire() +
                     "] before or equals now");
         }
-        //save key/value with byte[]
-        Entry<K, V> entry = persistence.getEntry();
         //check entry
-        checkEntry(entry);
+        checkEntry(persistence.getEntry());
         //Calculate remaining time units
-        Long condition = condition(currentTimeMillis, persistence.getExpire(), entry.getTimeUnit());
-        //reload
-        RecordActivationCenter.getSingletonCenter().reload(entry.getKey(),
-                entry.getValue(),
-                condition,
-                entry.getTimeUnit());
+        Long condition = condition(currentTimeMillis, persistence.getExpire(), persistence.getEntry().getTimeUnit());
+        //save key/value with byte[] , the string key of the java serialization is encoded again by the key
+        //serializer in use
+        Entry<K, V> entry = reEncodeLegacyKey(t, persistence.getEntry());
+        //reload , the entry of a namespace is returned to the center of its namespace
+        ExpireMapNamespaceKey namespaceKey = ExpireMapNamespaceKey.deserialize(entry.getKey());
+        Object key = namespaceKey != null ? namespaceKey.getKey() : entry.getKey();
+        if (namespaceKey != null) {
+            ExpireMapCenter.reloadNamespace(namespaceKey, (byte[]) entry.getValue(), condition, entry.getTimeUnit());
+        } else {
+            RecordActivationCenter.getSingletonCenter().reload(entry.getKey(),
+                    entry.getValue(),
+                    condition,
+                    entry.getTimeUnit());
+        }
         //Callback for restoring cached keys and values
         Set<Class<ListeningRecovery>> subTypesOf =
                 ScannerUtils.getSubTypesOf(ListeningRecovery.class, configuration.getListeningRecoverySubPath());
         if (CollectionUtils.simpleNotEmpty(subTypesOf)) {
+            //Decoded as the expired messages by the serializers of the primary template
+            Message message = Message.serial((byte[]) key, (byte[]) entry.getValue());
             subTypesOf.forEach(clazz -> {
                 ListeningRecovery recovery;
                 try {
                     recovery = ReflectUtil.newInstance(clazz);
-                    recovery.recovery(
-                            SerialUtils.deserialize((byte[]) entry.getKey()),
-                            SerialUtils.deserialize((byte[]) entry.getValue()));
+                    recovery.recovery(message.getKey(), message.getValue());
                     recovery.expired(condition, entry.getTimeUnit());
                 } catch (Exception e) {
                     Console.info("Cache recovery callback exception , throw an error : {}", e.getMessage());
@@ -834,6 +964,71 @@ public class ExpireSimpleGlobePersistence<K, V> extends AbstractPersistenceFileM
         }
     }
 
+    /**
+     * Encode a {@link String} key persisted in the java serialization by {@link GenericStringExpiringSerializer}
+     * again by the key serializer in use , the key of a namespace is wrapped again with its namespace , and
+     * move the persistence of {@code t} to the new key with the same expiration , so that the entries persisted
+     * before the UTF-8 default are still found by the templates after the restart
+     *
+     * @param t     must not be {@literal null}
+     * @param entry must not be {@literal null}
+     * @param <T>   extends for {@link ExpireSimpleGlobePersistence}
+     * @return the entry of the new key , or {@code entry} if its key is kept
+     */
+    private <T extends ExpireSimpleGlobePersistence<K, V>> Entry<K, V> reEncodeLegacyKey(@NotNull T t,
+                                                                                         @NotNull Entry<K, V> entry) {
+        if (!(entry.getKey() instanceof byte[])) {
+            return entry;
+        }
+        byte[] key = (byte[]) entry.getKey();
+        ExpireMapNamespaceKey namespaceKey = ExpireMapNamespaceKey.deserialize(key);
+        byte[] rawKey = namespaceKey != null ? namespaceKey.getKey() : key;
+        if (!SerialUtils.isSerialized(rawKey)) {
+            return entry;
+        }
+        Object legacy;
+        try {
+            legacy = SerialUtils.deserializeCompatible(rawKey);
+        } catch (Throwable e) {
+            return entry;
+        }
+        if (!(legacy instanceof String)) {
+            return entry;
+        }
+        byte[] newKey;
+        if (namespaceKey != null) {
+            //The namespace templates always encode the keys as UTF-8
+            newKey = ExpireMapNamespaceKey.serialize(namespaceKey.getNamespace(),
+                    UTF8_STRING_SERIALIZER.serialize((String) legacy));
+        } else {
+            newKey = stringKeySerializer().serialize((String) legacy);
+        }
+        if (newKey == null || Arrays.equals(newKey, key)) {
+            return entry;
+        }
+        Entry<K, V> newEntry = Entry.of((K) newKey, entry.getValue(), entry.getDuration(), entry.getTimeUnit());
+        ExpireSimpleGlobePersistence<K, V> moved = reflectForInstance(t.getGlobePersistenceClass(),
+                t.getPersistenceClass(), newEntry, t.getPersistence().getExpire(), rawWritePath(newKey));
+        t.removePersistence();
+        TO_STRING.remove(CodecUtils.toStingBeReal(key), key);
+        CACHE_MAP.putIfAbsent(rawHash(newEntry.getKey(), newEntry.getValue()), moved);
+        moved.serial();
+        return newEntry;
+    }
+
+    /**
+     * Get the serializer of the {@link String} keys of the default center , that of the primary template
+     *
+     * @return the key serializer of {@link Message} if of {@link String} , or else {@link #UTF8_STRING_SERIALIZER}
+     */
+    private static ExpiringSerializer<String> stringKeySerializer() {
+        ExpiringSerializer<?> serializer = Message.getDefaultKeySerializer();
+        if (serializer != null && serializer.serializerType() == String.class) {
+            return (ExpiringSerializer<String>) serializer;
+        }
+        return UTF8_STRING_SERIALIZER;
+    }
+
     /**
      * Calculating the cache recovery time remaining with {@code TimeUnit}
      *
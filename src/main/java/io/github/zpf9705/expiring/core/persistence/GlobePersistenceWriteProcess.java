@@ -43,6 +43,13 @@ public interface GlobePersistenceWriteProcess<K, V> {
      */
     void replacePersistence(V newValue);
 
+    /**
+     * replace current value within new value , keep the expiration time
+     *
+     * @param newValue new value
+     */
+    void updatePersistence(V newValue);
+
     /**
      * del current Persistence
      */
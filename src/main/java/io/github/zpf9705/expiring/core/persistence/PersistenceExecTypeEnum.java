@@ -1,6 +1,12 @@
 package io.github.zpf9705.expiring.core.persistence;
 
+import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.util.BufferUtils;
+import io.github.zpf9705.expiring.util.CounterUtils;
+
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
 
 /**
  * The cache persistence operation type
@@ -19,6 +25,73 @@ public enum PersistenceExecTypeEnum implements Dispose {
                     variable.getDuration(),
                     variable.getUnit());
         }
+    }, SET_BUFFER {
+        @Override
+        public void dispose(@NotNull PersistenceSolver solver, @NotNull DisposeVariable variable) {
+            SET.dispose(solver, variable);
+        }
+
+        @Override
+        public void dispose(@NotNull PersistenceSolver solver, @CanNull Object[] args, @CanNull Object invokeResult) {
+            //Copy the buffer before returned to the caller , which may reuse it after the call
+            Object[] setArgs = args.clone();
+            setArgs[1] = BufferUtils.toBytes((ByteBuffer) args[1]);
+            dispose(solver, setArgs);
+        }
+    }, SET_ALL {
+        @Override
+        public void dispose(@NotNull PersistenceSolver solver, @NotNull DisposeVariable variable) {
+            solver.putAllPersistence(variable.getAnyKeyValues(),
+                    variable.getDuration(),
+                    variable.getUnit());
+        }
+    }, INCREMENT {
+        @Override
+        public void dispose(@NotNull PersistenceSolver solver, @NotNull DisposeVariable variable) {
+            //The counter keeps the deadline of its creation , the duration is only used to create it
+            solver.updateValuePersistence(variable.getKey(),
+                    variable.getValue(),
+                    variable.getDuration(),
+                    variable.getUnit());
+        }
+
+        @Override
+        public void dispose(@NotNull PersistenceSolver solver, @CanNull Object[] args, @CanNull Object invokeResult) {
+            //Persist the counter value after changed in place of the delta
+            Object[] setArgs = args.clone();
+            setArgs[1] = CounterUtils.toBytes((Long) invokeResult);
+            dispose(solver, setArgs);
+        }
+
+        @Override
+        public void dispose(@NotNull PersistenceSolver solver, @CanNull Object[] args, @CanNull Object invokeResult,
+                            @CanNull Supplier<Object> currentValue) {
+            if (currentValue == null) {
+                dispose(solver, args, invokeResult);
+                return;
+            }
+            //Persist the counter value in cache when the update is serialized , the results of concurrent
+            //increments may arrive out of order and a smaller one would go back
+            DisposeVariable variable = convert(this, args);
+            solver.updateValuePersistence(variable.getKey(), currentValue, variable.getDuration(),
+                    variable.getUnit());
+        }
+    }, HASH {
+        @Override
+        public void dispose(@NotNull PersistenceSolver solver, @NotNull DisposeVariable variable) {
+            //The hash is removed with its last field
+            if (variable.getValue() instanceof byte[] && ((byte[]) variable.getValue()).length == 0) {
+                solver.removePersistenceWithKey(variable.getKey());
+                return;
+            }
+            SET.dispose(solver, variable);
+        }
+
+        @Override
+        public void dispose(@NotNull PersistenceSolver solver, @CanNull Object[] args, @CanNull Object invokeResult) {
+            //Persist the whole hash after changed as the value of its key
+            dispose(solver, new Object[]{args[0], invokeResult});
+        }
     }, REPLACE_VALUE {
         @Override
         public void dispose(@NotNull PersistenceSolver solver, @NotNull DisposeVariable variable) {
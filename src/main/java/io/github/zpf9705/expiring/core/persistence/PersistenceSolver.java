@@ -4,7 +4,10 @@ import io.github.zpf9705.expiring.logger.Console;
 import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.core.annotation.NotNull;
 
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
 
 /**
  * Caching persistent file method operation interface. According to the definition of persistent methods,
@@ -26,6 +29,16 @@ public interface PersistenceSolver<K, V> {
      */
     void putPersistence(@NotNull K key, @NotNull V value, @CanNull Long duration, @CanNull TimeUnit timeUnit);
 
+    /**
+     * Put all the {@code tuple} with the same {@code duration} and {@code timeUnit} in to persistence
+     * as one grouped write
+     *
+     * @param tuple    must not be {@literal null}.
+     * @param duration can be {@literal null}.
+     * @param timeUnit can be  {@literal null}.
+     */
+    void putAllPersistence(@NotNull Map<K, V> tuple, @CanNull Long duration, @CanNull TimeUnit timeUnit);
+
     /**
      * Replace the corresponding {@code  key} {@code value} the value of a {@code newValue}
      *
@@ -34,6 +47,37 @@ public interface PersistenceSolver<K, V> {
      */
     void replaceValuePersistence(@NotNull K key, @NotNull V newValue);
 
+    /**
+     * Update the value of the persistence of {@code key} and keep its expiration time , put it with
+     * {@code duration} if not exist or already expired
+     *
+     * @param key      must not be {@literal null}
+     * @param newValue must not be {@literal null}
+     * @param duration can be {@literal null}
+     * @param timeUnit can be {@literal null}
+     */
+    void updateValuePersistence(@NotNull K key, @NotNull V newValue, @CanNull Long duration,
+                                @CanNull TimeUnit timeUnit);
+
+    /**
+     * Update the value of the persistence of {@code key} as
+     * {@link #updateValuePersistence(Object, Object, Long, TimeUnit)} with the value supplied by
+     * {@code currentValue} , the implementations get it in the serial updates so that a later value of the key
+     * is never overwritten by an earlier one
+     *
+     * @param key          must not be {@literal null}
+     * @param currentValue must not be {@literal null} , supplies {@literal null} to skip if the key is absent
+     * @param duration     can be {@literal null}
+     * @param timeUnit     can be {@literal null}
+     */
+    default void updateValuePersistence(@NotNull K key, @NotNull Supplier<V> currentValue, @CanNull Long duration,
+                                        @CanNull TimeUnit timeUnit) {
+        V value = currentValue.get();
+        if (value != null) {
+            this.updateValuePersistence(key, value, duration, timeUnit);
+        }
+    }
+
     /**
      * Set a {@code key} and {@code value} with new duration , but if {@code key} exist
      *
@@ -85,6 +129,31 @@ public interface PersistenceSolver<K, V> {
      * @param runnable method runnable
      * @param method   method name
      */
+    /**
+     * Write each entry of {@code tuple} , a failed entry does not stop the others , the first failure is
+     * thrown after all entries are written
+     *
+     * @param tuple  must not be {@literal null}.
+     * @param writer must not be {@literal null}.
+     * @param <K>    key generic
+     * @param <V>    value generic
+     */
+    static <K, V> void putAll(@NotNull Map<K, V> tuple, @NotNull BiConsumer<K, V> writer) {
+        RuntimeException failure = null;
+        for (Map.Entry<K, V> entry : tuple.entrySet()) {
+            try {
+                writer.accept(entry.getKey(), entry.getValue());
+            } catch (RuntimeException e) {
+                if (failure == null) {
+                    failure = e;
+                }
+            }
+        }
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
     default void run(@NotNull Runnable runnable, @NotNull String method) {
         MethodRunnableCapable capable = PersistenceRunner.getCapable();
         capable.run(runnable,
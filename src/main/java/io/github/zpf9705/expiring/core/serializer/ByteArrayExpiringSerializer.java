@@ -0,0 +1,26 @@
+package io.github.zpf9705.expiring.core.serializer;
+
+/**
+ * Type byte array serialization class implementation of {@link ExpiringSerializer} , the bytes are stored as
+ * they are.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class ByteArrayExpiringSerializer implements ExpiringSerializer<byte[]> {
+
+    @Override
+    public byte[] serialize(byte[] bytes) {
+        return bytes;
+    }
+
+    @Override
+    public byte[] deserialize(byte[] bytes) {
+        return bytes;
+    }
+
+    @Override
+    public Class<byte[]> serializerType() {
+        return byte[].class;
+    }
+}
@@ -0,0 +1,205 @@
+package io.github.zpf9705.expiring.core.serializer;
+
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.util.AssertUtils;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * A decorator of {@link ExpiringSerializer} which deflates the serialized bytes not less than {@code threshold} ,
+ * so that a large value takes less memory and less persistence I/O.
+ * <p>
+ * A compressed value starts with a header of {@link #MAGIC} , the method and the length of the original bytes ,
+ * a value below the {@code threshold} or not getting smaller by compression is kept as it is , unless it starts
+ * with {@link #MAGIC} by chance , in which case it is stored with the header to stay unambiguous. So the values
+ * written before the decorator is used are still read as they are.
+ * <p>
+ * Use it for a template as
+ * <pre>
+ *     {@code template.setValueSerializer(new CompressingExpiringSerializer<>(
+ *     new ExpiringSerializerAdapter<>(Object.class), 4096))}
+ * </pre>
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class CompressingExpiringSerializer<T> implements ExpiringSerializer<T> {
+
+    /**
+     * The first bytes of a value written with a header , never the start of a UTF-8 string nor a java
+     * serialized object
+     */
+    static final byte[] MAGIC = {(byte) 0xEC, (byte) 0x5A};
+
+    static final byte STORED = 0;
+
+    static final byte DEFLATED = 1;
+
+    static final int HEADER_SIZE = MAGIC.length + 1 + Integer.BYTES;
+
+    private final ExpiringSerializer<T> delegate;
+
+    private final int threshold;
+
+    private final int level;
+
+    /**
+     * Constructs with the fastest compression level
+     *
+     * @param delegate  must not be {@literal null}
+     * @param threshold the min bytes to compress , not greater than {@literal 0} means never compress
+     */
+    public CompressingExpiringSerializer(@NotNull ExpiringSerializer<T> delegate, int threshold) {
+        this(delegate, threshold, Deflater.BEST_SPEED);
+    }
+
+    /**
+     * Constructs with given compression level
+     *
+     * @param delegate  must not be {@literal null}
+     * @param threshold the min bytes to compress , not greater than {@literal 0} means never compress
+     * @param level     the compression level of {@link Deflater}
+     */
+    public CompressingExpiringSerializer(@NotNull ExpiringSerializer<T> delegate, int threshold, int level) {
+        AssertUtils.Operation.notNull(delegate, "Delegate serializer no be null");
+        AssertUtils.Operation.isTrue(level == Deflater.DEFAULT_COMPRESSION
+                        || (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION),
+                "Invalid compression level [" + level + "]");
+        this.delegate = delegate;
+        this.threshold = threshold;
+        this.level = level;
+    }
+
+    /**
+     * Decorate the {@code delegate} only if {@code threshold} is set
+     *
+     * @param delegate  must not be {@literal null}
+     * @param threshold the min bytes to compress , can be {@literal null}
+     * @param <T>       serialize generic
+     * @return {@code delegate} itself if {@code threshold} is {@literal null} or not greater than {@literal 0}
+     */
+    public static <T> ExpiringSerializer<T> wrapIfNecessary(@NotNull ExpiringSerializer<T> delegate,
+                                                            @CanNull Integer threshold) {
+        if (threshold == null || threshold <= 0) {
+            return delegate;
+        }
+        return new CompressingExpiringSerializer<>(delegate, threshold);
+    }
+
+    @Override
+    public byte[] serialize(T t) {
+        byte[] bytes = this.delegate.serialize(t);
+        if (bytes == null) {
+            return null;
+        }
+        if (this.threshold > 0 && bytes.length >= this.threshold) {
+            byte[] compressed = this.deflate(bytes);
+            if (compressed != null) {
+                return compressed;
+            }
+        }
+        if (hasHeader(bytes)) {
+            ByteBuffer buffer = ByteBuffer.allocate(HEADER_SIZE + bytes.length);
+            buffer.put(MAGIC).put(STORED).putInt(bytes.length).put(bytes);
+            return buffer.array();
+        }
+        return bytes;
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        if (!hasHeader(bytes)) {
+            return this.delegate.deserialize(bytes);
+        }
+        int length = ByteBuffer.wrap(bytes, MAGIC.length + 1, Integer.BYTES).getInt();
+        switch (bytes[MAGIC.length]) {
+            case STORED:
+                return this.delegate.deserialize(Arrays.copyOfRange(bytes, HEADER_SIZE, bytes.length));
+            case DEFLATED:
+                return this.delegate.deserialize(inflate(bytes, length));
+            default:
+                throw new OperationsException("Unknown compression method [" + bytes[MAGIC.length] + "]");
+        }
+    }
+
+    @Override
+    public Class<T> serializerType() {
+        return this.delegate.serializerType();
+    }
+
+    public ExpiringSerializer<T> getDelegate() {
+        return this.delegate;
+    }
+
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    /**
+     * Deflate the bytes with header
+     *
+     * @param bytes must not be {@literal null}
+     * @return compressed bytes , {@literal null} if not getting smaller
+     */
+    @CanNull
+    private byte[] deflate(byte[] bytes) {
+        byte[] out = new byte[bytes.length - 1];
+        if (out.length <= HEADER_SIZE) {
+            return null;
+        }
+        ByteBuffer.wrap(out).put(MAGIC).put(DEFLATED).putInt(bytes.length);
+        Deflater deflater = new Deflater(this.level);
+        try {
+            deflater.setInput(bytes);
+            deflater.finish();
+            int position = HEADER_SIZE;
+            while (!deflater.finished() && position < out.length) {
+                position += deflater.deflate(out, position, out.length - position);
+            }
+            return deflater.finished() ? Arrays.copyOf(out, position) : null;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int length) {
+        if (length < 0) {
+            throw corrupted();
+        }
+        byte[] out = new byte[length];
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, HEADER_SIZE, bytes.length - HEADER_SIZE);
+            int position = 0;
+            while (!inflater.finished() && position < length) {
+                int n = inflater.inflate(out, position, length - position);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                position += n;
+            }
+            if (position != length) {
+                throw corrupted();
+            }
+            return out;
+        } catch (DataFormatException e) {
+            throw corrupted();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static boolean hasHeader(@CanNull byte[] bytes) {
+        return bytes != null && bytes.length >= HEADER_SIZE && bytes[0] == MAGIC[0] && bytes[1] == MAGIC[1];
+    }
+
+    private static OperationsException corrupted() {
+        return new OperationsException("The compressed value is corrupted");
+    }
+}
@@ -21,8 +21,7 @@ public class ExpiringSerializerAdapter<T> implements ExpiringSerializer<T> {
     @Override
     public byte[] serialize(T t) {
         byte[] serialize = SerialUtils.serialize(t);
-        AssertUtils.Operation.notNull(serialize,
-                "serialize failed ! t serialize is not null " + t);
+        AssertUtils.Operation.notNull(serialize, "serialize failed ! t serialize is not null");
         return serialize;
     }
 
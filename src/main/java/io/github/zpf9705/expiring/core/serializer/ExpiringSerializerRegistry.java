@@ -0,0 +1,144 @@
+package io.github.zpf9705.expiring.core.serializer;
+
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.util.AssertUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The serializers indexed by the type of keys or values , a template takes the serializers of its types
+ * once it is built , see {@link io.github.zpf9705.expiring.core.ExpireTemplate#builder(Class, Class)} , so
+ * that a read only decodes by the serializer of its type without any conversion.
+ * <p>
+ * The default serializers are
+ * <dl>
+ *     <dt>{@link String}</dt>
+ *     <dd>{@link Utf8StringExpiringSerializer}</dd>
+ *     <dt>{@link Long}</dt>
+ *     <dd>{@link LongExpiringSerializer}</dd>
+ *     <dt>{@code byte[]}</dt>
+ *     <dd>{@link ByteArrayExpiringSerializer}</dd>
+ *     <dt>{@link Object}</dt>
+ *     <dd>{@link RuntimeTypeExpiringSerializer} by the runtime type of a value</dd>
+ *     <dt>any other type</dt>
+ *     <dd>{@link ExpiringSerializerAdapter} of the java serialization</dd>
+ * </dl>
+ * A type is matched exactly , the serializer of a type is never used for its subtypes.
+ * <p>
+ * The string keys persisted by {@link GenericStringExpiringSerializer} before are encoded again by the
+ * serializer of {@link String} when they are restored.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public final class ExpiringSerializerRegistry {
+
+    private final Map<Class<?>, ExpiringSerializer<?>> serializers;
+
+    private final ExpiringSerializer<Object> objectSerializer;
+
+    private ExpiringSerializerRegistry(Map<Class<?>, ExpiringSerializer<?>> serializers) {
+        this.serializers = Collections.unmodifiableMap(serializers);
+        this.objectSerializer = new RuntimeTypeExpiringSerializer(this.serializers);
+    }
+
+    /**
+     * Create a new {@link ExpiringSerializerRegistryBuilder} to build {@link ExpiringSerializerRegistry}
+     *
+     * @return a new {@link ExpiringSerializerRegistryBuilder}
+     */
+    public static ExpiringSerializerRegistryBuilder builder() {
+        return new ExpiringSerializerRegistryBuilder();
+    }
+
+    /**
+     * Create a {@link ExpiringSerializerRegistry} of the default serializers
+     *
+     * @return a {@link ExpiringSerializerRegistry} with defaults
+     */
+    public static ExpiringSerializerRegistry defaultRegistry() {
+        return builder().build();
+    }
+
+    /**
+     * Get the serializer of {@code type}
+     *
+     * @param type must not be {@literal null}
+     * @param <T>  serialize generic
+     * @return the registered serializer , {@link RuntimeTypeExpiringSerializer} of {@link Object} or
+     * {@link ExpiringSerializerAdapter} if not registered
+     */
+    @SuppressWarnings("unchecked")
+    public <T> ExpiringSerializer<T> getSerializer(@NotNull Class<T> type) {
+        AssertUtils.Operation.notNull(type, "Type no be null");
+        ExpiringSerializer<T> serializer = (ExpiringSerializer<T>) this.serializers.get(type);
+        if (serializer == null && type == Object.class) {
+            return (ExpiringSerializer<T>) this.objectSerializer;
+        }
+        return serializer != null ? serializer : new ExpiringSerializerAdapter<>(type);
+    }
+
+    /**
+     * Get the registered serializers
+     *
+     * @return unmodifiable serializers
+     */
+    public Map<Class<?>, ExpiringSerializer<?>> getSerializers() {
+        return this.serializers;
+    }
+
+    /**
+     * Simple Construction Class of {@link ExpiringSerializerRegistry}
+     */
+    public static class ExpiringSerializerRegistryBuilder {
+
+        final Map<Class<?>, ExpiringSerializer<?>> serializers = new LinkedHashMap<>();
+
+        ExpiringSerializerRegistryBuilder() {
+        }
+
+        /**
+         * Register the serializer of {@code type} in place of the default one
+         *
+         * @param type       must not be {@literal null}
+         * @param serializer must not be {@literal null}
+         * @param <T>        serialize generic
+         * @return {@link ExpiringSerializerRegistryBuilder}
+         */
+        public <T> ExpiringSerializerRegistryBuilder acquireSerializer(@NotNull Class<T> type,
+                                                                       @NotNull ExpiringSerializer<T> serializer) {
+            AssertUtils.Operation.notNull(type, "Type no be null");
+            AssertUtils.Operation.notNull(serializer, "Serializer no be null");
+            AssertUtils.Operation.isTrue(!this.serializers.containsKey(type),
+                    "Serializer of [" + type.getName() + "] existing configuration values, please do not cover");
+            this.serializers.put(type, serializer);
+            return this;
+        }
+
+        /**
+         * Register the {@link JsonExpiringSerializer} of {@code type}
+         *
+         * @param type must not be {@literal null}
+         * @param <T>  serialize generic
+         * @return {@link ExpiringSerializerRegistryBuilder}
+         */
+        public <T> ExpiringSerializerRegistryBuilder acquireJsonSerializer(@NotNull Class<T> type) {
+            return this.acquireSerializer(type, new JsonExpiringSerializer<>(type));
+        }
+
+        /**
+         * Build the {@link ExpiringSerializerRegistry} with the serializers registered and the defaults
+         *
+         * @return a new {@link ExpiringSerializerRegistry}
+         */
+        public ExpiringSerializerRegistry build() {
+            Map<Class<?>, ExpiringSerializer<?>> serializers = new LinkedHashMap<>(this.serializers);
+            serializers.putIfAbsent(String.class, new Utf8StringExpiringSerializer());
+            serializers.putIfAbsent(Long.class, new LongExpiringSerializer());
+            serializers.putIfAbsent(byte[].class, new ByteArrayExpiringSerializer());
+            return new ExpiringSerializerRegistry(serializers);
+        }
+    }
+}
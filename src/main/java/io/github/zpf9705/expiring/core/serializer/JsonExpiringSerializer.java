@@ -0,0 +1,42 @@
+package io.github.zpf9705.expiring.core.serializer;
+
+import com.alibaba.fastjson.JSON;
+import io.github.zpf9705.expiring.util.AssertUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Json serialization class implementation of {@link ExpiringSerializer} by {@code fastjson} , for the objects
+ * which are not {@link java.io.Serializable} or should be readable in the persistence.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class JsonExpiringSerializer<T> implements ExpiringSerializer<T> {
+
+    private final Class<T> type;
+
+    public JsonExpiringSerializer(Class<T> type) {
+        AssertUtils.Operation.notNull(type, "Type no be null");
+        this.type = type;
+    }
+
+    @Override
+    public byte[] serialize(T t) {
+        AssertUtils.Operation.notNull(t, "serialize failed ! t serialize is not null");
+        return JSON.toJSONString(t).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        return JSON.parseObject(new String(bytes, StandardCharsets.UTF_8), this.type);
+    }
+
+    @Override
+    public Class<T> serializerType() {
+        return this.type;
+    }
+}
@@ -0,0 +1,42 @@
+package io.github.zpf9705.expiring.core.serializer;
+
+import io.github.zpf9705.expiring.util.AssertUtils;
+import io.github.zpf9705.expiring.util.CounterUtils;
+import io.github.zpf9705.expiring.util.SerialUtils;
+
+/**
+ * Type long serialization class implementation of {@link ExpiringSerializer} , a long is encoded in
+ * {@link Long#BYTES} bytes of big endian , the same as a counter of
+ * {@link io.github.zpf9705.expiring.core.ValueOperations#increment(Object, long)} , so that a counter can be
+ * read as a value.
+ * <p>
+ * The bytes written by {@link ExpiringSerializerAdapter} can still be read back.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class LongExpiringSerializer implements ExpiringSerializer<Long> {
+
+    @Override
+    public byte[] serialize(Long value) {
+        AssertUtils.Operation.notNull(value, "serialize failed ! t serialize is not null");
+        return CounterUtils.toBytes(value);
+    }
+
+    @Override
+    public Long deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length != Long.BYTES && SerialUtils.isSerialized(bytes)) {
+            //Written in the old format by ExpiringSerializerAdapter
+            return (Long) SerialUtils.deserialize(bytes);
+        }
+        return CounterUtils.toLong(bytes);
+    }
+
+    @Override
+    public Class<Long> serializerType() {
+        return Long.class;
+    }
+}
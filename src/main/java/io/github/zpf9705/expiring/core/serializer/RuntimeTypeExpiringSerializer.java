@@ -0,0 +1,154 @@
+package io.github.zpf9705.expiring.core.serializer;
+
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.util.AssertUtils;
+import io.github.zpf9705.expiring.util.SerialUtils;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The serializer of {@link Object} values of a {@link ExpiringSerializerRegistry} , a value is written by the
+ * serializer of its runtime type , so that a template of {@link Object} values still takes the cheap encodings
+ * of the types it stores.
+ * <p>
+ * A value of {@link String} , {@link Long} or {@code byte[]} is written by {@link Utf8StringExpiringSerializer} ,
+ * {@link LongExpiringSerializer} or {@link ByteArrayExpiringSerializer} after a header of two bytes , whatever
+ * serializers of them are registered , so that it is read back the same after the registry changes , a value of
+ * another type registered is written by its serializer after a header with the name of the type , and a value
+ * of a type not registered is written in the java serialization without header as before. The header starts
+ * with {@link #TYPED} , never the start of a java serialized object nor a compressed value of
+ * {@link CompressingExpiringSerializer} , so that the values written before are still read as they are.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class RuntimeTypeExpiringSerializer implements ExpiringSerializer<Object> {
+
+    /**
+     * The first byte of a value written with a header
+     */
+    static final byte TYPED = (byte) 0xFE;
+
+    static final byte NAMED = 0;
+
+    static final byte STRING = 1;
+
+    static final byte LONG = 2;
+
+    static final byte BYTES = 3;
+
+    private static final ExpiringSerializer<String> STRING_SERIALIZER = new Utf8StringExpiringSerializer();
+
+    private static final ExpiringSerializer<Long> LONG_SERIALIZER = new LongExpiringSerializer();
+
+    private static final ExpiringSerializer<byte[]> BYTES_SERIALIZER = new ByteArrayExpiringSerializer();
+
+    private final Map<Class<?>, ExpiringSerializer<?>> serializers;
+
+    private final Map<String, ExpiringSerializer<?>> namedSerializers = new HashMap<>();
+
+    private final Map<Class<?>, byte[]> headers = new ConcurrentHashMap<>();
+
+    /**
+     * Constructs with the serializers of the registered types
+     *
+     * @param serializers must not be {@literal null}
+     */
+    public RuntimeTypeExpiringSerializer(@NotNull Map<Class<?>, ExpiringSerializer<?>> serializers) {
+        AssertUtils.Operation.notNull(serializers, "Serializers no be null");
+        this.serializers = serializers;
+        serializers.forEach((type, serializer) -> this.namedSerializers.put(type.getName(), serializer));
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(Object o) {
+        AssertUtils.Operation.notNull(o, "serialize failed ! t serialize is not null");
+        Class<?> type = o.getClass();
+        byte[] payload;
+        if (type == String.class) {
+            payload = STRING_SERIALIZER.serialize((String) o);
+        } else if (type == Long.class) {
+            payload = LONG_SERIALIZER.serialize((Long) o);
+        } else if (type == byte[].class) {
+            payload = BYTES_SERIALIZER.serialize((byte[]) o);
+        } else {
+            ExpiringSerializer<Object> serializer = (ExpiringSerializer<Object>) this.serializers.get(type);
+            if (serializer == null || type == Object.class) {
+                byte[] serialize = SerialUtils.serialize(o);
+                AssertUtils.Operation.notNull(serialize, "serialize failed ! t serialize is not null");
+                return serialize;
+            }
+            payload = serializer.serialize(o);
+        }
+        byte[] header = this.headers.computeIfAbsent(type, RuntimeTypeExpiringSerializer::header);
+        byte[] bytes = new byte[header.length + payload.length];
+        System.arraycopy(header, 0, bytes, 0, header.length);
+        System.arraycopy(payload, 0, bytes, header.length, payload.length);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (bytes.length < 2 || bytes[0] != TYPED) {
+            //Written in the java serialization
+            return SerialUtils.deserialize(bytes);
+        }
+        switch (bytes[1]) {
+            case STRING:
+                return STRING_SERIALIZER.deserialize(payload(bytes, 2));
+            case LONG:
+                return LONG_SERIALIZER.deserialize(payload(bytes, 2));
+            case BYTES:
+                return BYTES_SERIALIZER.deserialize(payload(bytes, 2));
+            case NAMED:
+                int length = ByteBuffer.wrap(bytes, 2, Short.BYTES).getShort() & 0xFFFF;
+                String name = new String(bytes, 2 + Short.BYTES, length, StandardCharsets.UTF_8);
+                ExpiringSerializer<?> serializer = this.namedSerializers.get(name);
+                if (serializer == null) {
+                    throw new OperationsException("No serializer of [" + name + "] registered");
+                }
+                return serializer.deserialize(payload(bytes, 2 + Short.BYTES + length));
+            default:
+                throw new OperationsException("Unknown type header [" + bytes[1] + "]");
+        }
+    }
+
+    @Override
+    public Class<Object> serializerType() {
+        return Object.class;
+    }
+
+    /**
+     * Get the header of values of {@code type}
+     *
+     * @param type must not be {@literal null}
+     * @return header bytes
+     */
+    private static byte[] header(@NotNull Class<?> type) {
+        if (type == String.class) {
+            return new byte[]{TYPED, STRING};
+        } else if (type == Long.class) {
+            return new byte[]{TYPED, LONG};
+        } else if (type == byte[].class) {
+            return new byte[]{TYPED, BYTES};
+        }
+        byte[] name = type.getName().getBytes(StandardCharsets.UTF_8);
+        return ByteBuffer.allocate(2 + Short.BYTES + name.length)
+                .put(TYPED).put(NAMED).putShort((short) name.length).put(name).array();
+    }
+
+    private static byte[] payload(byte[] bytes, int offset) {
+        byte[] payload = new byte[bytes.length - offset];
+        System.arraycopy(bytes, offset, payload, 0, payload.length);
+        return payload;
+    }
+}
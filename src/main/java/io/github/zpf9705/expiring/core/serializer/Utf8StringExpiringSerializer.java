@@ -0,0 +1,45 @@
+package io.github.zpf9705.expiring.core.serializer;
+
+import io.github.zpf9705.expiring.util.AssertUtils;
+import io.github.zpf9705.expiring.util.SerialUtils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Type string serialization class implementation of {@link ExpiringSerializer} , a string is encoded directly
+ * as its UTF-8 bytes without any object stream , which is much cheaper than {@link GenericStringExpiringSerializer}
+ * for the key of every operation.
+ * <p>
+ * The bytes written by {@link GenericStringExpiringSerializer} always start with the java serialization
+ * stream magic , which is never the start of a UTF-8 string , so that the keys persisted in the old format
+ * can still be read back by {@link #deserialize(byte[])}.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class Utf8StringExpiringSerializer implements ExpiringSerializer<String> {
+
+    @Override
+    public byte[] serialize(String s) {
+        AssertUtils.Operation.notNull(s, "serialize failed ! t serialize is not null");
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String deserialize(byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (SerialUtils.isSerialized(bytes)) {
+            //Written in the old format by GenericStringExpiringSerializer
+            Object deserialize = SerialUtils.deserialize(bytes);
+            return deserialize == null ? null : deserialize.toString();
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public Class<String> serializerType() {
+        return String.class;
+    }
+}
@@ -1,9 +1,7 @@
 package io.github.zpf9705.expiring.help;
 
 import io.github.zpf9705.expiring.core.annotation.NotNull;
-import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteContain;
 import io.github.zpf9705.expiring.util.CodecUtils;
-import net.jodah.expiringmap.ExpiringMap;
 
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -18,7 +16,6 @@ import java.util.function.Predicate;
  * <ul>
  *     <li>{@link HelpCenter}</li>
  *     <li>{@link HelpCenter#getHelpCenter()}</li>
- *     <li>{@link HelpCenter#getContain()}</li>
  * </ul>
  *
  * @author zpf
@@ -41,15 +38,6 @@ public abstract class AbstractExpireHelper<T> implements DefaultedExpireHelper {
         return this.helpCenter.getHelpCenter();
     }
 
-    /**
-     * Get {@link ExpireMapByteContain} operation adapter
-     *
-     * @return {@link ExpiringMap}
-     */
-    public ExpireMapByteContain contain() {
-        return this.helpCenter.getContain();
-    }
-
     /**
      * Similar object {@code key} and object {@code value}  check function expression
      */
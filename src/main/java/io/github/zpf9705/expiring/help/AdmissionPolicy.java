@@ -0,0 +1,22 @@
+package io.github.zpf9705.expiring.help;
+
+/**
+ * Admission policy of a new key when the cache client is full , it decides whether the key is put in
+ * at the cost of evicting the entry nearest to expire.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public enum AdmissionPolicy {
+
+    /**
+     * Always admit a new key , the eviction order is only decided by the expiration
+     */
+    ALWAYS,
+
+    /**
+     * Admit a new key only if it was requested more frequently than the victim , the frequency is estimated
+     * by {@link FrequencySketch} , so that the keys requested once can not flush the frequently requested ones
+     */
+    TINY_LFU
+}
@@ -1,7 +1,10 @@
 package io.github.zpf9705.expiring.help;
 
+import io.github.zpf9705.expiring.core.ScanPage;
 import io.github.zpf9705.expiring.core.annotation.CanNull;
 
+import java.nio.ByteBuffer;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -33,6 +36,11 @@ public interface DefaultedExpireHelper extends ExpireHelper {
         return keyCommands().hasKey(key);
     }
 
+    @Override
+    default ScanPage<byte[]> scan(long cursor, String match, int count) {
+        return keyCommands().scan(cursor, match, count);
+    }
+
     @CanNull
     @Override
     default Long getExpiration(byte[] key) {
@@ -90,6 +98,21 @@ public interface DefaultedExpireHelper extends ExpireHelper {
         return stringCommands().setEX(key, value, duration, unit);
     }
 
+    @Override
+    default Boolean multiSet(Map<byte[], byte[]> tuple) {
+        return stringCommands().multiSet(tuple);
+    }
+
+    @Override
+    default Boolean multiSetE(Map<byte[], byte[]> tuple, Long duration, TimeUnit unit) {
+        return stringCommands().multiSetE(tuple, duration, unit);
+    }
+
+    @Override
+    default List<byte[]> multiGet(Collection<byte[]> keys) {
+        return stringCommands().multiGet(keys);
+    }
+
     @Override
     default List<byte[]> getSimilarKeys(byte[] rawKey) {
         return stringCommands().getSimilarKeys(rawKey);
@@ -101,12 +124,108 @@ public interface DefaultedExpireHelper extends ExpireHelper {
         return stringCommands().get(key);
     }
 
+    @Override
+    default Boolean setBuffer(byte[] key, ByteBuffer value) {
+        return stringCommands().setBuffer(key, value);
+    }
+
+    @Override
+    default Boolean setBufferE(byte[] key, ByteBuffer value, Long duration, TimeUnit unit) {
+        return stringCommands().setBufferE(key, value, duration, unit);
+    }
+
+    @CanNull
+    @Override
+    default ByteBuffer getBuffer(byte[] key) {
+        return stringCommands().getBuffer(key);
+    }
+
     @CanNull
     @Override
     default byte[] getAndSet(byte[] key, byte[] newValue) {
         return stringCommands().getAndSet(key, newValue);
     }
 
+    @CanNull
+    @Override
+    default Long incrBy(byte[] key, long delta) {
+        return stringCommands().incrBy(key, delta);
+    }
+
+    @CanNull
+    @Override
+    default Long incrByE(byte[] key, long delta, Long duration, TimeUnit unit) {
+        return stringCommands().incrByE(key, delta, duration, unit);
+    }
+
+    @CanNull
+    @Override
+    default byte[] hSet(byte[] key, byte[] field, byte[] value) {
+        return hashCommands().hSet(key, field, value);
+    }
+
+    @CanNull
+    @Override
+    default byte[] hSetE(byte[] key, byte[] field, byte[] value, Long duration, TimeUnit unit) {
+        return hashCommands().hSetE(key, field, value, duration, unit);
+    }
+
+    @CanNull
+    @Override
+    default byte[] hSetNX(byte[] key, byte[] field, byte[] value) {
+        return hashCommands().hSetNX(key, field, value);
+    }
+
+    @CanNull
+    @Override
+    default byte[] hMSet(byte[] key, Map<byte[], byte[]> tuple) {
+        return hashCommands().hMSet(key, tuple);
+    }
+
+    @CanNull
+    @Override
+    default byte[] hExpire(byte[] key, byte[] field, Long duration, TimeUnit unit) {
+        return hashCommands().hExpire(key, field, duration, unit);
+    }
+
+    @CanNull
+    @Override
+    default byte[] hDel(byte[] key, byte[]... fields) {
+        return hashCommands().hDel(key, fields);
+    }
+
+    @CanNull
+    @Override
+    default byte[] hGet(byte[] key, byte[] field) {
+        return hashCommands().hGet(key, field);
+    }
+
+    @Override
+    default List<byte[]> hMGet(byte[] key, Collection<byte[]> fields) {
+        return hashCommands().hMGet(key, fields);
+    }
+
+    @Override
+    default Map<byte[], byte[]> hGetAll(byte[] key) {
+        return hashCommands().hGetAll(key);
+    }
+
+    @Override
+    default Long hLen(byte[] key) {
+        return hashCommands().hLen(key);
+    }
+
+    @Override
+    default Boolean hExists(byte[] key, byte[] field) {
+        return hashCommands().hExists(key, field);
+    }
+
+    @CanNull
+    @Override
+    default Long hTtl(byte[] key, byte[] field, TimeUnit unit) {
+        return hashCommands().hTtl(key, field, unit);
+    }
+
     @Override
     default void close() {
         throw new UnsupportedOperationException();
@@ -1,6 +1,7 @@
 package io.github.zpf9705.expiring.help;
 
 import io.github.zpf9705.expiring.command.ExpireCommands;
+import io.github.zpf9705.expiring.command.ExpireHashCommands;
 import io.github.zpf9705.expiring.command.ExpireKeyCommands;
 import io.github.zpf9705.expiring.command.ExpireStringCommands;
 
@@ -30,4 +31,13 @@ public interface ExpireHelper extends ExpireCommands, AutoCloseable {
     default ExpireKeyCommands keyCommands() {
         return this;
     }
+
+    /**
+     * Get {@link ExpireHashCommands}.
+     *
+     * @return never {@literal null}.
+     */
+    default ExpireHashCommands hashCommands() {
+        return this;
+    }
 }
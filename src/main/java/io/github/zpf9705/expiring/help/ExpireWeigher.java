@@ -0,0 +1,40 @@
+package io.github.zpf9705.expiring.help;
+
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+
+/**
+ * Calculate the weight of a cache entry in bytes , used to bound the memory of a client by
+ * {@code maxWeightBytes} instead of the entries number.
+ * <p>
+ * The default weigher counts the serialized key and value lengths plus {@link #ENTRY_OVERHEAD} ,
+ * an implementation can be provided with the client configuration builder.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+@FunctionalInterface
+public interface ExpireWeigher {
+
+    /**
+     * Estimated bytes of the structures holding an entry , include hash node , expiration entry and key wrapper
+     */
+    long ENTRY_OVERHEAD = 128L;
+
+    /**
+     * Calculate the weight of an entry
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return weight in bytes , not negative
+     */
+    long weigh(@NotNull byte[] key, @NotNull byte[] value);
+
+    /**
+     * Get the default weigher of key length , value length and {@link #ENTRY_OVERHEAD}
+     *
+     * @return {@link ExpireWeigher}
+     */
+    static ExpireWeigher defaultWeigher() {
+        return (key, value) -> key.length + value.length + ENTRY_OVERHEAD;
+    }
+}
@@ -0,0 +1,137 @@
+package io.github.zpf9705.expiring.help;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A compact Count-Min sketch of 4-bit counters to estimate the request frequency of keys in a recent period ,
+ * used by {@link AdmissionPolicy#TINY_LFU}.
+ * <p>
+ * Each {@code long} of the table holds sixteen counters , a key is counted in four counters of four different
+ * slots and its frequency is the minimum of them , up to {@literal 15}. When the number of increments reaches
+ * ten times of the max size , all counters are halved so that the sketch follows the recent frequency.
+ * <p>
+ * The counters are updated by CAS , the estimate can be slightly low under concurrent reset , which is
+ * acceptable for admission.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class FrequencySketch {
+
+    static final long[] SEEDS = {0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+
+    static final long RESET_MASK = 0x7777777777777777L;
+
+    static final long ONE_MASK = 0x1111111111111111L;
+
+    static final int MAX_FREQUENCY = 15;
+
+    private final AtomicLongArray table;
+
+    private final int tableMask;
+
+    private final int sampleSize;
+
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * Create a sketch for a cache of {@code maximumSize} entries
+     *
+     * @param maximumSize max size of cache
+     */
+    public FrequencySketch(long maximumSize) {
+        int capacity = (int) Math.min(Math.max(maximumSize, 1L), 1 << 30);
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity) {
+            length <<= 1;
+        }
+        this.table = new AtomicLongArray(length);
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(10L * capacity, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Get the estimated frequency of the key with {@code hash}
+     *
+     * @param hash hash code of key
+     * @return frequency , not more than {@literal 15}
+     */
+    public int frequency(int hash) {
+        int spread = spread(hash);
+        int start = (spread & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < 4; i++) {
+            long counters = this.table.get(this.indexOf(spread, i));
+            frequency = Math.min(frequency, (int) ((counters >>> ((start + i) << 2)) & 0xfL));
+        }
+        return frequency;
+    }
+
+    /**
+     * Increment the frequency of the key with {@code hash} , all counters are halved periodically
+     *
+     * @param hash hash code of key
+     */
+    public void increment(int hash) {
+        int spread = spread(hash);
+        int start = (spread & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < 4; i++) {
+            added |= this.incrementAt(this.indexOf(spread, i), start + i);
+        }
+        if (added && this.size.incrementAndGet() == this.sampleSize) {
+            this.reset();
+        }
+    }
+
+    /**
+     * Increment the {@code j}th counter of {@code table[i]} if not saturated
+     *
+     * @param i index of table
+     * @param j index of counter
+     * @return if {@literal true} incremented
+     */
+    private boolean incrementAt(int i, int j) {
+        int offset = j << 2;
+        long mask = 0xfL << offset;
+        for (; ; ) {
+            long counters = this.table.get(i);
+            if ((counters & mask) == mask) {
+                return false;
+            }
+            if (this.table.compareAndSet(i, counters, counters + (1L << offset))) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Halve all counters
+     */
+    private synchronized void reset() {
+        int odd = 0;
+        for (int i = 0; i < this.table.length(); i++) {
+            for (; ; ) {
+                long counters = this.table.get(i);
+                if (this.table.compareAndSet(i, counters, (counters >>> 1) & RESET_MASK)) {
+                    odd += Long.bitCount(counters & ONE_MASK);
+                    break;
+                }
+            }
+        }
+        this.size.set((this.sampleSize - (odd >>> 2)) >>> 1);
+    }
+
+    private int indexOf(int spread, int i) {
+        long hash = (spread + SEEDS[i]) * SEEDS[i];
+        hash += (hash >>> 32);
+        return ((int) hash) & this.tableMask;
+    }
+
+    private static int spread(int hash) {
+        hash *= 0x31848bab;
+        hash ^= hash >>> 14;
+        return hash;
+    }
+}
@@ -0,0 +1,234 @@
+package io.github.zpf9705.expiring.help;
+
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.ScanPage;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteKey;
+import io.github.zpf9705.expiring.util.AssertUtils;
+import io.github.zpf9705.expiring.util.CodecUtils;
+import org.springframework.util.PatternMatchUtils;
+
+import java.util.ArrayList;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Cursor scan of keys without materializing the key set.
+ * <p>
+ * The keys of a client are split into segments , such as the shards of a map , and the keys of a segment are
+ * visited in the order of their positions , the unsigned content hash of key. A page of a segment is made of the
+ * keys with the least {@code count} positions not less than the position of cursor , collected by one pass of
+ * the segment with memory bounded by {@code count} , or by a walk of the keys kept in the order of positions ,
+ * such as {@link SimilarKeyIndex} , which visits the keys of the page only. The position of a key does not
+ * depend on the layout of storage , so the scan is stable under concurrent modification : a key present for the
+ * whole scan is returned exactly once , a key added or removed during the scan may or may not be returned.
+ * <p>
+ * The cursor is {@code segment << 32 | position} , {@literal 0} starts and finishes a scan. The {@code match}
+ * pattern is applied to the keys of a page only , so that no other key is decoded.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public final class KeyScanner {
+
+    private static final long POSITIONS = 1L << 32;
+
+    /**
+     * Max passes of a segment modified concurrently
+     */
+    static final int MAX_PASSES = 8;
+
+    private KeyScanner() {
+    }
+
+    /**
+     * One pass scan of a segment
+     */
+    @FunctionalInterface
+    public interface SegmentScan {
+
+        /**
+         * Collect the keys of {@code segment} with {@code collector}
+         *
+         * @param segment   index of segment
+         * @param collector must not be {@literal null}
+         */
+        void scan(int segment, @NotNull Collector<ExpireMapByteKey> collector);
+    }
+
+    /**
+     * Scan a page of keys from {@code cursor}
+     *
+     * @param segments number of segments
+     * @param cursor   {@literal 0} to start , or the cursor of the previous page
+     * @param match    simple pattern with {@literal *} , {@literal null} matches all
+     * @param count    the max positions of a page , must be positive
+     * @param scan     must not be {@literal null}
+     * @return {@link ScanPage} of key bytes
+     */
+    public static ScanPage<byte[]> scan(int segments, long cursor, @CanNull String match, int count,
+                                        @NotNull SegmentScan scan) {
+        AssertUtils.Operation.isTrue(cursor >= 0L, "Cursor must not be negative");
+        AssertUtils.Operation.isTrue(count > 0, "Count must be positive");
+        int segment = (int) (cursor / POSITIONS);
+        long from = cursor % POSITIONS;
+        while (segment < segments) {
+            Collector<ExpireMapByteKey> collector = collect(segment, from, count, scan);
+            if (!collector.isEmpty()) {
+                long next = collector.lastPosition() + 1;
+                long nextCursor = next < POSITIONS ? segment * POSITIONS + next : (segment + 1) * POSITIONS;
+                if (nextCursor >= segments * POSITIONS) {
+                    nextCursor = 0L;
+                }
+                return new ScanPage<>(nextCursor, matchKeys(collector.items(), match));
+            }
+            //Move to the next segment within this call if nothing left
+            segment++;
+            from = 0L;
+        }
+        return new ScanPage<>(0L, new ArrayList<>(0));
+    }
+
+    /**
+     * One pass of {@code segment} , a segment without weakly consistent iteration is passed again if it is
+     * modified during the pass
+     */
+    private static Collector<ExpireMapByteKey> collect(int segment, long from, int count, SegmentScan scan) {
+        for (int pass = 1; ; pass++) {
+            Collector<ExpireMapByteKey> collector = new Collector<>(from, count);
+            try {
+                scan.scan(segment, collector);
+                return collector;
+            } catch (ConcurrentModificationException e) {
+                if (pass >= MAX_PASSES) {
+                    throw new OperationsException("Scan segment [" + segment + "] modified concurrently in ["
+                            + MAX_PASSES + "] passes , please retry");
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the scan position of a key of {@code hash}
+     *
+     * @param hash the content hash of key
+     * @return position
+     */
+    public static long positionOf(int hash) {
+        return Integer.toUnsignedLong(hash);
+    }
+
+    private static List<byte[]> matchKeys(List<ExpireMapByteKey> keys, @CanNull String match) {
+        List<byte[]> matched = new ArrayList<>(keys.size());
+        for (ExpireMapByteKey key : keys) {
+            if (match == null || PatternMatchUtils.simpleMatch(match, CodecUtils.toStingBeReal(key.getBytes()))) {
+                matched.add(key.getBytes());
+            }
+        }
+        return matched;
+    }
+
+    /**
+     * Collector of the items of the least {@code count} positions not less than {@code from} , the items of
+     * the same position are always kept together.
+     *
+     * @param <T> item generic
+     */
+    public static final class Collector<T> {
+
+        private final long from;
+
+        private final int count;
+
+        private final TreeMap<Long, Object> positions = new TreeMap<>();
+
+        Collector(long from, int count) {
+            this.from = from;
+            this.count = count;
+        }
+
+        /**
+         * Whether an item of {@code hash} would be collected , to skip reading the item
+         *
+         * @param hash the content hash of item
+         * @return if {@literal true} offer it
+         */
+        public boolean accepts(int hash) {
+            return this.acceptsPosition(positionOf(hash));
+        }
+
+        boolean acceptsPosition(long position) {
+            return position >= this.from
+                    && (this.positions.size() < this.count || position <= this.positions.lastKey());
+        }
+
+        /**
+         * Offer an item of {@code hash}
+         *
+         * @param hash the content hash of item
+         * @param item must not be {@literal null}
+         */
+        @SuppressWarnings("unchecked")
+        public void offer(int hash, @NotNull T item) {
+            if (!this.accepts(hash)) {
+                return;
+            }
+            Long position = positionOf(hash);
+            Object present = this.positions.get(position);
+            if (present == null) {
+                this.positions.put(position, item);
+                if (this.positions.size() > this.count) {
+                    this.positions.pollLastEntry();
+                }
+            } else if (present instanceof Same) {
+                ((Same<T>) present).add(item);
+            } else {
+                //Collision of hash , keep the items of a position together
+                Same<T> same = new Same<>();
+                same.add((T) present);
+                same.add(item);
+                this.positions.put(position, same);
+            }
+        }
+
+        /**
+         * Get the collected items in the order of positions
+         *
+         * @return items
+         */
+        @SuppressWarnings("unchecked")
+        public List<T> items() {
+            List<T> items = new ArrayList<>(this.positions.size());
+            for (Map.Entry<Long, Object> entry : this.positions.entrySet()) {
+                if (entry.getValue() instanceof Same) {
+                    items.addAll((Same<T>) entry.getValue());
+                } else {
+                    items.add((T) entry.getValue());
+                }
+            }
+            return items;
+        }
+
+        long from() {
+            return this.from;
+        }
+
+        boolean isEmpty() {
+            return this.positions.isEmpty();
+        }
+
+        long lastPosition() {
+            return this.positions.lastKey();
+        }
+    }
+
+    /**
+     * Items of the same position
+     */
+    private static final class Same<T> extends ArrayList<T> {
+        private static final long serialVersionUID = -4416003390213312035L;
+    }
+}
@@ -0,0 +1,210 @@
+package io.github.zpf9705.expiring.help;
+
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Incrementally maintained index for finding similar keys , the similarity is the same as
+ * {@link io.github.zpf9705.expiring.util.CodecUtils#findPredicate(String)} , that is the string form
+ * of key contains the target string.
+ * <p>
+ * The string form of each key is recorded once when it is added , and split into n-grams of
+ * {@link #GRAM_LENGTH} characters. A target no shorter than {@link #GRAM_LENGTH} only needs to check the
+ * keys in the smallest posting set of its grams , instead of decoding and checking every key.
+ * <p>
+ * Each candidate is confirmed with {@link String#contains(CharSequence)} , so the result is exact.
+ * <p>
+ * The keys are also ordered by their scan positions , see {@link KeyScanner#positionOf(int)} of
+ * {@link Object#hashCode()} , so a page of scan walks from the position of cursor to the last key of the page
+ * only , instead of passing all keys.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class SimilarKeyIndex<T> {
+
+    static final int GRAM_LENGTH = 3;
+
+    private final Map<T, String> contents = new ConcurrentHashMap<>();
+
+    private final Map<String, Set<T>> grams = new ConcurrentHashMap<>();
+
+    /**
+     * The keys of each scan position , the lists are never modified but replaced , keys of the same position
+     * are collisions of hash and rare
+     */
+    private final ConcurrentNavigableMap<Long, List<T>> positions = new ConcurrentSkipListMap<>();
+
+    /**
+     * Add {@code key} and its string form {@code content} to index , do nothing if already exist
+     *
+     * @param key     must not be {@literal null}
+     * @param content can be {@literal null} , such key can not be found
+     */
+    public void add(@NotNull T key, @CanNull String content) {
+        if (content == null || this.contents.putIfAbsent(key, content) != null) {
+            return;
+        }
+        for (String gram : grams(content)) {
+            this.grams.computeIfAbsent(gram, g -> ConcurrentHashMap.newKeySet()).add(key);
+        }
+        this.positions.compute(KeyScanner.positionOf(key.hashCode()), (p, keys) -> {
+            if (keys == null) {
+                return Collections.singletonList(key);
+            }
+            if (keys.contains(key)) {
+                return keys;
+            }
+            List<T> added = new ArrayList<>(keys.size() + 1);
+            added.addAll(keys);
+            added.add(key);
+            return added;
+        });
+    }
+
+    /**
+     * Determine whether the {@code key} is in index
+     *
+     * @param key must not be {@literal null}
+     * @return if {@literal true} exist
+     */
+    public boolean contains(@NotNull T key) {
+        return this.contents.containsKey(key);
+    }
+
+    /**
+     * Remove {@code key} from index
+     *
+     * @param key must not be {@literal null}
+     */
+    public void remove(@NotNull T key) {
+        String content = this.contents.remove(key);
+        if (content == null) {
+            return;
+        }
+        for (String gram : grams(content)) {
+            this.grams.computeIfPresent(gram, (g, keys) -> {
+                keys.remove(key);
+                return keys.isEmpty() ? null : keys;
+            });
+        }
+        this.positions.computeIfPresent(KeyScanner.positionOf(key.hashCode()), (p, keys) -> {
+            if (!keys.contains(key)) {
+                return keys;
+            }
+            if (keys.size() == 1) {
+                return null;
+            }
+            List<T> removed = new ArrayList<>(keys);
+            removed.remove(key);
+            return removed;
+        });
+    }
+
+    /**
+     * Find the keys whose string form contains {@code target}
+     *
+     * @param target can be {@literal null}
+     * @return similar keys , never {@literal null}
+     */
+    @NotNull
+    public List<T> find(@CanNull String target) {
+        if (target == null) {
+            return Collections.emptyList();
+        }
+        Collection<T> candidates = null;
+        if (target.length() < GRAM_LENGTH) {
+            candidates = this.contents.keySet();
+        } else {
+            for (String gram : grams(target)) {
+                Set<T> keys = this.grams.get(gram);
+                if (keys == null) {
+                    return Collections.emptyList();
+                }
+                if (candidates == null || keys.size() < candidates.size()) {
+                    candidates = keys;
+                }
+            }
+        }
+        return candidates.stream().filter(key -> {
+            String content = this.contents.get(key);
+            return content != null && content.contains(target);
+        }).collect(Collectors.toList());
+    }
+
+    /**
+     * Offer the keys accepted by {@code filter} to {@code collector} in the order of positions , from the
+     * position of cursor until the page of {@code collector} is full , a weakly consistent walk
+     *
+     * @param collector must not be {@literal null}
+     * @param filter    must not be {@literal null} , such as whether the key is still live
+     */
+    public void scanKeys(@NotNull KeyScanner.Collector<T> collector, @NotNull Predicate<T> filter) {
+        for (Map.Entry<Long, List<T>> entry : this.positions.tailMap(collector.from()).entrySet()) {
+            if (!collector.acceptsPosition(entry.getKey())) {
+                //The positions are ascending , none of the rest is accepted
+                return;
+            }
+            for (T key : entry.getValue()) {
+                if (filter.test(key)) {
+                    collector.offer(key.hashCode(), key);
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the indexed keys , a weakly consistent view
+     *
+     * @return unmodifiable keys
+     */
+    @NotNull
+    public Set<T> keys() {
+        return Collections.unmodifiableSet(this.contents.keySet());
+    }
+
+    /**
+     * Clear all keys
+     */
+    public void clear() {
+        this.contents.clear();
+        this.grams.clear();
+        this.positions.clear();
+    }
+
+    /**
+     * Get the number of keys in index
+     *
+     * @return keys number
+     */
+    public int size() {
+        return this.contents.size();
+    }
+
+    /**
+     * Split the {@code content} into distinct n-grams
+     *
+     * @param content must not be {@literal null}
+     * @return n-grams
+     */
+    static Set<String> grams(@NotNull String content) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= content.length(); i++) {
+            grams.add(content.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -0,0 +1,321 @@
+package io.github.zpf9705.expiring.help;
+
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Allocator of byte chunks in direct memory , so that the stored bytes are out of the java heap and not
+ * scanned or copied by the garbage collector.
+ * <p>
+ * The direct memory is reserved in slabs of {@code slabSize} bytes up to {@code capacity}. Each slab is
+ * assigned to one size class and carved into chunks of that size , the size classes are the powers of two
+ * from {@link #MIN_CHUNK_SIZE} to {@code slabSize}. A freed chunk is pushed to the free stack of its size
+ * class and reused by the next allocation of the class. Once all chunks of a slab are freed , the slab is
+ * reclaimed to be assigned to any size class , so the memory follows the change of value sizes. No memory
+ * is returned to the system until the allocator is discarded. Bytes larger than {@link #getSlabSize()} can
+ * not be stored , the caller keeps them elsewhere.
+ * <p>
+ * A chunk is addressed by a {@code long} of the slab index and the offset in slab , the caller keeps the
+ * address and the length of bytes and must not access a chunk after freeing it. Only the bookkeeping of
+ * chunks is locked , the bytes are copied outside the lock.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class SlabAllocator {
+
+    /**
+     * The smallest chunk size
+     */
+    public static final int MIN_CHUNK_SIZE = 64;
+
+    /**
+     * The address returned when the capacity is exhausted
+     */
+    public static final long NO_ADDRESS = -1L;
+
+    private final int slabSize;
+
+    private final AtomicReferenceArray<ByteBuffer> slabs;
+
+    private final SizeClass[] sizeClasses;
+
+    private final int[] liveChunks;
+
+    private final int[] freeSlabs;
+
+    private int slabCount;
+
+    private int freeSlabCount;
+
+    private long allocatedBytes;
+
+    /**
+     * Instance with the max direct memory bytes and the bytes of each slab
+     *
+     * @param capacity max direct memory bytes , at least one slab
+     * @param slabSize bytes of each slab , rounded up to a power of two not less than {@link #MIN_CHUNK_SIZE}
+     */
+    public SlabAllocator(long capacity, int slabSize) {
+        int size = Math.max(slabSize, MIN_CHUNK_SIZE);
+        if (Integer.bitCount(size) != 1) {
+            size = Integer.highestOneBit(size) << 1;
+        }
+        this.slabSize = size;
+        int maxSlabs = (int) Math.max(Math.min(capacity / size, Integer.MAX_VALUE), 1L);
+        this.slabs = new AtomicReferenceArray<>(maxSlabs);
+        this.liveChunks = new int[maxSlabs];
+        this.freeSlabs = new int[maxSlabs];
+        this.sizeClasses = new SizeClass[Integer.numberOfTrailingZeros(size / MIN_CHUNK_SIZE) + 1];
+        for (int i = 0; i < this.sizeClasses.length; i++) {
+            this.sizeClasses[i] = new SizeClass(MIN_CHUNK_SIZE << i);
+        }
+    }
+
+    /**
+     * Allocate a chunk for {@code length} bytes and write the {@code bytes}
+     *
+     * @param bytes must not be {@literal null}
+     * @return address , {@link #NO_ADDRESS} if the capacity is exhausted
+     */
+    public long store(@NotNull byte[] bytes) {
+        long address = this.allocate(bytes.length);
+        if (address != NO_ADDRESS) {
+            this.slice(address).put(bytes);
+        }
+        return address;
+    }
+
+    /**
+     * Read {@code length} bytes of the chunk at {@code address}
+     *
+     * @param address address of chunk
+     * @param length  length of bytes
+     * @return bytes
+     */
+    public byte[] read(long address, int length) {
+        byte[] bytes = new byte[length];
+        this.slice(address).get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Compare the {@code length} bytes of the chunk at {@code address} with {@code bytes} by content
+     *
+     * @param address address of chunk
+     * @param length  length of bytes
+     * @param bytes   must not be {@literal null}
+     * @return if {@literal true} equal
+     */
+    public boolean contentEquals(long address, int length, @NotNull byte[] bytes) {
+        if (length != bytes.length) {
+            return false;
+        }
+        ByteBuffer slab = this.slabs.get(slabIndex(address));
+        int offset = offset(address);
+        for (int i = 0; i < length; i++) {
+            if (slab.get(offset + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Free the chunk at {@code address} allocated for {@code length} bytes
+     *
+     * @param address address of chunk
+     * @param length  length of bytes
+     */
+    public synchronized void free(long address, int length) {
+        if (address == NO_ADDRESS) {
+            return;
+        }
+        SizeClass sizeClass = this.sizeClassOf(length);
+        this.allocatedBytes -= sizeClass.chunkSize;
+        int slab = slabIndex(address);
+        if (--this.liveChunks[slab] == 0 && slab != sizeClass.slab) {
+            //Reclaim the slab with no chunk in use
+            sizeClass.removeSlab(slab);
+            this.freeSlabs[this.freeSlabCount++] = slab;
+        } else {
+            sizeClass.push(address);
+        }
+    }
+
+    /**
+     * Free all chunks , the slabs are kept to be assigned again , the freed addresses must not be accessed
+     */
+    public synchronized void clear() {
+        for (SizeClass sizeClass : this.sizeClasses) {
+            sizeClass.reset();
+        }
+        for (int i = 0; i < this.slabCount; i++) {
+            this.liveChunks[i] = 0;
+            this.freeSlabs[i] = i;
+        }
+        this.freeSlabCount = this.slabCount;
+        this.allocatedBytes = 0L;
+    }
+
+    /**
+     * Get the max direct memory bytes
+     *
+     * @return capacity bytes
+     */
+    public long getCapacity() {
+        return (long) this.slabs.length() * this.slabSize;
+    }
+
+    /**
+     * Get the bytes of each slab , the max length of bytes to be stored
+     *
+     * @return slab size bytes
+     */
+    public int getSlabSize() {
+        return this.slabSize;
+    }
+
+    /**
+     * Get the direct memory bytes reserved by slabs
+     *
+     * @return reserved bytes
+     */
+    public synchronized long getReservedBytes() {
+        return (long) this.slabCount * this.slabSize;
+    }
+
+    /**
+     * Get the bytes of the chunks in use , include the rounding of size classes
+     *
+     * @return allocated bytes
+     */
+    public synchronized long getAllocatedBytes() {
+        return this.allocatedBytes;
+    }
+
+    private synchronized long allocate(int length) {
+        SizeClass sizeClass = this.sizeClassOf(length);
+        long address = sizeClass.pop();
+        if (address == NO_ADDRESS) {
+            address = sizeClass.carve();
+        }
+        if (address != NO_ADDRESS) {
+            this.allocatedBytes += sizeClass.chunkSize;
+            this.liveChunks[slabIndex(address)]++;
+        }
+        return address;
+    }
+
+    private SizeClass sizeClassOf(int length) {
+        if (length > this.slabSize) {
+            throw new OperationsException("Off-heap value of [" + length + "] bytes exceeds the slab size [" +
+                    this.slabSize + "]");
+        }
+        int chunkSize = Math.max(length, MIN_CHUNK_SIZE);
+        return this.sizeClasses[32 - Integer.numberOfLeadingZeros(chunkSize - 1) -
+                Integer.numberOfTrailingZeros(MIN_CHUNK_SIZE)];
+    }
+
+    /**
+     * Assign a slab to a size class
+     *
+     * @return slab index , {@literal -1} if the capacity is exhausted
+     */
+    private int assignSlab() {
+        if (this.freeSlabCount > 0) {
+            return this.freeSlabs[--this.freeSlabCount];
+        }
+        if (this.slabCount == this.slabs.length()) {
+            return -1;
+        }
+        this.slabs.set(this.slabCount, ByteBuffer.allocateDirect(this.slabSize));
+        return this.slabCount++;
+    }
+
+    private ByteBuffer slice(long address) {
+        ByteBuffer slab = this.slabs.get(slabIndex(address)).duplicate();
+        //Call through Buffer to be compatible with the covariant return types since java 9
+        ((Buffer) slab).position(offset(address));
+        return slab;
+    }
+
+    private static int slabIndex(long address) {
+        return (int) (address >>> 32);
+    }
+
+    private static int offset(long address) {
+        return (int) address;
+    }
+
+    private static long address(int slabIndex, int offset) {
+        return ((long) slabIndex << 32) | offset;
+    }
+
+    /**
+     * Chunks of the same size , carved from the current slab or reused from the free stack ,
+     * guarded by the allocator.
+     */
+    private final class SizeClass {
+
+        final int chunkSize;
+
+        private long[] free = new long[16];
+
+        private int freeCount;
+
+        private int slab = -1;
+
+        private int next;
+
+        SizeClass(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+
+        long pop() {
+            return this.freeCount == 0 ? NO_ADDRESS : this.free[--this.freeCount];
+        }
+
+        void push(long address) {
+            if (this.freeCount == this.free.length) {
+                this.free = Arrays.copyOf(this.free, this.freeCount << 1);
+            }
+            this.free[this.freeCount++] = address;
+        }
+
+        long carve() {
+            if (this.slab < 0 || this.next + this.chunkSize > slabSize) {
+                int assigned = assignSlab();
+                if (assigned < 0) {
+                    return NO_ADDRESS;
+                }
+                this.slab = assigned;
+                this.next = 0;
+            }
+            long address = address(this.slab, this.next);
+            this.next += this.chunkSize;
+            return address;
+        }
+
+        void removeSlab(int slab) {
+            int count = 0;
+            for (int i = 0; i < this.freeCount; i++) {
+                if (slabIndex(this.free[i]) != slab) {
+                    this.free[count++] = this.free[i];
+                }
+            }
+            this.freeCount = count;
+        }
+
+        void reset() {
+            this.freeCount = 0;
+            this.slab = -1;
+            this.next = 0;
+        }
+    }
+}
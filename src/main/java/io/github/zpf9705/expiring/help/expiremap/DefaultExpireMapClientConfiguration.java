@@ -1,5 +1,7 @@
 package io.github.zpf9705.expiring.help.expiremap;
 
+import io.github.zpf9705.expiring.help.AdmissionPolicy;
+import io.github.zpf9705.expiring.help.ExpireWeigher;
 import net.jodah.expiringmap.ExpirationListener;
 import net.jodah.expiringmap.ExpirationPolicy;
 
@@ -21,19 +23,37 @@ public class DefaultExpireMapClientConfiguration implements ExpireMapClientConfi
     private final ExpirationPolicy expirationPolicy;
     private final List<ExpirationListener> syncExpirationListeners;
     private final List<ExpirationListener> asyncExpirationListeners;
+    private final Boolean enableValueIndex;
+    private final Boolean enableKeyIndex;
+    private final Integer shardCount;
+    private final Long maxWeightBytes;
+    private final ExpireWeigher weigher;
+    private final AdmissionPolicy admissionPolicy;
 
     public DefaultExpireMapClientConfiguration(Integer maxSize,
                                                Long defaultExpireTime,
                                                TimeUnit defaultExpireTimeUnit,
                                                ExpirationPolicy expirationPolicy,
                                                List<ExpirationListener> syncExpirationListeners,
-                                               List<ExpirationListener> asyncExpirationListeners) {
+                                               List<ExpirationListener> asyncExpirationListeners,
+                                               Boolean enableValueIndex,
+                                               Boolean enableKeyIndex,
+                                               Integer shardCount,
+                                               Long maxWeightBytes,
+                                               ExpireWeigher weigher,
+                                               AdmissionPolicy admissionPolicy) {
         this.maxSize = maxSize;
         this.defaultExpireTime = defaultExpireTime;
         this.defaultExpireTimeUnit = defaultExpireTimeUnit;
         this.expirationPolicy = expirationPolicy;
         this.syncExpirationListeners = syncExpirationListeners;
         this.asyncExpirationListeners = asyncExpirationListeners;
+        this.enableValueIndex = enableValueIndex;
+        this.enableKeyIndex = enableKeyIndex;
+        this.shardCount = shardCount;
+        this.maxWeightBytes = maxWeightBytes;
+        this.weigher = weigher;
+        this.admissionPolicy = admissionPolicy;
     }
 
     /*
@@ -89,4 +109,58 @@ public class DefaultExpireMapClientConfiguration implements ExpireMapClientConfi
     public List<ExpirationListener> getASyncExpirationListeners() {
         return this.asyncExpirationListeners;
     }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.connection.expiremap.ExpireMapClientConfiguration#getEnableValueIndex()
+     */
+    @Override
+    public Boolean getEnableValueIndex() {
+        return this.enableValueIndex;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.connection.expiremap.ExpireMapClientConfiguration#getEnableKeyIndex()
+     */
+    @Override
+    public Boolean getEnableKeyIndex() {
+        return this.enableKeyIndex;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.connection.expiremap.ExpireMapClientConfiguration#getShardCount()
+     */
+    @Override
+    public Integer getShardCount() {
+        return this.shardCount;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.connection.expiremap.ExpireMapClientConfiguration#getMaxWeightBytes()
+     */
+    @Override
+    public Long getMaxWeightBytes() {
+        return this.maxWeightBytes;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.connection.expiremap.ExpireMapClientConfiguration#getWeigher()
+     */
+    @Override
+    public ExpireWeigher getWeigher() {
+        return this.weigher;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.connection.expiremap.ExpireMapClientConfiguration#getAdmissionPolicy()
+     */
+    @Override
+    public AdmissionPolicy getAdmissionPolicy() {
+        return this.admissionPolicy;
+    }
 }
@@ -0,0 +1,77 @@
+package io.github.zpf9705.expiring.help.expiremap;
+
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.util.AssertUtils;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * The real key of {@link net.jodah.expiringmap.ExpiringMap} in {@link ExpireMapCenter}.
+ * <p>
+ * A {@code byte[]} only has identity equality, so it cannot be used directly as a hash key.
+ * This class wraps the serialized key and compares it by content with {@link Arrays#equals(byte[], byte[])},
+ * and the hash code is calculated once at construction, so that the lookup of a key is a hash probe
+ * instead of a scan of all keys.
+ * <p>
+ * The wrapped bytes are not copied , so the caller must not modify them after wrapping.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public final class ExpireMapByteKey implements Serializable {
+
+    private static final long serialVersionUID = -4061829417786419373L;
+
+    private final byte[] bytes;
+
+    private final int hash;
+
+    private ExpireMapByteKey(byte[] bytes) {
+        this.bytes = bytes;
+        this.hash = Arrays.hashCode(bytes);
+    }
+
+    /**
+     * Wrap a {@code byte[]} key to {@link ExpireMapByteKey}
+     *
+     * @param bytes must not be {@literal null}
+     * @return {@link ExpireMapByteKey}
+     */
+    public static ExpireMapByteKey of(@NotNull byte[] bytes) {
+        AssertUtils.Operation.notNull(bytes, "Key bytes no be null");
+        return new ExpireMapByteKey(bytes);
+    }
+
+    /**
+     * Get the wrapped {@code byte[]} key
+     *
+     * @return not be {@literal null}
+     */
+    @NotNull
+    public byte[] getBytes() {
+        return this.bytes;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ExpireMapByteKey)) {
+            return false;
+        }
+        ExpireMapByteKey that = (ExpireMapByteKey) o;
+        return this.hash == that.hash && Arrays.equals(this.bytes, that.bytes);
+    }
+
+    @Override
+    public int hashCode() {
+        return this.hash;
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(this.bytes);
+    }
+}
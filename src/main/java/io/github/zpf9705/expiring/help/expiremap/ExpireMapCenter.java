@@ -1,17 +1,39 @@
 package io.github.zpf9705.expiring.help.expiremap;
 
 import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.core.annotation.NotNull;
 import io.github.zpf9705.expiring.core.persistence.ExpireBytesPersistenceSolver;
 import io.github.zpf9705.expiring.core.persistence.PersistenceSolver;
+import io.github.zpf9705.expiring.help.AdmissionPolicy;
+import io.github.zpf9705.expiring.help.ExpireWeigher;
+import io.github.zpf9705.expiring.help.FrequencySketch;
 import io.github.zpf9705.expiring.help.RecordActivationCenter;
+import io.github.zpf9705.expiring.help.SimilarKeyIndex;
 import io.github.zpf9705.expiring.listener.MessageExpiryCapable;
+import io.github.zpf9705.expiring.logger.Console;
+import io.github.zpf9705.expiring.util.CodecUtils;
 import io.github.zpf9705.expiring.util.CollectionUtils;
 import io.github.zpf9705.expiring.util.ServiceLoadUtils;
 import net.jodah.expiringmap.ExpirationListener;
 import net.jodah.expiringmap.ExpiringMap;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 /**
  * Cache center based on {@link ExpiringMap}.
@@ -21,6 +43,28 @@ import java.util.concurrent.TimeUnit;
  * Singleton objects of {@link ExpiringMap} and placing them in {@link RecordActivationCenter},
  * as well as rewriting and caching information read through file recovery.
  * <p>
+ * The keys are routed by hash to {@link ExpireMapClientConfiguration#getShardCount()} independent
+ * {@link ExpiringMap} shards , each shard has its own lock and expiration ordering , so that the writes
+ * of different shards do not contend. The max size is divided equally among the shards.
+ * <p>
+ * The bytes of all entries are weighted by {@link ExpireMapClientConfiguration#getWeigher()} and reported by
+ * {@link #getWeightBytes()} , if {@link ExpireMapClientConfiguration#getMaxWeightBytes()} is given , the entries
+ * nearest to expire are evicted after a write exceeds it , the same as the eviction of max size.
+ * <p>
+ * With {@link AdmissionPolicy#TINY_LFU} , a new key is put into a full shard only if its estimated request
+ * frequency is higher than the entry to be evicted , the hit ratio is reported by {@link #getHitRatio()}.
+ * <p>
+ * Besides the singleton , any named namespace center with its own configuration can be built by
+ * {@link #namespaceWithConfiguration(String, ExpireMapClientConfiguration)} , the entries , size , weight and
+ * policies of namespaces are independent of each other. The persistent keys of a namespace are wrapped by
+ * {@link ExpireMapNamespaceKey} , and restored to the center of the namespace by {@link #reloadNamespace}.
+ * <p>
+ * Each write of a key changes the {@link ExpiringMap} and the indexes in one hold of the lock of the key ,
+ * see {@link #writeWithKey(ExpireMapByteKey, Supplier)} , so that the indexes of a key are changed in the same
+ * order as its entry. The entries expired or evicted by max size leave the indexes in the expiration listener ,
+ * which {@link ExpiringMap} calls in the same hold of the shard lock as removing them. So a live key is always
+ * in the similar key index , which is used as the only source of the similar keys and scan.
+ * <p>
  * Once this class is encapsulated, it is not allowed to instantiate empty constructs.
  * It must be done through the above method and always maintain a unique operand.
  *
@@ -31,15 +75,86 @@ public final class ExpireMapCenter extends RecordActivationCenter<ExpireMapCente
 
     private static final long serialVersionUID = -7878806306402600655L;
 
+    /**
+     * Number of the lock stripes of keys , a power of two
+     */
+    static final int KEY_LOCK_STRIPES = 256;
+
     /**
      * Singleton for {@link ExpireMapCenter}
      */
     private static volatile ExpireMapCenter expireMapCenter;
 
     /**
-     * Core for cache client {@link ExpiringMap}
+     * Named namespace centers
+     */
+    private static final Map<String, ExpireMapCenter> NAMESPACE_CENTERS = new ConcurrentHashMap<>();
+
+    /**
+     * The restored entries of the namespaces not built yet , guarded by {@link #NAMESPACE_CENTERS}
+     */
+    private static final Map<String, List<Consumer<ExpireMapCenter>>> PENDING_RELOADS = new HashMap<>();
+
+    /**
+     * Core shards for cache client {@link ExpiringMap} , the key is compared by content with {@link ExpireMapByteKey}
+     */
+    private List<ExpiringMap<ExpireMapByteKey, byte[]>> solveDifferentialGenericSingletons;
+
+    /**
+     * Optional reverse value index , {@literal null} if not enable
+     */
+    private ExpireMapValueIndex valueIndex;
+
+    /**
+     * Optional similar key index , {@literal null} if not enable
+     */
+    private SimilarKeyIndex<ExpireMapByteKey> keyIndex;
+
+    /**
+     * Weigher of entries
+     */
+    private ExpireWeigher weigher;
+
+    /**
+     * Max weight bytes of all entries , not bounded if less than {@literal 1}
+     */
+    private long maxWeightBytes;
+
+    /**
+     * Current weight bytes of all entries
      */
-    private ExpiringMap<byte[], byte[]> solveDifferentialGenericSingleton;
+    private final AtomicLong weightBytes = new AtomicLong();
+
+    /**
+     * The listeners of configuration or added , notified of the entries evicted by weight
+     */
+    private final List<ExpirationListener<ExpireMapByteKey, byte[]>> evictionListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Request frequency sketch of {@link AdmissionPolicy#TINY_LFU} , {@literal null} if always admit
+     */
+    private FrequencySketch frequencySketch;
+
+    /**
+     * Read hits count
+     */
+    private final LongAdder hitCount = new LongAdder();
+
+    /**
+     * Read misses count
+     */
+    private final LongAdder missCount = new LongAdder();
+
+    /**
+     * The lock stripes of keys , see {@link #writeWithKey(ExpireMapByteKey, Supplier)}
+     */
+    private final Object[] keyLocks = new Object[KEY_LOCK_STRIPES];
+
+    {
+        for (int i = 0; i < KEY_LOCK_STRIPES; i++) {
+            this.keyLocks[i] = new Object();
+        }
+    }
 
     /**
      * Do not instance for no args construct
@@ -50,10 +165,25 @@ public final class ExpireMapCenter extends RecordActivationCenter<ExpireMapCente
     /**
      * Instance for {@link ExpiringMap}
      *
-     * @param solveDifferentialGenericSingleton not be {@literal null}
+     * @param solveDifferentialGenericSingletons not be {@literal null}
+     * @param valueIndex                         can be {@literal null}
+     * @param keyIndex                           can be {@literal null}
+     * @param weigher                            not be {@literal null}
+     * @param maxWeightBytes                     max weight bytes
+     * @param frequencySketch                    can be {@literal null}
      */
-    private ExpireMapCenter(ExpiringMap<byte[], byte[]> solveDifferentialGenericSingleton) {
-        this.solveDifferentialGenericSingleton = solveDifferentialGenericSingleton;
+    private ExpireMapCenter(List<ExpiringMap<ExpireMapByteKey, byte[]>> solveDifferentialGenericSingletons,
+                            ExpireMapValueIndex valueIndex,
+                            SimilarKeyIndex<ExpireMapByteKey> keyIndex,
+                            ExpireWeigher weigher,
+                            long maxWeightBytes,
+                            FrequencySketch frequencySketch) {
+        this.solveDifferentialGenericSingletons = Collections.unmodifiableList(solveDifferentialGenericSingletons);
+        this.valueIndex = valueIndex;
+        this.keyIndex = keyIndex;
+        this.weigher = weigher;
+        this.maxWeightBytes = maxWeightBytes;
+        this.frequencySketch = frequencySketch;
     }
 
     /**
@@ -66,7 +196,7 @@ public final class ExpireMapCenter extends RecordActivationCenter<ExpireMapCente
         if (expireMapCenter == null) {
             synchronized (ExpireMapCenter.class) {
                 if (expireMapCenter == null) {
-                    expireMapCenter = buildSingleton(configuration);
+                    expireMapCenter = buildCenter(configuration);
                     setSingletonCenter(expireMapCenter);
                 }
             }
@@ -87,24 +217,469 @@ public final class ExpireMapCenter extends RecordActivationCenter<ExpireMapCente
     }
 
     /**
-     * Get operation with a {@code ExpiringMap}
+     * Build the center of {@code namespace} with {@code ExpireMapClientConfiguration} once , the center is
+     * independent of the singleton and other namespaces
+     *
+     * @param namespace     must no be {@literal null}
+     * @param configuration must no be {@literal null}
+     * @return {@link ExpireMapCenter} of namespace
+     */
+    public static ExpireMapCenter namespaceWithConfiguration(@NotNull String namespace,
+                                                             @NotNull ExpireMapClientConfiguration configuration) {
+        ExpireMapCenter center = NAMESPACE_CENTERS.get(namespace);
+        if (center != null) {
+            return center;
+        }
+        List<Consumer<ExpireMapCenter>> pending;
+        synchronized (NAMESPACE_CENTERS) {
+            center = NAMESPACE_CENTERS.get(namespace);
+            if (center != null) {
+                return center;
+            }
+            center = buildCenter(configuration);
+            NAMESPACE_CENTERS.put(namespace, center);
+            pending = PENDING_RELOADS.remove(namespace);
+        }
+        if (pending != null) {
+            for (Consumer<ExpireMapCenter> reload : pending) {
+                reload.accept(center);
+            }
+        }
+        Console.info("Expire map namespace [{}] built with max size [{}]", namespace, configuration.getMaxSize());
+        return center;
+    }
+
+    /**
+     * Get the center of {@code namespace}
+     *
+     * @param namespace must no be {@literal null}
+     * @return {@link ExpireMapCenter} of namespace
+     */
+    public static ExpireMapCenter getNamespaceCenter(@NotNull String namespace) {
+        ExpireMapCenter center = NAMESPACE_CENTERS.get(namespace);
+        if (center == null) {
+            throw new OperationsException("ExpireMapCenter of namespace [" + namespace + "] need Initialize");
+        }
+        return center;
+    }
+
+    /**
+     * Get the names of all built namespaces
      *
+     * @return unmodifiable names
+     */
+    public static Set<String> getNamespaces() {
+        return Collections.unmodifiableSet(NAMESPACE_CENTERS.keySet());
+    }
+
+    /**
+     * Restore an entry of a namespace to the center of the namespace , if the namespace is not built yet ,
+     * the entry is restored when it is built
+     *
+     * @param key      must not be {@literal null}
+     * @param value    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     */
+    public static void reloadNamespace(@NotNull ExpireMapNamespaceKey key, @NotNull byte[] value,
+                                       @NotNull Long duration, @NotNull TimeUnit unit) {
+        ExpireMapCenter center = NAMESPACE_CENTERS.get(key.getNamespace());
+        if (center == null) {
+            synchronized (NAMESPACE_CENTERS) {
+                center = NAMESPACE_CENTERS.get(key.getNamespace());
+                if (center == null) {
+                    PENDING_RELOADS.computeIfAbsent(key.getNamespace(), n -> new ArrayList<>())
+                            .add(c -> c.reload(key.getKey(), value, duration, unit));
+                    return;
+                }
+            }
+        }
+        center.reload(key.getKey(), value, duration, unit);
+    }
+
+    /**
+     * Get operation with the {@code ExpiringMap} shard of {@code key}
+     *
+     * @param key must not be {@literal null}
      * @return {@link net.jodah.expiringmap.ExpiringMap}
      */
-    public ExpiringMap<byte[], byte[]> getExpiringMap() {
-        return this.solveDifferentialGenericSingleton;
+    public ExpiringMap<ExpireMapByteKey, byte[]> getExpiringMap(@NotNull ExpireMapByteKey key) {
+        int hash = key.hashCode();
+        return this.solveDifferentialGenericSingletons.get(
+                Math.floorMod(hash ^ (hash >>> 16), this.solveDifferentialGenericSingletons.size()));
+    }
+
+    /**
+     * Get all {@code ExpiringMap} shards for aggregate operation
+     *
+     * @return unmodifiable shards of {@link net.jodah.expiringmap.ExpiringMap}
+     */
+    public List<ExpiringMap<ExpireMapByteKey, byte[]>> getExpiringMaps() {
+        return this.solveDifferentialGenericSingletons;
+    }
+
+    /**
+     * Get the number of entries of all {@code ExpiringMap} shards
+     *
+     * @return entries number
+     */
+    public long size() {
+        return this.solveDifferentialGenericSingletons.parallelStream().mapToLong(ExpiringMap::size).sum();
+    }
+
+    /**
+     * Get the reverse value index of {@code ExpiringMap}
+     *
+     * @return {@link ExpireMapValueIndex} , {@literal null} if not enable
+     */
+    @CanNull
+    public ExpireMapValueIndex getValueIndex() {
+        return this.valueIndex;
+    }
+
+    /**
+     * Get the similar key index of {@code ExpiringMap}
+     *
+     * @return {@link SimilarKeyIndex} , {@literal null} if not enable
+     */
+    @CanNull
+    public SimilarKeyIndex<ExpireMapByteKey> getKeyIndex() {
+        return this.keyIndex;
+    }
+
+    /**
+     * Get the current weight bytes of all entries weighted by {@link ExpireMapClientConfiguration#getWeigher()}
+     *
+     * @return weight bytes
+     */
+    public long getWeightBytes() {
+        return this.weightBytes.get();
+    }
+
+    /**
+     * Get the max weight bytes of all entries
+     *
+     * @return max weight bytes , {@literal 0} if not bounded by weight
+     */
+    public long getMaxWeightBytes() {
+        return Math.max(this.maxWeightBytes, 0L);
+    }
+
+    /**
+     * Record a read of {@code key} for the hit ratio and request frequency
+     *
+     * @param key must not be {@literal null}
+     * @param hit if {@literal true} the value exist
+     */
+    public void recordRead(@NotNull ExpireMapByteKey key, boolean hit) {
+        if (hit) {
+            this.hitCount.increment();
+        } else {
+            this.missCount.increment();
+        }
+        if (this.frequencySketch != null) {
+            this.frequencySketch.increment(key.hashCode());
+        }
+    }
+
+    /**
+     * Record a write of {@code key} and determine whether to admit it , a present key or a shard not full
+     * is always admitted , otherwise the request frequency of {@code key} must be higher than the entry
+     * nearest to expire which the shard will evict
+     *
+     * @param key must not be {@literal null}
+     * @return if {@literal true} admit to put
+     */
+    public boolean admit(@NotNull ExpireMapByteKey key) {
+        if (this.frequencySketch == null) {
+            return true;
+        }
+        this.frequencySketch.increment(key.hashCode());
+        ExpiringMap<ExpireMapByteKey, byte[]> shard = this.getExpiringMap(key);
+        if (shard.size() < shard.getMaxSize() || shard.containsKey(key)) {
+            return true;
+        }
+        ExpireMapByteKey victim = nearestToExpire(shard);
+        return victim == null ||
+                this.frequencySketch.frequency(key.hashCode()) > this.frequencySketch.frequency(victim.hashCode());
+    }
+
+    /**
+     * Get the read hits count
+     *
+     * @return hits count
+     */
+    public long getHitCount() {
+        return this.hitCount.sum();
+    }
+
+    /**
+     * Get the read misses count
+     *
+     * @return misses count
+     */
+    public long getMissCount() {
+        return this.missCount.sum();
+    }
+
+    /**
+     * Get the ratio of read hits
+     *
+     * @return hit ratio , {@literal 1.0} if no read
+     */
+    public double getHitRatio() {
+        long hit = this.getHitCount();
+        long total = hit + this.getMissCount();
+        return total == 0L ? 1.0D : (double) hit / total;
+    }
+
+    /**
+     * Run a {@code write} of {@code key} in one hold of the lock of {@code key} , the write changes the
+     * {@code ExpiringMap} shard of {@code key} and then calls {@link #afterChanged} , so that the concurrent
+     * writes of the same key apply their index changes in the same order as their entry changes. The entries
+     * nearest to expire are evicted after the lock released if the max weight bytes is exceeded.
+     *
+     * @param key   must not be {@literal null}
+     * @param write must not be {@literal null}
+     * @param <R>   result generic
+     * @return the result of {@code write}
+     */
+    public <R> R writeWithKey(@NotNull ExpireMapByteKey key, @NotNull Supplier<R> write) {
+        R result;
+        synchronized (this.getKeyLock(key)) {
+            result = write.get();
+        }
+        if (this.maxWeightBytes > 0L && this.weightBytes.get() > this.maxWeightBytes) {
+            this.evictByWeight(key);
+        }
+        return result;
+    }
+
+    /**
+     * Synchronize the indexes and weight after the value of {@code key} changed from {@code oldValue}
+     * to {@code newValue} , must be called in {@link #writeWithKey(ExpireMapByteKey, Supplier)} of {@code key}
+     *
+     * @param key      must not be {@literal null}
+     * @param oldValue can be {@literal null}
+     * @param newValue can be {@literal null} if removed
+     */
+    public void afterChanged(@NotNull ExpireMapByteKey key, @CanNull byte[] oldValue, @CanNull byte[] newValue) {
+        if (this.valueIndex != null) {
+            this.valueIndex.replace(key, oldValue, newValue);
+        }
+        if (this.keyIndex != null) {
+            if (newValue == null) {
+                this.keyIndex.remove(key);
+            } else if (!this.keyIndex.contains(key)) {
+                //Decode only once when the key is added
+                this.keyIndex.add(key, CodecUtils.toStingBeReal(key.getBytes()));
+            }
+        }
+        this.weightBytes.addAndGet(this.weigh(key, newValue) - this.weigh(key, oldValue));
+        if (newValue != null && !this.getExpiringMap(key).containsKey(key)) {
+            //Expired or evicted between the write and here , its listener has already run before this record
+            if (this.valueIndex != null) {
+                this.valueIndex.remove(key);
+            }
+            if (this.keyIndex != null) {
+                this.keyIndex.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Synchronize the indexes and weight after the entry of {@code key} expired or evicted by max size ,
+     * called by the expiration listener in the hold of the shard lock.
+     * <p>
+     * The records are removed by key , the {@code value} notified by {@link ExpiringMap} may be of an older
+     * entry of the key , as an entry evicted by max size is not unscheduled and removes the key on expiration.
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     */
+    private void afterExpired(@NotNull ExpireMapByteKey key, @NotNull byte[] value) {
+        if (this.valueIndex != null) {
+            this.valueIndex.remove(key);
+        }
+        if (this.keyIndex != null) {
+            this.keyIndex.remove(key);
+        }
+        this.weightBytes.addAndGet(-this.weigh(key, value));
+    }
+
+    /**
+     * Get the lock of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return lock object
+     */
+    Object getKeyLock(@NotNull ExpireMapByteKey key) {
+        int hash = key.hashCode();
+        return this.keyLocks[(hash ^ (hash >>> 16)) & (KEY_LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Clear the indexes and weight after the {@code ExpiringMap} cleared
+     */
+    public void afterCleared() {
+        if (this.valueIndex != null) {
+            this.valueIndex.clear();
+        }
+        if (this.keyIndex != null) {
+            this.keyIndex.clear();
+        }
+        this.weightBytes.set(0L);
+    }
+
+    /**
+     * Calculate the weight of an entry
+     *
+     * @param key   must not be {@literal null}
+     * @param value can be {@literal null}
+     * @return weight bytes , {@literal 0} if value is {@literal null}
+     */
+    private long weigh(@NotNull ExpireMapByteKey key, @CanNull byte[] value) {
+        return value == null ? 0L : this.weigher.weigh(key.getBytes(), value);
     }
 
     /**
-     * Build Singleton with {@code ExpireMapClientConfiguration}.
+     * Evict the entries nearest to expire until the weight is not more than the max weight bytes ,
+     * start from the shard of {@code key} which is just written , each victim is removed in the lock of it
+     *
+     * @param key must not be {@literal null}
+     */
+    private void evictByWeight(@NotNull ExpireMapByteKey key) {
+        ExpiringMap<ExpireMapByteKey, byte[]> shard = this.getExpiringMap(key);
+        while (this.weightBytes.get() > this.maxWeightBytes) {
+            ExpireMapByteKey victim = nearestToExpire(shard);
+            if (victim == null) {
+                shard = this.solveDifferentialGenericSingletons.stream()
+                        .filter(s -> !s.isEmpty()).findFirst().orElse(null);
+                if (shard == null) {
+                    return;
+                }
+                continue;
+            }
+            byte[] value;
+            synchronized (this.getKeyLock(victim)) {
+                value = shard.remove(victim);
+                if (value != null) {
+                    this.afterChanged(victim, value, null);
+                }
+            }
+            if (value != null) {
+                for (ExpirationListener<ExpireMapByteKey, byte[]> listener : this.evictionListeners) {
+                    try {
+                        listener.expired(victim, value);
+                    } catch (Throwable e) {
+                        Console.warn("Notify the entry evicted by weight failed , msg [{}]", e.getMessage());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the key nearest to expire of {@code shard} , the keys of variable expiration are iterated
+     * in the order of expiration
+     *
+     * @param shard must not be {@literal null}
+     * @return key , {@literal null} if empty
+     */
+    @CanNull
+    private static ExpireMapByteKey nearestToExpire(@NotNull ExpiringMap<ExpireMapByteKey, byte[]> shard) {
+        for (; ; ) {
+            try {
+                Iterator<ExpireMapByteKey> iterator = shard.keySet().iterator();
+                return iterator.hasNext() ? iterator.next() : null;
+            } catch (ConcurrentModificationException | NoSuchElementException e) {
+                //The iteration of ExpiringMap is not locked , retry if modified concurrently
+            }
+        }
+    }
+
+    /**
+     * Build the singleton or a namespace center with {@code ExpireMapClientConfiguration}.
      *
      * @param configuration must no be {@literal null}
      * @return {@link ExpireMapCenter}
      */
+    private static ExpireMapCenter buildCenter(@NotNull ExpireMapClientConfiguration configuration) {
+        ExpireMapValueIndex valueIndex = Boolean.TRUE.equals(configuration.getEnableValueIndex()) ?
+                new ExpireMapValueIndex() : null;
+        SimilarKeyIndex<ExpireMapByteKey> keyIndex = Boolean.TRUE.equals(configuration.getEnableKeyIndex()) ?
+                new SimilarKeyIndex<>() : null;
+        int shardCount = configuration.getShardCount();
+        //The max size is divided equally , round up to keep the total not less than the configuration ,
+        //without the overflow of adding to a max size near Integer.MAX_VALUE
+        int maxSize = configuration.getMaxSize();
+        int shardMaxSize = maxSize / shardCount + (maxSize % shardCount == 0 ? 0 : 1);
+        List<ExpiringMap<ExpireMapByteKey, byte[]>> solveDifferentialGenericSingletons = new ArrayList<>(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            solveDifferentialGenericSingletons.add(buildShard(configuration, shardMaxSize));
+        }
+        ExpireMapCenter center = new ExpireMapCenter(solveDifferentialGenericSingletons, valueIndex, keyIndex,
+                configuration.getWeigher(), configuration.getMaxWeightBytes(),
+                configuration.getAdmissionPolicy() == AdmissionPolicy.TINY_LFU ?
+                        new FrequencySketch(configuration.getMaxSize()) : null);
+        center.addEvictionListeners(configuration.getSyncExpirationListeners());
+        center.addEvictionListeners(configuration.getASyncExpirationListeners());
+        //Expired or evicted entries leave the indexes and weight first , in the hold of the shard lock
+        solveDifferentialGenericSingletons.forEach(shard ->
+                shard.addExpirationListener(center::afterExpired));
+        if (center.frequencySketch != null) {
+            Console.info("Expire map admission policy [{}] enabled , see ExpireMapCenter#getHitRatio()",
+                    configuration.getAdmissionPolicy());
+        }
+        if (center.maxWeightBytes > 0L) {
+            Console.info("Expire map bounded by [{}] weight bytes , see ExpireMapCenter#getWeightBytes()",
+                    center.maxWeightBytes);
+        }
+        if (valueIndex != null) {
+            Console.info("Expire map value index enabled , estimated extra [{}] bytes per distinct value " +
+                            "and [{}] bytes per key , see ExpireMapValueIndex#estimateMemoryUsage()",
+                    ExpireMapValueIndex.HASH_NODE_SIZE + ExpireMapValueIndex.BYTE_KEY_SIZE +
+                            ExpireMapValueIndex.KEY_SET_SIZE, 2 * ExpireMapValueIndex.HASH_NODE_SIZE);
+        }
+        return center;
+    }
+
+    /**
+     * Add a listener to be notified of the entries expired or evicted from all shards
+     *
+     * @param expirationListener must not be {@literal null}
+     */
+    public void addExpirationListener(@NotNull ExpirationListener<ExpireMapByteKey, byte[]> expirationListener) {
+        this.evictionListeners.add(expirationListener);
+        this.solveDifferentialGenericSingletons.forEach(shard -> shard.addExpirationListener(expirationListener));
+    }
+
+    /**
+     * Add the listeners of configuration to be notified of the entries evicted by weight
+     *
+     * @param expirationListeners can be {@literal null}
+     */
+    @SuppressWarnings("rawtypes")
+    private void addEvictionListeners(@CanNull List<ExpirationListener> expirationListeners) {
+        if (CollectionUtils.simpleNotEmpty(expirationListeners)) {
+            for (ExpirationListener expirationListener : expirationListeners) {
+                this.evictionListeners.add(new ByteKeyExpirationListener(expirationListener));
+            }
+        }
+    }
+
+    /**
+     * Build a shard of {@link ExpiringMap} with {@code ExpireMapClientConfiguration}.
+     *
+     * @param configuration must no be {@literal null}
+     * @param maxSize       max size of the shard
+     * @return {@link ExpiringMap}
+     */
     @SuppressWarnings({"rawtypes", "unchecked"})
-    private static ExpireMapCenter buildSingleton(@NotNull ExpireMapClientConfiguration configuration) {
-        ExpiringMap<byte[], byte[]> solveDifferentialGenericSingleton = ExpiringMap.builder()
-                .maxSize(configuration.getMaxSize())
+    private static ExpiringMap<ExpireMapByteKey, byte[]> buildShard(@NotNull ExpireMapClientConfiguration configuration,
+                                                                    int maxSize) {
+        ExpiringMap<ExpireMapByteKey, byte[]> solveDifferentialGenericSingleton = ExpiringMap.builder()
+                .maxSize(maxSize)
                 .expiration(configuration.getDefaultExpireTime(), configuration.getDefaultExpireTimeUnit())
                 .expirationPolicy(configuration.getExpirationPolicy())
                 .variableExpiration()
@@ -112,40 +687,44 @@ public final class ExpireMapCenter extends RecordActivationCenter<ExpireMapCente
         if (CollectionUtils.simpleNotEmpty(configuration.getSyncExpirationListeners())) {
             for (ExpirationListener expirationListener : configuration.getSyncExpirationListeners()) {
                 //sync
-                solveDifferentialGenericSingleton.addExpirationListener(expirationListener);
+                solveDifferentialGenericSingleton.addExpirationListener(
+                        new ByteKeyExpirationListener(expirationListener));
 
             }
         }
         if (CollectionUtils.simpleNotEmpty(configuration.getASyncExpirationListeners())) {
             for (ExpirationListener expirationListener : configuration.getASyncExpirationListeners()) {
                 //async
-                solveDifferentialGenericSingleton.addAsyncExpirationListener(expirationListener);
+                solveDifferentialGenericSingleton.addAsyncExpirationListener(
+                        new ByteKeyExpirationListener(expirationListener));
 
             }
         }
-        return new ExpireMapCenter(solveDifferentialGenericSingleton);
+        return solveDifferentialGenericSingleton;
     }
 
     @Override
     public ExpireMapCenter getHelpCenter() {
-        return getExpireMapCenter();
+        //The singleton or a namespace center
+        return this;
     }
 
     @Override
     public void reload(@NotNull byte[] key, @NotNull byte[] value, @NotNull Long duration,
                        @NotNull TimeUnit unit) {
-        if (this.solveDifferentialGenericSingleton == null) {
+        if (this.solveDifferentialGenericSingletons == null) {
             return;
         }
-        this.solveDifferentialGenericSingleton.put(key, value, duration, unit);
-        this.getContain().putIfAbsent(key, value);
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        this.writeWithKey(byteKey, () -> {
+            this.afterChanged(byteKey, this.getExpiringMap(byteKey).put(byteKey, value, duration, unit), value);
+            return null;
+        });
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void cleanSupportingElements(@NotNull MessageExpiryCapable capable) {
-        //Remove control information
-        this.getContain().remove(capable.getByteKey(), capable.getByteValue());
         //Remove persistent cache
         PersistenceSolver<byte[], byte[]> solver = ServiceLoadUtils.load(PersistenceSolver.class)
                 .getSpecifiedServiceBySubClass(ExpireBytesPersistenceSolver.class);
@@ -153,4 +732,23 @@ public final class ExpireMapCenter extends RecordActivationCenter<ExpireMapCente
             solver.removePersistence(capable.getByteKey(), capable.getByteValue());
         }
     }
+
+    /**
+     * Restore the {@code byte[]} key of {@link ExpireMapByteKey} for the {@link ExpirationListener}
+     * provided by the configuration, so that the listener is not aware of the key wrapper.
+     */
+    @SuppressWarnings({"rawtypes", "unchecked"})
+    public static class ByteKeyExpirationListener implements ExpirationListener<ExpireMapByteKey, byte[]> {
+
+        private final ExpirationListener delegate;
+
+        public ByteKeyExpirationListener(ExpirationListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void expired(ExpireMapByteKey key, byte[] value) {
+            this.delegate.expired(key.getBytes(), value);
+        }
+    }
 }
@@ -1,6 +1,8 @@
 package io.github.zpf9705.expiring.help.expiremap;
 
 import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.help.AdmissionPolicy;
+import io.github.zpf9705.expiring.help.ExpireWeigher;
 import io.github.zpf9705.expiring.util.AssertUtils;
 import net.jodah.expiringmap.ExpirationListener;
 import net.jodah.expiringmap.ExpirationPolicy;
@@ -64,6 +66,48 @@ public interface ExpireMapClientConfiguration {
      */
     List<ExpirationListener> getASyncExpirationListeners();
 
+    /**
+     * Whether to maintain the reverse value index {@link ExpireMapValueIndex}
+     *
+     * @return {@literal Boolean} if {@literal true} enable value index
+     */
+    Boolean getEnableValueIndex();
+
+    /**
+     * Whether to maintain the similar key index {@link io.github.zpf9705.expiring.help.SimilarKeyIndex}
+     *
+     * @return {@literal Boolean} if {@literal true} enable key index
+     */
+    Boolean getEnableKeyIndex();
+
+    /**
+     * Get the number of {@link net.jodah.expiringmap.ExpiringMap} shards that keys are routed to
+     *
+     * @return {@literal Integer} shard count
+     */
+    Integer getShardCount();
+
+    /**
+     * Get the max bytes weighted by {@link #getWeigher()} of all entries , not less than {@literal 1} to enable
+     *
+     * @return {@literal Long} max weight bytes , {@literal 0} if not bounded by weight
+     */
+    Long getMaxWeightBytes();
+
+    /**
+     * Get the weigher to calculate the bytes of an entry
+     *
+     * @return {@link ExpireWeigher}
+     */
+    ExpireWeigher getWeigher();
+
+    /**
+     * For specific explanations, please refer to {@link AdmissionPolicy}
+     *
+     * @return {@literal AdmissionPolicy} admission policy when full
+     */
+    AdmissionPolicy getAdmissionPolicy();
+
     /**
      * Create a new {@link ExpireMapClientConfigurationBuilder} to build {@link ExpireMapClientConfiguration} to be used
      *
@@ -105,10 +149,27 @@ public interface ExpireMapClientConfiguration {
         TimeUnit defaultExpireTimeUnit;
         @CanNull
         ExpirationPolicy expirationPolicy;
+        @CanNull
+        Boolean enableValueIndex;
+        @CanNull
+        Boolean enableKeyIndex;
+        @CanNull
+        Integer shardCount;
+        @CanNull
+        Long maxWeightBytes;
+        @CanNull
+        ExpireWeigher weigher;
+        @CanNull
+        AdmissionPolicy admissionPolicy;
         static final Integer DEFAULT_MAX_SIZE = 20 * 50;
         static final Long DEFAULT_EXPIRE_TIME = 30L;
         static final TimeUnit DEFAULT_EXPIRE_TIME_UNIT = TimeUnit.SECONDS;
         static final ExpirationPolicy DEFAULT_EXPIRATION_POLICY = ExpirationPolicy.ACCESSED;
+        static final Boolean DEFAULT_ENABLE_VALUE_INDEX = false;
+        static final Boolean DEFAULT_ENABLE_KEY_INDEX = false;
+        static final Integer DEFAULT_SHARD_COUNT = 1;
+        static final Long DEFAULT_MAX_WEIGHT_BYTES = 0L;
+        static final AdmissionPolicy DEFAULT_ADMISSION_POLICY = AdmissionPolicy.ALWAYS;
         final List<ExpirationListener> syncExpirationListeners = new ArrayList<>();
         final List<ExpirationListener> asyncExpirationListeners = new ArrayList<>();
 
@@ -167,6 +228,84 @@ public interface ExpireMapClientConfiguration {
             return this;
         }
 
+        /**
+         * Given the map whether to maintain the reverse value index
+         *
+         * @param enableValueIndex Whether to enable value index
+         * @return {@link ExpireMapClientConfigurationBuilder}
+         */
+        public ExpireMapClientConfigurationBuilder acquireEnableValueIndex(Boolean enableValueIndex) {
+            AssertUtils.Operation.isTrue(this.enableValueIndex == null,
+                    "EnableValueIndex existing configuration values, please do not cover");
+            this.enableValueIndex = enableValueIndex;
+            return this;
+        }
+
+        /**
+         * Given the map whether to maintain the similar key index
+         *
+         * @param enableKeyIndex Whether to enable key index
+         * @return {@link ExpireMapClientConfigurationBuilder}
+         */
+        public ExpireMapClientConfigurationBuilder acquireEnableKeyIndex(Boolean enableKeyIndex) {
+            AssertUtils.Operation.isTrue(this.enableKeyIndex == null,
+                    "EnableKeyIndex existing configuration values, please do not cover");
+            this.enableKeyIndex = enableKeyIndex;
+            return this;
+        }
+
+        /**
+         * Given the map the number of shards that keys are routed to
+         *
+         * @param shardCount The number of shards
+         * @return {@link ExpireMapClientConfigurationBuilder}
+         */
+        public ExpireMapClientConfigurationBuilder acquireShardCount(Integer shardCount) {
+            AssertUtils.Operation.isTrue(this.shardCount == null,
+                    "ShardCount existing configuration values, please do not cover");
+            this.shardCount = shardCount;
+            return this;
+        }
+
+        /**
+         * Given the map the max bytes of all entries , evict the entries nearest to expire when exceeded
+         *
+         * @param maxWeightBytes The max weight bytes
+         * @return {@link ExpireMapClientConfigurationBuilder}
+         */
+        public ExpireMapClientConfigurationBuilder acquireMaxWeightBytes(Long maxWeightBytes) {
+            AssertUtils.Operation.isTrue(this.maxWeightBytes == null,
+                    "MaxWeightBytes existing configuration values, please do not cover");
+            this.maxWeightBytes = maxWeightBytes;
+            return this;
+        }
+
+        /**
+         * Given the map the weigher to calculate the bytes of an entry
+         *
+         * @param weigher The weigher
+         * @return {@link ExpireMapClientConfigurationBuilder}
+         */
+        public ExpireMapClientConfigurationBuilder acquireWeigher(ExpireWeigher weigher) {
+            AssertUtils.Operation.isTrue(this.weigher == null,
+                    "Weigher existing configuration values, please do not cover");
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Given the map of a admission policy when full
+         *
+         * @param admissionPolicy The admission policy
+         * @return {@link ExpireMapClientConfigurationBuilder}
+         */
+        public ExpireMapClientConfigurationBuilder acquireAdmissionPolicy(AdmissionPolicy admissionPolicy) {
+            AssertUtils.Operation.isTrue(this.admissionPolicy == null,
+                    "AdmissionPolicy existing configuration values, please do not cover");
+            this.admissionPolicy = admissionPolicy;
+            return this;
+        }
+
         /**
          * Increase the sync expired listeners
          *
@@ -207,13 +346,37 @@ public interface ExpireMapClientConfiguration {
             if (this.expirationPolicy == null) {
                 this.expirationPolicy = DEFAULT_EXPIRATION_POLICY;
             }
+            if (this.enableValueIndex == null) {
+                this.enableValueIndex = DEFAULT_ENABLE_VALUE_INDEX;
+            }
+            if (this.enableKeyIndex == null) {
+                this.enableKeyIndex = DEFAULT_ENABLE_KEY_INDEX;
+            }
+            if (this.shardCount == null || this.shardCount < 1) {
+                this.shardCount = DEFAULT_SHARD_COUNT;
+            }
+            if (this.maxWeightBytes == null || this.maxWeightBytes < 0L) {
+                this.maxWeightBytes = DEFAULT_MAX_WEIGHT_BYTES;
+            }
+            if (this.weigher == null) {
+                this.weigher = ExpireWeigher.defaultWeigher();
+            }
+            if (this.admissionPolicy == null) {
+                this.admissionPolicy = DEFAULT_ADMISSION_POLICY;
+            }
             return new DefaultExpireMapClientConfiguration(
                     this.maxSize,
                     this.defaultExpireTime,
                     this.defaultExpireTimeUnit,
                     this.expirationPolicy,
                     this.syncExpirationListeners,
-                    this.asyncExpirationListeners);
+                    this.asyncExpirationListeners,
+                    this.enableValueIndex,
+                    this.enableKeyIndex,
+                    this.shardCount,
+                    this.maxWeightBytes,
+                    this.weigher,
+                    this.admissionPolicy);
         }
     }
 }
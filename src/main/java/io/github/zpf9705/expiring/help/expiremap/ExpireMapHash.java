@@ -0,0 +1,280 @@
+package io.github.zpf9705.expiring.help.expiremap;
+
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The value of a hash , all the fields of a hash are stored compactly in the value of one entry , see
+ * {@link io.github.zpf9705.expiring.command.ExpireHashCommands}.
+ * <p>
+ * The encoded form is a {@link #MAGIC} byte followed by the records of fields , a record is the length and bytes
+ * of field , the length and bytes of value and the deadline in epoch milliseconds , {@literal 0} if the field
+ * does not expire by itself. The deadline is a wall clock time so that it is still right after the value is
+ * restored from persistence.
+ * <p>
+ * The expired fields are skipped by decoding , and dropped when the hash is encoded after a change.
+ * A field never outlives its hash , which expires as any other entry.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public final class ExpireMapHash {
+
+    /**
+     * The first byte of an encoded hash
+     */
+    static final byte MAGIC = (byte) 0xE8;
+
+    static final long NO_DEADLINE = 0L;
+
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2 + Long.BYTES;
+
+    private final Map<ExpireMapByteKey, Field> fields;
+
+    private ExpireMapHash(Map<ExpireMapByteKey, Field> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Decode the not expired fields of a hash
+     *
+     * @param bytes can be {@literal null} if the hash not exist
+     * @return {@link ExpireMapHash}
+     */
+    public static ExpireMapHash decode(@CanNull byte[] bytes) {
+        Map<ExpireMapByteKey, Field> fields = new LinkedHashMap<>();
+        if (bytes != null) {
+            long now = System.currentTimeMillis();
+            ByteBuffer buffer = wrap(bytes);
+            try {
+                while (buffer.hasRemaining()) {
+                    byte[] field = read(buffer);
+                    byte[] value = read(buffer);
+                    long deadline = buffer.getLong();
+                    if (!expired(deadline, now)) {
+                        fields.put(ExpireMapByteKey.of(field), new Field(value, deadline));
+                    }
+                }
+            } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+                throw notHash();
+            }
+        }
+        return new ExpireMapHash(fields);
+    }
+
+    /**
+     * Find the value of {@code field} in an encoded hash without decoding the other fields
+     *
+     * @param bytes can be {@literal null} if the hash not exist
+     * @param field must not be {@literal null}
+     * @return value , {@literal null} if not exist or expired
+     */
+    @CanNull
+    public static byte[] find(@CanNull byte[] bytes, @NotNull byte[] field) {
+        if (bytes == null) {
+            return null;
+        }
+        ByteBuffer buffer = wrap(bytes);
+        try {
+            while (buffer.hasRemaining()) {
+                int fieldLength = buffer.getInt();
+                boolean matched = fieldLength == field.length && regionEquals(buffer, field);
+                buffer.position(buffer.position() + fieldLength);
+                int valueLength = buffer.getInt();
+                if (!matched) {
+                    buffer.position(buffer.position() + valueLength + Long.BYTES);
+                    continue;
+                }
+                byte[] value = new byte[valueLength];
+                buffer.get(value);
+                return expired(buffer.getLong(), System.currentTimeMillis()) ? null : value;
+            }
+        } catch (BufferUnderflowException | IllegalArgumentException | NegativeArraySizeException e) {
+            throw notHash();
+        }
+        return null;
+    }
+
+    /**
+     * Encode the not expired fields
+     *
+     * @return encoded hash
+     */
+    public byte[] encode() {
+        long now = System.currentTimeMillis();
+        int size = 1;
+        for (Map.Entry<ExpireMapByteKey, Field> entry : this.fields.entrySet()) {
+            size += RECORD_HEADER_SIZE + entry.getKey().getBytes().length + entry.getValue().value.length;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(MAGIC);
+        for (Map.Entry<ExpireMapByteKey, Field> entry : this.fields.entrySet()) {
+            Field field = entry.getValue();
+            if (expired(field.deadline, now)) {
+                continue;
+            }
+            byte[] key = entry.getKey().getBytes();
+            buffer.putInt(key.length).put(key).putInt(field.value.length).put(field.value).putLong(field.deadline);
+        }
+        if (buffer.hasRemaining()) {
+            //Some fields expired in between
+            byte[] bytes = new byte[buffer.position()];
+            System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+            return bytes;
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Put the {@code value} of {@code field}
+     *
+     * @param field    must not be {@literal null}
+     * @param value    must not be {@literal null}
+     * @param duration if {@literal null} the field does not expire by itself
+     * @param unit     can be {@literal null} if {@code duration} is {@literal null}
+     */
+    public void put(@NotNull byte[] field, @NotNull byte[] value, @CanNull Long duration, @CanNull TimeUnit unit) {
+        this.fields.put(ExpireMapByteKey.of(field), new Field(value, deadline(duration, unit)));
+    }
+
+    /**
+     * Put the {@code value} of {@code field} if it is absent
+     *
+     * @param field must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return if {@literal true} put
+     */
+    public boolean putIfAbsent(@NotNull byte[] field, @NotNull byte[] value) {
+        return this.fields.putIfAbsent(ExpireMapByteKey.of(field), new Field(value, NO_DEADLINE)) == null;
+    }
+
+    /**
+     * Remove the {@code field}
+     *
+     * @param field must not be {@literal null}
+     * @return if {@literal true} removed
+     */
+    public boolean remove(@NotNull byte[] field) {
+        return this.fields.remove(ExpireMapByteKey.of(field)) != null;
+    }
+
+    /**
+     * Set the expiration of {@code field}
+     *
+     * @param field    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return if {@literal true} the field exist
+     */
+    public boolean expire(@NotNull byte[] field, @NotNull Long duration, @NotNull TimeUnit unit) {
+        Field exist = this.fields.get(ExpireMapByteKey.of(field));
+        if (exist == null) {
+            return false;
+        }
+        exist.deadline = deadline(duration, unit);
+        return true;
+    }
+
+    /**
+     * Get the rest of the expiration time of {@code field}
+     *
+     * @param field must not be {@literal null}
+     * @param unit  must not be {@literal null}
+     * @return the rest time , {@literal -1} if the field does not expire by itself , {@literal null} if not exist
+     */
+    @CanNull
+    public Long getExpectedExpiration(@NotNull byte[] field, @NotNull TimeUnit unit) {
+        Field exist = this.fields.get(ExpireMapByteKey.of(field));
+        if (exist == null) {
+            return null;
+        }
+        if (exist.deadline == NO_DEADLINE) {
+            return -1L;
+        }
+        return unit.convert(Math.max(exist.deadline - System.currentTimeMillis(), 0L), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Get the fields and values
+     *
+     * @return fields and values in the order of put
+     */
+    public Map<byte[], byte[]> toMap() {
+        Map<byte[], byte[]> map = new LinkedHashMap<>(this.fields.size() * 4 / 3 + 1);
+        this.fields.forEach((k, v) -> map.put(k.getBytes(), v.value));
+        return map;
+    }
+
+    public int size() {
+        return this.fields.size();
+    }
+
+    public boolean isEmpty() {
+        return this.fields.isEmpty();
+    }
+
+    private static ByteBuffer wrap(byte[] bytes) {
+        if (bytes.length == 0 || bytes[0] != MAGIC) {
+            throw notHash();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        buffer.position(1);
+        return buffer;
+    }
+
+    private static byte[] read(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private static boolean regionEquals(ByteBuffer buffer, byte[] bytes) {
+        int position = buffer.position();
+        if (buffer.remaining() < bytes.length) {
+            return false;
+        }
+        for (int i = 0; i < bytes.length; i++) {
+            if (buffer.get(position + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long deadline(@CanNull Long duration, @CanNull TimeUnit unit) {
+        if (duration == null || unit == null) {
+            return NO_DEADLINE;
+        }
+        return System.currentTimeMillis() + unit.toMillis(duration);
+    }
+
+    private static boolean expired(long deadline, long now) {
+        return deadline != NO_DEADLINE && deadline <= now;
+    }
+
+    private static OperationsException notHash() {
+        return new OperationsException("The value is not a hash");
+    }
+
+    /**
+     * The value and deadline of a field
+     */
+    private static final class Field {
+
+        private final byte[] value;
+
+        private long deadline;
+
+        Field(byte[] value, long deadline) {
+            this.value = value;
+            this.deadline = deadline;
+        }
+    }
+}
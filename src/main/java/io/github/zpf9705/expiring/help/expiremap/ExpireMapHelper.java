@@ -1,8 +1,13 @@
 package io.github.zpf9705.expiring.help.expiremap;
 
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.ScanPage;
 import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.help.ExpireHelper;
+import io.github.zpf9705.expiring.util.CounterUtils;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +41,36 @@ public interface ExpireMapHelper extends ExpireHelper {
      */
     Boolean putDuration(byte[] key, byte[] value, Long duration, TimeUnit unit);
 
+    /**
+     * Put all the {@code tuple} by {@link #put(byte[], byte[])} in one call of the helper
+     *
+     * @param tuple must not be {@literal null}
+     * @return {@literal true} if all the entries are set
+     */
+    default Boolean putAll(Map<byte[], byte[]> tuple) {
+        boolean all = true;
+        for (Map.Entry<byte[], byte[]> entry : tuple.entrySet()) {
+            all &= Boolean.TRUE.equals(this.put(entry.getKey(), entry.getValue()));
+        }
+        return all;
+    }
+
+    /**
+     * Put all the {@code tuple} by {@link #putDuration(byte[], byte[], Long, TimeUnit)} in one call of the helper
+     *
+     * @param tuple    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return {@literal true} if all the entries are set
+     */
+    default Boolean putAllDuration(Map<byte[], byte[]> tuple, Long duration, TimeUnit unit) {
+        boolean all = true;
+        for (Map.Entry<byte[], byte[]> entry : tuple.entrySet()) {
+            all &= Boolean.TRUE.equals(this.putDuration(entry.getKey(), entry.getValue(), duration, unit));
+        }
+        return all;
+    }
+
     /**
      * Proxy for {@link net.jodah.expiringmap.ExpiringMap#putIfAbsent(Object, Object)}}
      *
@@ -64,6 +99,20 @@ public interface ExpireMapHelper extends ExpireHelper {
      */
     byte[] getVal(byte[] key);
 
+    /**
+     * Get the values of all the {@code keys} by {@link #getVal(byte[])} in one call of the helper
+     *
+     * @param keys must not be {@literal null}
+     * @return the values in the order of {@code keys} , {@literal null} for an absent key
+     */
+    default List<byte[]> getVals(Collection<byte[]> keys) {
+        List<byte[]> values = new ArrayList<>(keys.size());
+        for (byte[] key : keys) {
+            values.add(this.getVal(key));
+        }
+        return values;
+    }
+
     /**
      * Proxy for {@link net.jodah.expiringmap.ExpiringMap#get(Object)}
      *
@@ -72,6 +121,16 @@ public interface ExpireMapHelper extends ExpireHelper {
      */
     List<byte[]> getKeysByKeys(byte[] key);
 
+    /**
+     * Scan a page of keys from {@code cursor} , see {@link io.github.zpf9705.expiring.help.KeyScanner}
+     *
+     * @param cursor {@literal 0} to start , or the cursor of the previous page
+     * @param match  simple pattern with {@literal *} of keys , {@literal null} matches all
+     * @param count  the hint of keys number of a page , must be positive
+     * @return a page of keys and the next cursor
+     */
+    ScanPage<byte[]> scan(long cursor, @CanNull String match, int count);
+
     /**
      * Proxy for {@link net.jodah.expiringmap.ExpiringMap#replace(Object, Object)}
      *
@@ -81,6 +140,83 @@ public interface ExpireMapHelper extends ExpireHelper {
      */
     byte[] replace(byte[] key, byte[] newValue);
 
+    /**
+     * Proxy for {@link net.jodah.expiringmap.ExpiringMap#replace(Object, Object, Object)} , the value is replaced
+     * only if it is still equal to {@code expect}
+     *
+     * @param key      must not be {@literal null}
+     * @param expect   must not be {@literal null}
+     * @param newValue must not be {@literal null}
+     * @return if {@literal true} replaced
+     */
+    Boolean compareAndReplace(byte[] key, byte[] expect, byte[] newValue);
+
+    /**
+     * Replace the value only if it is still equal to {@code expect} like
+     * {@link #compareAndReplace(byte[], byte[], byte[])} , but the countdown is not restarted , the key keeps
+     * its deadline
+     *
+     * @param key      must not be {@literal null}
+     * @param expect   must not be {@literal null}
+     * @param newValue must not be {@literal null}
+     * @return if {@literal true} replaced
+     */
+    Boolean compareAndUpdate(byte[] key, byte[] expect, byte[] newValue);
+
+    /**
+     * Increment the counter of {@code key} by {@link #incrementByDuration(byte[], long, Long, TimeUnit)}
+     * without duration
+     *
+     * @param key   must not be {@literal null}
+     * @param delta can be negative
+     * @return the counter value after incremented , {@literal null} if the counter can not be created
+     */
+    @CanNull
+    default Long incrementBy(byte[] key, long delta) {
+        return this.incrementByDuration(key, delta, null, null);
+    }
+
+    /**
+     * Increment the counter of {@code key} without lock , the value is compared and replaced until no other
+     * change happened in between , an absent counter is put if absent with {@code delta}.
+     * <p>
+     * The counter keeps the deadline of its creation by {@link #compareAndUpdate(byte[], byte[], byte[])} ,
+     * the {@code duration} is only used when the counter is created.
+     *
+     * @param key      must not be {@literal null}
+     * @param delta    can be negative
+     * @param duration if {@literal null} use the default duration
+     * @param unit     can be {@literal null} if {@code duration} is {@literal null}
+     * @return the counter value after incremented , {@literal null} if the counter can not be created
+     */
+    @CanNull
+    default Long incrementByDuration(byte[] key, long delta, @CanNull Long duration, @CanNull TimeUnit unit) {
+        for (; ; ) {
+            byte[] current = this.getVal(key);
+            if (current == null) {
+                byte[] initial = CounterUtils.toBytes(delta);
+                if (Boolean.TRUE.equals(duration == null ? this.putIfAbsent(key, initial) :
+                        this.putIfAbsentDuration(key, initial, duration, unit))) {
+                    return delta;
+                }
+                //Not put and still absent , the new key is not admitted
+                if (!Boolean.TRUE.equals(this.containsKey(key))) {
+                    return null;
+                }
+            } else {
+                long next;
+                try {
+                    next = Math.addExact(CounterUtils.toLong(current), delta);
+                } catch (ArithmeticException e) {
+                    throw new OperationsException("The counter overflows by the delta [" + delta + "]");
+                }
+                if (Boolean.TRUE.equals(this.compareAndUpdate(key, current, CounterUtils.toBytes(next)))) {
+                    return next;
+                }
+            }
+        }
+    }
+
     /**
      * Proxy for {@link net.jodah.expiringmap.ExpiringMap#remove(Object)}
      *
@@ -98,6 +234,15 @@ public interface ExpireMapHelper extends ExpireHelper {
      */
     Map<byte[], byte[]> deleteSimilarKey(byte[] key);
 
+    /**
+     * Proxy for {@link net.jodah.expiringmap.ExpiringMap#remove(Object, Object)}
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return if {@literal true} removed
+     */
+    Boolean removeWithValue(byte[] key, byte[] value);
+
     /**
      * Proxy for {@link net.jodah.expiringmap.ExpiringMap#clear()}
      *
@@ -1,12 +1,18 @@
 package io.github.zpf9705.expiring.help.expiremap;
 
 import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.core.persistence.ExpireBytesPersistenceSolver;
+import io.github.zpf9705.expiring.core.persistence.PersistenceSolver;
 import io.github.zpf9705.expiring.help.ExpireHelper;
 import io.github.zpf9705.expiring.help.ExpireHelperFactory;
 import io.github.zpf9705.expiring.util.JdkProxyUtils;
+import io.github.zpf9705.expiring.util.ServiceLoadUtils;
 
 /**
  * ExpireMap Connection factory creating for {@code ExpireHelperFactory}
+ * <p>
+ * The helper is bound to the singleton {@link ExpireMapCenter} , or to the center of a namespace if a namespace
+ * is given.
  *
  * @author zpf
  * @since 3.0.0
@@ -19,6 +25,12 @@ public class ExpireMapHelperFactory implements ExpireHelperFactory {
         this.helper = doCreateExpireMapHelp(clientConfiguration);
     }
 
+    public ExpireMapHelperFactory(@NotNull String namespace,
+                                  @NotNull ExpireMapClientConfiguration clientConfiguration,
+                                  boolean openPersistence) {
+        this.helper = doCreateNamespaceHelp(namespace, clientConfiguration, openPersistence);
+    }
+
     @Override
     @NotNull
     public ExpireHelper getHelper() {
@@ -40,4 +52,32 @@ public class ExpireMapHelperFactory implements ExpireHelperFactory {
         );
         return JdkProxyUtils.createProxy(processor);
     }
+
+    /**
+     * Setting an Expire Map connection of {@code namespace}
+     *
+     * @param namespace           the name of namespace
+     * @param clientConfiguration {@link ExpireMapClientConfiguration}
+     * @param openPersistence     if {@literal true} persist the entries of namespace
+     * @return return a {@link ExpireMapHelper}
+     */
+    @SuppressWarnings("unchecked")
+    public ExpireMapHelper doCreateNamespaceHelp(String namespace, ExpireMapClientConfiguration clientConfiguration,
+                                                 boolean openPersistence) {
+        ExpireMapCenter namespaceCenter = ExpireMapCenter.namespaceWithConfiguration(namespace, clientConfiguration);
+        ExpireMapHelper realHelper = new ExpireMapRealHelper(() -> namespaceCenter);
+        if (!openPersistence) {
+            return realHelper;
+        }
+        //The expired or evicted entries leave the persistence of namespace
+        namespaceCenter.addExpirationListener((key, value) -> {
+            PersistenceSolver<byte[], byte[]> solver = ServiceLoadUtils.load(PersistenceSolver.class)
+                    .getSpecifiedServiceBySubClass(ExpireBytesPersistenceSolver.class);
+            if (solver != null) {
+                solver.removePersistence(ExpireMapNamespaceKey.serialize(namespace, key.getBytes()), value);
+            }
+        });
+        return JdkProxyUtils.createProxy(
+                ExpireMapNamespacePersistenceProcessor.buildProcessor(realHelper, namespace));
+    }
 }
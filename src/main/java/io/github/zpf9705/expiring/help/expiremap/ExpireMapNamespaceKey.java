@@ -0,0 +1,103 @@
+package io.github.zpf9705.expiring.help.expiremap;
+
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.util.CodecUtils;
+import io.github.zpf9705.expiring.util.SerialUtils;
+
+import java.io.Serializable;
+
+/**
+ * The persistent key of an entry of a namespace center , see {@link ExpireMapCenter#namespaceWithConfiguration}.
+ * <p>
+ * The persistent files of all centers share the same path , so the key of a namespace is wrapped with the name
+ * of namespace before it is persisted , the same key of different namespaces does not cover each other , and the
+ * restored entry can be returned to the center of its namespace.
+ * <p>
+ * The string form starts with the {@link #similarMark(String)} of namespace , so that all the persistent keys
+ * of a namespace can be found as similar keys.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public final class ExpireMapNamespaceKey implements Serializable {
+
+    private static final long serialVersionUID = 4173029938721546107L;
+
+    /**
+     * The boundary of namespace in the string form
+     */
+    static final char MARK = '\u0000';
+
+    private final String namespace;
+
+    private final byte[] key;
+
+    public ExpireMapNamespaceKey(@NotNull String namespace, @NotNull byte[] key) {
+        this.namespace = namespace;
+        this.key = key;
+    }
+
+    /**
+     * Serialize the persistent key of {@code key} of {@code namespace}
+     *
+     * @param namespace must not be {@literal null}
+     * @param key       must not be {@literal null}
+     * @return persistent key bytes
+     */
+    public static byte[] serialize(@NotNull String namespace, @NotNull byte[] key) {
+        return SerialUtils.serialize(new ExpireMapNamespaceKey(namespace, key));
+    }
+
+    /**
+     * Deserialize the persistent key of a namespace
+     *
+     * @param key can be {@literal null}
+     * @return {@link ExpireMapNamespaceKey} , {@literal null} if {@code key} is not the key of a namespace
+     */
+    @CanNull
+    public static ExpireMapNamespaceKey deserialize(@CanNull Object key) {
+        if (!(key instanceof byte[])) {
+            return null;
+        }
+        try {
+            Object deserialize = SerialUtils.deserialize((byte[]) key);
+            return deserialize instanceof ExpireMapNamespaceKey ? (ExpireMapNamespaceKey) deserialize : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Get the mark contained by the string form of all the persistent keys of {@code namespace}
+     *
+     * @param namespace must not be {@literal null}
+     * @return similar mark
+     */
+    public static String similarMark(@NotNull String namespace) {
+        return MARK + namespace + MARK;
+    }
+
+    /**
+     * Serialize the {@link #similarMark(String)} of {@code namespace} to find the persistent keys of namespace
+     *
+     * @param namespace must not be {@literal null}
+     * @return similar mark bytes
+     */
+    public static byte[] serializeSimilarMark(@NotNull String namespace) {
+        return SerialUtils.serialize(similarMark(namespace));
+    }
+
+    public String getNamespace() {
+        return this.namespace;
+    }
+
+    public byte[] getKey() {
+        return this.key;
+    }
+
+    @Override
+    public String toString() {
+        return similarMark(this.namespace) + CodecUtils.toStingBeReal(this.key);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.zpf9705.expiring.help.expiremap;
+
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.core.persistence.PersistenceExec;
+import io.github.zpf9705.expiring.core.persistence.PersistenceSolver;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * {@link ExpireMapPersistenceProcessor} of a namespace center , the keys are persisted as
+ * {@link ExpireMapNamespaceKey} of the namespace.
+ * <p>
+ * The similar or all removals only remove the persistent keys of the namespace , the persistence of the same or
+ * similar keys of other namespaces is not touched.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+@SuppressWarnings({"rawtypes", "unchecked"})
+public class ExpireMapNamespacePersistenceProcessor extends ExpireMapPersistenceProcessor {
+
+    private static final long serialVersionUID = -6460781324791658170L;
+
+    private final String namespace;
+
+    public ExpireMapNamespacePersistenceProcessor(ExpireMapHelper target, String namespace) {
+        super(target);
+        this.namespace = namespace;
+    }
+
+    /**
+     * The static create methods for {@link ExpireMapHelper} of {@code namespace}
+     *
+     * @param helper    {@link ExpireMapHelper}
+     * @param namespace the name of namespace
+     * @return {@link ExpireMapNamespacePersistenceProcessor}
+     */
+    public static ExpireMapNamespacePersistenceProcessor buildProcessor(@NotNull ExpireMapHelper helper,
+                                                                        @NotNull String namespace) {
+        return new ExpireMapNamespacePersistenceProcessor(helper, namespace);
+    }
+
+    @Override
+    public void invokeSubsequent(Object invokeResult, PersistenceExec proxyExec, Object[] args) {
+        switch (proxyExec.value()) {
+            case REMOVE_TYPE:
+            case REMOVE_ALL:
+                if (!proxyExec.expectValue().test(invokeResult)) {
+                    return;
+                }
+                PersistenceSolver solver = loadSolver(proxyExec);
+                if (solver == null) {
+                    return;
+                }
+                if (invokeResult instanceof Map) {
+                    //Only the removed keys , a similar key of another namespace is kept
+                    for (Object key : ((Map<byte[], byte[]>) invokeResult).keySet()) {
+                        solver.removePersistenceWithKey(ExpireMapNamespaceKey.serialize(this.namespace, (byte[]) key));
+                    }
+                } else {
+                    solver.removeSimilarKeyPersistence(
+                            ExpireMapNamespaceKey.serializeSimilarMark(this.namespace));
+                }
+                break;
+            default:
+                //The current value is read with the key in the namespace
+                super.invokeSubsequent(invokeResult, proxyExec, this.namespaceArgs(args), this.currentValue(args));
+                break;
+        }
+    }
+
+    /**
+     * Wrap the keys of {@code args} with the namespace , the key , keys or tuple is always the first arg
+     *
+     * @param args proxy method args
+     * @return the copied args
+     */
+    private Object[] namespaceArgs(Object[] args) {
+        if (args == null || args.length == 0) {
+            return args;
+        }
+        Object[] namespaceArgs = args.clone();
+        if (args[0] instanceof byte[]) {
+            namespaceArgs[0] = ExpireMapNamespaceKey.serialize(this.namespace, (byte[]) args[0]);
+        } else if (args[0] instanceof byte[][]) {
+            byte[][] keys = (byte[][]) args[0];
+            byte[][] namespaceKeys = new byte[keys.length][];
+            for (int i = 0; i < keys.length; i++) {
+                namespaceKeys[i] = ExpireMapNamespaceKey.serialize(this.namespace, keys[i]);
+            }
+            namespaceArgs[0] = namespaceKeys;
+        } else if (args[0] instanceof Map) {
+            Map<byte[], byte[]> tuple = (Map<byte[], byte[]>) args[0];
+            Map<byte[], byte[]> namespaceTuple = new LinkedHashMap<>(tuple.size());
+            tuple.forEach((key, value) -> namespaceTuple.put(ExpireMapNamespaceKey.serialize(this.namespace, key), value));
+            namespaceArgs[0] = namespaceTuple;
+        }
+        return namespaceArgs;
+    }
+}
@@ -1,8 +1,11 @@
 package io.github.zpf9705.expiring.help.expiremap;
 
+import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.core.annotation.NotNull;
 import io.github.zpf9705.expiring.core.persistence.ExpirePersistenceProcessor;
 
+import java.util.function.Supplier;
+
 /**
  * {@link net.jodah.expiringmap.ExpiringMap} real target for {@link ExpirePersistenceProcessor}
  *
@@ -26,4 +29,14 @@ public class ExpireMapPersistenceProcessor extends ExpirePersistenceProcessor<Ex
     public static ExpireMapPersistenceProcessor buildProcessor(@NotNull ExpireMapHelper helper) {
         return new ExpireMapPersistenceProcessor(helper);
     }
+
+    @CanNull
+    @Override
+    protected Supplier<Object> currentValue(Object[] args) {
+        if (args == null || args.length == 0 || !(args[0] instanceof byte[])) {
+            return null;
+        }
+        byte[] key = (byte[]) args[0];
+        return () -> getTarget().getVal(key);
+    }
 }
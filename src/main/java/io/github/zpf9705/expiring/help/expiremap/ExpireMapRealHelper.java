@@ -1,12 +1,20 @@
 package io.github.zpf9705.expiring.help.expiremap;
 
+import io.github.zpf9705.expiring.command.ExpireHashCommands;
 import io.github.zpf9705.expiring.command.ExpireKeyCommands;
 import io.github.zpf9705.expiring.command.ExpireStringCommands;
+import io.github.zpf9705.expiring.command.expiremap.ExpireMapHashCommands;
 import io.github.zpf9705.expiring.command.expiremap.ExpireMapKeyCommands;
 import io.github.zpf9705.expiring.command.expiremap.ExpireMapStringCommands;
+import io.github.zpf9705.expiring.core.ScanPage;
 import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.help.AbstractExpireHelper;
 import io.github.zpf9705.expiring.help.HelpCenter;
+import io.github.zpf9705.expiring.help.KeyScanner;
+import io.github.zpf9705.expiring.help.SimilarKeyIndex;
+import io.github.zpf9705.expiring.util.CodecUtils;
+import net.jodah.expiringmap.ExpirationPolicy;
+import net.jodah.expiringmap.ExpiringMap;
 
 import java.util.*;
 import java.util.concurrent.TimeUnit;
@@ -42,15 +50,27 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
         return new ExpireMapKeyCommands(this);
     }
 
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.connection.ExpireConnection#hashCommands()
+     */
+    @Override
+    public ExpireHashCommands hashCommands() {
+        return new ExpireMapHashCommands(this);
+    }
+
     /*
      * (non-Javadoc)
      * @see net.jodah.expiringmap.ExpiringMap#put(Object, Object)
      */
     @Override
     public Boolean put(byte[] key, byte[] value) {
-        contain().addBytes(key, value);
-        getHelpCenter().getExpiringMap().put(key, value);
-        return true;
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        if (!getHelpCenter().admit(byteKey)) return false;
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            getHelpCenter().afterChanged(byteKey, getHelpCenter().getExpiringMap(byteKey).put(byteKey, value), value);
+            return true;
+        });
     }
 
     /*
@@ -59,9 +79,13 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public Boolean putDuration(byte[] key, byte[] value, Long duration, TimeUnit unit) {
-        contain().addBytes(key, value);
-        getHelpCenter().getExpiringMap().put(key, value, duration, unit);
-        return true;
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        if (!getHelpCenter().admit(byteKey)) return false;
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            getHelpCenter().afterChanged(byteKey,
+                    getHelpCenter().getExpiringMap(byteKey).put(byteKey, value, duration, unit), value);
+            return true;
+        });
     }
 
     /*
@@ -70,21 +94,33 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public Boolean putIfAbsent(byte[] key, byte[] value) {
-        if (contain().existKey(key)) return false;
-        contain().addBytes(key, value);
-        return getHelpCenter().getExpiringMap().put(key, value) == null;
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        if (!getHelpCenter().admit(byteKey)) return false;
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            //Check and put in one hold of the shard lock , only one of the concurrent callers wins
+            if (getHelpCenter().getExpiringMap(byteKey).putIfAbsent(byteKey, value) != null) return false;
+            getHelpCenter().afterChanged(byteKey, null, value);
+            return true;
+        });
     }
 
     /*
      * (non-Javadoc)
-     * @see net.jodah.expiringmap.ExpiringMap#put(Object, Object)
-     * @see net.jodah.expiringmap.ExpiringMap#setExpiration(Object, long, TimeUnit)
+     * @see net.jodah.expiringmap.ExpiringMap#containsKey(Object)
+     * @see net.jodah.expiringmap.ExpiringMap#put(Object, Object, long, TimeUnit)
      */
     @Override
     public Boolean putIfAbsentDuration(byte[] key, byte[] value, Long duration, TimeUnit unit) {
-        if (contain().existKey(key)) return false;
-        contain().addBytes(key, value);
-        return getHelpCenter().getExpiringMap().put(key, value, duration, unit) == null;
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        if (!getHelpCenter().admit(byteKey)) return false;
+        ExpiringMap<ExpireMapByteKey, byte[]> shard = getHelpCenter().getExpiringMap(byteKey);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            //All writes of the key hold its lock , so the check and the put with duration are one step ,
+            //the entry is never visible with the default expiration
+            if (shard.containsKey(byteKey)) return false;
+            getHelpCenter().afterChanged(byteKey, shard.put(byteKey, value, duration, unit), value);
+            return true;
+        });
     }
 
     /*
@@ -93,21 +129,50 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public byte[] getVal(byte[] key) {
-        byte[] simpleBytesKey = contain().getSimilarBytesForKey(key);
-        if (simpleBytesKey == null) return null;
-        return getHelpCenter().getExpiringMap().get(simpleBytesKey);
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        byte[] value = this.get(byteKey);
+        getHelpCenter().recordRead(byteKey, value != null);
+        return value;
     }
 
     @Override
     public List<byte[]> getKeysByKeys(byte[] key) {
-        byte[] simpleBytesKey = contain().getSimilarBytesForKey(key);
-        if (simpleBytesKey == null) return null;
-        return getHelpCenter().getExpiringMap().keySet().stream().map(dai -> {
-            if (this.similarJudgeOfBytes(dai, key)) {
-                return dai;
+        if (!this.containsKey(key)) return null;
+        SimilarKeyIndex<ExpireMapByteKey> keyIndex = getHelpCenter().getKeyIndex();
+        if (keyIndex != null) {
+            return keyIndex.find(CodecUtils.toStingBeReal(key)).stream()
+                    .filter(k -> getHelpCenter().getExpiringMap(k).containsKey(k))
+                    .map(ExpireMapByteKey::getBytes)
+                    .collect(Collectors.toList());
+        }
+        return getHelpCenter().getExpiringMaps().parallelStream().flatMap(shard -> shard.keySet().stream())
+                .map(dai -> {
+                    if (this.similarJudgeOfBytes(dai.getBytes(), key)) {
+                        return dai.getBytes();
+                    }
+                    return null;
+                }).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremap.ExpireMapHelper#scan(long, String, int)
+     */
+    @Override
+    public ScanPage<byte[]> scan(long cursor, String match, int count) {
+        SimilarKeyIndex<ExpireMapByteKey> keyIndex = getHelpCenter().getKeyIndex();
+        if (keyIndex != null) {
+            //Every live key is in the index , walk its ordered positions and skip the keys removed from the map
+            //but not yet from it
+            return KeyScanner.scan(1, cursor, match, count, (segment, collector) ->
+                    keyIndex.scanKeys(collector, key -> getHelpCenter().getExpiringMap(key).containsKey(key)));
+        }
+        List<ExpiringMap<ExpireMapByteKey, byte[]>> shards = getHelpCenter().getExpiringMaps();
+        return KeyScanner.scan(shards.size(), cursor, match, count, (segment, collector) -> {
+            for (ExpireMapByteKey key : shards.get(segment).keySet()) {
+                collector.offer(key.hashCode(), key);
             }
-            return null;
-        }).filter(Objects::nonNull).collect(Collectors.toList());
+        });
     }
 
     /*
@@ -116,18 +181,26 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public byte[] replace(byte[] key, byte[] newValue) {
-        byte[] similarKey = contain().getSimilarBytesForKey(key);
-        if (similarKey == null) {
-            // How did not directly put in
-            this.put(key, newValue);
-            return newValue;
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        //Replace the new value and return old value in one hold of the lock of key
+        byte[] oldValue = getHelpCenter().writeWithKey(byteKey, () -> {
+            byte[] replaced = getHelpCenter().getExpiringMap(byteKey).replace(byteKey, newValue);
+            if (replaced != null) {
+                getHelpCenter().afterChanged(byteKey, replaced, newValue);
+            }
+            return replaced;
+        });
+        if (oldValue == null) {
+            // How did not directly put in , the value put concurrently in between is returned as old value
+            if (!getHelpCenter().admit(byteKey)) return newValue;
+            oldValue = getHelpCenter().writeWithKey(byteKey, () -> {
+                byte[] put = getHelpCenter().getExpiringMap(byteKey).put(byteKey, newValue);
+                getHelpCenter().afterChanged(byteKey, put, newValue);
+                return put;
+            });
+            return oldValue == null ? newValue : oldValue;
         }
-        //Delete the old value
-        contain().remove(similarKey);
-        //In the new value
-        contain().put(similarKey, newValue);
-        //Replace the new value and return old value
-        return getHelpCenter().getExpiringMap().replace(similarKey, newValue);
+        return oldValue;
     }
 
     /*
@@ -139,18 +212,41 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
     public Long deleteReturnSuccessNum(byte[]... keys) {
         long count = 0L;
         for (byte[] key : keys) {
-            byte[] similarKey = contain().getSimilarBytesForKey(key);
-            if (similarKey == null) {
-                continue;
-            }
-            contain().remove(similarKey);
-            if (getHelpCenter().getExpiringMap().remove(similarKey) != null) {
+            ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+            if (this.remove(byteKey) != null) {
                 count++;
             }
         }
         return count;
     }
 
+    /*
+     * (non-Javadoc)
+     * @see net.jodah.expiringmap.ExpiringMap#setExpiration(Object, long, TimeUnit)
+     * @see net.jodah.expiringmap.ExpiringMap#replace(Object, Object, Object)
+     */
+    @Override
+    public Boolean compareAndUpdate(byte[] key, byte[] expect, byte[] newValue) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        ExpiringMap<ExpireMapByteKey, byte[]> shard = getHelpCenter().getExpiringMap(byteKey);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            try {
+                //The map restarts the countdown of a replaced entry with its duration , so an entry expired by
+                //creation takes the rest of its duration first to keep its deadline
+                if (shard.getExpirationPolicy(byteKey) == ExpirationPolicy.CREATED) {
+                    shard.setExpiration(byteKey, Math.max(shard.getExpectedExpiration(byteKey), 1L),
+                            TimeUnit.MILLISECONDS);
+                }
+            } catch (NoSuchElementException e) {
+                //Expired in between
+                return false;
+            }
+            if (!shard.replace(byteKey, expect, newValue)) return false;
+            getHelpCenter().afterChanged(byteKey, expect, newValue);
+            return true;
+        });
+    }
+
     /*
      * (non-Javadoc)
      * @see net.jodah.expiringmap.ExpiringMap#remove(Object, Object)
@@ -158,18 +254,66 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
     @Override
     public Map<byte[], byte[]> deleteSimilarKey(byte[] key) {
         Map<byte[], byte[]> map = new HashMap<>();
-        List<byte[]> delKeys = new ArrayList<>();
-        getHelpCenter().getExpiringMap().forEach((k, v) -> {
-            if (this.similarJudgeOfBytes(k, key)) {
-                map.put(k, v);
-                delKeys.add(k);
+        SimilarKeyIndex<ExpireMapByteKey> keyIndex = getHelpCenter().getKeyIndex();
+        if (keyIndex != null) {
+            for (ExpireMapByteKey k : keyIndex.find(CodecUtils.toStingBeReal(key))) {
+                byte[] oldValue = this.remove(k);
+                if (oldValue != null) {
+                    map.put(k.getBytes(), oldValue);
+                }
+            }
+            return map;
+        }
+        //Each shard is scanned and removed independently
+        getHelpCenter().getExpiringMaps().parallelStream().map(shard -> {
+            Map<byte[], byte[]> shardMap = new HashMap<>();
+            List<ExpireMapByteKey> delKeys = new ArrayList<>();
+            shard.forEach((k, v) -> {
+                if (this.similarJudgeOfBytes(k.getBytes(), key)) {
+                    delKeys.add(k);
+                }
+            });
+            for (ExpireMapByteKey k : delKeys) {
+                byte[] oldValue = this.remove(k);
+                if (oldValue != null) {
+                    shardMap.put(k.getBytes(), oldValue);
+                }
             }
+            return shardMap;
+        }).collect(Collectors.toList()).forEach(map::putAll);
+        return map;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see net.jodah.expiringmap.ExpiringMap#replace(Object, Object, Object)
+     */
+    @Override
+    public Boolean compareAndReplace(byte[] key, byte[] expect, byte[] newValue) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            //The stored instance is compared by identity in map , so it is replaced only if not changed
+            if (!getHelpCenter().getExpiringMap(byteKey).replace(byteKey, expect, newValue)) return false;
+            getHelpCenter().afterChanged(byteKey, expect, newValue);
+            return true;
         });
-        delKeys.forEach(k -> {
-            getHelpCenter().getExpiringMap().remove(k);
-            contain().remove(k);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see net.jodah.expiringmap.ExpiringMap#remove(Object, Object)
+     */
+    @Override
+    public Boolean removeWithValue(byte[] key, byte[] value) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            byte[] current = getHelpCenter().getExpiringMap(byteKey).get(byteKey);
+            if (current == null || !Arrays.equals(current, value)) return false;
+            //The stored instance is compared by identity in map , so it is removed only if not changed
+            if (!getHelpCenter().getExpiringMap(byteKey).remove(byteKey, current)) return false;
+            getHelpCenter().afterChanged(byteKey, current, null);
+            return true;
         });
-        return map;
     }
 
     /*
@@ -178,8 +322,8 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public Boolean reboot() {
-        contain().clear();
-        getHelpCenter().getExpiringMap().clear();
+        getHelpCenter().getExpiringMaps().parallelStream().forEach(ExpiringMap::clear);
+        getHelpCenter().afterCleared();
         return true;
     }
 
@@ -189,9 +333,8 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public Boolean containsKey(byte[] key) {
-        key = contain().getSimilarBytesForKey(key);
-        if (key == null) return false;
-        return getHelpCenter().getExpiringMap().containsKey(key);
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().getExpiringMap(byteKey).containsKey(byteKey);
     }
 
     /*
@@ -200,9 +343,14 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public Boolean containsValue(byte[] value) {
-        value = contain().getSimilarBytesForValue(value);
         if (value == null) return false;
-        return getHelpCenter().getExpiringMap().containsValue(value);
+        ExpireMapValueIndex valueIndex = getHelpCenter().getValueIndex();
+        if (valueIndex != null) {
+            return valueIndex.contains(value, getHelpCenter());
+        }
+        //The value of byte[] only equal by identity in map , so compare content here
+        return getHelpCenter().getExpiringMaps().parallelStream().flatMap(shard -> shard.values().stream())
+                .anyMatch(v -> Arrays.equals(v, value));
     }
 
     /*
@@ -211,9 +359,9 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public Long getExpirationWithKey(byte[] key) {
-        key = contain().getSimilarBytesForKey(key);
-        if (key == null) return null;
-        return getHelpCenter().getExpiringMap().getExpiration(key);
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        if (!getHelpCenter().getExpiringMap(byteKey).containsKey(byteKey)) return null;
+        return getHelpCenter().getExpiringMap(byteKey).getExpiration(byteKey);
     }
 
     /*
@@ -233,9 +381,9 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public Long getExpectedExpirationWithKey(byte[] key) {
-        key = contain().getSimilarBytesForKey(key);
-        if (key == null) return null;
-        return getHelpCenter().getExpiringMap().getExpectedExpiration(key);
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        if (!getHelpCenter().getExpiringMap(byteKey).containsKey(byteKey)) return null;
+        return getHelpCenter().getExpiringMap(byteKey).getExpectedExpiration(byteKey);
     }
 
     /*
@@ -255,10 +403,14 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public Boolean setExpirationDuration(byte[] key, Long duration, TimeUnit timeUnit) {
-        key = contain().getSimilarBytesForKey(key);
-        if (key == null) return false;
-        getHelpCenter().getExpiringMap().setExpiration(key, duration, timeUnit);
-        return true;
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        ExpiringMap<ExpireMapByteKey, byte[]> shard = getHelpCenter().getExpiringMap(byteKey);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            //The check and the set are one step against the writes of the key
+            if (!shard.containsKey(byteKey)) return false;
+            shard.setExpiration(byteKey, duration, timeUnit);
+            return true;
+        });
     }
 
     /*
@@ -267,9 +419,38 @@ public class ExpireMapRealHelper extends AbstractExpireHelper<ExpireMapCenter> i
      */
     @Override
     public Boolean resetExpirationWithKey(byte[] key) {
-        key = contain().getSimilarBytesForKey(key);
-        if (key == null) return false;
-        getHelpCenter().getExpiringMap().resetExpiration(key);
-        return true;
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        ExpiringMap<ExpireMapByteKey, byte[]> shard = getHelpCenter().getExpiringMap(byteKey);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            if (!shard.containsKey(byteKey)) return false;
+            shard.resetExpiration(byteKey);
+            return true;
+        });
+    }
+
+    /**
+     * Get the value of {@code key} from its shard
+     *
+     * @param key must not be {@literal null}
+     * @return value , {@literal null} if not exist
+     */
+    private byte[] get(ExpireMapByteKey key) {
+        return getHelpCenter().getExpiringMap(key).get(key);
+    }
+
+    /**
+     * Remove the value of {@code key} from its shard in the lock of key
+     *
+     * @param key must not be {@literal null}
+     * @return old value , {@literal null} if not exist
+     */
+    private byte[] remove(ExpireMapByteKey key) {
+        return getHelpCenter().writeWithKey(key, () -> {
+            byte[] oldValue = getHelpCenter().getExpiringMap(key).remove(key);
+            if (oldValue != null) {
+                getHelpCenter().afterChanged(key, oldValue, null);
+            }
+            return oldValue;
+        });
     }
 }
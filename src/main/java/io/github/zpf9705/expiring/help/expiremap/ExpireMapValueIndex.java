@@ -0,0 +1,147 @@
+package io.github.zpf9705.expiring.help.expiremap;
+
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import net.jodah.expiringmap.ExpirationPolicy;
+import net.jodah.expiringmap.ExpiringMap;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Optional reverse index of the values in {@link ExpireMapCenter}, record the keys that hold each value.
+ * <p>
+ * The value {@code byte[]} is wrapped by {@link ExpireMapByteKey} to be compared by content, so that
+ * the existence check of a value is a hash probe instead of a scan of all values.
+ * <p>
+ * The value recorded of each key is the record of truth , the keys of a value are only candidates. The record
+ * of a key is changed in the lock of the key together with its entry , and removed by key in the expiration
+ * listener together with its expired entry , see {@link ExpireMapCenter}. A candidate key is confirmed in the
+ * lock of it with its record and {@link ExpiringMap#containsKey(Object)} , which does not reset the expiration
+ * of an entry of {@link ExpirationPolicy#ACCESSED} as {@link ExpiringMap#get(Object)} does , and no record is
+ * removed by the check.
+ * <p>
+ * The value bytes are shared with {@link ExpiringMap} and not copied, the memory overhead of the index
+ * is only the wrappers and the hash nodes, please refer to {@link #estimateMemoryUsage()}.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class ExpireMapValueIndex {
+
+    /*
+     * Estimated shallow size of objects on a 64-bit JVM with compressed oops
+     */
+    static final long HASH_NODE_SIZE = 32L;
+    static final long BYTE_KEY_SIZE = 24L;
+    static final long KEY_SET_SIZE = 128L;
+
+    private final Map<ExpireMapByteKey, Set<ExpireMapByteKey>> index = new ConcurrentHashMap<>();
+
+    private final Map<ExpireMapByteKey, ExpireMapByteKey> records = new ConcurrentHashMap<>();
+
+    /**
+     * Record {@code key} holds the {@code value}
+     *
+     * @param key   must not be {@literal null}
+     * @param value can be {@literal null} if removed
+     */
+    public void add(@NotNull ExpireMapByteKey key, @CanNull byte[] value) {
+        if (value == null) {
+            this.remove(key);
+            return;
+        }
+        ExpireMapByteKey indexKey = ExpireMapByteKey.of(value);
+        ExpireMapByteKey previous = this.records.put(key, indexKey);
+        if (indexKey.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            this.removeCandidate(key, previous);
+        }
+        this.index.computeIfAbsent(indexKey, v -> ConcurrentHashMap.newKeySet()).add(key);
+    }
+
+    /**
+     * Remove the record of {@code key} whatever value it holds
+     *
+     * @param key must not be {@literal null}
+     */
+    public void remove(@NotNull ExpireMapByteKey key) {
+        ExpireMapByteKey previous = this.records.remove(key);
+        if (previous != null) {
+            this.removeCandidate(key, previous);
+        }
+    }
+
+    /**
+     * The value of {@code key} be changed from {@code oldValue} to {@code newValue}
+     *
+     * @param key      must not be {@literal null}
+     * @param oldValue can be {@literal null}
+     * @param newValue can be {@literal null}
+     */
+    public void replace(@NotNull ExpireMapByteKey key, @CanNull byte[] oldValue, @CanNull byte[] newValue) {
+        //The old value is not trusted , the record of key is replaced whatever it holds
+        this.add(key, newValue);
+    }
+
+    /**
+     * Determine whether any key in {@code center} holds the {@code value}
+     *
+     * @param value  must not be {@literal null}
+     * @param center must not be {@literal null}
+     * @return if {@literal true} exist
+     */
+    public boolean contains(@NotNull byte[] value, @NotNull ExpireMapCenter center) {
+        ExpireMapByteKey indexKey = ExpireMapByteKey.of(value);
+        Set<ExpireMapByteKey> keys = this.index.get(indexKey);
+        if (keys == null) {
+            return false;
+        }
+        for (ExpireMapByteKey key : keys) {
+            synchronized (center.getKeyLock(key)) {
+                //No write of the key in flight , the record and the entry are consistent
+                if (indexKey.equals(this.records.get(key)) && center.getExpiringMap(key).containsKey(key)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Clear all record
+     */
+    public void clear() {
+        this.index.clear();
+        this.records.clear();
+    }
+
+    /**
+     * Get the number of distinct values in index
+     *
+     * @return distinct values number
+     */
+    public int size() {
+        return this.index.size();
+    }
+
+    /**
+     * Estimate the extra heap bytes used by this index , not include the value bytes shared with the map.
+     *
+     * @return estimated bytes
+     */
+    public long estimateMemoryUsage() {
+        return this.index.size() * (HASH_NODE_SIZE + BYTE_KEY_SIZE + KEY_SET_SIZE)
+                + this.records.size() * 2 * HASH_NODE_SIZE;
+    }
+
+    private void removeCandidate(ExpireMapByteKey key, ExpireMapByteKey indexKey) {
+        this.index.computeIfPresent(indexKey, (v, keys) -> {
+            keys.remove(key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+}
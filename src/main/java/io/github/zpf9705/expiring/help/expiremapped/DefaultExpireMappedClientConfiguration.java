@@ -0,0 +1,140 @@
+package io.github.zpf9705.expiring.help.expiremapped;
+
+import net.jodah.expiringmap.ExpirationListener;
+import net.jodah.expiringmap.ExpirationPolicy;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default implementation for {@link ExpireMappedClientConfiguration}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+@SuppressWarnings("rawtypes")
+public class DefaultExpireMappedClientConfiguration implements ExpireMappedClientConfiguration {
+
+    private final String filePath;
+    private final Integer maxSize;
+    private final Long logCapacityBytes;
+    private final Long defaultExpireTime;
+    private final TimeUnit defaultExpireTimeUnit;
+    private final ExpirationPolicy expirationPolicy;
+    private final Long sweepInterval;
+    private final Boolean enableKeyIndex;
+    private final List<ExpirationListener> syncExpirationListeners;
+    private final List<ExpirationListener> asyncExpirationListeners;
+
+    public DefaultExpireMappedClientConfiguration(String filePath,
+                                                  Integer maxSize,
+                                                  Long logCapacityBytes,
+                                                  Long defaultExpireTime,
+                                                  TimeUnit defaultExpireTimeUnit,
+                                                  ExpirationPolicy expirationPolicy,
+                                                  Long sweepInterval,
+                                                  Boolean enableKeyIndex,
+                                                  List<ExpirationListener> syncExpirationListeners,
+                                                  List<ExpirationListener> asyncExpirationListeners) {
+        this.filePath = filePath;
+        this.maxSize = maxSize;
+        this.logCapacityBytes = logCapacityBytes;
+        this.defaultExpireTime = defaultExpireTime;
+        this.defaultExpireTimeUnit = defaultExpireTimeUnit;
+        this.expirationPolicy = expirationPolicy;
+        this.sweepInterval = sweepInterval;
+        this.enableKeyIndex = enableKeyIndex;
+        this.syncExpirationListeners = syncExpirationListeners;
+        this.asyncExpirationListeners = asyncExpirationListeners;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration#getFilePath()
+     */
+    @Override
+    public String getFilePath() {
+        return this.filePath;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration#getMaxSize()
+     */
+    @Override
+    public Integer getMaxSize() {
+        return this.maxSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration#getLogCapacityBytes()
+     */
+    @Override
+    public Long getLogCapacityBytes() {
+        return this.logCapacityBytes;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration#getDefaultExpireTime()
+     */
+    @Override
+    public Long getDefaultExpireTime() {
+        return this.defaultExpireTime;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration#getDefaultExpireTimeUnit()
+     */
+    @Override
+    public TimeUnit getDefaultExpireTimeUnit() {
+        return this.defaultExpireTimeUnit;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration#getExpirationPolicy()
+     */
+    @Override
+    public ExpirationPolicy getExpirationPolicy() {
+        return this.expirationPolicy;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration#getSweepInterval()
+     */
+    @Override
+    public Long getSweepInterval() {
+        return this.sweepInterval;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration#getEnableKeyIndex()
+     */
+    @Override
+    public Boolean getEnableKeyIndex() {
+        return this.enableKeyIndex;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration#getSyncExpirationListeners()
+     */
+    @Override
+    public List<ExpirationListener> getSyncExpirationListeners() {
+        return this.syncExpirationListeners;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expiremapped.ExpireMappedClientConfiguration#getASyncExpirationListeners()
+     */
+    @Override
+    public List<ExpirationListener> getASyncExpirationListeners() {
+        return this.asyncExpirationListeners;
+    }
+}
@@ -0,0 +1,362 @@
+package io.github.zpf9705.expiring.help.expiremapped;
+
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.core.persistence.ExpireBytesPersistenceSolver;
+import io.github.zpf9705.expiring.core.persistence.PersistenceSolver;
+import io.github.zpf9705.expiring.help.RecordActivationCenter;
+import io.github.zpf9705.expiring.help.SimilarKeyIndex;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteKey;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapCenter;
+import io.github.zpf9705.expiring.listener.MessageExpiryCapable;
+import io.github.zpf9705.expiring.logger.Console;
+import io.github.zpf9705.expiring.util.CodecUtils;
+import io.github.zpf9705.expiring.util.CollectionUtils;
+import io.github.zpf9705.expiring.util.ServiceLoadUtils;
+import net.jodah.expiringmap.ExpirationListener;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Cache center based on the memory-mapped {@link ExpireMappedStore}.
+ * <p>
+ * This class will help implement the method of using {@link ExpireMappedClientConfiguration} to configure .
+ * <p>
+ * Singleton objects of {@link ExpireMappedStore} and placing them in {@link RecordActivationCenter}.
+ * The entries of the mapped file survive a restart by themselves , only the similar key index is rebuilt
+ * from the keys of the file in a background thread , so that the store serves at once after a restart , and
+ * the file is written back when the jvm shuts down. The similar keys are searched by scanning the store until
+ * the index is built.
+ * <p>
+ * Each write of a key changes the {@link ExpireMappedStore} and the similar key index in one hold of the lock
+ * of the key , see {@link #writeWithKey(ExpireMapByteKey, Supplier)}. The store notifies the entries expired
+ * or evicted after its own lock released , so they leave the index in the hold of the lock of their keys only
+ * if their keys are not put again , the entries evicted in a write of another key leave it after the lock of
+ * that key released , so that no two locks of keys are held at once. So a live key is always in the similar
+ * key index.
+ * <p>
+ * Once this class is encapsulated, it is not allowed to instantiate empty constructs.
+ * It must be done through the above method and always maintain a unique operand.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public final class ExpireMappedCenter extends RecordActivationCenter<ExpireMappedCenter, byte[], byte[]> {
+
+    private static final long serialVersionUID = -2890313787418917163L;
+
+    /**
+     * Number of the lock stripes of keys , a power of two
+     */
+    static final int KEY_LOCK_STRIPES = 256;
+
+    /**
+     * Singleton for {@link ExpireMappedCenter}
+     */
+    private static volatile ExpireMappedCenter expireMappedCenter;
+
+    /**
+     * Core for cache client {@link ExpireMappedStore}
+     */
+    private ExpireMappedStore expireMappedStore;
+
+    /**
+     * Optional similar key index , {@literal null} if not enable
+     */
+    private SimilarKeyIndex<ExpireMapByteKey> keyIndex;
+
+    /**
+     * Whether the keys of the file have been added to the index
+     */
+    private volatile boolean keyIndexBuilt;
+
+    /**
+     * The lock stripes of keys , see {@link #writeWithKey(ExpireMapByteKey, Supplier)}
+     */
+    private final Object[] keyLocks = new Object[KEY_LOCK_STRIPES];
+
+    /**
+     * The keys expired or evicted in the write of the current thread , leave the index after the write
+     */
+    private final transient ThreadLocal<List<ExpireMapByteKey>> expiredInWrite = new ThreadLocal<>();
+
+    {
+        for (int i = 0; i < KEY_LOCK_STRIPES; i++) {
+            this.keyLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Do not instance for no args construct
+     */
+    private ExpireMappedCenter() {
+    }
+
+    /**
+     * Instance for {@link ExpireMappedStore}
+     *
+     * @param expireMappedStore not be {@literal null}
+     * @param keyIndex          can be {@literal null}
+     */
+    private ExpireMappedCenter(ExpireMappedStore expireMappedStore, SimilarKeyIndex<ExpireMapByteKey> keyIndex) {
+        this.expireMappedStore = expireMappedStore;
+        this.keyIndex = keyIndex;
+    }
+
+    /**
+     * Singleton with {@code ExpireMappedClientConfiguration}
+     *
+     * @param configuration must no be {@literal null}
+     * @return {@link ExpireMappedCenter}
+     */
+    public static ExpireMappedCenter singletonWithConfiguration(
+            @NotNull ExpireMappedClientConfiguration configuration) {
+        if (expireMappedCenter == null) {
+            synchronized (ExpireMappedCenter.class) {
+                if (expireMappedCenter == null) {
+                    expireMappedCenter = buildSingleton(configuration);
+                    setSingletonCenter(expireMappedCenter);
+                }
+            }
+        }
+        return expireMappedCenter;
+    }
+
+    /**
+     * Get Singleton instance for {@code ExpireMappedCenter}
+     *
+     * @return {@link ExpireMappedCenter}
+     */
+    public static ExpireMappedCenter getExpireMappedCenter() {
+        if (expireMappedCenter == null) {
+            throw new OperationsException("ExpireMappedCenter need Initialize");
+        }
+        return expireMappedCenter;
+    }
+
+    /**
+     * Get operation with a {@code ExpireMappedStore}
+     *
+     * @return {@link ExpireMappedStore}
+     */
+    public ExpireMappedStore getExpireMappedStore() {
+        return this.expireMappedStore;
+    }
+
+    /**
+     * Get the similar key index of {@code ExpireMappedStore}
+     *
+     * @return {@link SimilarKeyIndex} , {@literal null} if not enable or not built yet
+     */
+    @CanNull
+    public SimilarKeyIndex<ExpireMapByteKey> getKeyIndex() {
+        return this.keyIndexBuilt ? this.keyIndex : null;
+    }
+
+    /**
+     * Run a {@code write} of {@code key} in one hold of the lock of {@code key} , the write changes the
+     * {@code ExpireMappedStore} and then calls {@link #afterChanged} , so that the concurrent writes of the same
+     * key apply their index changes in the same order as their entry changes. The keys expired or evicted in
+     * the write leave the index after the lock released.
+     *
+     * @param key   must not be {@literal null}
+     * @param write must not be {@literal null}
+     * @param <R>   result generic
+     * @return the result of {@code write}
+     */
+    public <R> R writeWithKey(@NotNull ExpireMapByteKey key, @NotNull Supplier<R> write) {
+        if (this.expiredInWrite.get() != null) {
+            //Nested in a write , the outer one leaves the index
+            synchronized (this.getKeyLock(key)) {
+                return write.get();
+            }
+        }
+        List<ExpireMapByteKey> expired = new ArrayList<>();
+        this.expiredInWrite.set(expired);
+        R result;
+        try {
+            synchronized (this.getKeyLock(key)) {
+                result = write.get();
+            }
+        } finally {
+            this.expiredInWrite.remove();
+        }
+        for (ExpireMapByteKey expiredKey : expired) {
+            this.leaveIndex(expiredKey);
+        }
+        return result;
+    }
+
+    /**
+     * Synchronize the index after the value of {@code key} changed to {@code newValue} , must be called in
+     * {@link #writeWithKey(ExpireMapByteKey, Supplier)} of {@code key}
+     *
+     * @param key      must not be {@literal null}
+     * @param newValue can be {@literal null} if removed
+     */
+    public void afterChanged(@NotNull ExpireMapByteKey key, @CanNull byte[] newValue) {
+        if (this.keyIndex == null) {
+            return;
+        }
+        if (newValue == null) {
+            this.keyIndex.remove(key);
+        } else if (!this.keyIndex.contains(key)) {
+            //Decode only once when the key is added
+            this.keyIndex.add(key, CodecUtils.toStingBeReal(key.getBytes()));
+        }
+    }
+
+    /**
+     * Synchronize the index after the entry of {@code key} expired or evicted , called by the expiration listener
+     *
+     * @param key must not be {@literal null}
+     */
+    private void afterExpired(@NotNull ExpireMapByteKey key) {
+        if (this.keyIndex == null) {
+            return;
+        }
+        List<ExpireMapByteKey> expired = this.expiredInWrite.get();
+        if (expired != null) {
+            //The lock of another key is held
+            expired.add(key);
+            return;
+        }
+        this.leaveIndex(key);
+    }
+
+    /**
+     * Remove {@code key} from the index in the hold of its lock , unless it has been put again
+     *
+     * @param key must not be {@literal null}
+     */
+    private void leaveIndex(@NotNull ExpireMapByteKey key) {
+        synchronized (this.getKeyLock(key)) {
+            if (!this.expireMappedStore.containsKey(key)) {
+                this.keyIndex.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Add the keys of the file to the index , each in the hold of its lock , the keys written meanwhile are
+     * added or removed by their writes
+     */
+    private void buildKeyIndex() {
+        long start = System.currentTimeMillis();
+        for (ExpireMapByteKey key : this.expireMappedStore.keySet()) {
+            synchronized (this.getKeyLock(key)) {
+                if (!this.keyIndex.contains(key) && this.expireMappedStore.containsKey(key)) {
+                    this.keyIndex.add(key, CodecUtils.toStingBeReal(key.getBytes()));
+                }
+            }
+        }
+        this.keyIndexBuilt = true;
+        Console.info("Expire mapped key index built with [{}] keys in [{}] ms", this.keyIndex.size(),
+                System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Get the lock of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return lock object
+     */
+    Object getKeyLock(@NotNull ExpireMapByteKey key) {
+        int hash = key.hashCode();
+        return this.keyLocks[(hash ^ (hash >>> 16)) & (KEY_LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Clear the index after the {@code ExpireMappedStore} cleared
+     */
+    public void afterCleared() {
+        if (this.keyIndex != null) {
+            this.keyIndex.clear();
+        }
+    }
+
+    /**
+     * Build Singleton with {@code ExpireMappedClientConfiguration}.
+     *
+     * @param configuration must no be {@literal null}
+     * @return {@link ExpireMappedCenter}
+     */
+    @SuppressWarnings("rawtypes")
+    private static ExpireMappedCenter buildSingleton(@NotNull ExpireMappedClientConfiguration configuration) {
+        ExpireMappedStore expireMappedStore = new ExpireMappedStore(
+                new File(configuration.getFilePath()),
+                configuration.getMaxSize(),
+                configuration.getLogCapacityBytes(),
+                configuration.getDefaultExpireTime(),
+                configuration.getDefaultExpireTimeUnit(),
+                configuration.getExpirationPolicy(),
+                configuration.getSweepInterval());
+        SimilarKeyIndex<ExpireMapByteKey> keyIndex = null;
+        if (Boolean.TRUE.equals(configuration.getEnableKeyIndex())) {
+            keyIndex = new SimilarKeyIndex<>();
+        }
+        ExpireMappedCenter center = new ExpireMappedCenter(expireMappedStore, keyIndex);
+        //Expired or evicted entries leave the index first
+        expireMappedStore.addExpirationListener((key, value) -> center.afterExpired(key));
+        if (keyIndex != null) {
+            //Decoding every key of the file is not on the way of the startup
+            Thread builder = new Thread(center::buildKeyIndex, "ExpireMapped-KeyIndex-Builder");
+            builder.setDaemon(true);
+            builder.start();
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(expireMappedStore::close, "ExpireMapped-Shutdown"));
+        Console.info("Expire mapped store opened at [{}] with [{}] entries , log [{}/{}] bytes used",
+                expireMappedStore.getFile().getAbsolutePath(), expireMappedStore.size(),
+                expireMappedStore.getLogUsedBytes(), expireMappedStore.getLogCapacity());
+        if (CollectionUtils.simpleNotEmpty(configuration.getSyncExpirationListeners())) {
+            for (ExpirationListener expirationListener : configuration.getSyncExpirationListeners()) {
+                //sync
+                expireMappedStore.addExpirationListener(
+                        new ExpireMapCenter.ByteKeyExpirationListener(expirationListener));
+            }
+        }
+        if (CollectionUtils.simpleNotEmpty(configuration.getASyncExpirationListeners())) {
+            for (ExpirationListener expirationListener : configuration.getASyncExpirationListeners()) {
+                //async
+                expireMappedStore.addAsyncExpirationListener(
+                        new ExpireMapCenter.ByteKeyExpirationListener(expirationListener));
+            }
+        }
+        return center;
+    }
+
+    @Override
+    public ExpireMappedCenter getHelpCenter() {
+        return getExpireMappedCenter();
+    }
+
+    @Override
+    public void reload(@NotNull byte[] key, @NotNull byte[] value, @NotNull Long duration,
+                       @NotNull TimeUnit unit) {
+        if (this.expireMappedStore == null) {
+            return;
+        }
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        this.writeWithKey(byteKey, () -> {
+            this.expireMappedStore.put(byteKey, value, duration, unit);
+            this.afterChanged(byteKey, value);
+            return null;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void cleanSupportingElements(@NotNull MessageExpiryCapable capable) {
+        //Remove persistent cache
+        PersistenceSolver<byte[], byte[]> solver = ServiceLoadUtils.load(PersistenceSolver.class)
+                .getSpecifiedServiceBySubClass(ExpireBytesPersistenceSolver.class);
+        if (solver != null) {
+            solver.removePersistence(capable.getByteKey(), capable.getByteValue());
+        }
+    }
+}
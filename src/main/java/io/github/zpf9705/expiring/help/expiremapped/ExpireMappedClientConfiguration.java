@@ -0,0 +1,337 @@
+package io.github.zpf9705.expiring.help.expiremapped;
+
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.util.AssertUtils;
+import io.github.zpf9705.expiring.util.SystemUtils;
+import net.jodah.expiringmap.ExpirationListener;
+import net.jodah.expiringmap.ExpirationPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Here is about {@link ExpireMappedStore} client configuration interface.
+ * <p>
+ * Provides the function of the configuration and obtain.
+ * <p>
+ * Providing optional elements allows a more specific configuration of the client.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+@SuppressWarnings("rawtypes")
+public interface ExpireMappedClientConfiguration {
+
+    /**
+     * Obtain the path of the mapped file of {@link ExpireMappedStore}
+     *
+     * @return {@literal String} file path
+     */
+    String getFilePath();
+
+    /**
+     * Obtain the maximum number of additions for {@link ExpireMappedStore}
+     *
+     * @return {@literal Integer} store max save size
+     */
+    Integer getMaxSize();
+
+    /**
+     * Obtain the bytes of the value log of a new mapped file
+     *
+     * @return {@literal Long} log capacity bytes
+     */
+    Long getLogCapacityBytes();
+
+    /**
+     * Obtain the default cache time for {@link ExpireMappedStore}
+     *
+     * @return {@literal Long} default expire time
+     */
+    Long getDefaultExpireTime();
+
+    /**
+     * Obtain the default cache time unit of {@link #getDefaultExpireTime()}
+     *
+     * @return {@literal TimeUnit} default expire time unit
+     */
+    TimeUnit getDefaultExpireTimeUnit();
+
+    /**
+     * For specific explanations, please refer to {@link ExpirationPolicy}
+     *
+     * @return {@literal ExpirationPolicy} default ExpirationPolicy
+     */
+    ExpirationPolicy getExpirationPolicy();
+
+    /**
+     * Obtain the milliseconds between two sweeps of the expired entries
+     *
+     * @return {@literal Long} sweep interval
+     */
+    Long getSweepInterval();
+
+    /**
+     * Whether to maintain the similar key index {@link io.github.zpf9705.expiring.help.SimilarKeyIndex}
+     *
+     * @return {@literal Boolean} if {@literal true} enable key index
+     */
+    Boolean getEnableKeyIndex();
+
+    /**
+     * Get synchronous listener collection
+     *
+     * @return {@literal ExpirationPolicy} Cluster expired to monitor interface of sync
+     */
+    List<ExpirationListener> getSyncExpirationListeners();
+
+    /**
+     * Get asynchronous listener collection
+     *
+     * @return {@literal ExpirationPolicy} Cluster expired to monitor interface of async
+     */
+    List<ExpirationListener> getASyncExpirationListeners();
+
+    /**
+     * Create a new {@link ExpireMappedClientConfigurationBuilder} to build {@link ExpireMappedClientConfiguration}
+     * to be used
+     *
+     * @return a new {@link ExpireMappedClientConfigurationBuilder} to build {@link ExpireMappedClientConfiguration}
+     */
+    static ExpireMappedClientConfigurationBuilder builder() {
+        return new ExpireMappedClientConfigurationBuilder();
+    }
+
+    /**
+     * Create a default new {@link ExpireMappedClientConfigurationBuilder} to build
+     * {@link ExpireMappedClientConfiguration}
+     * <dl>
+     *     <dt>file_path</dt>
+     *     <dd>project path + /expire/expire.mapped</dd>
+     *     <dt>max_size</dt>
+     *     <dd>20*50</dd>
+     *     <dt>log_capacity_bytes</dt>
+     *     <dd>1 &lt;&lt; 26</dd>
+     *     <dt>expire_time</dt>
+     *     <dd>30L</dd>
+     *     <dt>expire_time_unit</dt>
+     *     <dd>TimeUnit.SECONDS</dd>
+     *     <dt>ExpirationPolicy</dt>
+     *     <dd>ACCESSED</dd>
+     *     <dt>sweep_interval</dt>
+     *     <dd>1000L</dd>
+     * </dl>
+     *
+     * @return a {@link ExpireMappedClientConfiguration} with defaults.
+     */
+    static ExpireMappedClientConfiguration defaultConfiguration() {
+        return builder().build();
+    }
+
+    /**
+     * Simple Construction Class of {@link ExpireMappedClientConfiguration}
+     */
+    class ExpireMappedClientConfigurationBuilder {
+
+        @CanNull
+        String filePath;
+        @CanNull
+        Integer maxSize;
+        @CanNull
+        Long logCapacityBytes;
+        @CanNull
+        Long defaultExpireTime;
+        @CanNull
+        TimeUnit defaultExpireTimeUnit;
+        @CanNull
+        ExpirationPolicy expirationPolicy;
+        @CanNull
+        Long sweepInterval;
+        @CanNull
+        Boolean enableKeyIndex;
+        static final String DEFAULT_FILE_NAME = "expire.mapped";
+        static final Integer DEFAULT_MAX_SIZE = 20 * 50;
+        static final Long DEFAULT_LOG_CAPACITY_BYTES = (long) (1 << 26);
+        static final Long DEFAULT_EXPIRE_TIME = 30L;
+        static final TimeUnit DEFAULT_EXPIRE_TIME_UNIT = TimeUnit.SECONDS;
+        static final ExpirationPolicy DEFAULT_EXPIRATION_POLICY = ExpirationPolicy.ACCESSED;
+        static final Long DEFAULT_SWEEP_INTERVAL = 1000L;
+        static final Boolean DEFAULT_ENABLE_KEY_INDEX = false;
+        final List<ExpirationListener> syncExpirationListeners = new ArrayList<>();
+        final List<ExpirationListener> asyncExpirationListeners = new ArrayList<>();
+
+        ExpireMappedClientConfigurationBuilder() {
+        }
+
+        /**
+         * Given the store the path of its mapped file
+         *
+         * @param filePath The file path
+         * @return {@link ExpireMappedClientConfigurationBuilder}
+         */
+        public ExpireMappedClientConfigurationBuilder acquireFilePath(String filePath) {
+            AssertUtils.Operation.isTrue(this.filePath == null,
+                    "FilePath existing configuration values, please do not cover");
+            this.filePath = filePath;
+            return this;
+        }
+
+        /**
+         * Given the store one of the biggest capacity
+         *
+         * @param maxSize The maximum capacity
+         * @return {@link ExpireMappedClientConfigurationBuilder}
+         */
+        public ExpireMappedClientConfigurationBuilder acquireMaxSize(Integer maxSize) {
+            AssertUtils.Operation.isTrue(this.maxSize == null,
+                    "MaxSize existing configuration values, please do not cover");
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Given the store the bytes of the value log of a new mapped file
+         *
+         * @param logCapacityBytes The log capacity bytes
+         * @return {@link ExpireMappedClientConfigurationBuilder}
+         */
+        public ExpireMappedClientConfigurationBuilder acquireLogCapacityBytes(Long logCapacityBytes) {
+            AssertUtils.Operation.isTrue(this.logCapacityBytes == null,
+                    "LogCapacityBytes existing configuration values, please do not cover");
+            this.logCapacityBytes = logCapacityBytes;
+            return this;
+        }
+
+        /**
+         * Given the store of a default cache expiration time
+         *
+         * @param defaultExpireTime The default cache expiration time
+         * @return {@link ExpireMappedClientConfigurationBuilder}
+         */
+        public ExpireMappedClientConfigurationBuilder acquireDefaultExpireTime(Long defaultExpireTime) {
+            AssertUtils.Operation.isTrue(this.defaultExpireTime == null,
+                    "DefaultExpireTime existing configuration values, please do not cover");
+            this.defaultExpireTime = defaultExpireTime;
+            return this;
+        }
+
+        /**
+         * Given the store of a default cache expiration time units
+         *
+         * @param defaultExpireTimeUnit The default cache expiration time units
+         * @return {@link ExpireMappedClientConfigurationBuilder}
+         */
+        public ExpireMappedClientConfigurationBuilder acquireDefaultExpireTimeUnit(TimeUnit defaultExpireTimeUnit) {
+            AssertUtils.Operation.isTrue(this.defaultExpireTimeUnit == null,
+                    "DefaultExpireTimeUnit existing configuration values, please do not cover");
+            this.defaultExpireTimeUnit = defaultExpireTimeUnit;
+            return this;
+        }
+
+        /**
+         * Given the store of a default cache expiration expired strategy
+         *
+         * @param expirationPolicy The default cache expiration expired strategy
+         * @return {@link ExpireMappedClientConfigurationBuilder}
+         */
+        public ExpireMappedClientConfigurationBuilder acquireDefaultExpirationPolicy(
+                ExpirationPolicy expirationPolicy) {
+            AssertUtils.Operation.isTrue(this.expirationPolicy == null,
+                    "ExpirationPolicy existing configuration values, please do not cover");
+            this.expirationPolicy = expirationPolicy;
+            return this;
+        }
+
+        /**
+         * Given the store the milliseconds between two sweeps of the expired entries
+         *
+         * @param sweepInterval The sweep interval
+         * @return {@link ExpireMappedClientConfigurationBuilder}
+         */
+        public ExpireMappedClientConfigurationBuilder acquireSweepInterval(Long sweepInterval) {
+            AssertUtils.Operation.isTrue(this.sweepInterval == null,
+                    "SweepInterval existing configuration values, please do not cover");
+            this.sweepInterval = sweepInterval;
+            return this;
+        }
+
+        /**
+         * Given the store whether to maintain the similar key index
+         *
+         * @param enableKeyIndex Whether to enable key index
+         * @return {@link ExpireMappedClientConfigurationBuilder}
+         */
+        public ExpireMappedClientConfigurationBuilder acquireEnableKeyIndex(Boolean enableKeyIndex) {
+            AssertUtils.Operation.isTrue(this.enableKeyIndex == null,
+                    "EnableKeyIndex existing configuration values, please do not cover");
+            this.enableKeyIndex = enableKeyIndex;
+            return this;
+        }
+
+        /**
+         * Increase the sync expired listeners
+         *
+         * @param expirationListener {@link ExpirationListener}
+         */
+        public void addSyncExpiredListener(ExpirationListener expirationListener) {
+            if (expirationListener != null) {
+                this.syncExpirationListeners.add(expirationListener);
+            }
+        }
+
+        /**
+         * Increase the async expired listeners
+         *
+         * @param expirationListener {@link ExpirationListener}
+         */
+        public void addASyncExpiredListener(ExpirationListener expirationListener) {
+            if (expirationListener != null) {
+                this.asyncExpirationListeners.add(expirationListener);
+            }
+        }
+
+        /**
+         * Build the {@link ExpireMappedClientConfiguration} with the configuration applied from this builder.
+         *
+         * @return a new {@link ExpireMappedClientConfiguration} implementation.
+         */
+        public ExpireMappedClientConfiguration build() {
+            if (this.filePath == null || this.filePath.isEmpty()) {
+                this.filePath = SystemUtils.getCurrentProjectPath() + "/expire/" + DEFAULT_FILE_NAME;
+            }
+            if (this.maxSize == null || this.maxSize == 0) {
+                this.maxSize = DEFAULT_MAX_SIZE;
+            }
+            if (this.logCapacityBytes == null || this.logCapacityBytes < 1L) {
+                this.logCapacityBytes = DEFAULT_LOG_CAPACITY_BYTES;
+            }
+            if (this.defaultExpireTime == null || this.defaultExpireTime == 0L) {
+                this.defaultExpireTime = DEFAULT_EXPIRE_TIME;
+            }
+            if (this.defaultExpireTimeUnit == null) {
+                this.defaultExpireTimeUnit = DEFAULT_EXPIRE_TIME_UNIT;
+            }
+            if (this.expirationPolicy == null) {
+                this.expirationPolicy = DEFAULT_EXPIRATION_POLICY;
+            }
+            if (this.sweepInterval == null || this.sweepInterval < 1L) {
+                this.sweepInterval = DEFAULT_SWEEP_INTERVAL;
+            }
+            if (this.enableKeyIndex == null) {
+                this.enableKeyIndex = DEFAULT_ENABLE_KEY_INDEX;
+            }
+            return new DefaultExpireMappedClientConfiguration(
+                    this.filePath,
+                    this.maxSize,
+                    this.logCapacityBytes,
+                    this.defaultExpireTime,
+                    this.defaultExpireTimeUnit,
+                    this.expirationPolicy,
+                    this.sweepInterval,
+                    this.enableKeyIndex,
+                    this.syncExpirationListeners,
+                    this.asyncExpirationListeners);
+        }
+    }
+}
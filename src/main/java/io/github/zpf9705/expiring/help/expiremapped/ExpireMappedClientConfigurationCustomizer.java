@@ -0,0 +1,20 @@
+package io.github.zpf9705.expiring.help.expiremapped;
+
+/**
+ * Callback interface that can be implemented by beans wishing to customize the
+ * {@link ExpireMappedClientConfiguration} via a
+ * {@link ExpireMappedClientConfiguration.ExpireMappedClientConfigurationBuilder} whilst retaining default
+ * autoconfiguration.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public interface ExpireMappedClientConfigurationCustomizer {
+
+    /**
+     * Customize the {@link ExpireMappedClientConfiguration.ExpireMappedClientConfigurationBuilder}.
+     *
+     * @param clientConfigurationBuilder the builder to customize
+     */
+    void customize(ExpireMappedClientConfiguration.ExpireMappedClientConfigurationBuilder clientConfigurationBuilder);
+}
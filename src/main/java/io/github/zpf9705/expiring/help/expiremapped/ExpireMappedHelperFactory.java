@@ -0,0 +1,42 @@
+package io.github.zpf9705.expiring.help.expiremapped;
+
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.help.ExpireHelper;
+import io.github.zpf9705.expiring.help.ExpireHelperFactory;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapHelper;
+
+/**
+ * ExpireMapped Connection factory creating for {@code ExpireHelperFactory}
+ * <p>
+ * The mapped file is the persistence of this client itself , so the helper is not wrapped by
+ * the persistence processor of expire map and nothing is written to the persistence files.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class ExpireMappedHelperFactory implements ExpireHelperFactory {
+
+    private final ExpireMapHelper helper;
+
+    public ExpireMappedHelperFactory(@NotNull ExpireMappedClientConfiguration clientConfiguration) {
+        this.helper = doCreateExpireMappedHelp(clientConfiguration);
+    }
+
+    @Override
+    @NotNull
+    public ExpireHelper getHelper() {
+        return this.helper;
+    }
+
+    /**
+     * Setting an Expire Mapped connection
+     *
+     * @param clientConfiguration {@link ExpireMappedClientConfiguration}
+     * @return return a {@link ExpireMapHelper}
+     */
+    public ExpireMapHelper doCreateExpireMappedHelp(ExpireMappedClientConfiguration clientConfiguration) {
+        //Real object generated singleton operation
+        ExpireMappedCenter expireMappedCenter = ExpireMappedCenter.singletonWithConfiguration(clientConfiguration);
+        return new ExpireMappedRealHelper(() -> expireMappedCenter);
+    }
+}
@@ -0,0 +1,1137 @@
+package io.github.zpf9705.expiring.help.expiremapped;
+
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.help.KeyScanner;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteKey;
+import io.github.zpf9705.expiring.logger.Console;
+import net.jodah.expiringmap.ExpirationListener;
+import net.jodah.expiringmap.ExpirationPolicy;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Expiring store of which the primary storage is a memory-mapped file , mapped once with
+ * {@link FileChannel#map(FileChannel.MapMode, long, long)}.
+ * <p>
+ * The file is made of three regions :
+ * <ul>
+ *     <li>header : magic , version , slots number , log capacity , entries number , log tail and garbage bytes</li>
+ *     <li>hash region : open addressing slots with linear probing , each slot holds the position of
+ *     a record and the hash of its key , a removed slot is filled by backward shift instead of tombstone</li>
+ *     <li>value log : append-only records of the expiration deadline , the duration , the key and the value ,
+ *     8 bytes aligned</li>
+ * </ul>
+ * A write appends a new record and then points the slot to it , the replaced record becomes garbage. When the
+ * log is full , the live records are compacted in place to the head of the log , and the entries nearest to expire
+ * are evicted if the garbage is not enough.
+ * <p>
+ * The deadlines are wall clock milliseconds stored inline in the records , so a restart only maps the file again
+ * and serves reads immediately without any replay , the entries expired during the downtime are treated as absent
+ * and notified by the sweeper. The sweeper scans the hash region every {@code sweepInterval} milliseconds and
+ * notifies the expired entries to the expiration listeners.
+ * <p>
+ * The file is locked with {@link FileChannel#tryLock()} while the store is open , so another store , in this or
+ * another process , fails fast to open the same file instead of corrupting it. The dirty pages are written back
+ * by the system or by {@link #force()}. A crash in the middle of a compaction may lose entries.
+ * The whole file is one mapping , so it is limited to {@link Integer#MAX_VALUE} bytes.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class ExpireMappedStore implements Closeable {
+
+    static final int MAGIC = 0x45584D46;
+
+    static final int VERSION = 1;
+
+    static final int HEADER_SIZE = 64;
+
+    static final int SLOT_SIZE = 8;
+
+    static final int RECORD_HEADER_SIZE = 32;
+
+    /**
+     * Slots sampled to find the entry nearest to expire for eviction
+     */
+    static final int EVICTION_SAMPLES = 16;
+
+    /**
+     * Slots swept within one hold of the lock
+     */
+    static final int SWEEP_BATCH = 1024;
+
+    /*
+     * Header offsets
+     */
+    private static final int VERSION_OFFSET = 4;
+    private static final int SLOT_COUNT_OFFSET = 8;
+    private static final int SIZE_OFFSET = 12;
+    private static final int LOG_CAPACITY_OFFSET = 16;
+    private static final int TAIL_OFFSET = 20;
+    private static final int GARBAGE_OFFSET = 24;
+
+    /*
+     * Record offsets
+     */
+    private static final int DURATION_OFFSET = 8;
+    private static final int HASH_OFFSET = 16;
+    private static final int KEY_LENGTH_OFFSET = 20;
+    private static final int VALUE_LENGTH_OFFSET = 24;
+
+    private static final AtomicInteger LISTENER_THREAD_COUNTER = new AtomicInteger();
+
+    private static volatile ExecutorService listenerService;
+
+    /**
+     * The files opened by the stores of this jvm , closing any channel of a file releases all the locks of the
+     * process on it , so a second store of this jvm is refused before its channel opened
+     */
+    private static final Set<String> OPENED_FILES = ConcurrentHashMap.newKeySet();
+
+    private final List<ExpirationListener<ExpireMapByteKey, byte[]>> expirationListeners = new CopyOnWriteArrayList<>();
+
+    private final List<ExpirationListener<ExpireMapByteKey, byte[]>> asyncExpirationListeners =
+            new CopyOnWriteArrayList<>();
+
+    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+    private final Lock readLock = readWriteLock.readLock();
+
+    private final Lock writeLock = readWriteLock.writeLock();
+
+    private final File file;
+
+    private final FileChannel channel;
+
+    private final String openedPath;
+
+    private final FileLock fileLock;
+
+    private final MappedByteBuffer buffer;
+
+    private final int slotCount;
+
+    private final int mask;
+
+    private final int logStart;
+
+    private final int logEnd;
+
+    private final int maxSize;
+
+    private final long defaultDuration;
+
+    private final ExpirationPolicy expirationPolicy;
+
+    private final Thread sweeper;
+
+    /*
+     * Mirrors of the header , guarded by the write lock
+     */
+    private volatile int size;
+    private int tail;
+    private int garbage;
+
+    private int evictionCursor;
+
+    private int sweepCursor;
+
+    /**
+     * Map the {@code file} and start the sweeper , an existing file keeps its own layout of slots and log
+     *
+     * @param file             must not be {@literal null}
+     * @param maxSize          max entries number
+     * @param logCapacity      bytes of the value log of a new file
+     * @param duration         default expiration duration
+     * @param unit             default expiration duration unit
+     * @param expirationPolicy must not be {@literal null}
+     * @param sweepInterval    milliseconds between two sweeps of the expired entries
+     */
+    public ExpireMappedStore(@NotNull File file, int maxSize, long logCapacity, long duration, @NotNull TimeUnit unit,
+                             @NotNull ExpirationPolicy expirationPolicy, long sweepInterval) {
+        this.file = file;
+        this.defaultDuration = TimeUnit.MILLISECONDS.convert(duration, unit);
+        this.expirationPolicy = expirationPolicy;
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists() && !parent.mkdirs()) {
+            throw new OperationsException("Can not create the directory of mapped file [" + file + "]");
+        }
+        this.openedPath = file.getAbsoluteFile().toPath().normalize().toString();
+        if (!OPENED_FILES.add(this.openedPath)) {
+            throw new OperationsException("Mapped file [" + file + "] is already opened by another store");
+        }
+        try {
+            this.channel = new RandomAccessFile(file, "rw").getChannel();
+        } catch (IOException e) {
+            OPENED_FILES.remove(this.openedPath);
+            throw new OperationsException("Map file [" + file + "] failed : " + e.getMessage());
+        }
+        try {
+            FileLock lock;
+            try {
+                lock = this.channel.tryLock();
+            } catch (OverlappingFileLockException e) {
+                lock = null;
+            }
+            if (lock == null) {
+                throw new OperationsException("Mapped file [" + file + "] is already opened by another process");
+            }
+            this.fileLock = lock;
+            boolean exist = this.channel.size() >= HEADER_SIZE;
+            int slots;
+            long capacity;
+            if (exist) {
+                ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+                this.channel.read(header, 0L);
+                if (header.getInt(0) != MAGIC || header.getInt(VERSION_OFFSET) != VERSION) {
+                    throw new OperationsException("File [" + file + "] is not a mapped expire store of version [" +
+                            VERSION + "]");
+                }
+                slots = header.getInt(SLOT_COUNT_OFFSET);
+                capacity = header.getInt(LOG_CAPACITY_OFFSET);
+            } else {
+                slots = tableSizeFor(Math.max(maxSize, 8) * 2);
+                capacity = align(Math.max(logCapacity, RECORD_HEADER_SIZE));
+            }
+            long length = HEADER_SIZE + (long) slots * SLOT_SIZE + capacity;
+            if (length > Integer.MAX_VALUE) {
+                throw new OperationsException("Mapped file of [" + length + "] bytes exceeds the max mapping size [" +
+                        Integer.MAX_VALUE + "]");
+            }
+            this.buffer = this.channel.map(FileChannel.MapMode.READ_WRITE, 0L, length);
+            this.slotCount = slots;
+            this.mask = slots - 1;
+            this.logStart = HEADER_SIZE + slots * SLOT_SIZE;
+            this.logEnd = (int) length;
+            //Keep at least a quarter of slots empty so that a probe is short and always ends
+            this.maxSize = Math.min(maxSize > 0 ? maxSize : Integer.MAX_VALUE, slots - (slots >> 2));
+            if (exist) {
+                this.size = this.buffer.getInt(SIZE_OFFSET);
+                this.tail = this.buffer.getInt(TAIL_OFFSET);
+                this.garbage = this.buffer.getInt(GARBAGE_OFFSET);
+                if (maxSize > 0 && maxSize != this.maxSize) {
+                    Console.warn("Mapped file [{}] keeps its layout of [{}] slots , the max size is [{}]",
+                            file, slots, this.maxSize);
+                }
+            } else {
+                this.buffer.putInt(0, MAGIC);
+                this.buffer.putInt(VERSION_OFFSET, VERSION);
+                this.buffer.putInt(SLOT_COUNT_OFFSET, slots);
+                this.buffer.putInt(LOG_CAPACITY_OFFSET, (int) capacity);
+                this.tail = this.logStart;
+                this.writeHeader();
+            }
+        } catch (IOException | RuntimeException e) {
+            //Release the file lock of a store failed to open
+            this.closeChannel();
+            if (e instanceof OperationsException) {
+                throw (OperationsException) e;
+            }
+            throw new OperationsException("Map file [" + file + "] failed : " + e.getMessage());
+        }
+        this.sweeper = new Thread(() -> this.sweep(Math.max(sweepInterval, 1L)), "ExpireMapped-Sweeper");
+        this.sweeper.setDaemon(true);
+        this.sweeper.start();
+    }
+
+    /**
+     * Put with default expiration duration , keep the duration if exist
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return old value , {@literal null} if not exist
+     */
+    @CanNull
+    public byte[] put(@NotNull ExpireMapByteKey key, @NotNull byte[] value) {
+        return this.putInternal(key, value, null, Mode.PUT);
+    }
+
+    /**
+     * Put with expiration duration
+     *
+     * @param key      must not be {@literal null}
+     * @param value    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return old value , {@literal null} if not exist
+     */
+    @CanNull
+    public byte[] put(@NotNull ExpireMapByteKey key, @NotNull byte[] value, long duration, @NotNull TimeUnit unit) {
+        return this.putInternal(key, value, TimeUnit.MILLISECONDS.convert(duration, unit), Mode.PUT);
+    }
+
+    /**
+     * Put with default expiration duration if not exist , it is atomic
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return existing value , {@literal null} if put
+     */
+    @CanNull
+    public byte[] putIfAbsent(@NotNull ExpireMapByteKey key, @NotNull byte[] value) {
+        return this.putInternal(key, value, null, Mode.IF_ABSENT);
+    }
+
+    /**
+     * Put with expiration duration if not exist , it is atomic
+     *
+     * @param key      must not be {@literal null}
+     * @param value    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return existing value , {@literal null} if put
+     */
+    @CanNull
+    public byte[] putIfAbsent(@NotNull ExpireMapByteKey key, @NotNull byte[] value, long duration,
+                              @NotNull TimeUnit unit) {
+        return this.putInternal(key, value, TimeUnit.MILLISECONDS.convert(duration, unit), Mode.IF_ABSENT);
+    }
+
+    /**
+     * Replace the value if exist , restart the countdown
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return old value , {@literal null} if not exist
+     */
+    @CanNull
+    public byte[] replace(@NotNull ExpireMapByteKey key, @NotNull byte[] value) {
+        return this.putInternal(key, value, null, Mode.IF_PRESENT);
+    }
+
+    /**
+     * Replace the value if exist and equal to {@code expect} , restart the countdown , it is atomic
+     *
+     * @param key    must not be {@literal null}
+     * @param expect must not be {@literal null}
+     * @param value  must not be {@literal null}
+     * @return if {@literal true} replaced
+     */
+    public boolean replace(@NotNull ExpireMapByteKey key, @NotNull byte[] expect, @NotNull byte[] value) {
+        this.writeLock.lock();
+        try {
+            int record = this.findRecord(key, now());
+            if (record == 0 || !this.valueEquals(record, expect)) {
+                return false;
+            }
+            //The write lock is reentrant , the compare and the replace are in one hold of it
+            this.putInternal(key, value, null, Mode.IF_PRESENT);
+            return true;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Replace the value if exist and equal to {@code expect} , keep the deadline , it is atomic
+     *
+     * @param key    must not be {@literal null}
+     * @param expect must not be {@literal null}
+     * @param value  must not be {@literal null}
+     * @return if {@literal true} replaced
+     */
+    public boolean update(@NotNull ExpireMapByteKey key, @NotNull byte[] expect, @NotNull byte[] value) {
+        this.writeLock.lock();
+        try {
+            long now = now();
+            int record = this.findRecord(key, now);
+            if (record == 0 || !this.valueEquals(record, expect)) {
+                return false;
+            }
+            long deadline = this.buffer.getLong(record);
+            this.putInternal(key, value, null, Mode.IF_PRESENT);
+            //The new record is appended with a restarted deadline , set back the one of the replaced record
+            this.buffer.putLong(this.findRecord(key, now), deadline);
+            return true;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Get value , restart the countdown with {@link ExpirationPolicy#ACCESSED}
+     *
+     * @param key must not be {@literal null}
+     * @return value , {@literal null} if not exist
+     */
+    @CanNull
+    public byte[] get(@NotNull ExpireMapByteKey key) {
+        this.readLock.lock();
+        try {
+            int record = this.findRecord(key, now());
+            if (record == 0) {
+                return null;
+            }
+            if (this.expirationPolicy == ExpirationPolicy.ACCESSED) {
+                //Readers may race on the aligned deadline , any of them is a valid restart
+                this.buffer.putLong(record, deadline(now(), this.buffer.getLong(record + DURATION_OFFSET)));
+            }
+            return this.valueOf(record);
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * Determine whether the {@code key} exist
+     *
+     * @param key must not be {@literal null}
+     * @return if {@literal true} exist
+     */
+    public boolean containsKey(@NotNull ExpireMapByteKey key) {
+        this.readLock.lock();
+        try {
+            return this.findRecord(key, now()) != 0;
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * Determine whether any key holds the {@code value} , compared by content
+     *
+     * @param value must not be {@literal null}
+     * @return if {@literal true} exist
+     */
+    public boolean containsValue(@NotNull byte[] value) {
+        this.readLock.lock();
+        try {
+            long now = now();
+            for (int slot = 0; slot < this.slotCount; slot++) {
+                int record = this.recordAt(slot);
+                if (record != 0 && !this.isExpired(record, now) && this.valueEquals(record, value)) {
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return old value , {@literal null} if not exist
+     */
+    @CanNull
+    public byte[] remove(@NotNull ExpireMapByteKey key) {
+        this.writeLock.lock();
+        try {
+            int slot = this.find(key);
+            if (slot < 0) {
+                return null;
+            }
+            int record = this.recordAt(slot);
+            byte[] value = this.isExpired(record, now()) ? null : this.valueOf(record);
+            this.delete(slot);
+            this.writeHeader();
+            return value;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Remove the {@code key} only if it holds the {@code value} , compared by content , it is atomic
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return if {@literal true} removed
+     */
+    public boolean remove(@NotNull ExpireMapByteKey key, @NotNull byte[] value) {
+        this.writeLock.lock();
+        try {
+            int slot = this.find(key);
+            if (slot < 0) {
+                return false;
+            }
+            int record = this.recordAt(slot);
+            if (this.isExpired(record, now()) || !this.valueEquals(record, value)) {
+                return false;
+            }
+            this.delete(slot);
+            this.writeHeader();
+            return true;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Get the not expired keys
+     *
+     * @return keys
+     */
+    public Set<ExpireMapByteKey> keySet() {
+        this.readLock.lock();
+        try {
+            long now = now();
+            Set<ExpireMapByteKey> keys = new HashSet<>();
+            for (int slot = 0; slot < this.slotCount; slot++) {
+                int record = this.recordAt(slot);
+                if (record != 0 && !this.isExpired(record, now)) {
+                    keys.add(ExpireMapByteKey.of(this.keyOf(record)));
+                }
+            }
+            return keys;
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * Offer the not expired keys to {@code collector} , the hash of slot decides whether to read the key ,
+     * so only the keys collected are read from the file
+     *
+     * @param collector must not be {@literal null}
+     */
+    public void scanKeys(@NotNull KeyScanner.Collector<ExpireMapByteKey> collector) {
+        this.readLock.lock();
+        try {
+            long now = now();
+            for (int slot = 0; slot < this.slotCount; slot++) {
+                int record = this.recordAt(slot);
+                if (record != 0 && collector.accepts(this.hashAt(slot)) && !this.isExpired(record, now)) {
+                    collector.offer(this.hashAt(slot), ExpireMapByteKey.of(this.keyOf(record)));
+                }
+            }
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * Remove all entries without notification
+     */
+    public void clear() {
+        this.writeLock.lock();
+        try {
+            for (int slot = 0; slot < this.slotCount; slot++) {
+                this.buffer.putLong(slotPosition(slot), 0L);
+            }
+            this.size = 0;
+            this.tail = this.logStart;
+            this.garbage = 0;
+            this.writeHeader();
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Get the number of entries , include the expired ones not yet swept
+     *
+     * @return entries number
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Get the expiration duration of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return milliseconds , {@literal null} if not exist
+     */
+    @CanNull
+    public Long getExpiration(@NotNull ExpireMapByteKey key) {
+        this.readLock.lock();
+        try {
+            int record = this.findRecord(key, now());
+            return record == 0 ? null : this.buffer.getLong(record + DURATION_OFFSET);
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * Get the remaining expiration duration of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return milliseconds , {@literal null} if not exist
+     */
+    @CanNull
+    public Long getExpectedExpiration(@NotNull ExpireMapByteKey key) {
+        this.readLock.lock();
+        try {
+            long now = now();
+            int record = this.findRecord(key, now);
+            return record == 0 ? null : Math.max(this.buffer.getLong(record) - now, 0L);
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * Set the expiration duration of {@code key} and restart the countdown
+     *
+     * @param key      must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return if {@literal true} exist and set
+     */
+    public boolean setExpiration(@NotNull ExpireMapByteKey key, long duration, @NotNull TimeUnit unit) {
+        return this.resetInternal(key, TimeUnit.MILLISECONDS.convert(duration, unit));
+    }
+
+    /**
+     * Restart the countdown of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return if {@literal true} exist and reset
+     */
+    public boolean resetExpiration(@NotNull ExpireMapByteKey key) {
+        return this.resetInternal(key, null);
+    }
+
+    /**
+     * Write back the dirty pages of the mapped file to the storage device
+     */
+    public void force() {
+        this.buffer.force();
+    }
+
+    /**
+     * Stop the sweeper , write back the mapped file and close its channel , the store must not be used after closed
+     */
+    @Override
+    public void close() {
+        this.sweeper.interrupt();
+        this.force();
+        this.closeChannel();
+    }
+
+    /**
+     * Close the channel of the mapped file , which releases its file lock
+     */
+    private void closeChannel() {
+        try {
+            this.channel.close();
+        } catch (IOException e) {
+            Console.warn("Close mapped file [{}] failed : [{}]", this.file, e.getMessage());
+        } finally {
+            OPENED_FILES.remove(this.openedPath);
+        }
+    }
+
+    /**
+     * Get the mapped file
+     *
+     * @return {@link File}
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    /**
+     * Get the bytes of the value log
+     *
+     * @return log capacity bytes
+     */
+    public long getLogCapacity() {
+        return this.logEnd - this.logStart;
+    }
+
+    /**
+     * Get the bytes of the value log in use , include the garbage not yet compacted
+     *
+     * @return used log bytes
+     */
+    public long getLogUsedBytes() {
+        this.readLock.lock();
+        try {
+            return this.tail - this.logStart;
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * Add a listener notified in the thread of the operation that finds the expired entry
+     *
+     * @param listener must not be {@literal null}
+     */
+    public void addExpirationListener(@NotNull ExpirationListener<ExpireMapByteKey, byte[]> listener) {
+        this.expirationListeners.add(listener);
+    }
+
+    /**
+     * Add a listener notified in the listener thread pool
+     *
+     * @param listener must not be {@literal null}
+     */
+    public void addAsyncExpirationListener(@NotNull ExpirationListener<ExpireMapByteKey, byte[]> listener) {
+        this.asyncExpirationListeners.add(listener);
+    }
+
+    private byte[] putInternal(ExpireMapByteKey key, byte[] value, Long duration, Mode mode) {
+        List<Map.Entry<ExpireMapByteKey, byte[]>> expired = new ArrayList<>();
+        byte[] oldValue = null;
+        this.writeLock.lock();
+        try {
+            long now = now();
+            long milliseconds = duration == null ? this.defaultDuration : duration;
+            int slot = this.find(key);
+            if (slot >= 0) {
+                int record = this.recordAt(slot);
+                if (this.isExpired(record, now)) {
+                    expired.add(this.entryOf(record));
+                    this.delete(slot);
+                } else {
+                    oldValue = this.valueOf(record);
+                    if (mode == Mode.IF_ABSENT) {
+                        return oldValue;
+                    }
+                    if (duration == null) {
+                        milliseconds = this.buffer.getLong(record + DURATION_OFFSET);
+                    }
+                }
+            }
+            if (oldValue == null) {
+                if (mode == Mode.IF_PRESENT) {
+                    return null;
+                }
+                while (this.size >= this.maxSize && this.evictNearest(expired)) {
+                    //Evict for the new entry
+                }
+            }
+            byte[] keyBytes = key.getBytes();
+            int record = this.append(recordSize(keyBytes.length, value.length), expired);
+            this.buffer.putLong(record, deadline(now, milliseconds));
+            this.buffer.putLong(record + DURATION_OFFSET, milliseconds);
+            this.buffer.putInt(record + HASH_OFFSET, key.hashCode());
+            this.buffer.putInt(record + KEY_LENGTH_OFFSET, keyBytes.length);
+            this.buffer.putInt(record + VALUE_LENGTH_OFFSET, value.length);
+            this.write(record + RECORD_HEADER_SIZE, keyBytes);
+            this.write(record + RECORD_HEADER_SIZE + keyBytes.length, value);
+            //Point the slot to the record only after it is complete , the eviction for room may have moved the slots
+            slot = this.find(key);
+            if (slot >= 0) {
+                this.garbage += this.sizeOf(this.recordAt(slot));
+                this.buffer.putInt(slotPosition(slot), record);
+            } else {
+                this.insert(key.hashCode(), record);
+            }
+            this.writeHeader();
+            return oldValue;
+        } finally {
+            this.writeLock.unlock();
+            this.notifyListeners(expired);
+        }
+    }
+
+    private boolean resetInternal(ExpireMapByteKey key, Long duration) {
+        this.writeLock.lock();
+        try {
+            long now = now();
+            int record = this.findRecord(key, now);
+            if (record == 0) {
+                return false;
+            }
+            if (duration != null) {
+                this.buffer.putLong(record + DURATION_OFFSET, duration);
+            }
+            this.buffer.putLong(record, deadline(now, this.buffer.getLong(record + DURATION_OFFSET)));
+            return true;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * Reserve {@code recordSize} bytes at the tail of log , with the write lock. When the log is full the live
+     * records are compacted , and if the garbage is not enough the entries nearest to expire are evicted until
+     * a sixteenth of log can be reclaimed at once , so that the compaction is not repeated for every append.
+     *
+     * @param recordSize aligned bytes of record
+     * @param evicted    collector of the evicted entries
+     * @return position of record
+     */
+    private int append(int recordSize, List<Map.Entry<ExpireMapByteKey, byte[]>> evicted) {
+        if (recordSize > this.logEnd - this.logStart) {
+            throw new OperationsException("Record of [" + recordSize + "] bytes exceeds the log capacity [" +
+                    this.getLogCapacity() + "] of mapped file [" + this.file + "]");
+        }
+        if (this.logEnd - this.tail < recordSize) {
+            long reclaim = Math.max(recordSize, (this.logEnd - this.logStart) >> 4);
+            while (this.garbage + this.logEnd - this.tail < reclaim && this.evictNearest(evicted)) {
+                //Evict for room
+            }
+            this.compact();
+        }
+        int record = this.tail;
+        this.tail += recordSize;
+        return record;
+    }
+
+    /**
+     * Move the live records to the head of the log in order and repoint their slots , with the write lock
+     */
+    private void compact() {
+        int read = this.logStart;
+        int write = this.logStart;
+        while (read < this.tail) {
+            int recordSize = this.sizeOf(read);
+            int slot = this.slotOf(read);
+            if (slot >= 0) {
+                if (write != read) {
+                    byte[] bytes = new byte[recordSize];
+                    this.read(read, bytes);
+                    this.write(write, bytes);
+                    this.buffer.putInt(slotPosition(slot), write);
+                }
+                write += recordSize;
+            }
+            read += recordSize;
+        }
+        this.tail = write;
+        this.garbage = 0;
+        this.writeHeader();
+    }
+
+    /**
+     * Evict the entry nearest to expire among the sampled slots , with the write lock
+     *
+     * @param evicted collector of the evicted entry
+     * @return if {@literal false} no entry to evict
+     */
+    private boolean evictNearest(List<Map.Entry<ExpireMapByteKey, byte[]>> evicted) {
+        if (this.size == 0) {
+            return false;
+        }
+        int victim = -1;
+        long nearest = Long.MAX_VALUE;
+        int sampled = 0;
+        for (int i = 0; i < this.slotCount && sampled < EVICTION_SAMPLES; i++) {
+            int slot = (this.evictionCursor + i) & this.mask;
+            int record = this.recordAt(slot);
+            if (record != 0) {
+                sampled++;
+                long deadline = this.buffer.getLong(record);
+                if (victim < 0 || deadline < nearest) {
+                    victim = slot;
+                    nearest = deadline;
+                }
+            }
+        }
+        if (victim < 0) {
+            return false;
+        }
+        this.evictionCursor = (victim + 1) & this.mask;
+        evicted.add(this.entryOf(this.recordAt(victim)));
+        this.delete(victim);
+        return true;
+    }
+
+    /**
+     * Loop of the sweeper thread
+     *
+     * @param sweepInterval milliseconds between two sweeps
+     */
+    private void sweep(long sweepInterval) {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                TimeUnit.MILLISECONDS.sleep(sweepInterval);
+                for (int swept = 0; swept < this.slotCount; swept += SWEEP_BATCH) {
+                    this.sweepBatch();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                Console.warn("Mapped expire store sweeper failed : [{}]", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Remove the expired entries of the next {@link #SWEEP_BATCH} slots and notify the listeners
+     */
+    private void sweepBatch() {
+        List<Map.Entry<ExpireMapByteKey, byte[]>> expired = new ArrayList<>();
+        this.writeLock.lock();
+        try {
+            long now = now();
+            for (int i = 0; i < SWEEP_BATCH; i++) {
+                int slot = this.sweepCursor;
+                int record = this.recordAt(slot);
+                if (record != 0 && this.isExpired(record, now)) {
+                    expired.add(this.entryOf(record));
+                    //The backward shift may fill the slot , check it again
+                    this.delete(slot);
+                } else {
+                    this.sweepCursor = (slot + 1) & this.mask;
+                }
+            }
+            if (!expired.isEmpty()) {
+                this.writeHeader();
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+        this.notifyListeners(expired);
+    }
+
+    /**
+     * Find the slot of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return slot , {@literal -1} if not exist
+     */
+    private int find(ExpireMapByteKey key) {
+        int hash = key.hashCode();
+        byte[] bytes = key.getBytes();
+        for (int slot = spread(hash) & this.mask; ; slot = (slot + 1) & this.mask) {
+            int record = this.recordAt(slot);
+            if (record == 0) {
+                return -1;
+            }
+            if (this.hashAt(slot) == hash && this.keyEquals(record, bytes)) {
+                return slot;
+            }
+        }
+    }
+
+    /**
+     * Find the not expired record of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @param now current wall clock milliseconds
+     * @return position of record , {@literal 0} if not exist
+     */
+    private int findRecord(ExpireMapByteKey key, long now) {
+        int slot = this.find(key);
+        if (slot < 0) {
+            return 0;
+        }
+        int record = this.recordAt(slot);
+        return this.isExpired(record, now) ? 0 : record;
+    }
+
+    /**
+     * Find the slot pointing to the {@code record}
+     *
+     * @param record position of record
+     * @return slot , {@literal -1} if the record is garbage
+     */
+    private int slotOf(int record) {
+        for (int slot = spread(this.buffer.getInt(record + HASH_OFFSET)) & this.mask; ;
+             slot = (slot + 1) & this.mask) {
+            int position = this.recordAt(slot);
+            if (position == 0) {
+                return -1;
+            }
+            if (position == record) {
+                return slot;
+            }
+        }
+    }
+
+    private void insert(int hash, int record) {
+        int slot = spread(hash) & this.mask;
+        while (this.recordAt(slot) != 0) {
+            slot = (slot + 1) & this.mask;
+        }
+        this.buffer.putInt(slotPosition(slot) + 4, hash);
+        this.buffer.putInt(slotPosition(slot), record);
+        this.size++;
+    }
+
+    /**
+     * Empty the {@code slot} and shift back the following slots of the probe , the record becomes garbage
+     *
+     * @param slot slot in use
+     */
+    private void delete(int slot) {
+        this.garbage += this.sizeOf(this.recordAt(slot));
+        this.size--;
+        int hole = slot;
+        for (int next = (hole + 1) & this.mask; this.recordAt(next) != 0; next = (next + 1) & this.mask) {
+            int home = spread(this.hashAt(next)) & this.mask;
+            //Move back if the hole lies between the home slot and the current slot
+            if (((next - home) & this.mask) >= ((next - hole) & this.mask)) {
+                this.buffer.putLong(slotPosition(hole), this.buffer.getLong(slotPosition(next)));
+                hole = next;
+            }
+        }
+        this.buffer.putLong(slotPosition(hole), 0L);
+    }
+
+    private void writeHeader() {
+        this.buffer.putInt(SIZE_OFFSET, this.size);
+        this.buffer.putInt(TAIL_OFFSET, this.tail);
+        this.buffer.putInt(GARBAGE_OFFSET, this.garbage);
+    }
+
+    private int recordAt(int slot) {
+        return this.buffer.getInt(slotPosition(slot));
+    }
+
+    private int hashAt(int slot) {
+        return this.buffer.getInt(slotPosition(slot) + 4);
+    }
+
+    private boolean isExpired(int record, long now) {
+        return this.buffer.getLong(record) <= now;
+    }
+
+    private int sizeOf(int record) {
+        return recordSize(this.buffer.getInt(record + KEY_LENGTH_OFFSET),
+                this.buffer.getInt(record + VALUE_LENGTH_OFFSET));
+    }
+
+    private byte[] keyOf(int record) {
+        byte[] key = new byte[this.buffer.getInt(record + KEY_LENGTH_OFFSET)];
+        this.read(record + RECORD_HEADER_SIZE, key);
+        return key;
+    }
+
+    private byte[] valueOf(int record) {
+        byte[] value = new byte[this.buffer.getInt(record + VALUE_LENGTH_OFFSET)];
+        this.read(record + RECORD_HEADER_SIZE + this.buffer.getInt(record + KEY_LENGTH_OFFSET), value);
+        return value;
+    }
+
+    private Map.Entry<ExpireMapByteKey, byte[]> entryOf(int record) {
+        return new AbstractMap.SimpleImmutableEntry<>(ExpireMapByteKey.of(this.keyOf(record)), this.valueOf(record));
+    }
+
+    private boolean keyEquals(int record, byte[] key) {
+        return this.buffer.getInt(record + KEY_LENGTH_OFFSET) == key.length &&
+                this.contentEquals(record + RECORD_HEADER_SIZE, key);
+    }
+
+    private boolean valueEquals(int record, byte[] value) {
+        return this.buffer.getInt(record + VALUE_LENGTH_OFFSET) == value.length &&
+                this.contentEquals(record + RECORD_HEADER_SIZE + this.buffer.getInt(record + KEY_LENGTH_OFFSET),
+                        value);
+    }
+
+    private boolean contentEquals(int position, byte[] bytes) {
+        for (int i = 0; i < bytes.length; i++) {
+            if (this.buffer.get(position + i) != bytes[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void read(int position, byte[] bytes) {
+        ByteBuffer duplicate = this.buffer.duplicate();
+        //Call through Buffer to be compatible with the covariant return types since java 9
+        ((Buffer) duplicate).position(position);
+        duplicate.get(bytes);
+    }
+
+    private void write(int position, byte[] bytes) {
+        ByteBuffer duplicate = this.buffer.duplicate();
+        ((Buffer) duplicate).position(position);
+        duplicate.put(bytes);
+    }
+
+    private void notifyListeners(List<Map.Entry<ExpireMapByteKey, byte[]>> expired) {
+        for (Map.Entry<ExpireMapByteKey, byte[]> entry : expired) {
+            for (ExpirationListener<ExpireMapByteKey, byte[]> listener : this.expirationListeners) {
+                try {
+                    listener.expired(entry.getKey(), entry.getValue());
+                } catch (Throwable e) {
+                    Console.warn("Mapped expire store expiration listener failed : [{}]", e.getMessage());
+                }
+            }
+            for (ExpirationListener<ExpireMapByteKey, byte[]> listener : this.asyncExpirationListeners) {
+                getListenerService().execute(() -> {
+                    try {
+                        listener.expired(entry.getKey(), entry.getValue());
+                    } catch (Throwable e) {
+                        Console.warn("Mapped expire store async expiration listener failed : [{}]",
+                                e.getMessage());
+                    }
+                });
+            }
+        }
+    }
+
+    private static int slotPosition(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private static int recordSize(int keyLength, int valueLength) {
+        return (int) align((long) RECORD_HEADER_SIZE + keyLength + valueLength);
+    }
+
+    /**
+     * Align to 8 bytes so that the deadline of a record is written in one access
+     */
+    private static long align(long bytes) {
+        return (bytes + 7L) & ~7L;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    private static int tableSizeFor(int capacity) {
+        int n = Integer.highestOneBit(Math.max(capacity, 2) - 1) << 1;
+        return n < 0 ? 1 << 30 : n;
+    }
+
+    private static long now() {
+        return System.currentTimeMillis();
+    }
+
+    private static long deadline(long now, long duration) {
+        return duration >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + duration;
+    }
+
+    private static ExecutorService getListenerService() {
+        if (listenerService == null) {
+            synchronized (ExpireMappedStore.class) {
+                if (listenerService == null) {
+                    listenerService = Executors.newCachedThreadPool(runnable -> {
+                        Thread thread = new Thread(runnable,
+                                "ExpireMapped-Listener-Service-" + LISTENER_THREAD_COUNTER.incrementAndGet());
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+                }
+            }
+        }
+        return listenerService;
+    }
+
+    /**
+     * Condition of the existing entry for a write
+     */
+    private enum Mode {
+        PUT,
+        IF_ABSENT,
+        IF_PRESENT
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.zpf9705.expiring.help.expirewheel;
+
+import io.github.zpf9705.expiring.help.ExpireWeigher;
+import net.jodah.expiringmap.ExpirationListener;
+import net.jodah.expiringmap.ExpirationPolicy;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default implementation for {@link ExpireWheelClientConfiguration}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+@SuppressWarnings("rawtypes")
+public class DefaultExpireWheelClientConfiguration implements ExpireWheelClientConfiguration {
+
+    private final Integer maxSize;
+    private final Long defaultExpireTime;
+    private final TimeUnit defaultExpireTimeUnit;
+    private final ExpirationPolicy expirationPolicy;
+    private final Long tickDuration;
+    private final Integer wheelSize;
+    private final Boolean enableKeyIndex;
+    private final Long maxWeightBytes;
+    private final ExpireWeigher weigher;
+    private final Long offHeapCapacityBytes;
+    private final Integer slabSize;
+    private final List<ExpirationListener> syncExpirationListeners;
+    private final List<ExpirationListener> asyncExpirationListeners;
+
+    public DefaultExpireWheelClientConfiguration(Integer maxSize,
+                                                 Long defaultExpireTime,
+                                                 TimeUnit defaultExpireTimeUnit,
+                                                 ExpirationPolicy expirationPolicy,
+                                                 Long tickDuration,
+                                                 Integer wheelSize,
+                                                 Boolean enableKeyIndex,
+                                                 Long maxWeightBytes,
+                                                 ExpireWeigher weigher,
+                                                 Long offHeapCapacityBytes,
+                                                 Integer slabSize,
+                                                 List<ExpirationListener> syncExpirationListeners,
+                                                 List<ExpirationListener> asyncExpirationListeners) {
+        this.maxSize = maxSize;
+        this.defaultExpireTime = defaultExpireTime;
+        this.defaultExpireTimeUnit = defaultExpireTimeUnit;
+        this.expirationPolicy = expirationPolicy;
+        this.tickDuration = tickDuration;
+        this.wheelSize = wheelSize;
+        this.enableKeyIndex = enableKeyIndex;
+        this.maxWeightBytes = maxWeightBytes;
+        this.weigher = weigher;
+        this.offHeapCapacityBytes = offHeapCapacityBytes;
+        this.slabSize = slabSize;
+        this.syncExpirationListeners = syncExpirationListeners;
+        this.asyncExpirationListeners = asyncExpirationListeners;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getMaxSize()
+     */
+    @Override
+    public Integer getMaxSize() {
+        return this.maxSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getDefaultExpireTime()
+     */
+    @Override
+    public Long getDefaultExpireTime() {
+        return this.defaultExpireTime;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getDefaultExpireTimeUnit()
+     */
+    @Override
+    public TimeUnit getDefaultExpireTimeUnit() {
+        return this.defaultExpireTimeUnit;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getExpirationPolicy()
+     */
+    @Override
+    public ExpirationPolicy getExpirationPolicy() {
+        return this.expirationPolicy;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getTickDuration()
+     */
+    @Override
+    public Long getTickDuration() {
+        return this.tickDuration;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getWheelSize()
+     */
+    @Override
+    public Integer getWheelSize() {
+        return this.wheelSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getEnableKeyIndex()
+     */
+    @Override
+    public Boolean getEnableKeyIndex() {
+        return this.enableKeyIndex;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getMaxWeightBytes()
+     */
+    @Override
+    public Long getMaxWeightBytes() {
+        return this.maxWeightBytes;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getWeigher()
+     */
+    @Override
+    public ExpireWeigher getWeigher() {
+        return this.weigher;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getOffHeapCapacityBytes()
+     */
+    @Override
+    public Long getOffHeapCapacityBytes() {
+        return this.offHeapCapacityBytes;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getSlabSize()
+     */
+    @Override
+    public Integer getSlabSize() {
+        return this.slabSize;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getSyncExpirationListeners()
+     */
+    @Override
+    public List<ExpirationListener> getSyncExpirationListeners() {
+        return this.syncExpirationListeners;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelClientConfiguration#getASyncExpirationListeners()
+     */
+    @Override
+    public List<ExpirationListener> getASyncExpirationListeners() {
+        return this.asyncExpirationListeners;
+    }
+}
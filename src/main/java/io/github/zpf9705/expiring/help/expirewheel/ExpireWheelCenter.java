@@ -0,0 +1,405 @@
+package io.github.zpf9705.expiring.help.expirewheel;
+
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.core.persistence.ExpireBytesPersistenceSolver;
+import io.github.zpf9705.expiring.core.persistence.PersistenceSolver;
+import io.github.zpf9705.expiring.help.ExpireWeigher;
+import io.github.zpf9705.expiring.help.RecordActivationCenter;
+import io.github.zpf9705.expiring.help.SlabAllocator;
+import io.github.zpf9705.expiring.help.SimilarKeyIndex;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteKey;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapCenter;
+import io.github.zpf9705.expiring.listener.MessageExpiryCapable;
+import io.github.zpf9705.expiring.logger.Console;
+import io.github.zpf9705.expiring.util.CodecUtils;
+import io.github.zpf9705.expiring.util.CollectionUtils;
+import io.github.zpf9705.expiring.util.ServiceLoadUtils;
+import net.jodah.expiringmap.ExpirationListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Cache center based on the native {@link ExpireWheelMap}.
+ * <p>
+ * This class will help implement the method of using {@link ExpireWheelClientConfiguration} to configure .
+ * <p>
+ * Singleton objects of {@link ExpireWheelMap} and placing them in {@link RecordActivationCenter},
+ * as well as rewriting and caching information read through file recovery.
+ * <p>
+ * The bytes of all entries are weighted by {@link ExpireWheelClientConfiguration#getWeigher()} and reported by
+ * {@link #getWeightBytes()} , if {@link ExpireWheelClientConfiguration#getMaxWeightBytes()} is given , the entries
+ * of the earliest buckets are evicted after a write exceeds it.
+ * <p>
+ * If {@link ExpireWheelClientConfiguration#getOffHeapCapacityBytes()} is given , the values are stored in
+ * direct memory slabs of {@link SlabAllocator} , see {@link ExpireWheelMap}.
+ * <p>
+ * Each write of a key changes the {@link ExpireWheelMap} and the similar key index in one hold of the lock of
+ * the key , see {@link #writeWithKey(ExpireMapByteKey, Supplier)}. The entries expired or evicted leave the
+ * index in the hold of the lock of their keys only if their keys are not put again , the entries evicted in a
+ * write of another key leave it after the lock of that key released , so that no two locks of keys are held
+ * at once. So a live key is always in the similar key index.
+ * <p>
+ * Once this class is encapsulated, it is not allowed to instantiate empty constructs.
+ * It must be done through the above method and always maintain a unique operand.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public final class ExpireWheelCenter extends RecordActivationCenter<ExpireWheelCenter, byte[], byte[]> {
+
+    private static final long serialVersionUID = 5313417592617826548L;
+
+    /**
+     * Number of the lock stripes of keys , a power of two
+     */
+    static final int KEY_LOCK_STRIPES = 256;
+
+    /**
+     * Singleton for {@link ExpireWheelCenter}
+     */
+    private static volatile ExpireWheelCenter expireWheelCenter;
+
+    /**
+     * Core for cache client {@link ExpireWheelMap}
+     */
+    private ExpireWheelMap expireWheelMap;
+
+    /**
+     * Optional similar key index , {@literal null} if not enable
+     */
+    private SimilarKeyIndex<ExpireMapByteKey> keyIndex;
+
+    /**
+     * Weigher of entries
+     */
+    private ExpireWeigher weigher;
+
+    /**
+     * Max weight bytes of all entries , not bounded if less than {@literal 1}
+     */
+    private long maxWeightBytes;
+
+    /**
+     * Current weight bytes of all entries
+     */
+    private final AtomicLong weightBytes = new AtomicLong();
+
+    /**
+     * The lock stripes of keys , see {@link #writeWithKey(ExpireMapByteKey, Supplier)}
+     */
+    private final Object[] keyLocks = new Object[KEY_LOCK_STRIPES];
+
+    /**
+     * The keys expired or evicted in the write of the current thread , leave the index after the write
+     */
+    private final transient ThreadLocal<List<ExpireMapByteKey>> expiredInWrite = new ThreadLocal<>();
+
+    {
+        for (int i = 0; i < KEY_LOCK_STRIPES; i++) {
+            this.keyLocks[i] = new Object();
+        }
+    }
+
+    /**
+     * Do not instance for no args construct
+     */
+    private ExpireWheelCenter() {
+    }
+
+    /**
+     * Instance for {@link ExpireWheelMap}
+     *
+     * @param expireWheelMap not be {@literal null}
+     * @param keyIndex       can be {@literal null}
+     * @param weigher        not be {@literal null}
+     * @param maxWeightBytes max weight bytes
+     */
+    private ExpireWheelCenter(ExpireWheelMap expireWheelMap, SimilarKeyIndex<ExpireMapByteKey> keyIndex,
+                              ExpireWeigher weigher, long maxWeightBytes) {
+        this.expireWheelMap = expireWheelMap;
+        this.keyIndex = keyIndex;
+        this.weigher = weigher;
+        this.maxWeightBytes = maxWeightBytes;
+    }
+
+    /**
+     * Singleton with {@code ExpireWheelClientConfiguration}
+     *
+     * @param configuration must no be {@literal null}
+     * @return {@link ExpireWheelCenter}
+     */
+    public static ExpireWheelCenter singletonWithConfiguration(@NotNull ExpireWheelClientConfiguration configuration) {
+        if (expireWheelCenter == null) {
+            synchronized (ExpireWheelCenter.class) {
+                if (expireWheelCenter == null) {
+                    expireWheelCenter = buildSingleton(configuration);
+                    setSingletonCenter(expireWheelCenter);
+                }
+            }
+        }
+        return expireWheelCenter;
+    }
+
+    /**
+     * Get Singleton instance for {@code ExpireWheelCenter}
+     *
+     * @return {@link ExpireWheelCenter}
+     */
+    public static ExpireWheelCenter getExpireWheelCenter() {
+        if (expireWheelCenter == null) {
+            throw new OperationsException("ExpireWheelCenter need Initialize");
+        }
+        return expireWheelCenter;
+    }
+
+    /**
+     * Get operation with a {@code ExpireWheelMap}
+     *
+     * @return {@link ExpireWheelMap}
+     */
+    public ExpireWheelMap getExpireWheelMap() {
+        return this.expireWheelMap;
+    }
+
+    /**
+     * Get the similar key index of {@code ExpireWheelMap}
+     *
+     * @return {@link SimilarKeyIndex} , {@literal null} if not enable
+     */
+    @CanNull
+    public SimilarKeyIndex<ExpireMapByteKey> getKeyIndex() {
+        return this.keyIndex;
+    }
+
+    /**
+     * Get the current weight bytes of all entries weighted by {@link ExpireWheelClientConfiguration#getWeigher()}
+     *
+     * @return weight bytes
+     */
+    public long getWeightBytes() {
+        return this.weightBytes.get();
+    }
+
+    /**
+     * Get the max weight bytes of all entries
+     *
+     * @return max weight bytes , {@literal 0} if not bounded by weight
+     */
+    public long getMaxWeightBytes() {
+        return Math.max(this.maxWeightBytes, 0L);
+    }
+
+    /**
+     * Run a {@code write} of {@code key} in one hold of the lock of {@code key} , the write changes the
+     * {@code ExpireWheelMap} and then calls {@link #afterChanged} , so that the concurrent writes of the same
+     * key apply their index changes in the same order as their entry changes. The keys expired or evicted in
+     * the write leave the index after the lock released.
+     *
+     * @param key   must not be {@literal null}
+     * @param write must not be {@literal null}
+     * @param <R>   result generic
+     * @return the result of {@code write}
+     */
+    public <R> R writeWithKey(@NotNull ExpireMapByteKey key, @NotNull Supplier<R> write) {
+        List<ExpireMapByteKey> outer = this.expiredInWrite.get();
+        if (outer != null) {
+            //Nested in a write , the outer one leaves the index
+            synchronized (this.getKeyLock(key)) {
+                return write.get();
+            }
+        }
+        List<ExpireMapByteKey> expired = new ArrayList<>();
+        this.expiredInWrite.set(expired);
+        R result;
+        try {
+            synchronized (this.getKeyLock(key)) {
+                result = write.get();
+            }
+        } finally {
+            this.expiredInWrite.remove();
+        }
+        for (ExpireMapByteKey expiredKey : expired) {
+            this.leaveIndex(expiredKey);
+        }
+        return result;
+    }
+
+    /**
+     * Synchronize the index and weight after the value of {@code key} changed from {@code oldValue}
+     * to {@code newValue} , and evict by weight if the max weight bytes is exceeded , must be called in
+     * {@link #writeWithKey(ExpireMapByteKey, Supplier)} of {@code key}
+     *
+     * @param key      must not be {@literal null}
+     * @param oldValue can be {@literal null}
+     * @param newValue can be {@literal null} if removed
+     */
+    public void afterChanged(@NotNull ExpireMapByteKey key, @CanNull byte[] oldValue, @CanNull byte[] newValue) {
+        if (this.keyIndex != null) {
+            if (newValue == null) {
+                this.keyIndex.remove(key);
+            } else if (!this.keyIndex.contains(key)) {
+                //Decode only once when the key is added
+                this.keyIndex.add(key, CodecUtils.toStingBeReal(key.getBytes()));
+            }
+        }
+        long weight = this.weightBytes.addAndGet(this.weigh(key, newValue) - this.weigh(key, oldValue));
+        if (newValue != null && this.maxWeightBytes > 0L && weight > this.maxWeightBytes) {
+            //The evicted entries are notified back to leave the index and weight
+            while (this.weightBytes.get() > this.maxWeightBytes) {
+                if (!this.expireWheelMap.evictEarliest()) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Synchronize the index and weight after the entry of {@code key} expired or evicted , called by the
+     * expiration listener
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     */
+    private void afterExpired(@NotNull ExpireMapByteKey key, @NotNull byte[] value) {
+        this.weightBytes.addAndGet(-this.weigh(key, value));
+        if (this.keyIndex == null) {
+            return;
+        }
+        List<ExpireMapByteKey> expired = this.expiredInWrite.get();
+        if (expired != null) {
+            //The lock of another key is held
+            expired.add(key);
+            return;
+        }
+        this.leaveIndex(key);
+    }
+
+    /**
+     * Remove {@code key} from the index in the hold of its lock , unless it has been put again
+     *
+     * @param key must not be {@literal null}
+     */
+    private void leaveIndex(@NotNull ExpireMapByteKey key) {
+        synchronized (this.getKeyLock(key)) {
+            if (!this.expireWheelMap.containsKey(key)) {
+                this.keyIndex.remove(key);
+            }
+        }
+    }
+
+    /**
+     * Get the lock of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return lock object
+     */
+    Object getKeyLock(@NotNull ExpireMapByteKey key) {
+        int hash = key.hashCode();
+        return this.keyLocks[(hash ^ (hash >>> 16)) & (KEY_LOCK_STRIPES - 1)];
+    }
+
+    /**
+     * Clear the index and weight after the {@code ExpireWheelMap} cleared
+     */
+    public void afterCleared() {
+        if (this.keyIndex != null) {
+            this.keyIndex.clear();
+        }
+        this.weightBytes.set(0L);
+    }
+
+    /**
+     * Calculate the weight of an entry
+     *
+     * @param key   must not be {@literal null}
+     * @param value can be {@literal null}
+     * @return weight bytes , {@literal 0} if value is {@literal null}
+     */
+    private long weigh(@NotNull ExpireMapByteKey key, @CanNull byte[] value) {
+        return value == null ? 0L : this.weigher.weigh(key.getBytes(), value);
+    }
+
+    /**
+     * Build Singleton with {@code ExpireWheelClientConfiguration}.
+     *
+     * @param configuration must no be {@literal null}
+     * @return {@link ExpireWheelCenter}
+     */
+    @SuppressWarnings("rawtypes")
+    private static ExpireWheelCenter buildSingleton(@NotNull ExpireWheelClientConfiguration configuration) {
+        SlabAllocator allocator = configuration.getOffHeapCapacityBytes() > 0L ?
+                new SlabAllocator(configuration.getOffHeapCapacityBytes(), configuration.getSlabSize()) : null;
+        ExpireWheelMap expireWheelMap = new ExpireWheelMap(
+                configuration.getMaxSize(),
+                configuration.getDefaultExpireTime(),
+                configuration.getDefaultExpireTimeUnit(),
+                configuration.getExpirationPolicy(),
+                configuration.getTickDuration(),
+                configuration.getWheelSize(),
+                allocator);
+        SimilarKeyIndex<ExpireMapByteKey> keyIndex = Boolean.TRUE.equals(configuration.getEnableKeyIndex()) ?
+                new SimilarKeyIndex<>() : null;
+        ExpireWheelCenter center = new ExpireWheelCenter(expireWheelMap, keyIndex,
+                configuration.getWeigher(), configuration.getMaxWeightBytes());
+        //Expired or evicted entries leave the index and weight first
+        expireWheelMap.addExpirationListener(center::afterExpired);
+        if (allocator != null) {
+            Console.info("Expire wheel values stored off-heap in [{}] bytes of direct memory , " +
+                    "see ExpireWheelMap#getSlabAllocator()", allocator.getCapacity());
+        }
+        if (center.maxWeightBytes > 0L) {
+            Console.info("Expire wheel bounded by [{}] weight bytes , see ExpireWheelCenter#getWeightBytes()",
+                    center.maxWeightBytes);
+        }
+        if (CollectionUtils.simpleNotEmpty(configuration.getSyncExpirationListeners())) {
+            for (ExpirationListener expirationListener : configuration.getSyncExpirationListeners()) {
+                //sync
+                expireWheelMap.addExpirationListener(
+                        new ExpireMapCenter.ByteKeyExpirationListener(expirationListener));
+            }
+        }
+        if (CollectionUtils.simpleNotEmpty(configuration.getASyncExpirationListeners())) {
+            for (ExpirationListener expirationListener : configuration.getASyncExpirationListeners()) {
+                //async
+                expireWheelMap.addAsyncExpirationListener(
+                        new ExpireMapCenter.ByteKeyExpirationListener(expirationListener));
+            }
+        }
+        return center;
+    }
+
+    @Override
+    public ExpireWheelCenter getHelpCenter() {
+        return getExpireWheelCenter();
+    }
+
+    @Override
+    public void reload(@NotNull byte[] key, @NotNull byte[] value, @NotNull Long duration,
+                       @NotNull TimeUnit unit) {
+        if (this.expireWheelMap == null) {
+            return;
+        }
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        this.writeWithKey(byteKey, () -> {
+            this.afterChanged(byteKey, this.expireWheelMap.put(byteKey, value, duration, unit), value);
+            return null;
+        });
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void cleanSupportingElements(@NotNull MessageExpiryCapable capable) {
+        //Remove persistent cache
+        PersistenceSolver<byte[], byte[]> solver = ServiceLoadUtils.load(PersistenceSolver.class)
+                .getSpecifiedServiceBySubClass(ExpireBytesPersistenceSolver.class);
+        if (solver != null) {
+            solver.removePersistence(capable.getByteKey(), capable.getByteValue());
+        }
+    }
+}
@@ -0,0 +1,414 @@
+package io.github.zpf9705.expiring.help.expirewheel;
+
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.help.ExpireWeigher;
+import io.github.zpf9705.expiring.util.AssertUtils;
+import net.jodah.expiringmap.ExpirationListener;
+import net.jodah.expiringmap.ExpirationPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Here is about {@link ExpireWheelMap} client configuration interface.
+ * <p>
+ * Provides the function of the configuration and obtain.
+ * <p>
+ * Providing optional elements allows a more specific configuration of the client.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+@SuppressWarnings("rawtypes")
+public interface ExpireWheelClientConfiguration {
+
+    /**
+     * Obtain the maximum number of additions for {@link ExpireWheelMap}
+     *
+     * @return {@literal Integer} map max save size
+     */
+    Integer getMaxSize();
+
+    /**
+     * Obtain the default cache time for {@link ExpireWheelMap}
+     *
+     * @return {@literal Long} default expire time
+     */
+    Long getDefaultExpireTime();
+
+    /**
+     * Obtain the default cache time unit of {@link #getDefaultExpireTime()}
+     *
+     * @return {@literal TimeUnit} default expire time unit
+     */
+    TimeUnit getDefaultExpireTimeUnit();
+
+    /**
+     * For specific explanations, please refer to {@link ExpirationPolicy}
+     *
+     * @return {@literal ExpirationPolicy} default ExpirationPolicy
+     */
+    ExpirationPolicy getExpirationPolicy();
+
+    /**
+     * Obtain the milliseconds of a tick of the lowest wheel
+     *
+     * @return {@literal Long} tick duration
+     */
+    Long getTickDuration();
+
+    /**
+     * Obtain the buckets number of each wheel
+     *
+     * @return {@literal Integer} wheel size
+     */
+    Integer getWheelSize();
+
+    /**
+     * Whether to maintain the similar key index {@link io.github.zpf9705.expiring.help.SimilarKeyIndex}
+     *
+     * @return {@literal Boolean} if {@literal true} enable key index
+     */
+    Boolean getEnableKeyIndex();
+
+    /**
+     * Get the max bytes weighted by {@link #getWeigher()} of all entries , not less than {@literal 1} to enable
+     *
+     * @return {@literal Long} max weight bytes , {@literal 0} if not bounded by weight
+     */
+    Long getMaxWeightBytes();
+
+    /**
+     * Get the weigher to calculate the bytes of an entry
+     *
+     * @return {@link ExpireWeigher}
+     */
+    ExpireWeigher getWeigher();
+
+    /**
+     * Get the max direct memory bytes to store the values off-heap
+     *
+     * @return {@literal Long} off-heap capacity bytes , {@literal 0} if the values are on-heap
+     */
+    Long getOffHeapCapacityBytes();
+
+    /**
+     * Get the bytes of each direct memory slab , also the max bytes of an off-heap value
+     *
+     * @return {@literal Integer} slab size
+     */
+    Integer getSlabSize();
+
+    /**
+     * Get synchronous listener collection
+     *
+     * @return {@literal ExpirationPolicy} Cluster expired to monitor interface of sync
+     */
+    List<ExpirationListener> getSyncExpirationListeners();
+
+    /**
+     * Get asynchronous listener collection
+     *
+     * @return {@literal ExpirationPolicy} Cluster expired to monitor interface of async
+     */
+    List<ExpirationListener> getASyncExpirationListeners();
+
+    /**
+     * Create a new {@link ExpireWheelClientConfigurationBuilder} to build {@link ExpireWheelClientConfiguration}
+     * to be used
+     *
+     * @return a new {@link ExpireWheelClientConfigurationBuilder} to build {@link ExpireWheelClientConfiguration}
+     */
+    static ExpireWheelClientConfigurationBuilder builder() {
+        return new ExpireWheelClientConfigurationBuilder();
+    }
+
+    /**
+     * Create a default new {@link ExpireWheelClientConfigurationBuilder} to build
+     * {@link ExpireWheelClientConfiguration}
+     * <dl>
+     *     <dt>max_size</dt>
+     *     <dd>20*50</dd>
+     *     <dt>expire_time</dt>
+     *     <dd>30L</dd>
+     *     <dt>expire_time_unit</dt>
+     *     <dd>TimeUnit.SECONDS</dd>
+     *     <dt>ExpirationPolicy</dt>
+     *     <dd>ACCESSED</dd>
+     *     <dt>tick_duration</dt>
+     *     <dd>10L</dd>
+     *     <dt>wheel_size</dt>
+     *     <dd>64</dd>
+     * </dl>
+     *
+     * @return a {@link ExpireWheelClientConfiguration} with defaults.
+     */
+    static ExpireWheelClientConfiguration defaultConfiguration() {
+        return builder().build();
+    }
+
+    /**
+     * Simple Construction Class of {@link ExpireWheelClientConfiguration}
+     */
+    class ExpireWheelClientConfigurationBuilder {
+
+        @CanNull
+        Integer maxSize;
+        @CanNull
+        Long defaultExpireTime;
+        @CanNull
+        TimeUnit defaultExpireTimeUnit;
+        @CanNull
+        ExpirationPolicy expirationPolicy;
+        @CanNull
+        Long tickDuration;
+        @CanNull
+        Integer wheelSize;
+        @CanNull
+        Boolean enableKeyIndex;
+        @CanNull
+        Long maxWeightBytes;
+        @CanNull
+        ExpireWeigher weigher;
+        @CanNull
+        Long offHeapCapacityBytes;
+        @CanNull
+        Integer slabSize;
+        static final Integer DEFAULT_MAX_SIZE = 20 * 50;
+        static final Long DEFAULT_EXPIRE_TIME = 30L;
+        static final TimeUnit DEFAULT_EXPIRE_TIME_UNIT = TimeUnit.SECONDS;
+        static final ExpirationPolicy DEFAULT_EXPIRATION_POLICY = ExpirationPolicy.ACCESSED;
+        static final Long DEFAULT_TICK_DURATION = 10L;
+        static final Integer DEFAULT_WHEEL_SIZE = 64;
+        static final Boolean DEFAULT_ENABLE_KEY_INDEX = false;
+        static final Long DEFAULT_MAX_WEIGHT_BYTES = 0L;
+        static final Long DEFAULT_OFF_HEAP_CAPACITY_BYTES = 0L;
+        static final Integer DEFAULT_SLAB_SIZE = 1 << 20;
+        final List<ExpirationListener> syncExpirationListeners = new ArrayList<>();
+        final List<ExpirationListener> asyncExpirationListeners = new ArrayList<>();
+
+        ExpireWheelClientConfigurationBuilder() {
+        }
+
+        /**
+         * Given the map one of the biggest capacity
+         *
+         * @param maxSize The maximum capacity
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireMaxSize(Integer maxSize) {
+            AssertUtils.Operation.isTrue(this.maxSize == null,
+                    "MaxSize existing configuration values, please do not cover");
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        /**
+         * Given the map of a default cache expiration time
+         *
+         * @param defaultExpireTime The default cache expiration time
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireDefaultExpireTime(Long defaultExpireTime) {
+            AssertUtils.Operation.isTrue(this.defaultExpireTime == null,
+                    "DefaultExpireTime existing configuration values, please do not cover");
+            this.defaultExpireTime = defaultExpireTime;
+            return this;
+        }
+
+        /**
+         * Given the map of a default cache expiration time units
+         *
+         * @param defaultExpireTimeUnit The default cache expiration time units
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireDefaultExpireTimeUnit(TimeUnit defaultExpireTimeUnit) {
+            AssertUtils.Operation.isTrue(this.defaultExpireTimeUnit == null,
+                    "DefaultExpireTimeUnit existing configuration values, please do not cover");
+            this.defaultExpireTimeUnit = defaultExpireTimeUnit;
+            return this;
+        }
+
+        /**
+         * Given the map of a default cache expiration expired strategy
+         *
+         * @param expirationPolicy The default cache expiration expired strategy
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireDefaultExpirationPolicy(ExpirationPolicy expirationPolicy) {
+            AssertUtils.Operation.isTrue(this.expirationPolicy == null,
+                    "ExpirationPolicy existing configuration values, please do not cover");
+            this.expirationPolicy = expirationPolicy;
+            return this;
+        }
+
+        /**
+         * Given the wheel the milliseconds of a tick
+         *
+         * @param tickDuration The milliseconds of a tick
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireTickDuration(Long tickDuration) {
+            AssertUtils.Operation.isTrue(this.tickDuration == null,
+                    "TickDuration existing configuration values, please do not cover");
+            this.tickDuration = tickDuration;
+            return this;
+        }
+
+        /**
+         * Given the wheel the buckets number
+         *
+         * @param wheelSize The buckets number
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireWheelSize(Integer wheelSize) {
+            AssertUtils.Operation.isTrue(this.wheelSize == null,
+                    "WheelSize existing configuration values, please do not cover");
+            this.wheelSize = wheelSize;
+            return this;
+        }
+
+        /**
+         * Given the map whether to maintain the similar key index
+         *
+         * @param enableKeyIndex Whether to enable key index
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireEnableKeyIndex(Boolean enableKeyIndex) {
+            AssertUtils.Operation.isTrue(this.enableKeyIndex == null,
+                    "EnableKeyIndex existing configuration values, please do not cover");
+            this.enableKeyIndex = enableKeyIndex;
+            return this;
+        }
+
+        /**
+         * Given the map the max bytes of all entries , evict the entries of the earliest buckets when exceeded
+         *
+         * @param maxWeightBytes The max weight bytes
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireMaxWeightBytes(Long maxWeightBytes) {
+            AssertUtils.Operation.isTrue(this.maxWeightBytes == null,
+                    "MaxWeightBytes existing configuration values, please do not cover");
+            this.maxWeightBytes = maxWeightBytes;
+            return this;
+        }
+
+        /**
+         * Given the map the weigher to calculate the bytes of an entry
+         *
+         * @param weigher The weigher
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireWeigher(ExpireWeigher weigher) {
+            AssertUtils.Operation.isTrue(this.weigher == null,
+                    "Weigher existing configuration values, please do not cover");
+            this.weigher = weigher;
+            return this;
+        }
+
+        /**
+         * Given the map the max direct memory bytes to store the values off-heap
+         *
+         * @param offHeapCapacityBytes The off-heap capacity bytes
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireOffHeapCapacityBytes(Long offHeapCapacityBytes) {
+            AssertUtils.Operation.isTrue(this.offHeapCapacityBytes == null,
+                    "OffHeapCapacityBytes existing configuration values, please do not cover");
+            this.offHeapCapacityBytes = offHeapCapacityBytes;
+            return this;
+        }
+
+        /**
+         * Given the map the bytes of each direct memory slab
+         *
+         * @param slabSize The slab size
+         * @return {@link ExpireWheelClientConfigurationBuilder}
+         */
+        public ExpireWheelClientConfigurationBuilder acquireSlabSize(Integer slabSize) {
+            AssertUtils.Operation.isTrue(this.slabSize == null,
+                    "SlabSize existing configuration values, please do not cover");
+            this.slabSize = slabSize;
+            return this;
+        }
+
+        /**
+         * Increase the sync expired listeners
+         *
+         * @param expirationListener {@link ExpirationListener}
+         */
+        public void addSyncExpiredListener(ExpirationListener expirationListener) {
+            if (expirationListener != null) {
+                this.syncExpirationListeners.add(expirationListener);
+            }
+        }
+
+        /**
+         * Increase the async expired listeners
+         *
+         * @param expirationListener {@link ExpirationListener}
+         */
+        public void addASyncExpiredListener(ExpirationListener expirationListener) {
+            if (expirationListener != null) {
+                this.asyncExpirationListeners.add(expirationListener);
+            }
+        }
+
+        /**
+         * Build the {@link ExpireWheelClientConfiguration} with the configuration applied from this builder.
+         *
+         * @return a new {@link ExpireWheelClientConfiguration} implementation.
+         */
+        public ExpireWheelClientConfiguration build() {
+            if (this.maxSize == null || this.maxSize == 0) {
+                this.maxSize = DEFAULT_MAX_SIZE;
+            }
+            if (this.defaultExpireTime == null || this.defaultExpireTime == 0L) {
+                this.defaultExpireTime = DEFAULT_EXPIRE_TIME;
+            }
+            if (this.defaultExpireTimeUnit == null) {
+                this.defaultExpireTimeUnit = DEFAULT_EXPIRE_TIME_UNIT;
+            }
+            if (this.expirationPolicy == null) {
+                this.expirationPolicy = DEFAULT_EXPIRATION_POLICY;
+            }
+            if (this.tickDuration == null || this.tickDuration < 1L) {
+                this.tickDuration = DEFAULT_TICK_DURATION;
+            }
+            if (this.wheelSize == null || this.wheelSize < 2) {
+                this.wheelSize = DEFAULT_WHEEL_SIZE;
+            }
+            if (this.enableKeyIndex == null) {
+                this.enableKeyIndex = DEFAULT_ENABLE_KEY_INDEX;
+            }
+            if (this.maxWeightBytes == null || this.maxWeightBytes < 0L) {
+                this.maxWeightBytes = DEFAULT_MAX_WEIGHT_BYTES;
+            }
+            if (this.weigher == null) {
+                this.weigher = ExpireWeigher.defaultWeigher();
+            }
+            if (this.offHeapCapacityBytes == null || this.offHeapCapacityBytes < 0L) {
+                this.offHeapCapacityBytes = DEFAULT_OFF_HEAP_CAPACITY_BYTES;
+            }
+            if (this.slabSize == null || this.slabSize < 1) {
+                this.slabSize = DEFAULT_SLAB_SIZE;
+            }
+            return new DefaultExpireWheelClientConfiguration(
+                    this.maxSize,
+                    this.defaultExpireTime,
+                    this.defaultExpireTimeUnit,
+                    this.expirationPolicy,
+                    this.tickDuration,
+                    this.wheelSize,
+                    this.enableKeyIndex,
+                    this.maxWeightBytes,
+                    this.weigher,
+                    this.offHeapCapacityBytes,
+                    this.slabSize,
+                    this.syncExpirationListeners,
+                    this.asyncExpirationListeners);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.zpf9705.expiring.help.expirewheel;
+
+/**
+ * Callback interface that can be implemented by beans wishing to customize the
+ * {@link ExpireWheelClientConfiguration} via a
+ * {@link ExpireWheelClientConfiguration.ExpireWheelClientConfigurationBuilder} whilst retaining default
+ * autoconfiguration.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public interface ExpireWheelClientConfigurationCustomizer {
+
+    /**
+     * Customize the {@link ExpireWheelClientConfiguration.ExpireWheelClientConfigurationBuilder}.
+     *
+     * @param clientConfigurationBuilder the builder to customize
+     */
+    void customize(ExpireWheelClientConfiguration.ExpireWheelClientConfigurationBuilder clientConfigurationBuilder);
+}
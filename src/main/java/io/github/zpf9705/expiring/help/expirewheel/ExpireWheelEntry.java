@@ -0,0 +1,101 @@
+package io.github.zpf9705.expiring.help.expirewheel;
+
+import io.github.zpf9705.expiring.help.SlabAllocator;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteKey;
+
+/**
+ * An entry of {@link ExpireWheelMap} , it is also the node of the bucket linked list in
+ * {@link HierarchicalTimingWheel} so that it can be scheduled and cancelled in O(1).
+ * <p>
+ * The {@code value} , {@code duration} and {@code deadline} are only changed inside the compute of
+ * the hash table for the same key , the wheel reads them at any time.
+ * <p>
+ * With off-heap storage the value is kept in a chunk of {@link SlabAllocator} instead of {@code value} ,
+ * unless it is larger than a slab , the {@code address} , {@code length} and {@code value} are accessed
+ * with the monitor of entry so that a chunk is never read after freed.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+final class ExpireWheelEntry {
+
+    final ExpireMapByteKey key;
+
+    volatile byte[] value;
+
+    /**
+     * Off-heap chunk address of value , {@link SlabAllocator#NO_ADDRESS} if on-heap or freed
+     */
+    long address = SlabAllocator.NO_ADDRESS;
+
+    /**
+     * Off-heap bytes length of value
+     */
+    int length;
+
+    /**
+     * Expiration duration in milliseconds
+     */
+    volatile long duration;
+
+    /**
+     * Expiration deadline in milliseconds of {@link HierarchicalTimingWheel#clock()}
+     */
+    volatile long deadline;
+
+    /*
+     * Bucket linkage , guarded by the bucket
+     */
+    volatile HierarchicalTimingWheel.Bucket bucket;
+    ExpireWheelEntry prev;
+    ExpireWheelEntry next;
+
+    ExpireWheelEntry(ExpireMapByteKey key, byte[] value, long duration, long now) {
+        this.key = key;
+        this.value = value;
+        this.duration = duration;
+        this.deadline = deadline(now, duration);
+    }
+
+    /**
+     * Restart the countdown from {@code now}
+     *
+     * @param now current milliseconds of {@link HierarchicalTimingWheel#clock()}
+     */
+    void reset(long now) {
+        this.deadline = deadline(now, this.duration);
+    }
+
+    /**
+     * Calculate the deadline of {@code duration} after {@code now} , saturated for a very long duration
+     *
+     * @param now      current milliseconds of {@link HierarchicalTimingWheel#clock()}
+     * @param duration expiration duration in milliseconds
+     * @return deadline
+     */
+    static long deadline(long now, long duration) {
+        return duration >= Long.MAX_VALUE - now ? Long.MAX_VALUE : now + duration;
+    }
+
+    /**
+     * Determine whether expired at {@code now}
+     *
+     * @param now current milliseconds of {@link HierarchicalTimingWheel#clock()}
+     * @return if {@literal true} expired
+     */
+    boolean isExpired(long now) {
+        return this.deadline <= now;
+    }
+
+    /**
+     * Remove from the bucket it is in , if any
+     */
+    void cancel() {
+        HierarchicalTimingWheel.Bucket current = this.bucket;
+        //The entry may be moved to another bucket concurrently , retry until it not in any bucket
+        while (current != null) {
+            current.remove(this);
+            current = this.bucket;
+        }
+    }
+}
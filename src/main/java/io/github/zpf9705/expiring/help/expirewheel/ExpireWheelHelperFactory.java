@@ -0,0 +1,45 @@
+package io.github.zpf9705.expiring.help.expirewheel;
+
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.help.ExpireHelper;
+import io.github.zpf9705.expiring.help.ExpireHelperFactory;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapHelper;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapPersistenceProcessor;
+import io.github.zpf9705.expiring.util.JdkProxyUtils;
+
+/**
+ * ExpireWheel Connection factory creating for {@code ExpireHelperFactory}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class ExpireWheelHelperFactory implements ExpireHelperFactory {
+
+    private final ExpireMapHelper helper;
+
+    public ExpireWheelHelperFactory(@NotNull ExpireWheelClientConfiguration clientConfiguration) {
+        this.helper = doCreateExpireWheelHelp(clientConfiguration);
+    }
+
+    @Override
+    @NotNull
+    public ExpireHelper getHelper() {
+        return this.helper;
+    }
+
+    /**
+     * Setting an Expire Wheel connection
+     *
+     * @param clientConfiguration {@link ExpireWheelClientConfiguration}
+     * @return return a {@link ExpireMapHelper}
+     */
+    public ExpireMapHelper doCreateExpireWheelHelp(ExpireWheelClientConfiguration clientConfiguration) {
+        //Real object generated singleton operation
+        ExpireWheelCenter expireWheelCenter = ExpireWheelCenter.singletonWithConfiguration(clientConfiguration);
+        //To approach the processor , share the helper surface of expire map
+        ExpireMapPersistenceProcessor processor = ExpireMapPersistenceProcessor.buildProcessor(
+                new ExpireWheelRealHelper(() -> expireWheelCenter)
+        );
+        return JdkProxyUtils.createProxy(processor);
+    }
+}
@@ -0,0 +1,770 @@
+package io.github.zpf9705.expiring.help.expirewheel;
+
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.help.KeyScanner;
+import io.github.zpf9705.expiring.help.SlabAllocator;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteKey;
+import io.github.zpf9705.expiring.logger.Console;
+import net.jodah.expiringmap.ExpirationListener;
+import net.jodah.expiringmap.ExpirationPolicy;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Expiring hash table of the native client , the entries are kept in a {@link ConcurrentHashMap} and
+ * their expiration is driven by a {@link HierarchicalTimingWheel}.
+ * <p>
+ * The operations follow the semantics of {@link net.jodah.expiringmap.ExpiringMap} with variable expiration ,
+ * the countdown of an entry is restarted when it is updated , and also when it is read with
+ * {@link ExpirationPolicy#ACCESSED}. When the max size is exceeded , the entry of the earliest bucket is
+ * evicted. The expired and evicted entries are notified to the expiration listeners.
+ * <p>
+ * An entry is checked with its exact deadline when accessed , so the expiration is precise for the reads ,
+ * the listeners are notified no later than one tick after the deadline.
+ * <p>
+ * If a {@link SlabAllocator} is given , the values are stored in its direct memory chunks and only the
+ * addresses are kept on-heap , the chunk of a value is freed as soon as it is replaced , removed , expired
+ * or evicted. When the allocator is exhausted , the entries of the earliest buckets are evicted to make
+ * room , a slab is kept by its size class once assigned , so the sizes of values are expected to be stable.
+ * A value larger than the slab size of the allocator is kept on-heap as without allocator.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class ExpireWheelMap {
+
+    /**
+     * Max waiting milliseconds of the ticker for one round
+     */
+    static final long TICKER_TIMEOUT = 200L;
+
+    private static final ExpireWheelThreadFactory LISTENER_THREAD_FACTORY =
+            new ExpireWheelThreadFactory("ExpireWheel-Listener-Service");
+
+    private static volatile ExecutorService listenerService;
+
+    private final ConcurrentHashMap<ExpireMapByteKey, ExpireWheelEntry> entries = new ConcurrentHashMap<>();
+
+    private final List<ExpirationListener<ExpireMapByteKey, byte[]>> expirationListeners = new CopyOnWriteArrayList<>();
+
+    private final List<ExpirationListener<ExpireMapByteKey, byte[]>> asyncExpirationListeners =
+            new CopyOnWriteArrayList<>();
+
+    private final HierarchicalTimingWheel wheel;
+
+    private final int maxSize;
+
+    private final long defaultDuration;
+
+    private final ExpirationPolicy expirationPolicy;
+
+    private final SlabAllocator allocator;
+
+    /**
+     * Instance and start the ticker of wheel
+     *
+     * @param maxSize          max entries number
+     * @param duration         default expiration duration
+     * @param unit             default expiration duration unit
+     * @param expirationPolicy must not be {@literal null}
+     * @param tickDuration     milliseconds of a tick of the lowest wheel
+     * @param wheelSize        buckets number of each wheel
+     */
+    public ExpireWheelMap(int maxSize, long duration, @NotNull TimeUnit unit,
+                          @NotNull ExpirationPolicy expirationPolicy, long tickDuration, int wheelSize) {
+        this(maxSize, duration, unit, expirationPolicy, tickDuration, wheelSize, null);
+    }
+
+    /**
+     * Instance with the off-heap storage of values and start the ticker of wheel
+     *
+     * @param maxSize          max entries number
+     * @param duration         default expiration duration
+     * @param unit             default expiration duration unit
+     * @param expirationPolicy must not be {@literal null}
+     * @param tickDuration     milliseconds of a tick of the lowest wheel
+     * @param wheelSize        buckets number of each wheel
+     * @param allocator        can be {@literal null} , the values are on-heap if {@literal null}
+     */
+    public ExpireWheelMap(int maxSize, long duration, @NotNull TimeUnit unit,
+                          @NotNull ExpirationPolicy expirationPolicy, long tickDuration, int wheelSize,
+                          @CanNull SlabAllocator allocator) {
+        this.maxSize = maxSize;
+        this.defaultDuration = TimeUnit.MILLISECONDS.convert(duration, unit);
+        this.expirationPolicy = expirationPolicy;
+        this.allocator = allocator;
+        this.wheel = new HierarchicalTimingWheel(tickDuration, wheelSize);
+        new ExpireWheelThreadFactory("ExpireWheel-Ticker").newThread(this::tick).start();
+    }
+
+    /**
+     * Put with default expiration duration , keep the duration if exist
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return old value , {@literal null} if not exist
+     */
+    @CanNull
+    public byte[] put(@NotNull ExpireMapByteKey key, @NotNull byte[] value) {
+        return this.putInternal(key, value, null, false);
+    }
+
+    /**
+     * Put with expiration duration
+     *
+     * @param key      must not be {@literal null}
+     * @param value    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return old value , {@literal null} if not exist
+     */
+    @CanNull
+    public byte[] put(@NotNull ExpireMapByteKey key, @NotNull byte[] value, long duration, @NotNull TimeUnit unit) {
+        return this.putInternal(key, value, TimeUnit.MILLISECONDS.convert(duration, unit), false);
+    }
+
+    /**
+     * Put with default expiration duration if not exist , it is atomic
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return existing value , {@literal null} if put
+     */
+    @CanNull
+    public byte[] putIfAbsent(@NotNull ExpireMapByteKey key, @NotNull byte[] value) {
+        return this.putInternal(key, value, null, true);
+    }
+
+    /**
+     * Put with expiration duration if not exist , it is atomic
+     *
+     * @param key      must not be {@literal null}
+     * @param value    must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return existing value , {@literal null} if put
+     */
+    @CanNull
+    public byte[] putIfAbsent(@NotNull ExpireMapByteKey key, @NotNull byte[] value, long duration,
+                              @NotNull TimeUnit unit) {
+        return this.putInternal(key, value, TimeUnit.MILLISECONDS.convert(duration, unit), true);
+    }
+
+    /**
+     * Get value , restart the countdown with {@link ExpirationPolicy#ACCESSED}
+     *
+     * @param key must not be {@literal null}
+     * @return value , {@literal null} if not exist
+     */
+    @CanNull
+    public byte[] get(@NotNull ExpireMapByteKey key) {
+        ExpireWheelEntry entry = this.getEntry(key);
+        if (entry == null) {
+            return null;
+        }
+        if (this.expirationPolicy == ExpirationPolicy.ACCESSED) {
+            entry.reset(HierarchicalTimingWheel.clock());
+            this.wheel.schedule(entry);
+        }
+        return this.valueOf(entry);
+    }
+
+    /**
+     * Determine whether the {@code key} exist
+     *
+     * @param key must not be {@literal null}
+     * @return if {@literal true} exist
+     */
+    public boolean containsKey(@NotNull ExpireMapByteKey key) {
+        return this.getEntry(key) != null;
+    }
+
+    /**
+     * Determine whether any key holds the {@code value} , compared by content
+     *
+     * @param value must not be {@literal null}
+     * @return if {@literal true} exist
+     */
+    public boolean containsValue(@NotNull byte[] value) {
+        long now = HierarchicalTimingWheel.clock();
+        return this.entries.values().stream().anyMatch(e -> !e.isExpired(now) && this.valueEquals(e, value));
+    }
+
+    /**
+     * Replace the value if exist , restart the countdown
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return old value , {@literal null} if not exist
+     */
+    @CanNull
+    public byte[] replace(@NotNull ExpireMapByteKey key, @NotNull byte[] value) {
+        long address = this.store(value);
+        long now = HierarchicalTimingWheel.clock();
+        byte[][] oldValue = new byte[1][];
+        boolean[] assigned = new boolean[1];
+        ExpireWheelEntry entry = this.entries.computeIfPresent(key, (k, e) -> {
+            if (e.isExpired(now)) {
+                return e;
+            }
+            oldValue[0] = this.assign(e, value, address);
+            assigned[0] = true;
+            e.reset(now);
+            return e;
+        });
+        if (assigned[0]) {
+            this.wheel.schedule(entry);
+        } else {
+            this.free(address, value);
+        }
+        return oldValue[0];
+    }
+
+    /**
+     * Replace the value if exist and equal to {@code expect} , restart the countdown , it is atomic
+     *
+     * @param key    must not be {@literal null}
+     * @param expect must not be {@literal null}
+     * @param value  must not be {@literal null}
+     * @return if {@literal true} replaced
+     */
+    public boolean replace(@NotNull ExpireMapByteKey key, @NotNull byte[] expect, @NotNull byte[] value) {
+        return this.replace(key, expect, value, true);
+    }
+
+    /**
+     * Replace the value if exist and equal to {@code expect} , keep the deadline , it is atomic
+     *
+     * @param key    must not be {@literal null}
+     * @param expect must not be {@literal null}
+     * @param value  must not be {@literal null}
+     * @return if {@literal true} replaced
+     */
+    public boolean update(@NotNull ExpireMapByteKey key, @NotNull byte[] expect, @NotNull byte[] value) {
+        return this.replace(key, expect, value, false);
+    }
+
+    private boolean replace(ExpireMapByteKey key, byte[] expect, byte[] value, boolean restart) {
+        long address = this.store(value);
+        long now = HierarchicalTimingWheel.clock();
+        boolean[] assigned = new boolean[1];
+        ExpireWheelEntry entry = this.entries.computeIfPresent(key, (k, e) -> {
+            if (e.isExpired(now) || !this.valueEquals(e, expect)) {
+                return e;
+            }
+            this.assign(e, value, address);
+            assigned[0] = true;
+            if (restart) {
+                e.reset(now);
+            }
+            return e;
+        });
+        if (assigned[0]) {
+            if (restart) {
+                this.wheel.schedule(entry);
+            }
+        } else {
+            this.free(address, value);
+        }
+        return assigned[0];
+    }
+
+    /**
+     * Remove the {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return old value , {@literal null} if not exist
+     */
+    @CanNull
+    public byte[] remove(@NotNull ExpireMapByteKey key) {
+        ExpireWheelEntry entry = this.entries.remove(key);
+        if (entry == null) {
+            return null;
+        }
+        entry.cancel();
+        byte[] value = this.release(entry);
+        return entry.isExpired(HierarchicalTimingWheel.clock()) ? null : value;
+    }
+
+    /**
+     * Remove the {@code key} only if it holds the {@code value} , compared by content , it is atomic
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return if {@literal true} removed
+     */
+    public boolean remove(@NotNull ExpireMapByteKey key, @NotNull byte[] value) {
+        long now = HierarchicalTimingWheel.clock();
+        ExpireWheelEntry[] removed = new ExpireWheelEntry[1];
+        this.entries.computeIfPresent(key, (k, e) -> {
+            if (e.isExpired(now) || !this.valueEquals(e, value)) {
+                return e;
+            }
+            removed[0] = e;
+            return null;
+        });
+        if (removed[0] == null) {
+            return false;
+        }
+        removed[0].cancel();
+        this.release(removed[0]);
+        return true;
+    }
+
+    /**
+     * Get the not expired keys
+     *
+     * @return keys
+     */
+    public Set<ExpireMapByteKey> keySet() {
+        long now = HierarchicalTimingWheel.clock();
+        return this.entries.values().stream().filter(e -> !e.isExpired(now)).map(e -> e.key)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * Offer the not expired keys to {@code collector} , the entries are iterated weakly consistent without
+     * materializing the keys
+     *
+     * @param collector must not be {@literal null}
+     */
+    public void scanKeys(@NotNull KeyScanner.Collector<ExpireMapByteKey> collector) {
+        long now = HierarchicalTimingWheel.clock();
+        for (ExpireWheelEntry entry : this.entries.values()) {
+            if (!entry.isExpired(now)) {
+                collector.offer(entry.key.hashCode(), entry.key);
+            }
+        }
+    }
+
+    /**
+     * Remove all entries without notification
+     */
+    public void clear() {
+        Iterator<ExpireWheelEntry> iterator = this.entries.values().iterator();
+        while (iterator.hasNext()) {
+            ExpireWheelEntry entry = iterator.next();
+            iterator.remove();
+            entry.cancel();
+            this.release(entry);
+        }
+    }
+
+    /**
+     * Get the number of entries , include the expired ones not yet notified
+     *
+     * @return entries number
+     */
+    public int size() {
+        return this.entries.size();
+    }
+
+    /**
+     * Get the expiration duration of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return milliseconds , {@literal null} if not exist
+     */
+    @CanNull
+    public Long getExpiration(@NotNull ExpireMapByteKey key) {
+        ExpireWheelEntry entry = this.getEntry(key);
+        return entry == null ? null : entry.duration;
+    }
+
+    /**
+     * Get the remaining expiration duration of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return milliseconds , {@literal null} if not exist
+     */
+    @CanNull
+    public Long getExpectedExpiration(@NotNull ExpireMapByteKey key) {
+        ExpireWheelEntry entry = this.getEntry(key);
+        return entry == null ? null : Math.max(entry.deadline - HierarchicalTimingWheel.clock(), 0L);
+    }
+
+    /**
+     * Set the expiration duration of {@code key} and restart the countdown
+     *
+     * @param key      must not be {@literal null}
+     * @param duration must not be {@literal null}
+     * @param unit     must not be {@literal null}
+     * @return if {@literal true} exist and set
+     */
+    public boolean setExpiration(@NotNull ExpireMapByteKey key, long duration, @NotNull TimeUnit unit) {
+        long milliseconds = TimeUnit.MILLISECONDS.convert(duration, unit);
+        return this.resetInternal(key, e -> e.duration = milliseconds);
+    }
+
+    /**
+     * Restart the countdown of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return if {@literal true} exist and reset
+     */
+    public boolean resetExpiration(@NotNull ExpireMapByteKey key) {
+        return this.resetInternal(key, e -> {
+        });
+    }
+
+    /**
+     * Evict an entry of the earliest bucket , or any entry if none scheduled , and notify the listeners
+     *
+     * @return if {@literal false} no entry to evict
+     */
+    public boolean evictEarliest() {
+        ExpireWheelEntry victim = this.wheel.earliest();
+        if (victim == null) {
+            Iterator<ExpireWheelEntry> iterator = this.entries.values().iterator();
+            if (!iterator.hasNext()) {
+                return false;
+            }
+            victim = iterator.next();
+        }
+        if (this.entries.remove(victim.key, victim)) {
+            victim.cancel();
+            this.notifyListeners(victim.key, this.release(victim));
+        } else {
+            //Stale entry left in bucket
+            victim.cancel();
+        }
+        return true;
+    }
+
+    /**
+     * Get the allocator of off-heap values
+     *
+     * @return {@link SlabAllocator} , {@literal null} if the values are on-heap
+     */
+    @CanNull
+    public SlabAllocator getSlabAllocator() {
+        return this.allocator;
+    }
+
+    /**
+     * Add a listener notified in the ticker thread
+     *
+     * @param listener must not be {@literal null}
+     */
+    public void addExpirationListener(@NotNull ExpirationListener<ExpireMapByteKey, byte[]> listener) {
+        this.expirationListeners.add(listener);
+    }
+
+    /**
+     * Add a listener notified in the listener thread pool
+     *
+     * @param listener must not be {@literal null}
+     */
+    public void addAsyncExpirationListener(@NotNull ExpirationListener<ExpireMapByteKey, byte[]> listener) {
+        this.asyncExpirationListeners.add(listener);
+    }
+
+    /**
+     * Get the not expired entry , expire it if already expired
+     *
+     * @param key must not be {@literal null}
+     * @return entry , {@literal null} if not exist
+     */
+    private ExpireWheelEntry getEntry(ExpireMapByteKey key) {
+        ExpireWheelEntry entry = this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        long now = HierarchicalTimingWheel.clock();
+        if (entry.isExpired(now)) {
+            this.expire(entry, now);
+            return null;
+        }
+        return entry;
+    }
+
+    private byte[] putInternal(ExpireMapByteKey key, byte[] value, Long duration, boolean onlyIfAbsent) {
+        //Store off-heap before compute , the eviction for room can not run inside the compute
+        long address = this.store(value);
+        long now = HierarchicalTimingWheel.clock();
+        byte[][] oldValue = new byte[1][];
+        boolean[] assigned = new boolean[1];
+        ExpireWheelEntry[] expired = new ExpireWheelEntry[1];
+        ExpireWheelEntry entry = this.entries.compute(key, (k, e) -> {
+            if (e == null || e.isExpired(now)) {
+                expired[0] = e;
+                ExpireWheelEntry created = new ExpireWheelEntry(k, null,
+                        duration == null ? this.defaultDuration : duration, now);
+                this.assign(created, value, address);
+                assigned[0] = true;
+                return created;
+            }
+            if (onlyIfAbsent) {
+                oldValue[0] = this.valueOf(e);
+                return e;
+            }
+            oldValue[0] = this.assign(e, value, address);
+            assigned[0] = true;
+            if (duration != null) {
+                e.duration = duration;
+            }
+            e.reset(now);
+            return e;
+        });
+        if (!assigned[0]) {
+            this.free(address, value);
+        }
+        if (expired[0] != null) {
+            expired[0].cancel();
+            this.notifyListeners(expired[0].key, this.release(expired[0]));
+        }
+        if (oldValue[0] == null) {
+            this.wheel.schedule(entry);
+            this.evictIfNecessary();
+        } else if (!onlyIfAbsent) {
+            this.wheel.schedule(entry);
+        }
+        return oldValue[0];
+    }
+
+    private boolean resetInternal(ExpireMapByteKey key, Consumer<ExpireWheelEntry> update) {
+        long now = HierarchicalTimingWheel.clock();
+        boolean[] reset = new boolean[1];
+        ExpireWheelEntry entry = this.entries.computeIfPresent(key, (k, e) -> {
+            if (!e.isExpired(now)) {
+                update.accept(e);
+                e.reset(now);
+                reset[0] = true;
+            }
+            return e;
+        });
+        if (reset[0]) {
+            this.wheel.schedule(entry);
+        }
+        return reset[0];
+    }
+
+    /**
+     * Evict the entries of the earliest buckets until not exceed the max size
+     */
+    private void evictIfNecessary() {
+        while (this.maxSize > 0 && this.entries.size() > this.maxSize) {
+            if (!this.evictEarliest()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Remove the {@code entry} if it is still the expired one of its key , and notify the listeners
+     *
+     * @param entry must not be {@literal null}
+     * @param now   current milliseconds of wheel clock
+     */
+    private void expire(ExpireWheelEntry entry, long now) {
+        boolean[] removed = new boolean[1];
+        this.entries.computeIfPresent(entry.key, (k, e) -> {
+            //Updated concurrently if not expired any more
+            if (e == entry && e.isExpired(now)) {
+                removed[0] = true;
+                return null;
+            }
+            return e;
+        });
+        if (removed[0]) {
+            entry.cancel();
+            this.notifyListeners(entry.key, this.release(entry));
+        }
+    }
+
+    /**
+     * Store the {@code value} off-heap , evict the entries of the earliest buckets if the allocator is exhausted
+     *
+     * @param value must not be {@literal null}
+     * @return address , {@link SlabAllocator#NO_ADDRESS} if the value is on-heap
+     */
+    private long store(byte[] value) {
+        if (this.allocator == null || value.length > this.allocator.getSlabSize()) {
+            return SlabAllocator.NO_ADDRESS;
+        }
+        long address;
+        while ((address = this.allocator.store(value)) == SlabAllocator.NO_ADDRESS) {
+            if (!this.evictEarliest()) {
+                throw new OperationsException("Off-heap capacity [" + this.allocator.getCapacity() +
+                        "] bytes exhausted for a value of [" + value.length + "] bytes");
+            }
+        }
+        return address;
+    }
+
+    /**
+     * Free the stored {@code value} not assigned to any entry
+     *
+     * @param address address of stored value
+     * @param value   must not be {@literal null}
+     */
+    private void free(long address, byte[] value) {
+        if (this.allocator != null) {
+            this.allocator.free(address, value.length);
+        }
+    }
+
+    /**
+     * Assign the {@code value} stored at {@code address} to the {@code entry} , the old chunk is freed
+     *
+     * @param entry   must not be {@literal null}
+     * @param value   must not be {@literal null}
+     * @param address address of stored value
+     * @return old value , {@literal null} if not exist
+     */
+    private byte[] assign(ExpireWheelEntry entry, byte[] value, long address) {
+        if (this.allocator == null) {
+            byte[] oldValue = entry.value;
+            entry.value = value;
+            return oldValue;
+        }
+        synchronized (entry) {
+            byte[] oldValue = this.read(entry);
+            this.allocator.free(entry.address, entry.length);
+            entry.address = address;
+            entry.length = value.length;
+            //Larger than a slab
+            entry.value = address == SlabAllocator.NO_ADDRESS ? value : null;
+            return oldValue;
+        }
+    }
+
+    /**
+     * Get the value of {@code entry}
+     *
+     * @param entry must not be {@literal null}
+     * @return value , {@literal null} if released
+     */
+    private byte[] valueOf(ExpireWheelEntry entry) {
+        if (this.allocator == null) {
+            return entry.value;
+        }
+        synchronized (entry) {
+            return this.read(entry);
+        }
+    }
+
+    /**
+     * Compare the value of {@code entry} with {@code value} by content
+     *
+     * @param entry must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return if {@literal true} equal
+     */
+    private boolean valueEquals(ExpireWheelEntry entry, byte[] value) {
+        if (this.allocator == null) {
+            return Arrays.equals(entry.value, value);
+        }
+        synchronized (entry) {
+            if (entry.address == SlabAllocator.NO_ADDRESS) {
+                return Arrays.equals(entry.value, value);
+            }
+            return this.allocator.contentEquals(entry.address, entry.length, value);
+        }
+    }
+
+    /**
+     * Release the value of the removed {@code entry} , its chunk is freed
+     *
+     * @param entry must not be {@literal null}
+     * @return value , {@literal null} if already released
+     */
+    private byte[] release(ExpireWheelEntry entry) {
+        if (this.allocator == null) {
+            return entry.value;
+        }
+        synchronized (entry) {
+            byte[] value = this.read(entry);
+            this.allocator.free(entry.address, entry.length);
+            entry.address = SlabAllocator.NO_ADDRESS;
+            entry.value = null;
+            return value;
+        }
+    }
+
+    /**
+     * Read the off-heap value of {@code entry} , or the on-heap value larger than a slab , with the monitor of entry
+     *
+     * @param entry must not be {@literal null}
+     * @return value , {@literal null} if released
+     */
+    private byte[] read(ExpireWheelEntry entry) {
+        return entry.address == SlabAllocator.NO_ADDRESS ? entry.value :
+                this.allocator.read(entry.address, entry.length);
+    }
+
+    private void notifyListeners(ExpireMapByteKey key, byte[] value) {
+        for (ExpirationListener<ExpireMapByteKey, byte[]> listener : this.expirationListeners) {
+            try {
+                listener.expired(key, value);
+            } catch (Throwable e) {
+                Console.warn("Expire wheel expiration listener failed : [{}]", e.getMessage());
+            }
+        }
+        for (ExpirationListener<ExpireMapByteKey, byte[]> listener : this.asyncExpirationListeners) {
+            getListenerService().execute(() -> {
+                try {
+                    listener.expired(key, value);
+                } catch (Throwable e) {
+                    Console.warn("Expire wheel async expiration listener failed : [{}]", e.getMessage());
+                }
+            });
+        }
+    }
+
+    /**
+     * Loop of the ticker thread
+     */
+    private void tick() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                this.wheel.advance(TICKER_TIMEOUT, this::onDue);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (Throwable e) {
+                Console.warn("Expire wheel ticker failed : [{}]", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Expire the due {@code entry} or schedule it again into a lower wheel
+     *
+     * @param entry must not be {@literal null}
+     */
+    private void onDue(ExpireWheelEntry entry) {
+        if (this.entries.get(entry.key) != entry) {
+            //Removed or replaced
+            return;
+        }
+        long now = HierarchicalTimingWheel.clock();
+        if (entry.isExpired(now)) {
+            this.expire(entry, now);
+        } else {
+            this.wheel.schedule(entry);
+        }
+    }
+
+    private static ExecutorService getListenerService() {
+        if (listenerService == null) {
+            synchronized (ExpireWheelMap.class) {
+                if (listenerService == null) {
+                    listenerService = Executors.newCachedThreadPool(LISTENER_THREAD_FACTORY);
+                }
+            }
+        }
+        return listenerService;
+    }
+}
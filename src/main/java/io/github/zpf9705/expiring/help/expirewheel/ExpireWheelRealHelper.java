@@ -0,0 +1,363 @@
+package io.github.zpf9705.expiring.help.expirewheel;
+
+import io.github.zpf9705.expiring.command.ExpireHashCommands;
+import io.github.zpf9705.expiring.command.ExpireKeyCommands;
+import io.github.zpf9705.expiring.command.ExpireStringCommands;
+import io.github.zpf9705.expiring.command.expiremap.ExpireMapHashCommands;
+import io.github.zpf9705.expiring.command.expiremap.ExpireMapKeyCommands;
+import io.github.zpf9705.expiring.command.expiremap.ExpireMapStringCommands;
+import io.github.zpf9705.expiring.core.ScanPage;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.help.AbstractExpireHelper;
+import io.github.zpf9705.expiring.help.HelpCenter;
+import io.github.zpf9705.expiring.help.KeyScanner;
+import io.github.zpf9705.expiring.help.SimilarKeyIndex;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteKey;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapHelper;
+import io.github.zpf9705.expiring.util.CodecUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * {@code ExpireWheelRealHelper} implementation of ExpireMapHelper with {@link ExpireWheelMap}.
+ * <p>
+ * It provides the same helper surface as {@link io.github.zpf9705.expiring.help.expiremap.ExpireMapRealHelper} ,
+ * so the commands and the persistence processor of expire map are shared.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public class ExpireWheelRealHelper extends AbstractExpireHelper<ExpireWheelCenter> implements ExpireMapHelper {
+
+    public ExpireWheelRealHelper(HelpCenter<ExpireWheelCenter> center) {
+        super(center);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.ExpireHelper#stringCommands()
+     */
+    @Override
+    public ExpireStringCommands stringCommands() {
+        return new ExpireMapStringCommands(this);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.ExpireHelper#keyCommands()
+     */
+    @Override
+    public ExpireKeyCommands keyCommands() {
+        return new ExpireMapKeyCommands(this);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.ExpireHelper#hashCommands()
+     */
+    @Override
+    public ExpireHashCommands hashCommands() {
+        return new ExpireMapHashCommands(this);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#put(ExpireMapByteKey, byte[])
+     */
+    @Override
+    public Boolean put(byte[] key, byte[] value) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            getHelpCenter().afterChanged(byteKey, getHelpCenter().getExpireWheelMap().put(byteKey, value), value);
+            return true;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#put(ExpireMapByteKey, byte[], long, TimeUnit)
+     */
+    @Override
+    public Boolean putDuration(byte[] key, byte[] value, Long duration, TimeUnit unit) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            getHelpCenter().afterChanged(byteKey,
+                    getHelpCenter().getExpireWheelMap().put(byteKey, value, duration, unit), value);
+            return true;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#putIfAbsent(ExpireMapByteKey, byte[])
+     */
+    @Override
+    public Boolean putIfAbsent(byte[] key, byte[] value) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            if (getHelpCenter().getExpireWheelMap().putIfAbsent(byteKey, value) != null) return false;
+            getHelpCenter().afterChanged(byteKey, null, value);
+            return true;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#putIfAbsent(ExpireMapByteKey, byte[], long, TimeUnit)
+     */
+    @Override
+    public Boolean putIfAbsentDuration(byte[] key, byte[] value, Long duration, TimeUnit unit) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            if (getHelpCenter().getExpireWheelMap().putIfAbsent(byteKey, value, duration, unit) != null) {
+                return false;
+            }
+            getHelpCenter().afterChanged(byteKey, null, value);
+            return true;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#get(ExpireMapByteKey)
+     */
+    @Override
+    public byte[] getVal(byte[] key) {
+        return getHelpCenter().getExpireWheelMap().get(ExpireMapByteKey.of(key));
+    }
+
+    @Override
+    public List<byte[]> getKeysByKeys(byte[] key) {
+        if (!this.containsKey(key)) return null;
+        SimilarKeyIndex<ExpireMapByteKey> keyIndex = getHelpCenter().getKeyIndex();
+        if (keyIndex != null) {
+            return keyIndex.find(CodecUtils.toStingBeReal(key)).stream()
+                    .filter(getHelpCenter().getExpireWheelMap()::containsKey)
+                    .map(ExpireMapByteKey::getBytes)
+                    .collect(Collectors.toList());
+        }
+        return getHelpCenter().getExpireWheelMap().keySet().stream().map(dai -> {
+            if (this.similarJudgeOfBytes(dai.getBytes(), key)) {
+                return dai.getBytes();
+            }
+            return null;
+        }).filter(Objects::nonNull).collect(Collectors.toList());
+    }
+
+    @Override
+    public ScanPage<byte[]> scan(long cursor, String match, int count) {
+        return KeyScanner.scan(1, cursor, match, count,
+                (segment, collector) -> getHelpCenter().getExpireWheelMap().scanKeys(collector));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#replace(ExpireMapByteKey, byte[])
+     */
+    @Override
+    public byte[] replace(byte[] key, byte[] newValue) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            byte[] oldValue = getHelpCenter().getExpireWheelMap().replace(byteKey, newValue);
+            if (oldValue == null) {
+                // How did not directly put in
+                getHelpCenter().afterChanged(byteKey,
+                        getHelpCenter().getExpireWheelMap().put(byteKey, newValue), newValue);
+                return newValue;
+            }
+            getHelpCenter().afterChanged(byteKey, oldValue, newValue);
+            return oldValue;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#remove(ExpireMapByteKey)
+     */
+    @CanNull
+    @Override
+    public Long deleteReturnSuccessNum(byte[]... keys) {
+        long count = 0L;
+        for (byte[] key : keys) {
+            if (this.removeWithKey(ExpireMapByteKey.of(key)) != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#remove(ExpireMapByteKey)
+     */
+    @Override
+    public Map<byte[], byte[]> deleteSimilarKey(byte[] key) {
+        Map<byte[], byte[]> map = new HashMap<>();
+        SimilarKeyIndex<ExpireMapByteKey> keyIndex = getHelpCenter().getKeyIndex();
+        List<ExpireMapByteKey> similarKeys;
+        if (keyIndex != null) {
+            similarKeys = keyIndex.find(CodecUtils.toStingBeReal(key));
+        } else {
+            similarKeys = getHelpCenter().getExpireWheelMap().keySet().stream()
+                    .filter(k -> this.similarJudgeOfBytes(k.getBytes(), key))
+                    .collect(Collectors.toList());
+        }
+        for (ExpireMapByteKey k : similarKeys) {
+            byte[] oldValue = this.removeWithKey(k);
+            if (oldValue != null) {
+                map.put(k.getBytes(), oldValue);
+            }
+        }
+        return map;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#replace(ExpireMapByteKey, byte[], byte[])
+     */
+    @Override
+    public Boolean compareAndReplace(byte[] key, byte[] expect, byte[] newValue) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            if (!getHelpCenter().getExpireWheelMap().replace(byteKey, expect, newValue)) return false;
+            getHelpCenter().afterChanged(byteKey, expect, newValue);
+            return true;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#update(ExpireMapByteKey, byte[], byte[])
+     */
+    @Override
+    public Boolean compareAndUpdate(byte[] key, byte[] expect, byte[] newValue) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            if (!getHelpCenter().getExpireWheelMap().update(byteKey, expect, newValue)) return false;
+            getHelpCenter().afterChanged(byteKey, expect, newValue);
+            return true;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#remove(ExpireMapByteKey, byte[])
+     */
+    @Override
+    public Boolean removeWithValue(byte[] key, byte[] value) {
+        ExpireMapByteKey byteKey = ExpireMapByteKey.of(key);
+        return getHelpCenter().writeWithKey(byteKey, () -> {
+            if (!getHelpCenter().getExpireWheelMap().remove(byteKey, value)) return false;
+            getHelpCenter().afterChanged(byteKey, value, null);
+            return true;
+        });
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#clear()
+     */
+    @Override
+    public Boolean reboot() {
+        getHelpCenter().getExpireWheelMap().clear();
+        getHelpCenter().afterCleared();
+        return true;
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#containsKey(ExpireMapByteKey)
+     */
+    @Override
+    public Boolean containsKey(byte[] key) {
+        return getHelpCenter().getExpireWheelMap().containsKey(ExpireMapByteKey.of(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#containsValue(byte[])
+     */
+    @Override
+    public Boolean containsValue(byte[] value) {
+        if (value == null) return false;
+        return getHelpCenter().getExpireWheelMap().containsValue(value);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#getExpiration(ExpireMapByteKey)
+     */
+    @Override
+    public Long getExpirationWithKey(byte[] key) {
+        return getHelpCenter().getExpireWheelMap().getExpiration(ExpireMapByteKey.of(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#getExpiration(ExpireMapByteKey)
+     */
+    @Override
+    public Long getExpirationWithUnit(byte[] key, TimeUnit unit) {
+        Long expiration = this.getExpirationWithKey(key);
+        if (expiration == null) return null;
+        return TimeUnit.MILLISECONDS.convert(expiration, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#getExpectedExpiration(ExpireMapByteKey)
+     */
+    @Override
+    public Long getExpectedExpirationWithKey(byte[] key) {
+        return getHelpCenter().getExpireWheelMap().getExpectedExpiration(ExpireMapByteKey.of(key));
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#getExpectedExpiration(ExpireMapByteKey)
+     */
+    @Override
+    public Long getExpectedExpirationWithUnit(byte[] key, TimeUnit unit) {
+        Long expectedExpiration = this.getExpectedExpirationWithKey(key);
+        if (expectedExpiration == null) return null;
+        return TimeUnit.MILLISECONDS.convert(expectedExpiration, unit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#setExpiration(ExpireMapByteKey, long, TimeUnit)
+     */
+    @Override
+    public Boolean setExpirationDuration(byte[] key, Long duration, TimeUnit timeUnit) {
+        return getHelpCenter().getExpireWheelMap().setExpiration(ExpireMapByteKey.of(key), duration, timeUnit);
+    }
+
+    /*
+     * (non-Javadoc)
+     * @see io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap#resetExpiration(ExpireMapByteKey)
+     */
+    @Override
+    public Boolean resetExpirationWithKey(byte[] key) {
+        return getHelpCenter().getExpireWheelMap().resetExpiration(ExpireMapByteKey.of(key));
+    }
+
+    /**
+     * Remove {@code key} and its index in one hold of the lock of {@code key}
+     *
+     * @param key must not be {@literal null}
+     * @return the removed value , {@literal null} if absent
+     */
+    @CanNull
+    private byte[] removeWithKey(ExpireMapByteKey key) {
+        return getHelpCenter().writeWithKey(key, () -> {
+            byte[] oldValue = getHelpCenter().getExpireWheelMap().remove(key);
+            getHelpCenter().afterChanged(key, oldValue, null);
+            return oldValue;
+        });
+    }
+}
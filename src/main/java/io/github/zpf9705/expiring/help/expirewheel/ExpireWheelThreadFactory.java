@@ -0,0 +1,28 @@
+package io.github.zpf9705.expiring.help.expirewheel;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Named daemon thread factory for the ticker and listeners of {@link ExpireWheelMap}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+final class ExpireWheelThreadFactory implements ThreadFactory {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    private final String name;
+
+    ExpireWheelThreadFactory(String name) {
+        this.name = name;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, this.name + "-" + this.counter.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -0,0 +1,280 @@
+package io.github.zpf9705.expiring.help.expirewheel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel for {@link ExpireWheelEntry}.
+ * <p>
+ * The lowest wheel has {@code wheelSize} buckets of {@code tickDuration} milliseconds , each upper wheel
+ * is created on demand with the whole interval of the lower wheel as its tick , so any deadline can be
+ * scheduled. Schedule and cancel only link or unlink the entry in one bucket , which is O(1).
+ * <p>
+ * Only the buckets that hold entries are put into a {@link DelayQueue} , the clock is advanced by the
+ * earliest due bucket instead of ticking idly. The entries of a due bucket are handed back to be expired
+ * or scheduled again into a lower wheel.
+ * <p>
+ * The deadline of entry in the lowest wheel is rounded up to the next tick , so an entry is never handed
+ * back before its deadline , and at most one tick later than its deadline.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+final class HierarchicalTimingWheel {
+
+    private static final long ORIGIN = System.nanoTime();
+
+    private final DelayQueue<Bucket> queue = new DelayQueue<>();
+
+    private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
+
+    private final Lock readLock = readWriteLock.readLock();
+
+    private final Lock writeLock = readWriteLock.writeLock();
+
+    private final Wheel root;
+
+    HierarchicalTimingWheel(long tickDuration, int wheelSize) {
+        this.root = new Wheel(tickDuration, wheelSize, clock());
+    }
+
+    /**
+     * The monotonic clock of wheel in milliseconds , never negative
+     *
+     * @return current milliseconds
+     */
+    static long clock() {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - ORIGIN);
+    }
+
+    /**
+     * Schedule or reschedule the {@code entry} with its deadline
+     *
+     * @param entry must not be {@literal null}
+     */
+    void schedule(ExpireWheelEntry entry) {
+        this.readLock.lock();
+        try {
+            this.root.add(entry);
+        } finally {
+            this.readLock.unlock();
+        }
+    }
+
+    /**
+     * Wait the earliest bucket to be due , advance the clock and hand back the entries of all due buckets
+     *
+     * @param timeout  max waiting milliseconds
+     * @param consumer the handler of entries in due buckets
+     * @return if {@literal false} no bucket was due in {@code timeout}
+     * @throws InterruptedException if interrupted while waiting
+     */
+    boolean advance(long timeout, Consumer<ExpireWheelEntry> consumer) throws InterruptedException {
+        Bucket bucket = this.queue.poll(timeout, TimeUnit.MILLISECONDS);
+        if (bucket == null) {
+            return false;
+        }
+        List<ExpireWheelEntry> due = new ArrayList<>();
+        this.writeLock.lock();
+        try {
+            while (bucket != null) {
+                this.root.advanceClock(bucket.getExpiration());
+                bucket.flush(due::add);
+                bucket = this.queue.poll();
+            }
+        } finally {
+            this.writeLock.unlock();
+        }
+        //Hand back outside the lock , the handler can schedule again
+        due.forEach(consumer);
+        return true;
+    }
+
+    /**
+     * Get an entry of the earliest bucket , it will expire no later than the others approximately ,
+     * the empty buckets left by cancelled entries are dropped
+     *
+     * @return entry , {@literal null} if no entry scheduled
+     */
+    ExpireWheelEntry earliest() {
+        this.writeLock.lock();
+        try {
+            Bucket bucket;
+            while ((bucket = this.queue.peek()) != null) {
+                ExpireWheelEntry first = bucket.first();
+                if (first != null) {
+                    return first;
+                }
+                //No entry can be added without the read lock , the bucket is offered again by next addition
+                this.queue.remove(bucket);
+                bucket.setExpiration(-1L);
+            }
+            return null;
+        } finally {
+            this.writeLock.unlock();
+        }
+    }
+
+    /**
+     * A wheel of one level , the upper wheel is created on demand.
+     */
+    private final class Wheel {
+
+        private final long tick;
+
+        private final int size;
+
+        private final long interval;
+
+        private final Bucket[] buckets;
+
+        private long currentTime;
+
+        private volatile Wheel overflow;
+
+        Wheel(long tick, int size, long startTime) {
+            this.tick = tick;
+            this.size = size;
+            this.interval = tick > Long.MAX_VALUE / size ? Long.MAX_VALUE : tick * size;
+            this.buckets = new Bucket[size];
+            for (int i = 0; i < size; i++) {
+                this.buckets[i] = new Bucket();
+            }
+            this.currentTime = startTime - (startTime % tick);
+        }
+
+        void add(ExpireWheelEntry entry) {
+            //Not earlier than the next tick
+            long expiration = Math.max(entry.deadline, this.currentTime + this.tick);
+            if (expiration - this.currentTime < this.interval) {
+                long virtualId = expiration / this.tick;
+                Bucket bucket = this.buckets[(int) (virtualId % this.size)];
+                bucket.add(entry);
+                if (bucket.setExpiration(virtualId * this.tick)) {
+                    queue.offer(bucket);
+                }
+            } else {
+                this.overflow().add(entry);
+            }
+        }
+
+        void advanceClock(long time) {
+            if (time >= this.currentTime + this.tick) {
+                this.currentTime = time - (time % this.tick);
+                Wheel overflow = this.overflow;
+                if (overflow != null) {
+                    overflow.advanceClock(this.currentTime);
+                }
+            }
+        }
+
+        Wheel overflow() {
+            if (this.overflow == null) {
+                synchronized (this) {
+                    if (this.overflow == null) {
+                        this.overflow = new Wheel(this.interval, this.size, this.currentTime);
+                    }
+                }
+            }
+            return this.overflow;
+        }
+    }
+
+    /**
+     * Doubly linked list of the entries which are due in the same tick , in the order of addition.
+     */
+    static final class Bucket implements Delayed {
+
+        private final AtomicLong expiration = new AtomicLong(-1L);
+
+        private ExpireWheelEntry head;
+
+        private ExpireWheelEntry tail;
+
+        void add(ExpireWheelEntry entry) {
+            boolean done = false;
+            while (!done) {
+                //Leave the old bucket first , the lock order is always bucket then entry
+                entry.cancel();
+                synchronized (this) {
+                    synchronized (entry) {
+                        if (entry.bucket == null) {
+                            entry.prev = this.tail;
+                            entry.next = null;
+                            if (this.tail != null) {
+                                this.tail.next = entry;
+                            } else {
+                                this.head = entry;
+                            }
+                            this.tail = entry;
+                            entry.bucket = this;
+                            done = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        synchronized void remove(ExpireWheelEntry entry) {
+            synchronized (entry) {
+                if (entry.bucket != this) {
+                    return;
+                }
+                if (entry.prev != null) {
+                    entry.prev.next = entry.next;
+                } else {
+                    this.head = entry.next;
+                }
+                if (entry.next != null) {
+                    entry.next.prev = entry.prev;
+                } else {
+                    this.tail = entry.prev;
+                }
+                entry.prev = null;
+                entry.next = null;
+                entry.bucket = null;
+            }
+        }
+
+        synchronized void flush(Consumer<ExpireWheelEntry> consumer) {
+            ExpireWheelEntry entry = this.head;
+            while (entry != null) {
+                ExpireWheelEntry next = entry.next;
+                this.remove(entry);
+                consumer.accept(entry);
+                entry = next;
+            }
+            this.expiration.set(-1L);
+        }
+
+        synchronized ExpireWheelEntry first() {
+            return this.head;
+        }
+
+        boolean setExpiration(long expiration) {
+            return this.expiration.getAndSet(expiration) != expiration;
+        }
+
+        long getExpiration() {
+            return this.expiration.get();
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(Math.max(this.getExpiration() - clock(), 0L), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed o) {
+            return Long.compare(this.getExpiration(), ((Bucket) o).getExpiration());
+        }
+    }
+}
@@ -1,13 +1,20 @@
 package io.github.zpf9705.expiring.listener;
 
 import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.core.annotation.CanNull;
 import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.core.serializer.ExpiringSerializer;
 import io.github.zpf9705.expiring.util.SerialUtils;
 
 import java.io.Serializable;
 
 /**
  * Deserialize objects with pair
+ * <p>
+ * The key and value are decoded on the first access of {@link #getKey()} and {@link #getValue()} and cached ,
+ * so that a listener reading only the key never decodes the value. They are decoded by the given serializers ,
+ * usually those of the template in use , see {@link #setDefaultSerializers(ExpiringSerializer,
+ * ExpiringSerializer)} , or by {@link SerialUtils#deserializeCompatible(byte[])} if not given or failed.
  *
  * @author zpf
  * @since 3.0.0
@@ -16,19 +23,32 @@ public final class Message implements Serializable, MessageExpiryCapable {
 
     private static final long serialVersionUID = -8830456426162230361L;
 
+    private static volatile ExpiringSerializer<?> defaultKeySerializer;
+
+    private static volatile ExpiringSerializer<?> defaultValueSerializer;
+
     private final byte[] key;
 
     private final byte[] value;
 
-    private final Object keySerialize;
+    private final transient ExpiringSerializer<?> keySerializer;
+
+    private final transient ExpiringSerializer<?> valueSerializer;
+
+    private transient volatile boolean keyDecoded;
 
-    private final Object valueSerialize;
+    private transient volatile boolean valueDecoded;
 
-    private Message(byte[] key, byte[] value) {
+    private transient Object keySerialize;
+
+    private transient Object valueSerialize;
+
+    private Message(byte[] key, byte[] value, ExpiringSerializer<?> keySerializer,
+                    ExpiringSerializer<?> valueSerializer) {
         this.key = key;
         this.value = value;
-        this.keySerialize = SerialUtils.deserialize(key);
-        this.valueSerialize = SerialUtils.deserialize(value);
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
     }
 
     @Override
@@ -46,29 +66,87 @@ public final class Message implements Serializable, MessageExpiryCapable {
     @Override
     @NotNull
     public Object getKey() {
+        if (!this.keyDecoded) {
+            //Threads racing here may each decode once , the results are equal
+            this.keySerialize = decode(this.key, this.keySerializer);
+            this.keyDecoded = true;
+        }
         return keySerialize;
     }
 
     @Override
     @NotNull
     public Object getValue() {
+        if (!this.valueDecoded) {
+            this.valueSerialize = decode(this.value, this.valueSerializer);
+            this.valueDecoded = true;
+        }
         return valueSerialize;
     }
 
     /**
-     * The key value deserialization
+     * Set the serializers to decode the messages which are not given theirs , usually those of the template in
+     * use , {@literal null} to decode by {@link SerialUtils#deserializeCompatible(byte[])}
+     *
+     * @param keySerializer   can be {@literal null}
+     * @param valueSerializer can be {@literal null}
+     */
+    public static void setDefaultSerializers(@CanNull ExpiringSerializer<?> keySerializer,
+                                             @CanNull ExpiringSerializer<?> valueSerializer) {
+        defaultKeySerializer = keySerializer;
+        defaultValueSerializer = valueSerializer;
+    }
+
+    /**
+     * Get the default key serializer , see {@link #setDefaultSerializers(ExpiringSerializer, ExpiringSerializer)}
+     *
+     * @return {@literal null} if not set
+     */
+    @CanNull
+    public static ExpiringSerializer<?> getDefaultKeySerializer() {
+        return defaultKeySerializer;
+    }
+
+    /**
+     * The key value to be deserialized on access by the default serializers
      *
      * @param key   must not be {@literal null}
      * @param value must not be {@literal null}
      * @return {@link Message}
      */
     public static Message serial(@NotNull byte[] key, @NotNull byte[] value) {
-        Message message;
+        return serial(key, value, null, null);
+    }
+
+    /**
+     * The key value to be deserialized on access by given serializers
+     *
+     * @param key             must not be {@literal null}
+     * @param value           must not be {@literal null}
+     * @param keySerializer   if {@literal null} the default key serializer is used
+     * @param valueSerializer if {@literal null} the default value serializer is used
+     * @return {@link Message}
+     */
+    public static Message serial(@NotNull byte[] key, @NotNull byte[] value,
+                                 @CanNull ExpiringSerializer<?> keySerializer,
+                                 @CanNull ExpiringSerializer<?> valueSerializer) {
+        return new Message(key, value,
+                keySerializer != null ? keySerializer : defaultKeySerializer,
+                valueSerializer != null ? valueSerializer : defaultValueSerializer);
+    }
+
+    private static Object decode(byte[] bytes, @CanNull ExpiringSerializer<?> serializer) {
+        if (serializer != null) {
+            try {
+                return serializer.deserialize(bytes);
+            } catch (Throwable ignore) {
+                //Written by another template of the same client
+            }
+        }
         try {
-            message = new Message(key, value);
+            return SerialUtils.deserializeCompatible(bytes);
         } catch (Throwable e) {
             throw new OperationsException("Message serial error with msg :[ " + e.getMessage() + " ]");
         }
-        return message;
     }
 }
@@ -1,5 +1,7 @@
 package io.github.zpf9705.expiring.listener;
 
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.serializer.ExpiringSerializer;
 import io.github.zpf9705.expiring.help.RecordActivationCenter;
 import io.github.zpf9705.expiring.util.AbleUtils;
 
@@ -15,9 +17,13 @@ public abstract class MessageExpiringContainer implements ExpirationBytesBlocker
 
     private MessageExpiryCapable capable;
 
+    private transient ExpiringSerializer<?> keySerializer;
+
+    private transient ExpiringSerializer<?> valueSerializer;
+
     @Override
     public void expired(byte[] key, byte[] value) {
-        this.capable = Message.serial(key, value);
+        this.capable = this.message(key, value);
         //notify
         onMessage(this.capable);
         //clean Persistence with key and value
@@ -29,6 +35,30 @@ public abstract class MessageExpiringContainer implements ExpirationBytesBlocker
         RecordActivationCenter.getSingletonCenter().cleanSupportingElements(capable);
     }
 
+    /**
+     * Set the serializers to decode the messages of this listener , if {@literal null} the default serializers
+     * of {@link Message} are used
+     *
+     * @param keySerializer   can be {@literal null}
+     * @param valueSerializer can be {@literal null}
+     */
+    public void setSerializers(@CanNull ExpiringSerializer<?> keySerializer,
+                               @CanNull ExpiringSerializer<?> valueSerializer) {
+        this.keySerializer = keySerializer;
+        this.valueSerializer = valueSerializer;
+    }
+
+    /**
+     * Wrap the expired key value as a {@link Message} decoded on access
+     *
+     * @param key   must not be {@literal null}
+     * @param value must not be {@literal null}
+     * @return {@link MessageExpiryCapable}
+     */
+    protected MessageExpiryCapable message(byte[] key, byte[] value) {
+        return Message.serial(key, value, this.keySerializer, this.valueSerializer);
+    }
+
     /**
      * Will into a byte array to {@link Message}
      *
@@ -0,0 +1,104 @@
+package io.github.zpf9705.expiring.listener;
+
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+import io.github.zpf9705.expiring.help.RecordActivationCenter;
+import io.github.zpf9705.expiring.logger.Console;
+import io.github.zpf9705.expiring.util.AssertUtils;
+import io.reactivex.rxjava3.core.BackpressureOverflowStrategy;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.processors.FlowableProcessor;
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+
+/**
+ * The expired messages of {@link MessageExpiringContainer} as a {@link Flowable} , so that the expirations are
+ * consumed with backpressure on a scheduler of consumer instead of the listener thread of clients.
+ * <p>
+ * The listener thread only hands the message to the buffer of each subscriber , a subscriber slower than the
+ * expirations drops its oldest buffered messages when the buffer is full. No message is created when
+ * there is no subscriber , and a message is only deserialized when a subscriber reads it.
+ * <p>
+ * The clients of auto configuration register the singleton {@link #getInstance()} as a sync expired listener ,
+ * add it to the configuration builder of a client to use it without auto configuration.
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public final class MessageExpiringFlowable extends MessageExpiringContainer {
+
+    private static final long serialVersionUID = 5215063402894862019L;
+
+    /**
+     * The default buffer size of each subscriber
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 1024;
+
+    private static final MessageExpiringFlowable INSTANCE = new MessageExpiringFlowable();
+
+    private final transient FlowableProcessor<MessageExpiryCapable> processor =
+            PublishProcessor.<MessageExpiryCapable>create().toSerialized();
+
+    private MessageExpiringFlowable() {
+    }
+
+    /**
+     * Get Singleton instance for {@code MessageExpiringFlowable}
+     *
+     * @return {@link MessageExpiringFlowable}
+     */
+    public static MessageExpiringFlowable getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * The expired messages observed on {@link Schedulers#io()} with a buffer of {@link #DEFAULT_BUFFER_SIZE}
+     *
+     * @return {@link Flowable} of expired messages
+     */
+    public Flowable<MessageExpiryCapable> expirations() {
+        return this.expirations(Schedulers.io(), DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * The expired messages observed on {@code scheduler} with a buffer of {@code bufferSize}
+     *
+     * @param scheduler  must not be {@literal null}
+     * @param bufferSize the buffer size of each subscriber , must be positive
+     * @return {@link Flowable} of expired messages
+     */
+    public Flowable<MessageExpiryCapable> expirations(@NotNull Scheduler scheduler, int bufferSize) {
+        AssertUtils.Operation.notNull(scheduler, "Scheduler no be null");
+        AssertUtils.Operation.isTrue(bufferSize > 0, "BufferSize must be positive");
+        return this.processor
+                .onBackpressureBuffer(bufferSize,
+                        () -> Console.warn("Expired message buffer of [{}] full , drop the oldest", bufferSize),
+                        BackpressureOverflowStrategy.DROP_OLDEST)
+                .observeOn(scheduler);
+    }
+
+    /**
+     * Whether there is a subscriber of the expired messages
+     *
+     * @return if {@literal true} has subscribers
+     */
+    public boolean hasSubscribers() {
+        return this.processor.hasSubscribers();
+    }
+
+    @Override
+    public void expired(byte[] key, byte[] value) {
+        if (!this.processor.hasSubscribers()) {
+            return;
+        }
+        //The singleton is shared by the listener threads , keep the message local
+        MessageExpiryCapable capable = this.message(key, value);
+        this.onMessage(capable);
+        RecordActivationCenter.getSingletonCenter().cleanSupportingElements(capable);
+    }
+
+    @Override
+    public void onMessage(MessageExpiryCapable capable) {
+        this.processor.onNext(capable);
+    }
+}
@@ -27,7 +27,7 @@ public interface MessageExpiryCapable {
     byte[] getByteValue();
 
     /**
-     * Get object type of {@code key}
+     * Get object type of {@code key} , decoded on the first access
      *
      * @return No {@literal null}
      */
@@ -35,7 +35,7 @@ public interface MessageExpiryCapable {
     Object getKey();
 
     /**
-     * Get object type of {@code value}
+     * Get object type of {@code value} , decoded on the first access
      *
      * @return No {@literal null}
      */
@@ -0,0 +1,41 @@
+package io.github.zpf9705.expiring.util;
+
+import io.github.zpf9705.expiring.core.annotation.CanNull;
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+
+import java.nio.ByteBuffer;
+
+/**
+ * The conversion between the stored {@literal byte[]} and {@link ByteBuffer} , see
+ * {@link io.github.zpf9705.expiring.command.ExpireStringCommands#getBuffer(byte[])}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public abstract class BufferUtils {
+
+    /**
+     * Copy the remaining bytes of {@code buffer} without changing its position , so that the caller can
+     * reuse a pooled or direct buffer after the call
+     *
+     * @param buffer must not be {@literal null}
+     * @return the copied bytes
+     */
+    public static byte[] toBytes(@NotNull ByteBuffer buffer) {
+        AssertUtils.Operation.notNull(buffer, "Buffer no be null");
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.duplicate().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * Wrap the {@code bytes} as a read-only view without a copy
+     *
+     * @param bytes can be {@literal null}
+     * @return {@literal null} if {@code bytes} is {@literal null}
+     */
+    @CanNull
+    public static ByteBuffer readOnlyView(@CanNull byte[] bytes) {
+        return bytes == null ? null : ByteBuffer.wrap(bytes).asReadOnlyBuffer();
+    }
+}
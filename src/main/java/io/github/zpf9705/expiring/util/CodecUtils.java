@@ -48,9 +48,10 @@ public abstract class CodecUtils {
             if (t instanceof byte[]) {
                 /*
                  * @see io.github.zpf9705.expiring.core.serializer.ExpiringSerializerAdapter
+                 * @see io.github.zpf9705.expiring.core.serializer.Utf8StringExpiringSerializer
                  */
                 try {
-                    Object deserialize = SerialUtils.deserialize((byte[]) t);
+                    Object deserialize = SerialUtils.deserializeCompatible((byte[]) t);
                     if (deserialize != null) {
                         toString = deserialize.toString();
                     }
@@ -0,0 +1,44 @@
+package io.github.zpf9705.expiring.util;
+
+import io.github.zpf9705.expiring.core.annotation.NotNull;
+
+/**
+ * The compact value of a counter , a {@literal long} in {@link Long#BYTES} bytes of big endian without the java
+ * serialization , see {@link io.github.zpf9705.expiring.core.ValueOperations#increment(Object, long)}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+public abstract class CounterUtils {
+
+    /**
+     * Encode the value of a counter
+     *
+     * @param value counter value
+     * @return {@link Long#BYTES} bytes
+     */
+    public static byte[] toBytes(long value) {
+        byte[] bytes = new byte[Long.BYTES];
+        for (int i = Long.BYTES - 1; i >= 0; i--) {
+            bytes[i] = (byte) value;
+            value >>>= Byte.SIZE;
+        }
+        return bytes;
+    }
+
+    /**
+     * Decode the value of a counter
+     *
+     * @param bytes must not be {@literal null}
+     * @return counter value
+     */
+    public static long toLong(@NotNull byte[] bytes) {
+        AssertUtils.Operation.isTrue(bytes.length == Long.BYTES,
+                "The value of [" + bytes.length + "] bytes is not a counter");
+        long value = 0L;
+        for (byte b : bytes) {
+            value = (value << Byte.SIZE) | (b & 0xFF);
+        }
+        return value;
+    }
+}
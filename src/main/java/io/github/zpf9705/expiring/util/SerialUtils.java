@@ -4,8 +4,12 @@ import io.github.zpf9705.expiring.core.annotation.CanNull;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
+import java.io.ObjectStreamConstants;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -20,8 +24,26 @@ public abstract class SerialUtils {
 
     static final int init_size = 1024;
 
+    /**
+     * The max capacity of a pooled buffer kept for the next serialization , a larger one is dropped after use
+     * so that a thread does not hold the memory of its largest object
+     */
+    static final int max_pooled_size = 1 << 16;
+
+    /**
+     * The header written once by the constructor of {@link ObjectOutputStream}
+     */
+    private static final byte[] STREAM_HEADER = {
+            (byte) (ObjectStreamConstants.STREAM_MAGIC >>> 8), (byte) ObjectStreamConstants.STREAM_MAGIC,
+            (byte) (ObjectStreamConstants.STREAM_VERSION >>> 8), (byte) ObjectStreamConstants.STREAM_VERSION};
+
+    private static final ThreadLocal<PooledOutput> POOLED_OUTPUT = ThreadLocal.withInitial(PooledOutput::new);
+
     /**
      * A given object serialization to a byte array.
+     * <p>
+     * The buffer and {@link ObjectOutputStream} are confined to the calling thread and reused , the bytes are
+     * the same as written by a new {@link ObjectOutputStream}.
      *
      * @param object the object to serialize
      * @return A byte array, on behalf of the moving object
@@ -31,14 +53,18 @@ public abstract class SerialUtils {
         if (object == null) {
             return null;
         }
-        ByteArrayOutputStream stream = new ByteArrayOutputStream(init_size);
-        try (ObjectOutputStream oos = new ObjectOutputStream(stream)) {
-            oos.writeObject(object);
-            oos.flush();
+        PooledOutput output = POOLED_OUTPUT.get();
+        if (output.inUse) {
+            //Serialize again in the writeObject of an object being serialized
+            output = new PooledOutput();
+        }
+        try {
+            return output.write(object);
         } catch (Throwable e) {
+            //The state of stream is unknown after a failure
+            POOLED_OUTPUT.remove();
             throw new UtilsException("Failed to serialize object with ex msg" + e.getMessage());
         }
-        return stream.toByteArray();
     }
 
     /**
@@ -59,6 +85,37 @@ public abstract class SerialUtils {
         }
     }
 
+    /**
+     * Determine whether the bytes are a java serialized object , they start with the stream magic , which is
+     * never the start of a UTF-8 string.
+     *
+     * @param bytes can be {@literal null}
+     * @return if {@literal true} serialized by {@link #serialize(Object)}
+     */
+    public static boolean isSerialized(@CanNull byte[] bytes) {
+        return bytes != null && bytes.length >= 2
+                && bytes[0] == (byte) (ObjectStreamConstants.STREAM_MAGIC >>> 8)
+                && bytes[1] == (byte) ObjectStreamConstants.STREAM_MAGIC;
+    }
+
+    /**
+     * Deserialized object into a byte array which is either a java serialized object or a UTF-8 string ,
+     * see {@link io.github.zpf9705.expiring.core.serializer.Utf8StringExpiringSerializer}.
+     *
+     * @param bytes a serialized object or UTF-8 string
+     * @return The results of the deserialization bytes
+     */
+    @CanNull
+    public static Object deserializeCompatible(@CanNull byte[] bytes) {
+        if (bytes == null) {
+            return null;
+        }
+        if (isSerialized(bytes)) {
+            return deserialize(bytes);
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
     /**
      * Deserialized object into any byte array.
      *
@@ -71,4 +128,43 @@ public abstract class SerialUtils {
         }
         return bytesList.stream().map(SerialUtils::deserialize).collect(Collectors.toList());
     }
+
+    /**
+     * The reusable buffer and {@link ObjectOutputStream} of a thread , the stream is reset after every object
+     * so that the next bytes are independent and no object is retained by the stream handles.
+     */
+    private static final class PooledOutput extends ByteArrayOutputStream {
+
+        private ObjectOutputStream stream;
+
+        private boolean inUse;
+
+        PooledOutput() {
+            super(init_size);
+        }
+
+        byte[] write(Object object) throws IOException {
+            this.inUse = true;
+            try {
+                if (this.stream == null) {
+                    this.stream = new ObjectOutputStream(this);
+                } else {
+                    this.write(STREAM_HEADER, 0, STREAM_HEADER.length);
+                }
+                this.stream.writeObject(object);
+                this.stream.flush();
+                byte[] bytes = Arrays.copyOf(this.buf, this.count);
+                //The reset mark is dropped with the bytes of this object
+                this.stream.reset();
+                this.stream.flush();
+                this.count = 0;
+                if (this.buf.length > max_pooled_size) {
+                    this.buf = new byte[init_size];
+                }
+                return bytes;
+            } finally {
+                this.inUse = false;
+            }
+        }
+    }
 }
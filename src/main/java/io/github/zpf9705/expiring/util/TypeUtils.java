@@ -23,6 +23,10 @@ public abstract class TypeUtils {
         if (source == null || targetClazz == null) {
             return null;
         }
+        if (targetClazz.isInstance(source)) {
+            //The same as the result of Single#ofType without building a Single
+            return targetClazz.cast(source);
+        }
         return convert0(source, targetClazz);
     }
 
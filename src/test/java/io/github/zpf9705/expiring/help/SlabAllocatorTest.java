@@ -0,0 +1,153 @@
+package io.github.zpf9705.expiring.help;
+
+import io.github.zpf9705.expiring.core.OperationsException;
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteKey;
+import io.github.zpf9705.expiring.help.expirewheel.ExpireWheelMap;
+import net.jodah.expiringmap.ExpirationPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Chunks , free stacks and slab reclaim of {@link SlabAllocator} , and the values larger than a slab
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+class SlabAllocatorTest {
+
+    static final int SLAB_SIZE = 1024;
+
+    static byte[] bytes(int length, int seed) {
+        byte[] bytes = new byte[length];
+        Arrays.fill(bytes, (byte) seed);
+        return bytes;
+    }
+
+    static int slabIndex(long address) {
+        return (int) (address >>> 32);
+    }
+
+    @Test
+    void storeRoundsUpToTheSizeClassAndReadsBack() {
+        SlabAllocator allocator = new SlabAllocator(4 * SLAB_SIZE, SLAB_SIZE);
+        int[] lengths = {0, 1, 64, 65, 500, SLAB_SIZE};
+        long[] addresses = new long[lengths.length];
+        for (int i = 0; i < lengths.length; i++) {
+            addresses[i] = allocator.store(bytes(lengths[i], i + 1));
+            assertNotEquals(SlabAllocator.NO_ADDRESS, addresses[i]);
+        }
+        for (int i = 0; i < lengths.length; i++) {
+            assertArrayEquals(bytes(lengths[i], i + 1), allocator.read(addresses[i], lengths[i]));
+            assertTrue(allocator.contentEquals(addresses[i], lengths[i], bytes(lengths[i], i + 1)));
+            assertFalse(allocator.contentEquals(addresses[i], lengths[i], bytes(lengths[i] + 1, i + 1)));
+        }
+        //64 + 64 + 64 + 128 + 512 + 1024
+        assertEquals(1856L, allocator.getAllocatedBytes());
+        //One slab for each of the four size classes
+        assertEquals(4L * SLAB_SIZE, allocator.getReservedBytes());
+        for (int i = 0; i < lengths.length; i++) {
+            allocator.free(addresses[i], lengths[i]);
+        }
+        assertEquals(0L, allocator.getAllocatedBytes());
+    }
+
+    @Test
+    void freedChunkIsReusedFromTheFreeStack() {
+        SlabAllocator allocator = new SlabAllocator(SLAB_SIZE, SLAB_SIZE);
+        long first = allocator.store(bytes(100, 1));
+        long second = allocator.store(bytes(100, 2));
+        allocator.free(first, 100);
+        //Last freed , first reused
+        long reused = allocator.store(bytes(128, 3));
+        assertEquals(first, reused);
+        assertArrayEquals(bytes(128, 3), allocator.read(reused, 128));
+        assertArrayEquals(bytes(100, 2), allocator.read(second, 100));
+        assertEquals(256L, allocator.getAllocatedBytes());
+    }
+
+    @Test
+    void slabWithNoChunkInUseIsReclaimedForAnotherSizeClass() {
+        SlabAllocator allocator = new SlabAllocator(2 * SLAB_SIZE, SLAB_SIZE);
+        int perSlab = SLAB_SIZE / SlabAllocator.MIN_CHUNK_SIZE;
+        List<Long> addresses = new ArrayList<>();
+        //Fill the first slab and carve one chunk of the second
+        for (int i = 0; i <= perSlab; i++) {
+            addresses.add(allocator.store(bytes(SlabAllocator.MIN_CHUNK_SIZE, i)));
+        }
+        assertEquals(2L * SLAB_SIZE, allocator.getReservedBytes());
+        assertEquals(SlabAllocator.NO_ADDRESS, allocator.store(bytes(SLAB_SIZE, 1)), "Capacity exhausted");
+
+        //Free every chunk of the first slab , it is reclaimed and leaves the free stack of its class
+        long last = addresses.remove(perSlab);
+        int firstSlab = slabIndex(addresses.get(0));
+        for (long address : addresses) {
+            assertEquals(firstSlab, slabIndex(address));
+            allocator.free(address, SlabAllocator.MIN_CHUNK_SIZE);
+        }
+        long large = allocator.store(bytes(SLAB_SIZE, 7));
+        assertEquals(firstSlab, slabIndex(large), "The reclaimed slab is assigned to another class");
+        assertArrayEquals(bytes(SLAB_SIZE, 7), allocator.read(large, SLAB_SIZE));
+        long small = allocator.store(bytes(SlabAllocator.MIN_CHUNK_SIZE, 9));
+        assertEquals(slabIndex(last), slabIndex(small), "No chunk of the reclaimed slab is popped");
+        assertArrayEquals(bytes(SlabAllocator.MIN_CHUNK_SIZE, perSlab), allocator.read(last,
+                SlabAllocator.MIN_CHUNK_SIZE));
+        assertEquals(2L * SLAB_SIZE, allocator.getReservedBytes());
+    }
+
+    @Test
+    void clearKeepsTheSlabsForAnySizeClass() {
+        SlabAllocator allocator = new SlabAllocator(2 * SLAB_SIZE, SLAB_SIZE);
+        allocator.store(bytes(SLAB_SIZE, 1));
+        allocator.store(bytes(SLAB_SIZE, 2));
+        assertEquals(SlabAllocator.NO_ADDRESS, allocator.store(bytes(1, 3)));
+        allocator.clear();
+        assertEquals(0L, allocator.getAllocatedBytes());
+        assertEquals(2L * SLAB_SIZE, allocator.getReservedBytes());
+        long address = allocator.store(bytes(1, 3));
+        assertNotEquals(SlabAllocator.NO_ADDRESS, address);
+        assertArrayEquals(bytes(1, 3), allocator.read(address, 1));
+    }
+
+    @Test
+    void bytesLargerThanASlabAreRejected() {
+        SlabAllocator allocator = new SlabAllocator(4 * SLAB_SIZE, 1000);
+        assertEquals(SLAB_SIZE, allocator.getSlabSize(), "Rounded up to a power of two");
+        assertThrows(OperationsException.class, () -> allocator.store(bytes(SLAB_SIZE + 1, 1)));
+        assertEquals(0L, allocator.getReservedBytes());
+    }
+
+    @Test
+    void wheelMapKeepsValuesLargerThanASlabOnHeap() {
+        SlabAllocator allocator = new SlabAllocator(2 * SLAB_SIZE, SLAB_SIZE);
+        ExpireWheelMap map = new ExpireWheelMap(16, 1L, TimeUnit.HOURS, ExpirationPolicy.CREATED, 100L, 64,
+                allocator);
+        ExpireMapByteKey key = ExpireMapByteKey.of("large".getBytes(StandardCharsets.UTF_8));
+        byte[] large = bytes(4 * SLAB_SIZE, 1);
+        assertNull(map.put(key, large));
+        assertArrayEquals(large, map.get(key));
+        assertTrue(map.containsValue(large));
+        assertEquals(0L, allocator.getAllocatedBytes());
+
+        //Off-heap once it fits , on-heap again when it grows
+        assertArrayEquals(large, map.replace(key, bytes(10, 2)));
+        assertEquals(64L, allocator.getAllocatedBytes());
+        assertTrue(map.update(key, bytes(10, 2), large));
+        assertEquals(0L, allocator.getAllocatedBytes());
+        assertTrue(map.remove(key, large));
+        assertNull(map.get(key));
+        assertEquals(0, map.size());
+    }
+}
@@ -0,0 +1,180 @@
+package io.github.zpf9705.expiring.help.expiremap;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Concurrency stress of the atomic writes of {@link ExpireMapRealHelper}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+class ExpireMapRealHelperConcurrencyTest {
+
+    static final int THREADS = 8;
+
+    static final long DEFAULT_EXPIRE_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    static ExpireMapRealHelper helper(String namespace) {
+        ExpireMapCenter center = ExpireMapCenter.namespaceWithConfiguration(namespace,
+                ExpireMapClientConfiguration.builder()
+                        .acquireDefaultExpireTime(DEFAULT_EXPIRE_MILLIS)
+                        .acquireDefaultExpireTimeUnit(TimeUnit.MILLISECONDS)
+                        .acquireEnableValueIndex(true)
+                        .acquireEnableKeyIndex(true)
+                        .build());
+        return new ExpireMapRealHelper(() -> center);
+    }
+
+    static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void putIfAbsentDurationHasOneWinnerWithItsOwnDuration() throws Exception {
+        ExpireMapRealHelper helper = helper("test-set-nx-winner");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            for (int round = 0; round < 500; round++) {
+                byte[] key = bytes("key-" + round);
+                CountDownLatch start = new CountDownLatch(1);
+                List<Future<Boolean>> futures = new ArrayList<>(THREADS);
+                for (int i = 0; i < THREADS; i++) {
+                    int minutes = i + 1;
+                    futures.add(executor.submit(() -> {
+                        start.await();
+                        return helper.putIfAbsentDuration(key, bytes("value-" + minutes), (long) minutes,
+                                TimeUnit.MINUTES);
+                    }));
+                }
+                start.countDown();
+                int winner = -1;
+                for (int i = 0; i < THREADS; i++) {
+                    if (futures.get(i).get()) {
+                        assertEquals(-1, winner, "Only one caller wins");
+                        winner = i + 1;
+                    }
+                }
+                assertTrue(winner > 0, "One caller wins");
+                assertArrayEquals(bytes("value-" + winner), helper.getVal(key));
+                assertEquals(Long.valueOf(TimeUnit.MINUTES.toMillis(winner)), helper.getExpirationWithKey(key));
+                assertTrue(helper.containsValue(bytes("value-" + winner)));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void putIfAbsentDurationIsNeverVisibleWithDefaultExpiration() throws Exception {
+        ExpireMapRealHelper helper = helper("test-set-nx-visible");
+        byte[] key = bytes("key");
+        long expected = TimeUnit.MINUTES.toMillis(1);
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> writers = new ArrayList<>();
+            for (int i = 0; i < THREADS / 2; i++) {
+                writers.add(executor.submit(() -> {
+                    for (int n = 0; n < 20000; n++) {
+                        helper.putIfAbsentDuration(key, bytes("value"), 1L, TimeUnit.MINUTES);
+                        helper.deleteReturnSuccessNum(key);
+                    }
+                }));
+            }
+            List<Future<Integer>> readers = new ArrayList<>();
+            for (int i = 0; i < THREADS / 2; i++) {
+                readers.add(executor.submit(() -> {
+                    int wrong = 0;
+                    while (running.get()) {
+                        Long expiration;
+                        try {
+                            expiration = helper.getExpirationWithKey(key);
+                        } catch (NoSuchElementException e) {
+                            //removed between the check and the read
+                            continue;
+                        }
+                        if (expiration != null && expiration != expected) {
+                            wrong++;
+                        }
+                    }
+                    return wrong;
+                }));
+            }
+            for (Future<?> writer : writers) {
+                writer.get();
+            }
+            running.set(false);
+            for (Future<Integer> reader : readers) {
+                assertEquals(Integer.valueOf(0), reader.get(), "Seen with the default expiration");
+            }
+            assertFalse(helper.containsKey(key));
+            assertFalse(helper.containsValue(bytes("value")));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void putIfAbsentDurationRacingWithPutKeepsIndexesConsistent() throws Exception {
+        ExpireMapRealHelper helper = helper("test-set-nx-put");
+        ExpireMapCenter center = ExpireMapCenter.getNamespaceCenter("test-set-nx-put");
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                int thread = i;
+                futures.add(executor.submit(() -> {
+                    for (int n = 0; n < 20000; n++) {
+                        byte[] key = bytes("key-" + (n % 16));
+                        byte[] value = bytes("value-" + thread);
+                        switch ((n + thread) % 3) {
+                            case 0:
+                                helper.putIfAbsentDuration(key, value, 1L, TimeUnit.MINUTES);
+                                break;
+                            case 1:
+                                helper.put(key, value);
+                                break;
+                            default:
+                                helper.deleteReturnSuccessNum(key);
+                                break;
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            for (int thread = 0; thread < THREADS; thread++) {
+                byte[] value = bytes("value-" + thread);
+                boolean present = false;
+                for (int n = 0; n < 16; n++) {
+                    present |= Arrays.equals(value, helper.getVal(bytes("key-" + n)));
+                }
+                assertEquals(present, helper.containsValue(value));
+            }
+            for (int n = 0; n < 16; n++) {
+                ExpireMapByteKey key = ExpireMapByteKey.of(bytes("key-" + n));
+                assertEquals(helper.containsKey(key.getBytes()), center.getKeyIndex().contains(key));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
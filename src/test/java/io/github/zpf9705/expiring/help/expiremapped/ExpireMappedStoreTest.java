@@ -0,0 +1,262 @@
+package io.github.zpf9705.expiring.help.expiremapped;
+
+import io.github.zpf9705.expiring.help.expiremap.ExpireMapByteKey;
+import net.jodah.expiringmap.ExpirationPolicy;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Layout and lifecycle of {@link ExpireMappedStore} , the probe , the compaction , the eviction and the restart
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+class ExpireMappedStoreTest {
+
+    /**
+     * Max size of {@literal 8} gives {@literal 16} slots
+     */
+    static final int SLOTS = 16;
+
+    static final long HOUR_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    static File newFile() throws IOException {
+        File file = Files.createTempFile("expire-mapped-", ".dat").toFile();
+        assertTrue(file.delete());
+        file.deleteOnExit();
+        return file;
+    }
+
+    static ExpireMappedStore open(File file, int maxSize, long logCapacity, long sweepInterval) {
+        return new ExpireMappedStore(file, maxSize, logCapacity, HOUR_MILLIS, TimeUnit.MILLISECONDS,
+                ExpirationPolicy.CREATED, sweepInterval);
+    }
+
+    static ExpireMapByteKey key(String s) {
+        return ExpireMapByteKey.of(bytes(s));
+    }
+
+    static byte[] bytes(String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    static int home(ExpireMapByteKey key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & (SLOTS - 1);
+    }
+
+    /**
+     * Find {@code count} keys of which the home slot is {@code slot}
+     */
+    static List<ExpireMapByteKey> keysWithHome(int slot, int count, String prefix) {
+        List<ExpireMapByteKey> keys = new ArrayList<>(count);
+        for (int i = 0; keys.size() < count; i++) {
+            ExpireMapByteKey key = key(prefix + i);
+            if (home(key) == slot) {
+                keys.add(key);
+            }
+        }
+        return keys;
+    }
+
+    @Test
+    void probeWrapsAroundAndSurvivesBackwardShiftDeletion() throws IOException {
+        File file = newFile();
+        ExpireMappedStore store = open(file, 8, 1 << 12, HOUR_MILLIS);
+        try {
+            //Three keys at the last slot wrap to the head , a key at the first slot probes behind them
+            List<ExpireMapByteKey> last = keysWithHome(SLOTS - 1, 3, "last-");
+            ExpireMapByteKey first = keysWithHome(0, 1, "first-").get(0);
+            for (ExpireMapByteKey key : last) {
+                assertNull(store.put(key, key.getBytes()));
+            }
+            assertNull(store.put(first, first.getBytes()));
+            assertEquals(4, store.size());
+
+            //Each deletion shifts the rest of the probe back over the end of the slots
+            assertArrayEquals(last.get(0).getBytes(), store.remove(last.get(0)));
+            assertFalse(store.containsKey(last.get(0)));
+            assertArrayEquals(last.get(1).getBytes(), store.get(last.get(1)));
+            assertArrayEquals(last.get(2).getBytes(), store.get(last.get(2)));
+            assertArrayEquals(first.getBytes(), store.get(first));
+
+            assertTrue(store.remove(last.get(1), last.get(1).getBytes()));
+            assertArrayEquals(last.get(2).getBytes(), store.get(last.get(2)));
+            assertArrayEquals(first.getBytes(), store.get(first));
+
+            assertNull(store.put(last.get(0), bytes("again")));
+            assertArrayEquals(bytes("again"), store.get(last.get(0)));
+            assertNotNull(store.remove(last.get(2)));
+            assertArrayEquals(first.getBytes(), store.get(first));
+            assertArrayEquals(bytes("again"), store.get(last.get(0)));
+            assertEquals(2, store.size());
+        } finally {
+            store.close();
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    void compactionKeepsTheLiveRecordsAndReclaimsTheGarbage() throws IOException {
+        File file = newFile();
+        ExpireMappedStore store = open(file, 64, 1 << 12, HOUR_MILLIS);
+        List<ExpireMapByteKey> evicted = new CopyOnWriteArrayList<>();
+        store.addExpirationListener((key, value) -> evicted.add(key));
+        try {
+            //Every overwrite leaves garbage , the log of 4k is compacted many times over
+            for (int round = 0; round < 500; round++) {
+                for (int i = 0; i < 4; i++) {
+                    store.put(key("live-" + i), new byte[100 + round % 7], 1L, TimeUnit.HOURS);
+                }
+                assertTrue(store.getLogUsedBytes() <= store.getLogCapacity());
+            }
+            assertTrue(evicted.isEmpty(), "The garbage is enough , nothing is evicted");
+            assertEquals(4, store.size());
+            for (int i = 0; i < 4; i++) {
+                assertEquals(100 + 499 % 7, store.get(key("live-" + i)).length);
+                assertEquals(Long.valueOf(HOUR_MILLIS), store.getExpiration(key("live-" + i)));
+            }
+        } finally {
+            store.close();
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    void putEvictsTheEntryNearestToExpireForRoom() throws IOException {
+        File file = newFile();
+        ExpireMappedStore store = open(file, 8, 1 << 12, HOUR_MILLIS);
+        List<ExpireMapByteKey> evicted = new CopyOnWriteArrayList<>();
+        store.addExpirationListener((key, value) -> evicted.add(key));
+        try {
+            //Full by the max size
+            for (int i = 0; i < 8; i++) {
+                store.put(key("size-" + i), bytes("v"), i + 1L, TimeUnit.MINUTES);
+            }
+            store.put(key("size-new"), bytes("v"), 1L, TimeUnit.HOURS);
+            assertEquals(8, store.size());
+            assertEquals(1, evicted.size());
+            assertEquals(key("size-0"), evicted.get(0));
+            assertFalse(store.containsKey(key("size-0")));
+            assertTrue(store.containsKey(key("size-new")));
+            store.clear();
+            evicted.clear();
+
+            //Full by the log , records of 1k in a log of 4k
+            for (int i = 0; i < 6; i++) {
+                store.put(key("log-" + i), new byte[1000], i + 1L, TimeUnit.MINUTES);
+            }
+            assertFalse(evicted.isEmpty());
+            assertEquals(key("log-0"), evicted.get(0));
+            assertEquals(6 - evicted.size(), store.size());
+            assertTrue(store.containsKey(key("log-5")));
+            for (ExpireMapByteKey key : evicted) {
+                assertFalse(store.containsKey(key));
+            }
+        } finally {
+            store.close();
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    void closeAndReopenKeepsTheEntries() throws IOException {
+        File file = newFile();
+        ExpireMappedStore store = open(file, 64, 1 << 14, HOUR_MILLIS);
+        try {
+            for (int i = 0; i < 20; i++) {
+                store.put(key("k-" + i), bytes("v-" + i), i + 1L, TimeUnit.HOURS);
+            }
+            store.remove(key("k-3"));
+            store.replace(key("k-4"), bytes("replaced"));
+            assertTrue(store.update(key("k-5"), bytes("v-5"), bytes("updated")));
+        } finally {
+            store.close();
+        }
+        ExpireMappedStore reopened = open(file, 64, 1 << 14, HOUR_MILLIS);
+        try {
+            assertEquals(19, reopened.size());
+            assertNull(reopened.get(key("k-3")));
+            assertArrayEquals(bytes("replaced"), reopened.get(key("k-4")));
+            assertArrayEquals(bytes("updated"), reopened.get(key("k-5")));
+            for (int i = 6; i < 20; i++) {
+                assertArrayEquals(bytes("v-" + i), reopened.get(key("k-" + i)));
+                assertEquals(Long.valueOf(TimeUnit.HOURS.toMillis(i + 1L)), reopened.getExpiration(key("k-" + i)));
+            }
+            assertNull(reopened.put(key("k-3"), bytes("back")));
+            assertArrayEquals(bytes("back"), reopened.get(key("k-3")));
+        } finally {
+            reopened.close();
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    void updateKeepsTheDeadlineAndReplaceRestartsIt() throws Exception {
+        File file = newFile();
+        ExpireMappedStore store = open(file, 64, 1 << 12, HOUR_MILLIS);
+        try {
+            store.put(key("update"), bytes("a"), 2000L, TimeUnit.MILLISECONDS);
+            store.put(key("replace"), bytes("a"), 2000L, TimeUnit.MILLISECONDS);
+            Thread.sleep(500L);
+            assertTrue(store.update(key("update"), bytes("a"), bytes("b")));
+            assertTrue(store.replace(key("replace"), bytes("a"), bytes("b")));
+            assertFalse(store.update(key("update"), bytes("a"), bytes("c")), "Not the expected value");
+            long updated = store.getExpectedExpiration(key("update"));
+            long replaced = store.getExpectedExpiration(key("replace"));
+            assertTrue(updated <= 1500L, "The deadline is kept : " + updated);
+            assertTrue(replaced > 1500L, "The countdown is restarted : " + replaced);
+            assertArrayEquals(bytes("b"), store.get(key("update")));
+            assertEquals(Long.valueOf(2000L), store.getExpiration(key("update")));
+        } finally {
+            store.close();
+            assertTrue(file.delete());
+        }
+    }
+
+    @Test
+    void entriesExpiredDuringDowntimeAreAbsentAndNotified() throws Exception {
+        File file = newFile();
+        ExpireMappedStore store = open(file, 64, 1 << 12, HOUR_MILLIS);
+        try {
+            store.put(key("short"), bytes("s"), 200L, TimeUnit.MILLISECONDS);
+            store.put(key("long"), bytes("l"), 1L, TimeUnit.HOURS);
+        } finally {
+            store.close();
+        }
+        Thread.sleep(400L);
+        ExpireMappedStore reopened = open(file, 64, 1 << 12, 200L);
+        List<ExpireMapByteKey> expired = new CopyOnWriteArrayList<>();
+        reopened.addExpirationListener((key, value) -> expired.add(key));
+        try {
+            assertNull(reopened.get(key("short")), "Absent at once without replay");
+            assertFalse(reopened.containsKey(key("short")));
+            assertArrayEquals(bytes("l"), reopened.get(key("long")));
+            long deadline = System.currentTimeMillis() + 5000L;
+            while (expired.isEmpty() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50L);
+            }
+            assertEquals(1, expired.size());
+            assertEquals(key("short"), expired.get(0));
+            assertEquals(1, reopened.size());
+        } finally {
+            reopened.close();
+            assertTrue(file.delete());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.zpf9705.expiring.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Allocation of {@link SerialUtils#serialize(Object)} with the thread-confined buffer and stream , against a
+ * fresh stream of each call as before , measured by {@link com.sun.management.ThreadMXBean#getThreadAllocatedBytes}
+ *
+ * @author zpf
+ * @since 3.3.0
+ */
+class SerialUtilsAllocationTest {
+
+    static final int WARM_UP = 20_000;
+
+    static final int MEASURED = 50_000;
+
+    static long sink;
+
+    static byte[] serializeFresh(Object object) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream(1024);
+        try (ObjectOutputStream out = new ObjectOutputStream(stream)) {
+            out.writeObject(object);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return stream.toByteArray();
+    }
+
+    /**
+     * Get the bytes allocated by the current thread per call of {@code serializer}
+     */
+    static long allocatedPerCall(com.sun.management.ThreadMXBean bean, Function<Object, byte[]> serializer,
+                                 Object value) {
+        long thread = Thread.currentThread().getId();
+        for (int i = 0; i < WARM_UP; i++) {
+            sink += serializer.apply(value).length;
+        }
+        long before = bean.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < MEASURED; i++) {
+            sink += serializer.apply(value).length;
+        }
+        return (bean.getThreadAllocatedBytes(thread) - before) / MEASURED;
+    }
+
+    @Test
+    void pooledSerializationAllocatesLessThanHalfOfAFreshStream() {
+        java.lang.management.ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean, "No thread allocation of this jvm");
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadBean;
+        assumeTrue(bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled(),
+                "Thread allocation not enabled");
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("id", 42L);
+        map.put("name", "expire-value");
+        map.put("tags", new ArrayList<>(Arrays.asList("a", "b", "c")));
+        Object[] values = {"user:session:1234567890", map, new byte[8 * 1024]};
+        for (Object value : values) {
+            assertArrayEquals(serializeFresh(value), SerialUtils.serialize(value), "The same bytes as before");
+            long fresh = allocatedPerCall(bean, SerialUtilsAllocationTest::serializeFresh, value);
+            long pooled = allocatedPerCall(bean, SerialUtils::serialize, value);
+            assertTrue(pooled * 2 < fresh, value.getClass().getSimpleName() + " allocates " + pooled +
+                    " bytes per call pooled , " + fresh + " bytes fresh");
+        }
+    }
+}